@@ -80,8 +80,8 @@ final class BstatsMetricsConfigurator {
 
     private void addWorldCountMetric() {
         addMultiLineMetric("world_count", map -> {
-            map.put("Loaded worlds", worldManager.getLoadedWorlds().size());
-            map.put("Total number of worlds", worldManager.getWorlds().size());
+            map.put("Loaded worlds", worldManager.getLoadedWorldCount());
+            map.put("Total number of worlds", worldManager.getWorldCount());
         });
     }
 
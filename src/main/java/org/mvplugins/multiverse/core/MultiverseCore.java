@@ -30,7 +30,10 @@ import org.mvplugins.multiverse.core.listeners.CoreListener;
 import org.mvplugins.multiverse.core.inject.PluginServiceLocatorFactory;
 import org.mvplugins.multiverse.core.module.MultiverseModule;
 import org.mvplugins.multiverse.core.utils.StringFormatter;
+import org.mvplugins.multiverse.core.world.IdleWorldUnloader;
 import org.mvplugins.multiverse.core.world.WorldManager;
+import org.mvplugins.multiverse.core.world.helpers.WorldFolderIndex;
+import org.mvplugins.multiverse.core.world.helpers.WorldFolderTrash;
 import org.mvplugins.multiverse.core.world.location.NullSpawnLocation;
 import org.mvplugins.multiverse.core.world.location.SpawnLocation;
 import org.mvplugins.multiverse.core.world.location.UnloadedWorldLocation;
@@ -53,6 +56,12 @@ public class MultiverseCore extends MultiverseModule {
     private Provider<BstatsMetricsConfigurator> metricsConfiguratorProvider;
     @Inject
     private Provider<MVEconomist> economistProvider;
+    @Inject
+    private Provider<IdleWorldUnloader> idleWorldUnloaderProvider;
+    @Inject
+    private Provider<WorldFolderTrash> worldFolderTrashProvider;
+    @Inject
+    private Provider<WorldFolderIndex> worldFolderIndexProvider;
 
     /**
      * This is the constructor for the MultiverseCore.
@@ -109,6 +118,9 @@ public class MultiverseCore extends MultiverseModule {
             setupMetrics();
             loadPlaceholderApiIntegration();
             loadApiService();
+            startIdleWorldUnloader();
+            reapWorldFolderTrash();
+            startWorldFolderIndex();
             saveAllConfigs();
             logEnableMessage();
         }).onFailure(e -> {
@@ -212,6 +224,39 @@ public class MultiverseCore extends MultiverseModule {
         });
     }
 
+    /**
+     * Start unloading worlds that are idle.
+     */
+    private void startIdleWorldUnloader() {
+        Try.run(() -> idleWorldUnloaderProvider.get().start())
+                .onFailure(e -> {
+                    Logging.severe("Failed to start idle world unloader");
+                    e.printStackTrace();
+                });
+    }
+
+    /**
+     * Delete world folders left in the trash by a previous run.
+     */
+    private void reapWorldFolderTrash() {
+        Try.run(() -> worldFolderTrashProvider.get().reapLeftovers())
+                .onFailure(e -> {
+                    Logging.severe("Failed to delete world folder trash");
+                    e.printStackTrace();
+                });
+    }
+
+    /**
+     * Start indexing the world container for potential worlds.
+     */
+    private void startWorldFolderIndex() {
+        Try.run(() -> worldFolderIndexProvider.get().start())
+                .onFailure(e -> {
+                    Logging.severe("Failed to start world folder index");
+                    e.printStackTrace();
+                });
+    }
+
     /**
      * Save config.yml, worlds.yml, and anchors.yml.
      *
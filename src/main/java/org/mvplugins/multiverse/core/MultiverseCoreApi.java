@@ -9,6 +9,7 @@ import org.mvplugins.multiverse.core.inject.PluginServiceLocator;
 import org.mvplugins.multiverse.core.teleportation.AsyncSafetyTeleporter;
 import org.mvplugins.multiverse.core.teleportation.BlockSafety;
 import org.mvplugins.multiverse.core.teleportation.LocationManipulation;
+import org.mvplugins.multiverse.core.teleportation.TeleportTimings;
 import org.mvplugins.multiverse.core.world.WorldManager;
 import org.mvplugins.multiverse.core.world.biomeprovider.BiomeProviderFactory;
 import org.mvplugins.multiverse.core.world.generators.GeneratorProvider;
@@ -132,6 +133,15 @@ public class MultiverseCoreApi {
         return Objects.requireNonNull(serviceLocator.getActiveService(AsyncSafetyTeleporter.class));
     }
 
+    /**
+     * Gets the instance of TeleportTimings.
+     *
+     * @return The TeleportTimings instance
+     */
+    public @NotNull TeleportTimings getTeleportTimings() {
+        return Objects.requireNonNull(serviceLocator.getActiveService(TeleportTimings.class));
+    }
+
     /**
      * Gets the instance of WorldManager.
      *
@@ -36,6 +36,16 @@ public final class MultiverseAnchor {
         return location.toBukkitLocation();
     }
 
+    /**
+     * Gets a copy of the anchor's location that keeps the world name, even when the world is not loaded.
+     *
+     * @return The location.
+     */
+    public UnloadedWorldLocation getUnloadedWorldLocation() {
+        return new UnloadedWorldLocation(location.getWorldName(), location.getX(), location.getY(), location.getZ(),
+                location.getYaw(), location.getPitch());
+    }
+
     void setLocation(Location location) {
         this.location = new UnloadedWorldLocation(location);
     }
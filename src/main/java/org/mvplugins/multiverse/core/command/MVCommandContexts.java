@@ -94,8 +94,11 @@ public class MVCommandContexts extends PaperCommandContexts {
             throw new InvalidCommandArgument("No destination specified.");
         }
 
-        return destinationsProvider.parseDestination(destination)
-                .getOrThrow(failure -> MVInvalidCommandArgument.of(failure.getFailureMessage()));
+        // Only time the parse when the command teleports to the destination
+        var destinationInstance = context.hasFlag("teleport")
+                ? destinationsProvider.parseTeleportDestination(destination)
+                : destinationsProvider.parseDestination(destination);
+        return destinationInstance.getOrThrow(failure -> MVInvalidCommandArgument.of(failure.getFailureMessage()));
     }
 
     private GameRule<?> parseGameRule(BukkitCommandExecutionContext context) {
@@ -20,6 +20,7 @@ import org.mvplugins.multiverse.core.command.flag.FlagBuilder;
 import org.mvplugins.multiverse.core.command.flag.ParsedCommandFlags;
 import org.mvplugins.multiverse.core.locale.MVCorei18n;
 import org.mvplugins.multiverse.core.locale.message.MessageReplacement.Replace;
+import org.mvplugins.multiverse.core.utils.BukkitExecutors;
 import org.mvplugins.multiverse.core.world.LoadedMultiverseWorld;
 import org.mvplugins.multiverse.core.world.WorldManager;
 import org.mvplugins.multiverse.core.world.options.CloneWorldOptions;
@@ -30,11 +31,13 @@ import static org.mvplugins.multiverse.core.locale.message.MessageReplacement.re
 class CloneCommand extends CoreCommand {
 
     private final WorldManager worldManager;
+    private final BukkitExecutors executors;
     private final CloneCommand.Flags flags;
 
     @Inject
-    CloneCommand(@NotNull WorldManager worldManager, @NotNull Flags flags) {
+    CloneCommand(@NotNull WorldManager worldManager, @NotNull BukkitExecutors executors, @NotNull Flags flags) {
         this.worldManager = worldManager;
+        this.executors = executors;
         this.flags = flags;
     }
 
@@ -67,7 +70,12 @@ class CloneCommand extends CoreCommand {
                 .keepWorldConfig(!parsedFlags.hasFlag(flags.resetWorldConfig))
                 .keepGameRule(!parsedFlags.hasFlag(flags.resetGamerules))
                 .keepWorldBorder(!parsedFlags.hasFlag(flags.resetWorldBorder));
-        worldManager.cloneWorld(cloneWorldOptions)
+        worldManager.cloneWorldAsync(cloneWorldOptions, progress -> executors.mainThread().execute(() ->
+                        issuer.sendInfo(MVCorei18n.CLONE_PROGRESS,
+                                Replace.WORLD.with(world.getName()),
+                                replace("{percent}").with(progress.getPercent()),
+                                replace("{files}").with(progress.copiedFiles()),
+                                replace("{totalfiles}").with(progress.totalFiles()))))
                 .onSuccess(newWorld -> {
                     Logging.fine("World clone success: " + newWorld);
                     issuer.sendInfo(MVCorei18n.CLONE_SUCCESS, Replace.WORLD.with(newWorld.getName()));
@@ -16,15 +16,30 @@ import org.mvplugins.multiverse.core.command.LegacyAliasCommand;
 import org.mvplugins.multiverse.core.command.MVCommandManager;
 import org.mvplugins.multiverse.core.config.CoreConfig;
 import org.mvplugins.multiverse.core.locale.MVCorei18n;
+import org.mvplugins.multiverse.core.teleportation.TeleportHistogram;
+import org.mvplugins.multiverse.core.teleportation.TeleportStage;
+import org.mvplugins.multiverse.core.teleportation.TeleportTimings;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
 
 @Service
 class DebugCommand extends CoreCommand {
 
+    private static final double MICROS_PER_MILLI = 1000.0;
+
     private final CoreConfig config;
+    private final TeleportTimings teleportTimings;
 
     @Inject
-    DebugCommand(@NotNull CoreConfig config) {
+    DebugCommand(@NotNull CoreConfig config, @NotNull TeleportTimings teleportTimings) {
         this.config = config;
+        this.teleportTimings = teleportTimings;
     }
 
     @Subcommand("debug")
@@ -51,6 +66,61 @@ class DebugCommand extends CoreCommand {
         this.displayDebugMode(issuer);
     }
 
+    @Subcommand("debug teleports")
+    @CommandPermission("multiverse.core.debug")
+    @Description("{@@mv-core.debug.teleports.description}")
+    void onDebugTeleportsCommand(BukkitCommandIssuer issuer) {
+        Set<String> destinationTypes = new TreeSet<>(teleportTimings.getDestinationTypes());
+        if (destinationTypes.isEmpty()) {
+            issuer.sendInfo(MVCorei18n.DEBUG_TELEPORTS_NONE);
+            return;
+        }
+        for (String destinationType : destinationTypes) {
+            teleportTimings.getTimings(destinationType).peek(timings -> {
+                issuer.sendInfo(MVCorei18n.DEBUG_TELEPORTS_HEADER, "{type}", destinationType);
+                for (TeleportStage stage : TeleportStage.values()) {
+                    TeleportHistogram histogram = timings.getStage(stage);
+                    if (histogram.getCount() > 0) {
+                        sendHistogram(issuer, MVCorei18n.DEBUG_TELEPORTS_STAGE, histogram, MICROS_PER_MILLI,
+                                "{stage}", stage.name());
+                    }
+                }
+                if (timings.getBlocksProbed().getCount() > 0) {
+                    sendHistogram(issuer, MVCorei18n.DEBUG_TELEPORTS_PROBES, timings.getBlocksProbed(), 1);
+                }
+            });
+        }
+    }
+
+    @Subcommand("debug teleports reset")
+    @CommandPermission("multiverse.core.debug")
+    @Description("{@@mv-core.debug.teleports.reset.description}")
+    void onDebugTeleportsResetCommand(BukkitCommandIssuer issuer) {
+        teleportTimings.reset();
+        issuer.sendInfo(MVCorei18n.DEBUG_TELEPORTS_RESET_SUCCESS);
+    }
+
+    private void sendHistogram(
+            BukkitCommandIssuer issuer,
+            MVCorei18n key,
+            TeleportHistogram histogram,
+            double scale,
+            String... extraReplacements) {
+        List<String> replacements = new ArrayList<>(Arrays.asList(extraReplacements));
+        Collections.addAll(replacements,
+                "{count}", String.valueOf(histogram.getCount()),
+                "{mean}", formatValue(histogram.getMean() / scale),
+                "{p50}", formatValue(histogram.getPercentile(50) / scale),
+                "{p95}", formatValue(histogram.getPercentile(95) / scale),
+                "{p99}", formatValue(histogram.getPercentile(99) / scale),
+                "{max}", formatValue(histogram.getMax() / scale));
+        issuer.sendInfo(key, replacements.toArray(String[]::new));
+    }
+
+    private String formatValue(double value) {
+        return String.format(Locale.ROOT, "%.1f", value);
+    }
+
     private void displayDebugMode(BukkitCommandIssuer issuer) {
         final int debugLevel = config.getGlobalDebug();
         if (debugLevel == 0) {
@@ -64,8 +134,8 @@ class DebugCommand extends CoreCommand {
     @Service
     private static final class LegacyAlias extends DebugCommand implements LegacyAliasCommand {
         @Inject
-        public LegacyAlias(@NotNull CoreConfig config) {
-            super(config);
+        public LegacyAlias(@NotNull CoreConfig config, @NotNull TeleportTimings teleportTimings) {
+            super(config, teleportTimings);
         }
 
         @Override
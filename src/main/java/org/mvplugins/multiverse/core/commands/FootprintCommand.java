@@ -0,0 +1,193 @@
+package org.mvplugins.multiverse.core.commands;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import co.aikar.commands.annotation.CommandCompletion;
+import co.aikar.commands.annotation.CommandPermission;
+import co.aikar.commands.annotation.Description;
+import co.aikar.commands.annotation.Optional;
+import co.aikar.commands.annotation.Subcommand;
+import co.aikar.commands.annotation.Syntax;
+import com.dumptruckman.minecraft.util.Logging;
+import jakarta.inject.Inject;
+import org.bukkit.ChatColor;
+import org.jetbrains.annotations.NotNull;
+import org.jvnet.hk2.annotations.Service;
+
+import org.mvplugins.multiverse.core.command.MVCommandIssuer;
+import org.mvplugins.multiverse.core.command.flag.CommandFlagsManager;
+import org.mvplugins.multiverse.core.command.flag.CommandValueFlag;
+import org.mvplugins.multiverse.core.command.flag.ParsedCommandFlags;
+import org.mvplugins.multiverse.core.command.flags.PageFilterFlags;
+import org.mvplugins.multiverse.core.display.ContentDisplay;
+import org.mvplugins.multiverse.core.display.filters.DefaultContentFilter;
+import org.mvplugins.multiverse.core.display.handlers.PagedSendHandler;
+import org.mvplugins.multiverse.core.display.parsers.MapContentProvider;
+import org.mvplugins.multiverse.core.locale.MVCorei18n;
+import org.mvplugins.multiverse.core.locale.message.Message;
+import org.mvplugins.multiverse.core.utils.BukkitExecutors;
+import org.mvplugins.multiverse.core.utils.StringFormatter;
+import org.mvplugins.multiverse.core.world.LoadedMultiverseWorld;
+import org.mvplugins.multiverse.core.world.footprint.WorldFootprint;
+import org.mvplugins.multiverse.core.world.footprint.WorldFootprintReporter;
+
+import static org.mvplugins.multiverse.core.locale.message.MessageReplacement.replace;
+
+@Service
+class FootprintCommand extends CoreCommand {
+
+    private final WorldFootprintReporter footprintReporter;
+    private final BukkitExecutors executors;
+    private final Flags flags;
+
+    @Inject
+    FootprintCommand(
+            @NotNull WorldFootprintReporter footprintReporter,
+            @NotNull BukkitExecutors executors,
+            @NotNull Flags flags
+    ) {
+        this.footprintReporter = footprintReporter;
+        this.executors = executors;
+        this.flags = flags;
+    }
+
+    @Subcommand("footprint")
+    @CommandPermission("multiverse.core.footprint")
+    @CommandCompletion("@mvworlds:scope=loaded|@flags:resolveUntil=arg1,groupName=" + Flags.NAME
+            + " @flags:groupName=" + Flags.NAME)
+    @Syntax("[world] [--sort <sort>] [--page <page>] [--filter <filter>]")
+    @Description("{@@mv-core.footprint.description}")
+    void onFootprintCommand(
+            MVCommandIssuer issuer,
+
+            @Optional
+            @Syntax("[world]")
+            @Description("{@@mv-core.footprint.world.description}")
+            LoadedMultiverseWorld world,
+
+            @Optional
+            @Syntax("[--sort <sort>] [--page <page>] [--filter <filter>]")
+            @Description("{@@mv-core.footprint.flags.description}")
+            String[] flagArray) {
+        ParsedCommandFlags parsedFlags = flags.parse(flagArray);
+
+        if (world != null) {
+            footprintReporter.getFootprint(world)
+                    .thenAcceptAsync(footprint -> sendDisplay(issuer, parsedFlags,
+                            Message.of(MVCorei18n.FOOTPRINT_WORLD_HEADER, replace("{world}").with(world.getName())),
+                            getWorldFootprintContent(footprint)), executors.mainThread())
+                    .exceptionallyAsync(exception -> reportFailure(issuer, exception), executors.mainThread());
+            return;
+        }
+
+        SortBy sortBy = parsedFlags.flagValue(flags.sort, SortBy.CHUNKS);
+        footprintReporter.getFootprints()
+                .thenAcceptAsync(footprints -> sendDisplay(issuer, parsedFlags,
+                        Message.of(MVCorei18n.FOOTPRINT_HEADER),
+                        getFootprintsContent(footprints, sortBy)), executors.mainThread())
+                .exceptionallyAsync(exception -> reportFailure(issuer, exception), executors.mainThread());
+    }
+
+    private void sendDisplay(
+            MVCommandIssuer issuer, ParsedCommandFlags parsedFlags, Message header, Map<String, String> content) {
+        ContentDisplay.create()
+                .addContent(MapContentProvider.forContent(content)
+                        .withKeyColor(ChatColor.AQUA)
+                        .withValueColor(ChatColor.WHITE))
+                .withSendHandler(PagedSendHandler.create()
+                        .withHeader(header)
+                        .noContentMessage(Message.of(MVCorei18n.FOOTPRINT_NOCONTENT))
+                        .doPagination(true)
+                        .withTargetPage(parsedFlags.flagValue(flags.page, 1))
+                        .withFilter(parsedFlags.flagValue(flags.filter, DefaultContentFilter.get())))
+                .send(issuer);
+    }
+
+    private Void reportFailure(MVCommandIssuer issuer, Throwable exception) {
+        Logging.warning("Failed to get world footprint: %s", exception.getMessage());
+        issuer.sendError(MVCorei18n.GENERIC_FAILURE);
+        return null;
+    }
+
+    private Map<String, String> getWorldFootprintContent(WorldFootprint footprint) {
+        Map<String, String> outMap = new LinkedHashMap<>();
+
+        outMap.put("Loaded Chunks", String.valueOf(footprint.loadedChunks()));
+        outMap.put("Entities", String.valueOf(footprint.getEntityCount()));
+        footprint.entityCounts().forEach((spawnCategory, count) ->
+                outMap.put("  " + spawnCategory.name().toLowerCase(Locale.ROOT), String.valueOf(count)));
+        outMap.put("Tile Entities", String.valueOf(footprint.tileEntityCount()));
+        outMap.put("Plugin Chunk Tickets", String.valueOf(footprint.getPluginChunkTicketCount()));
+        footprint.pluginChunkTickets().forEach((pluginName, count) ->
+                outMap.put("  " + pluginName, String.valueOf(count)));
+        outMap.put("Force Loaded Chunks", String.valueOf(footprint.forceLoadedChunks()));
+        outMap.put("Players", String.valueOf(footprint.playerCount()));
+        outMap.put("Keep Spawn In Memory", String.valueOf(footprint.keepSpawnInMemory()));
+        outMap.put("Region Files Size", formatBytes(footprint.regionDiskBytes()));
+
+        return outMap;
+    }
+
+    private Map<String, String> getFootprintsContent(List<WorldFootprint> footprints, SortBy sortBy) {
+        Map<String, String> outMap = new LinkedHashMap<>();
+        footprints.stream()
+                .sorted(sortBy.comparator)
+                .forEach(footprint -> outMap.put(footprint.worldName(), String.format(Locale.ROOT,
+                        "%d chunks, %d entities, %d tile entities, %d tickets, %d players, %s",
+                        footprint.loadedChunks(),
+                        footprint.getEntityCount(),
+                        footprint.tileEntityCount(),
+                        footprint.getPluginChunkTicketCount() + footprint.forceLoadedChunks(),
+                        footprint.playerCount(),
+                        formatBytes(footprint.regionDiskBytes()))));
+        return outMap;
+    }
+
+    private String formatBytes(long bytes) {
+        if (bytes == WorldFootprint.UNKNOWN_SIZE) {
+            return "unknown";
+        }
+        return StringFormatter.formatBytes(bytes);
+    }
+
+    /**
+     * The statistic to sort worlds by. Worlds are sorted alphabetically by name, or largest first by any other
+     * statistic.
+     */
+    enum SortBy {
+        NAME(Comparator.comparing(WorldFootprint::worldName)),
+        CHUNKS(Comparator.comparingInt(WorldFootprint::loadedChunks).reversed()),
+        ENTITIES(Comparator.comparingInt(WorldFootprint::getEntityCount).reversed()),
+        TILE_ENTITIES(Comparator.comparingInt(WorldFootprint::tileEntityCount).reversed()),
+        TICKETS(Comparator.<WorldFootprint>comparingInt(
+                footprint -> footprint.getPluginChunkTicketCount() + footprint.forceLoadedChunks()).reversed()),
+        PLAYERS(Comparator.comparingInt(WorldFootprint::playerCount).reversed()),
+        DISK(Comparator.comparingLong(WorldFootprint::regionDiskBytes).reversed());
+
+        private final Comparator<WorldFootprint> comparator;
+
+        SortBy(Comparator<WorldFootprint> comparator) {
+            this.comparator = comparator;
+        }
+    }
+
+    @Service
+    private static final class Flags extends PageFilterFlags {
+
+        private static final String NAME = "mvfootprint";
+
+        @Inject
+        private Flags(@NotNull CommandFlagsManager flagsManager) {
+            super(NAME, flagsManager);
+        }
+
+        private final CommandValueFlag<SortBy> sort = flag(CommandValueFlag
+                .enumBuilder("--sort", SortBy.class)
+                .addAlias("-s")
+                .build());
+    }
+}
@@ -0,0 +1,107 @@
+package org.mvplugins.multiverse.core.commands;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import co.aikar.commands.annotation.CommandCompletion;
+import co.aikar.commands.annotation.CommandPermission;
+import co.aikar.commands.annotation.Description;
+import co.aikar.commands.annotation.Optional;
+import co.aikar.commands.annotation.Single;
+import co.aikar.commands.annotation.Subcommand;
+import co.aikar.commands.annotation.Syntax;
+import jakarta.inject.Inject;
+import org.bukkit.ChatColor;
+import org.jetbrains.annotations.NotNull;
+import org.jvnet.hk2.annotations.Service;
+
+import org.mvplugins.multiverse.core.command.MVCommandIssuer;
+import org.mvplugins.multiverse.core.command.flag.ParsedCommandFlags;
+import org.mvplugins.multiverse.core.command.flags.PageFilterFlags;
+import org.mvplugins.multiverse.core.display.ContentDisplay;
+import org.mvplugins.multiverse.core.display.filters.DefaultContentFilter;
+import org.mvplugins.multiverse.core.display.handlers.PagedSendHandler;
+import org.mvplugins.multiverse.core.display.parsers.MapContentProvider;
+import org.mvplugins.multiverse.core.locale.MVCorei18n;
+import org.mvplugins.multiverse.core.locale.message.Message;
+import org.mvplugins.multiverse.core.world.WorldPool;
+import org.mvplugins.multiverse.core.world.WorldPoolStatus;
+
+import static org.mvplugins.multiverse.core.locale.message.MessageReplacement.replace;
+
+@Service
+@Subcommand("pool")
+class PoolCommand extends CoreCommand {
+
+    private final WorldPool worldPool;
+    private final PageFilterFlags pageFilterFlags;
+
+    @Inject
+    PoolCommand(@NotNull WorldPool worldPool, @NotNull PageFilterFlags pageFilterFlags) {
+        this.worldPool = worldPool;
+        this.pageFilterFlags = pageFilterFlags;
+    }
+
+    @Subcommand("list")
+    @CommandPermission("multiverse.core.pool.list")
+    @CommandCompletion("@flags:groupName=" + PageFilterFlags.NAME)
+    @Syntax("[--page <page>] [--filter <filter>]")
+    @Description("{@@mv-core.pool.list.description}")
+    void onPoolListCommand(
+            MVCommandIssuer issuer,
+
+            @Optional
+            @Syntax("[--page <page>] [--filter <filter>]")
+            @Description("{@@mv-core.pool.list.flags.description}")
+            String[] flagArray) {
+        ParsedCommandFlags parsedFlags = pageFilterFlags.parse(flagArray);
+
+        ContentDisplay.create()
+                .addContent(MapContentProvider.forContent(getPoolsContent())
+                        .withKeyColor(ChatColor.AQUA)
+                        .withValueColor(ChatColor.WHITE))
+                .withSendHandler(PagedSendHandler.create()
+                        .withHeader(Message.of(MVCorei18n.POOL_LIST_HEADER))
+                        .noContentMessage(Message.of(MVCorei18n.POOL_LIST_NOCONTENT))
+                        .doPagination(true)
+                        .withTargetPage(parsedFlags.flagValue(pageFilterFlags.page, 1))
+                        .withFilter(parsedFlags.flagValue(pageFilterFlags.filter, DefaultContentFilter.get())))
+                .send(issuer);
+    }
+
+    private Map<String, String> getPoolsContent() {
+        Map<String, String> outMap = new LinkedHashMap<>();
+        for (WorldPoolStatus status : worldPool.getStatuses()) {
+            String content = String.format(Locale.ROOT, "%d/%d ready, %d in use, %d preparing, %d to reset",
+                    status.readyCount(),
+                    status.size(),
+                    status.inUseCount(),
+                    status.preparingCount(),
+                    status.recycleCount());
+            if (!status.failedWorlds().isEmpty()) {
+                content += ", failed: " + String.join(", ", status.failedWorlds());
+            }
+            outMap.put(status.poolName(), content);
+        }
+        return outMap;
+    }
+
+    @Subcommand("retry")
+    @CommandPermission("multiverse.core.pool.retry")
+    @Syntax("<pool>")
+    @Description("{@@mv-core.pool.retry.description}")
+    void onPoolRetryCommand(
+            MVCommandIssuer issuer,
+
+            @Single
+            @Syntax("<pool>")
+            @Description("{@@mv-core.pool.retry.pool.description}")
+            String poolName) {
+        worldPool.retryFailed(poolName)
+                .onSuccess(count -> issuer.sendInfo(MVCorei18n.POOL_RETRY_SUCCESS,
+                        replace("{pool}").with(poolName),
+                        replace("{count}").with(count)))
+                .onFailure(failure -> issuer.sendError(failure.getFailureMessage()));
+    }
+}
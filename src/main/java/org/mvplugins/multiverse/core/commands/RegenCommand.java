@@ -114,7 +114,7 @@ class RegenCommand extends CoreCommand {
                 .keepGameRule(!parsedFlags.hasFlag(flags.resetGamerules))
                 .keepWorldBorder(!parsedFlags.hasFlag(flags.resetWorldBorder));
 
-        worldManager.regenWorld(regenWorldOptions).onSuccess(newWorld -> {
+        worldManager.regenWorldAsync(regenWorldOptions).onSuccess(newWorld -> {
             Logging.fine("World regen success: " + newWorld);
             issuer.sendInfo(MVCorei18n.REGEN_SUCCESS, Replace.WORLD.with(newWorld.getName()));
             if (parsedFlags.hasFlag(flags.removePlayers)) {
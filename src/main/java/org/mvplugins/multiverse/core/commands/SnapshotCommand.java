@@ -0,0 +1,228 @@
+package org.mvplugins.multiverse.core.commands;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import co.aikar.commands.annotation.CommandCompletion;
+import co.aikar.commands.annotation.CommandPermission;
+import co.aikar.commands.annotation.Description;
+import co.aikar.commands.annotation.Optional;
+import co.aikar.commands.annotation.Single;
+import co.aikar.commands.annotation.Subcommand;
+import co.aikar.commands.annotation.Syntax;
+import com.dumptruckman.minecraft.util.Logging;
+import jakarta.inject.Inject;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jvnet.hk2.annotations.Service;
+
+import org.mvplugins.multiverse.core.command.MVCommandIssuer;
+import org.mvplugins.multiverse.core.command.flag.ParsedCommandFlags;
+import org.mvplugins.multiverse.core.command.flags.PageFilterFlags;
+import org.mvplugins.multiverse.core.command.flags.RemovePlayerFlags;
+import org.mvplugins.multiverse.core.command.queue.CommandQueueManager;
+import org.mvplugins.multiverse.core.command.queue.CommandQueuePayload;
+import org.mvplugins.multiverse.core.display.ContentDisplay;
+import org.mvplugins.multiverse.core.display.filters.DefaultContentFilter;
+import org.mvplugins.multiverse.core.display.handlers.PagedSendHandler;
+import org.mvplugins.multiverse.core.display.parsers.MapContentProvider;
+import org.mvplugins.multiverse.core.locale.MVCorei18n;
+import org.mvplugins.multiverse.core.locale.message.Message;
+import org.mvplugins.multiverse.core.locale.message.MessageReplacement.Replace;
+import org.mvplugins.multiverse.core.utils.BukkitExecutors;
+import org.mvplugins.multiverse.core.utils.StringFormatter;
+import org.mvplugins.multiverse.core.utils.result.AsyncAttemptsAggregate;
+import org.mvplugins.multiverse.core.world.LoadedMultiverseWorld;
+import org.mvplugins.multiverse.core.world.MultiverseWorld;
+import org.mvplugins.multiverse.core.world.WorldManager;
+import org.mvplugins.multiverse.core.world.WorldSnapshot;
+import org.mvplugins.multiverse.core.world.helpers.PlayerWorldTeleporter;
+
+import static org.mvplugins.multiverse.core.locale.message.MessageReplacement.replace;
+
+@Service
+@Subcommand("snapshot")
+class SnapshotCommand extends CoreCommand {
+
+    private final CommandQueueManager commandQueueManager;
+    private final WorldManager worldManager;
+    private final PlayerWorldTeleporter playerWorldTeleporter;
+    private final BukkitExecutors executors;
+    private final RemovePlayerFlags removePlayerFlags;
+    private final PageFilterFlags pageFilterFlags;
+
+    @Inject
+    SnapshotCommand(
+            @NotNull CommandQueueManager commandQueueManager,
+            @NotNull WorldManager worldManager,
+            @NotNull PlayerWorldTeleporter playerWorldTeleporter,
+            @NotNull BukkitExecutors executors,
+            @NotNull RemovePlayerFlags removePlayerFlags,
+            @NotNull PageFilterFlags pageFilterFlags
+    ) {
+        this.commandQueueManager = commandQueueManager;
+        this.worldManager = worldManager;
+        this.playerWorldTeleporter = playerWorldTeleporter;
+        this.executors = executors;
+        this.removePlayerFlags = removePlayerFlags;
+        this.pageFilterFlags = pageFilterFlags;
+    }
+
+    @Subcommand("create")
+    @CommandPermission("multiverse.core.snapshot.create")
+    @CommandCompletion("@mvworlds:scope=both")
+    @Syntax("<world>")
+    @Description("{@@mv-core.snapshot.create.description}")
+    void onSnapshotCreateCommand(
+            MVCommandIssuer issuer,
+
+            @Single
+            @Syntax("<world>")
+            @Description("{@@mv-core.snapshot.create.world.description}")
+            MultiverseWorld world) {
+        issuer.sendInfo(MVCorei18n.SNAPSHOT_CREATE_CREATING, Replace.WORLD.with(world.getName()));
+        worldManager.createSnapshot(world)
+                .onSuccess(snapshot -> issuer.sendInfo(MVCorei18n.SNAPSHOT_CREATE_SUCCESS,
+                        Replace.WORLD.with(world.getName()),
+                        replace("{snapshot}").with(snapshot.id()),
+                        replace("{duration}").with(snapshot.durationMillis()),
+                        replace("{stored}").with(StringFormatter.formatBytes(snapshot.storedBytes())),
+                        replace("{total}").with(StringFormatter.formatBytes(snapshot.totalBytes())),
+                        replace("{ratio}").with(formatRatio(snapshot))))
+                .onFailure(failure -> {
+                    Logging.warning("World snapshot failure: " + failure);
+                    issuer.sendError(failure.getFailureMessage());
+                });
+    }
+
+    @Subcommand("restore")
+    @CommandPermission("multiverse.core.snapshot.restore")
+    @CommandCompletion("@mvworlds:scope=both @empty @flags:groupName=" + RemovePlayerFlags.NAME)
+    @Syntax("<world> <snapshot> [--remove-players]")
+    @Description("{@@mv-core.snapshot.restore.description}")
+    void onSnapshotRestoreCommand(
+            MVCommandIssuer issuer,
+
+            @Single
+            @Syntax("<world>")
+            @Description("{@@mv-core.snapshot.restore.world.description}")
+            MultiverseWorld world,
+
+            @Single
+            @Syntax("<snapshot>")
+            @Description("{@@mv-core.snapshot.restore.snapshot.description}")
+            String snapshotId,
+
+            @Optional
+            @Syntax("[--remove-players]")
+            @Description("{@@mv-core.snapshot.restore.flags.description}")
+            String[] flagArray) {
+        ParsedCommandFlags parsedFlags = removePlayerFlags.parse(flagArray);
+
+        commandQueueManager.addToQueue(CommandQueuePayload
+                .issuer(issuer)
+                .action(() -> runSnapshotRestoreCommand(issuer, world, snapshotId, parsedFlags))
+                .prompt(Message.of(MVCorei18n.SNAPSHOT_RESTORE_PROMPT, "",
+                        Replace.WORLD.with(world.getName()),
+                        replace("{snapshot}").with(snapshotId))));
+    }
+
+    private void runSnapshotRestoreCommand(
+            MVCommandIssuer issuer, MultiverseWorld world, String snapshotId, ParsedCommandFlags parsedFlags) {
+        issuer.sendInfo(MVCorei18n.SNAPSHOT_RESTORE_RESTORING,
+                Replace.WORLD.with(world.getName()),
+                replace("{snapshot}").with(snapshotId));
+        boolean removePlayers = parsedFlags.hasFlag(removePlayerFlags.removePlayers)
+                && world instanceof LoadedMultiverseWorld;
+        List<Player> worldPlayers = removePlayers
+                ? ((LoadedMultiverseWorld) world).getPlayers().getOrElse(Collections.emptyList())
+                : Collections.emptyList();
+
+        var future = removePlayers
+                ? playerWorldTeleporter.removeFromWorld((LoadedMultiverseWorld) world)
+                : AsyncAttemptsAggregate.emptySuccess();
+
+        future.onSuccess(() -> doSnapshotRestoring(issuer, world, snapshotId, worldPlayers))
+                .onFailure(() -> issuer.sendError("Failed to teleport one or more players out of the world!"));
+    }
+
+    private void doSnapshotRestoring(
+            MVCommandIssuer issuer, MultiverseWorld world, String snapshotId, List<Player> worldPlayers) {
+        worldManager.restoreSnapshot(world, snapshotId).onSuccess(restoredWorld -> {
+            Logging.fine("World snapshot restore success: " + restoredWorld);
+            issuer.sendInfo(MVCorei18n.SNAPSHOT_RESTORE_SUCCESS,
+                    Replace.WORLD.with(restoredWorld.getName()),
+                    replace("{snapshot}").with(snapshotId));
+            if (!worldPlayers.isEmpty()) {
+                playerWorldTeleporter.teleportPlayersToWorld(worldPlayers, restoredWorld);
+            }
+        }).onFailure(failure -> {
+            Logging.warning("World snapshot restore failure: " + failure);
+            issuer.sendError(failure.getFailureMessage());
+        });
+    }
+
+    @Subcommand("list")
+    @CommandPermission("multiverse.core.snapshot.list")
+    @CommandCompletion("@mvworlds:scope=both @flags:groupName=" + PageFilterFlags.NAME)
+    @Syntax("<world> [--page <page>] [--filter <filter>]")
+    @Description("{@@mv-core.snapshot.list.description}")
+    void onSnapshotListCommand(
+            MVCommandIssuer issuer,
+
+            @Single
+            @Syntax("<world>")
+            @Description("{@@mv-core.snapshot.list.world.description}")
+            MultiverseWorld world,
+
+            @Optional
+            @Syntax("[--page <page>] [--filter <filter>]")
+            @Description("{@@mv-core.snapshot.list.flags.description}")
+            String[] flagArray) {
+        ParsedCommandFlags parsedFlags = pageFilterFlags.parse(flagArray);
+
+        worldManager.getSnapshots(world)
+                .thenAcceptAsync(snapshots -> ContentDisplay.create()
+                        .addContent(MapContentProvider.forContent(getSnapshotsContent(snapshots))
+                                .withKeyColor(ChatColor.AQUA)
+                                .withValueColor(ChatColor.WHITE))
+                        .withSendHandler(PagedSendHandler.create()
+                                .withHeader(Message.of(MVCorei18n.SNAPSHOT_LIST_HEADER,
+                                        Replace.WORLD.with(world.getName())))
+                                .noContentMessage(Message.of(MVCorei18n.SNAPSHOT_LIST_NOCONTENT,
+                                        Replace.WORLD.with(world.getName())))
+                                .doPagination(true)
+                                .withTargetPage(parsedFlags.flagValue(pageFilterFlags.page, 1))
+                                .withFilter(parsedFlags.flagValue(pageFilterFlags.filter, DefaultContentFilter.get())))
+                        .send(issuer), executors.mainThread())
+                .exceptionallyAsync(exception -> {
+                    Logging.warning("Failed to list snapshots: %s", exception.getMessage());
+                    issuer.sendError(MVCorei18n.GENERIC_FAILURE);
+                    return null;
+                }, executors.mainThread());
+    }
+
+    private Map<String, String> getSnapshotsContent(List<WorldSnapshot> snapshots) {
+        Map<String, String> outMap = new LinkedHashMap<>();
+        // Newest first
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            WorldSnapshot snapshot = snapshots.get(i);
+            outMap.put(snapshot.id(), String.format(Locale.ROOT,
+                    "%d files, %s stored of %s (%s deduplicated), took %d ms",
+                    snapshot.fileCount(),
+                    StringFormatter.formatBytes(snapshot.storedBytes()),
+                    StringFormatter.formatBytes(snapshot.totalBytes()),
+                    formatRatio(snapshot),
+                    snapshot.durationMillis()));
+        }
+        return outMap;
+    }
+
+    private String formatRatio(WorldSnapshot snapshot) {
+        return String.format(Locale.ROOT, "%.1f%%", snapshot.getDeduplicationRatio() * 100);
+    }
+}
@@ -71,6 +71,7 @@ final class TeleportCommand extends CoreCommand {
             @Description("{@@mv-core.teleport.player.description}")
             Player[] players,
 
+            @Flags("teleport")
             @Syntax("<destination>")
             @Description("{@@mv-core.teleport.destination.description}")
             DestinationInstance<?, ?> destination,
@@ -3,12 +3,14 @@ package org.mvplugins.multiverse.core.config;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Locale;
 
 import com.dumptruckman.minecraft.util.Logging;
 import io.vavr.control.Try;
 import jakarta.inject.Inject;
 import jakarta.inject.Provider;
+import org.bukkit.Material;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.plugin.PluginManager;
 import org.jetbrains.annotations.NotNull;
@@ -26,7 +28,9 @@ import org.mvplugins.multiverse.core.config.migration.action.InvertBoolMigratorA
 import org.mvplugins.multiverse.core.config.migration.action.MoveMigratorAction;
 import org.mvplugins.multiverse.core.config.migration.VersionMigrator;
 import org.mvplugins.multiverse.core.config.migration.action.SetMigratorAction;
+import org.mvplugins.multiverse.core.destination.CachedDestination;
 import org.mvplugins.multiverse.core.destination.DestinationsProvider;
+import org.mvplugins.multiverse.core.teleportation.BlockSafety;
 
 @Service
 public class CoreConfig {
@@ -42,10 +46,11 @@ public class CoreConfig {
             @NotNull MultiverseCore core,
             @NotNull PluginManager pluginManager,
             @NotNull Provider<MVCommandManager> commandManager, // config needs to be instantiated before the command manager
-            @NotNull Provider<DestinationsProvider> destinationsProvider
+            @NotNull Provider<DestinationsProvider> destinationsProvider,
+            @NotNull Provider<BlockSafety> blockSafety
     ) {
         this.configPath = Path.of(core.getDataFolder().getPath(), CONFIG_FILENAME);
-        this.configNodes = new CoreConfigNodes(pluginManager, commandManager, destinationsProvider);
+        this.configNodes = new CoreConfigNodes(pluginManager, commandManager, destinationsProvider, blockSafety);
         this.configHandle = CommentedConfigurationHandle.builder(configPath, configNodes.getNodes())
                 .logger(Logging.getLogger())
                 .migrator(ConfigMigrator.builder(configNodes.version)
@@ -177,6 +182,34 @@ public class CoreConfig {
         return configHandle.get(configNodes.autoPurgeEntities);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public Try<Void> setStartupWorldsPerTick(int startupWorldsPerTick) {
+        return configHandle.set(configNodes.startupWorldsPerTick, startupWorldsPerTick);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int getStartupWorldsPerTick() {
+        return configHandle.get(configNodes.startupWorldsPerTick);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Try<Void> setBatchOperationTickBudget(int batchOperationTickBudget) {
+        return configHandle.set(configNodes.batchOperationTickBudget, batchOperationTickBudget);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int getBatchOperationTickBudget() {
+        return configHandle.get(configNodes.batchOperationTickBudget);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -205,6 +238,20 @@ public class CoreConfig {
         return configHandle.get(configNodes.concurrentTeleportLimit);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public Try<Void> setTeleportsPerTick(int teleportsPerTick) {
+        return configHandle.set(configNodes.teleportsPerTick, teleportsPerTick);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int getTeleportsPerTick() {
+        return configHandle.get(configNodes.teleportsPerTick);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -254,6 +301,48 @@ public class CoreConfig {
         return configHandle.get(configNodes.safeLocationVerticalSearchRadius);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public Try<Void> setSafetyHazardBlocks(List<Material> safetyHazardBlocks) {
+        return configHandle.set(configNodes.safetyHazardBlocks, safetyHazardBlocks);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public List<Material> getSafetyHazardBlocks() {
+        return configHandle.get(configNodes.safetyHazardBlocks);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Try<Void> setPrefetchDestinationChunks(boolean prefetchDestinationChunks) {
+        return configHandle.set(configNodes.prefetchDestinationChunks, prefetchDestinationChunks);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean getPrefetchDestinationChunks() {
+        return configHandle.get(configNodes.prefetchDestinationChunks);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Try<Void> setPrefetchChunkRadius(int prefetchChunkRadius) {
+        return configHandle.set(configNodes.prefetchChunkRadius, prefetchChunkRadius);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int getPrefetchChunkRadius() {
+        return configHandle.get(configNodes.prefetchChunkRadius);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -275,6 +364,15 @@ public class CoreConfig {
         return configHandle.get(configNodes.firstSpawnLocation);
     }
 
+    /**
+     * Gets the first spawn location, parsed once and cached until it changes.
+     *
+     * @return The cached first spawn destination
+     */
+    public CachedDestination getCachedFirstSpawnLocation() {
+        return configNodes.getCachedFirstSpawnLocation();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -303,6 +401,24 @@ public class CoreConfig {
         return  configHandle.get(configNodes.joinDestination);
     }
 
+    /**
+     * Gets the join destination, parsed once and cached until it changes.
+     *
+     * @return The cached join destination
+     */
+    public CachedDestination getCachedJoinDestination() {
+        return configNodes.getCachedJoinDestination();
+    }
+
+    /**
+     * Discards the parsed destinations and locations cached from config values, so that they are resolved again on
+     * next use. Called when the worlds these destinations may point to change.
+     */
+    public void invalidateCachedDestinations() {
+        configNodes.getCachedFirstSpawnLocation().invalidate();
+        configNodes.getCachedJoinDestination().invalidate();
+    }
+
     /**
      * {@inheritDoc}
      */
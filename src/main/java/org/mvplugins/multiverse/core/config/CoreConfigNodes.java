@@ -4,6 +4,7 @@ import com.dumptruckman.minecraft.util.Logging;
 import io.vavr.control.Try;
 import jakarta.inject.Provider;
 import org.bukkit.Bukkit;
+import org.bukkit.Material;
 import org.bukkit.plugin.PluginManager;
 
 import org.jetbrains.annotations.NotNull;
@@ -11,14 +12,18 @@ import org.mvplugins.multiverse.core.command.MVCommandManager;
 import org.mvplugins.multiverse.core.command.queue.ConfirmMode;
 import org.mvplugins.multiverse.core.config.node.ConfigHeaderNode;
 import org.mvplugins.multiverse.core.config.node.ConfigNode;
+import org.mvplugins.multiverse.core.config.node.ListConfigNode;
 import org.mvplugins.multiverse.core.config.node.Node;
 import org.mvplugins.multiverse.core.config.node.NodeGroup;
+import org.mvplugins.multiverse.core.destination.CachedDestination;
 import org.mvplugins.multiverse.core.destination.DestinationsProvider;
 import org.mvplugins.multiverse.core.destination.core.WorldDestination;
 import org.mvplugins.multiverse.core.event.MVDebugModeEvent;
 import org.mvplugins.multiverse.core.exceptions.MultiverseException;
 import org.mvplugins.multiverse.core.permissions.PermissionUtils;
+import org.mvplugins.multiverse.core.teleportation.BlockSafety;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
@@ -29,20 +34,35 @@ final class CoreConfigNodes {
     private PluginManager pluginManager;
     private Provider<MVCommandManager> commandManager;
     private final Provider<DestinationsProvider> destinationsProvider;
+    private final Provider<BlockSafety> blockSafety;
+    private final CachedDestination cachedFirstSpawnLocation;
+    private final CachedDestination cachedJoinDestination;
 
     CoreConfigNodes(
             @NotNull PluginManager pluginManager,
             @NotNull Provider<MVCommandManager> commandManager,
-            @NotNull Provider<DestinationsProvider> destinationsProvider) {
+            @NotNull Provider<DestinationsProvider> destinationsProvider,
+            @NotNull Provider<BlockSafety> blockSafety) {
         this.pluginManager = pluginManager;
         this.commandManager = commandManager;
         this.destinationsProvider = destinationsProvider;
+        this.blockSafety = blockSafety;
+        this.cachedFirstSpawnLocation = new CachedDestination(destinationsProvider);
+        this.cachedJoinDestination = new CachedDestination(destinationsProvider);
     }
 
     NodeGroup getNodes() {
         return nodes;
     }
 
+    CachedDestination getCachedFirstSpawnLocation() {
+        return cachedFirstSpawnLocation;
+    }
+
+    CachedDestination getCachedJoinDestination() {
+        return cachedJoinDestination;
+    }
+
     private <N extends Node> N node(N node) {
         nodes.add(node);
         return node;
@@ -104,6 +124,32 @@ final class CoreConfigNodes {
             .name("auto-purge-entities")
             .build());
 
+    final ConfigNode<Integer> startupWorldsPerTick = node(ConfigNode.builder("world.startup-worlds-per-tick", Integer.class)
+            .comment("")
+            .comment("Sets the maximum number of worlds Multiverse will load in a single tick when the server starts.")
+            .comment("The remaining worlds will be loaded over the following ticks, in order of their `load-priority` property.")
+            .comment("Note that worlds loaded this way may not be available yet to plugins that enable after Multiverse.")
+            .comment("To load all worlds while Multiverse is enabling, set to 0.")
+            .defaultValue(0)
+            .name("startup-worlds-per-tick")
+            .validator(value -> value < 0
+                    ? Try.failure(new MultiverseException("The value must be greater than or equal to 0.", null))
+                    : Try.success(null))
+            .build());
+
+    final ConfigNode<Integer> batchOperationTickBudget = node(ConfigNode.builder("world.batch-operation-tick-budget", Integer.class)
+            .comment("")
+            .comment("Sets the maximum time in milliseconds Multiverse will spend per tick on batch world operations,")
+            .comment("such as loading or deleting many worlds at once through the API.")
+            .comment("Each tick runs at least one world operation, and the rest continue on the following ticks.")
+            .comment("To run all operations of a batch in a single tick, set to 0.")
+            .defaultValue(20)
+            .name("batch-operation-tick-budget")
+            .validator(value -> value < 0
+                    ? Try.failure(new MultiverseException("The value must be greater than or equal to 0.", null))
+                    : Try.success(null))
+            .build());
+
     private final ConfigHeaderNode teleportHeader = node(ConfigHeaderNode.builder("teleport")
             .comment("")
             .comment("")
@@ -131,6 +177,18 @@ final class CoreConfigNodes {
             .name("concurrent-teleport-limit")
             .build());
 
+    final ConfigNode<Integer> teleportsPerTick = node(ConfigNode.builder("teleport.teleports-per-tick", Integer.class)
+            .comment("")
+            .comment("Sets the maximum number of teleports Multiverse will start in a single tick when teleporting many entities at once.")
+            .comment("The remaining teleports will be spread out over the following ticks to prevent the server from freezing.")
+            .comment("To disable, set to 0.")
+            .defaultValue(20)
+            .name("teleports-per-tick")
+            .validator(value -> value < 0
+                    ? Try.failure(new MultiverseException("The value must be greater than or equal to 0.", null))
+                    : Try.success(null))
+            .build());
+
     final ConfigNode<Boolean> teleportIntercept = node(ConfigNode.builder("teleport.teleport-intercept", Boolean.class)
             .comment("")
             .comment("If this is set to true, Multiverse will enforce access permissions for all teleportation,")
@@ -158,6 +216,45 @@ final class CoreConfigNodes {
             .name("safe-location-vertical-search-radius")
             .build());
 
+    final ListConfigNode<Material> safetyHazardBlocks = node(ListConfigNode.listBuilder("teleport.safety-hazard-blocks", Material.class)
+            .comment("")
+            .comment("Sets the blocks that are unsafe for players to be in or stand on when finding a safe location to teleport to.")
+            .comment("Other blocks are safe to be in if they are not solid, and safe to stand on if they are solid.")
+            .defaultValue(() -> new ArrayList<>(List.of(
+                    Material.FIRE,
+                    Material.SOUL_FIRE,
+                    Material.LAVA,
+                    Material.MAGMA_BLOCK,
+                    Material.CACTUS,
+                    Material.POWDER_SNOW,
+                    Material.SWEET_BERRY_BUSH,
+                    Material.CAMPFIRE,
+                    Material.SOUL_CAMPFIRE,
+                    Material.WITHER_ROSE)))
+            .name("safety-hazard-blocks")
+            .onSetValue((oldValue, newValue) -> blockSafety.get().compileSafetyTable())
+            .onSetItemValue((oldValue, newValue) -> blockSafety.get().compileSafetyTable())
+            .build());
+
+    final ConfigNode<Boolean> prefetchDestinationChunks = node(ConfigNode.builder("teleport.prefetch-destination-chunks", Boolean.class)
+            .comment("")
+            .comment("Sets whether Multiverse will load the chunks around the destination before teleporting.")
+            .comment("The chunks are kept loaded until the teleport is done, so players arrive in already loaded terrain.")
+            .defaultValue(false)
+            .name("prefetch-destination-chunks")
+            .build());
+
+    final ConfigNode<Integer> prefetchChunkRadius = node(ConfigNode.builder("teleport.prefetch-chunk-radius", Integer.class)
+            .comment("")
+            .comment("Sets the radius in chunks around the destination chunk to load before teleporting.")
+            .comment("This only applies if prefetch-destination-chunks is set to true.")
+            .defaultValue(1)
+            .name("prefetch-chunk-radius")
+            .validator(value -> value < 0
+                    ? Try.failure(new MultiverseException("The value must be greater than or equal to 0.", null))
+                    : Try.success(null))
+            .build());
+
     private final ConfigHeaderNode spawnHeader = node(ConfigHeaderNode.builder("spawn")
             .comment("")
             .comment("")
@@ -178,6 +275,7 @@ final class CoreConfigNodes {
             .defaultValue("")
             .name("first-spawn-location")
             .suggester(this::suggestDestinations)
+            .onSetValue((oldValue, newValue) -> this.cachedFirstSpawnLocation.setDestinationString(newValue))
             .build());
 
     final ConfigNode<Boolean> enableJoinDestination = node(ConfigNode.builder("spawn.enable-join-destination", Boolean.class)
@@ -194,6 +292,7 @@ final class CoreConfigNodes {
             .defaultValue("")
             .name("join-destination")
             .suggester(this::suggestDestinations)
+            .onSetValue((oldValue, newValue) -> this.cachedJoinDestination.setDestinationString(newValue))
             .build());
 
     final ConfigNode<Boolean> defaultRespawnWithinSameWorld = node(ConfigNode.builder("spawn.default-respawn-within-same-world", Boolean.class)
@@ -309,6 +408,11 @@ final class CoreConfigNodes {
             .comment("In the event you have multiple worlds with the same alias name, the first world found will be used.")
             .defaultValue(true)
             .name("resolve-alias-name")
+            .onSetValue((oldValue, newValue) -> {
+                // Destinations may resolve to a different world
+                this.cachedFirstSpawnLocation.invalidate();
+                this.cachedJoinDestination.invalidate();
+            })
             .build());
 
     final ConfigNode<ConfirmMode> confirmMode = node(ConfigNode.builder("command.confirm-mode", ConfirmMode.class)
@@ -0,0 +1,104 @@
+package org.mvplugins.multiverse.core.destination;
+
+import io.vavr.control.Option;
+import jakarta.inject.Provider;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import org.mvplugins.multiverse.core.destination.core.WorldDestinationInstance;
+import org.mvplugins.multiverse.core.utils.result.Attempt;
+import org.mvplugins.multiverse.core.utils.result.FailureReason;
+
+/**
+ * A destination string that is parsed at most once until it changes or is invalidated. Used for destinations set in
+ * the config that are resolved very often, such as the join destination.
+ * <br />
+ * For world destinations, the resolved spawn location is cached as well, since it does not depend on the teleportee.
+ */
+public final class CachedDestination {
+
+    private final Provider<DestinationsProvider> destinationsProvider;
+
+    private volatile String destinationString = "";
+    private volatile Attempt<DestinationInstance<?, ?>, FailureReason> destination = null;
+    private volatile Location worldSpawnLocation = null;
+
+    /**
+     * Creates a new cached destination with an empty destination string.
+     *
+     * @param destinationsProvider  The destinations provider used for parsing
+     */
+    public CachedDestination(@NotNull Provider<DestinationsProvider> destinationsProvider) {
+        this.destinationsProvider = destinationsProvider;
+    }
+
+    /**
+     * Sets the destination string. The previously parsed destination is discarded if the string changed.
+     *
+     * @param destinationString The new destination string
+     */
+    public void setDestinationString(@Nullable String destinationString) {
+        String newDestinationString = destinationString == null ? "" : destinationString;
+        if (!newDestinationString.equals(this.destinationString)) {
+            this.destinationString = newDestinationString;
+            invalidate();
+        }
+    }
+
+    /**
+     * Gets the destination string.
+     *
+     * @return The destination string, empty if not set
+     */
+    public @NotNull String getDestinationString() {
+        return destinationString;
+    }
+
+    /**
+     * Discards the parsed destination and its resolved location, so that they are resolved again on next use. Call
+     * this when something the destination depends on changes, such as the worlds that are loaded.
+     */
+    public void invalidate() {
+        this.destination = null;
+        this.worldSpawnLocation = null;
+    }
+
+    /**
+     * Gets the parsed destination, parsing the destination string if it has not been parsed yet.
+     *
+     * @return The parse result
+     */
+    public @NotNull Attempt<DestinationInstance<?, ?>, FailureReason> getDestination() {
+        Attempt<DestinationInstance<?, ?>, FailureReason> currentDestination = this.destination;
+        if (currentDestination == null) {
+            currentDestination = destinationsProvider.get().parseTeleportDestination(destinationString);
+            this.destination = currentDestination;
+        }
+        return currentDestination;
+    }
+
+    /**
+     * Gets the location of the destination for the given teleportee.
+     *
+     * @param destinationInstance   The destination from {@link #getDestination()}
+     * @param teleportee            The entity that will be teleported
+     * @return The location, or none if the destination does not currently have one
+     */
+    public @NotNull Option<Location> getLocation(
+            @NotNull DestinationInstance<?, ?> destinationInstance, @NotNull Entity teleportee) {
+        if (!(destinationInstance instanceof WorldDestinationInstance)) {
+            return destinationInstance.getLocation(teleportee);
+        }
+        Location spawnLocation = this.worldSpawnLocation;
+        if (spawnLocation == null) {
+            spawnLocation = destinationInstance.getLocation(teleportee).getOrNull();
+            if (spawnLocation == null) {
+                return Option.none();
+            }
+            this.worldSpawnLocation = spawnLocation;
+        }
+        return Option.of(spawnLocation.clone());
+    }
+}
@@ -60,6 +60,16 @@ public abstract class DestinationInstance<I extends  DestinationInstance<I, T>,
      */
     public abstract @NotNull Option<Vector> getVelocity(@NotNull Entity teleportee);
 
+    /**
+     * Gets the name of the world this destination is in, if it is known without the world being loaded. This is
+     * used to load the world on demand before {@link #getLocation(Entity)} is called.
+     *
+     * @return The world name, or none if the destination does not target a fixed world.
+     */
+    public @NotNull Option<String> getWorldName() {
+        return Option.none();
+    }
+
     /**
      * Should the Multiverse SafeTeleporter be used?
      *
@@ -13,6 +13,8 @@ import org.jetbrains.annotations.Nullable;
 import org.jvnet.hk2.annotations.Service;
 import org.mvplugins.multiverse.core.locale.MVCorei18n;
 import org.mvplugins.multiverse.core.permissions.CorePermissions;
+import org.mvplugins.multiverse.core.teleportation.TeleportStage;
+import org.mvplugins.multiverse.core.teleportation.TeleportTimings;
 import org.mvplugins.multiverse.core.utils.result.Attempt;
 import org.mvplugins.multiverse.core.utils.result.FailureReason;
 
@@ -27,10 +29,12 @@ public final class DestinationsProvider {
 
     private final Map<String, Destination<?, ?, ?>> destinationMap;
     private final CorePermissions corePermissions;
+    private final TeleportTimings teleportTimings;
 
     @Inject
-    DestinationsProvider(@NotNull CorePermissions corePermissions) {
+    DestinationsProvider(@NotNull CorePermissions corePermissions, @NotNull TeleportTimings teleportTimings) {
         this.corePermissions = corePermissions;
+        this.teleportTimings = teleportTimings;
         this.destinationMap = new HashMap<>();
     }
 
@@ -76,6 +80,23 @@ public final class DestinationsProvider {
         return destination.getDestinationInstance(destinationParams);
     }
 
+    /**
+     * Same as {@link #parseDestination(String)}, but records the time taken as the
+     * {@link TeleportStage#DESTINATION_PARSE} stage of a teleport. Use this only when the destination is parsed in
+     * order to teleport to it.
+     *
+     * @param destinationString The destination string.
+     * @return The destination object, or null if invalid format.
+     */
+    public @NotNull Attempt<DestinationInstance<?, ?>, FailureReason> parseTeleportDestination(
+            @NotNull String destinationString) {
+        long parseStart = System.nanoTime();
+        Attempt<DestinationInstance<?, ?>, FailureReason> destinationInstance = parseDestination(destinationString);
+        destinationInstance.peek(instance ->
+                teleportTimings.recordSince(instance.getIdentifier(), TeleportStage.DESTINATION_PARSE, parseStart));
+        return destinationInstance;
+    }
+
     /**
      * Gets a destination by its identifier.
      *
@@ -50,7 +50,7 @@ public final class AnchorDestination implements Destination<AnchorDestination, A
                 .fold(
                         () -> Attempt.failure(InstanceFailureReason.ANCHOR_NOT_FOUND, replace("{anchor}").with(destinationParams)),
                         anchor -> Attempt.success(
-                                new AnchorDestinationInstance(this, destinationParams, anchor.getLocation()))
+                                new AnchorDestinationInstance(this, destinationParams, anchor.getUnloadedWorldLocation()))
                 );
     }
 
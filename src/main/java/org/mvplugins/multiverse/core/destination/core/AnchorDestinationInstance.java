@@ -7,13 +7,14 @@ import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
 
 import org.mvplugins.multiverse.core.destination.DestinationInstance;
+import org.mvplugins.multiverse.core.world.location.UnloadedWorldLocation;
 
 /**
  * Destination instance implementation for the {@link AnchorDestination}.
  */
 public final class AnchorDestinationInstance extends DestinationInstance<AnchorDestinationInstance, AnchorDestination> {
     private final String anchorName;
-    private final Location anchorLocation;
+    private final UnloadedWorldLocation anchorLocation;
 
     /**
      * Constructor.
@@ -24,7 +25,7 @@ public final class AnchorDestinationInstance extends DestinationInstance<AnchorD
     AnchorDestinationInstance(
             @NotNull AnchorDestination destination,
             @NotNull String anchorName,
-            @NotNull Location anchorLocation
+            @NotNull UnloadedWorldLocation anchorLocation
     ) {
         super(destination);
         this.anchorName = anchorName;
@@ -47,6 +48,14 @@ public final class AnchorDestinationInstance extends DestinationInstance<AnchorD
         return Option.none();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Option<String> getWorldName() {
+        return Option.of(anchorLocation.getWorldName());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -71,6 +71,14 @@ public final class WorldDestinationInstance extends DestinationInstance<WorldDes
         return Option.none();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Option<String> getWorldName() {
+        return Option.of(world.getName());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,139 @@
+package org.mvplugins.multiverse.core.listeners;
+
+import jakarta.inject.Inject;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockBurnEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockFadeEvent;
+import org.bukkit.event.block.BlockFormEvent;
+import org.bukkit.event.block.BlockFromToEvent;
+import org.bukkit.event.block.BlockGrowEvent;
+import org.bukkit.event.block.BlockPhysicsEvent;
+import org.bukkit.event.block.BlockPistonExtendEvent;
+import org.bukkit.event.block.BlockPistonRetractEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.block.LeavesDecayEvent;
+import org.bukkit.event.entity.EntityChangeBlockEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.world.StructureGrowEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jvnet.hk2.annotations.Service;
+import org.mvplugins.multiverse.core.teleportation.SafeLocationCache;
+
+import java.util.List;
+
+/**
+ * Multiverse's Block Listener. Keeps the {@link SafeLocationCache} up to date with block changes.
+ */
+@Service
+final class MVBlockListener implements CoreListener {
+
+    private final SafeLocationCache safeLocationCache;
+
+    @Inject
+    MVBlockListener(@NotNull SafeLocationCache safeLocationCache) {
+        this.safeLocationCache = safeLocationCache;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void blockBreak(BlockBreakEvent event) {
+        safeLocationCache.invalidate(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void blockPlace(BlockPlaceEvent event) {
+        safeLocationCache.invalidate(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void blockPhysics(BlockPhysicsEvent event) {
+        safeLocationCache.invalidate(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void blockBurn(BlockBurnEvent event) {
+        safeLocationCache.invalidate(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void blockFade(BlockFadeEvent event) {
+        safeLocationCache.invalidate(event.getBlock());
+    }
+
+    /**
+     * Also covers {@link org.bukkit.event.block.BlockSpreadEvent} and
+     * {@link org.bukkit.event.block.EntityBlockFormEvent}.
+     *
+     * @param event The Event that was fired.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void blockForm(BlockFormEvent event) {
+        safeLocationCache.invalidate(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void blockFromTo(BlockFromToEvent event) {
+        safeLocationCache.invalidate(event.getToBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void blockGrow(BlockGrowEvent event) {
+        safeLocationCache.invalidate(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void leavesDecay(LeavesDecayEvent event) {
+        safeLocationCache.invalidate(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void entityChangeBlock(EntityChangeBlockEvent event) {
+        safeLocationCache.invalidate(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void blockExplode(BlockExplodeEvent event) {
+        safeLocationCache.invalidate(event.getBlock());
+        invalidateBlocks(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void entityExplode(EntityExplodeEvent event) {
+        invalidateBlocks(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void blockPistonExtend(BlockPistonExtendEvent event) {
+        for (Block block : event.getBlocks()) {
+            safeLocationCache.invalidate(block);
+            safeLocationCache.invalidate(block.getRelative(event.getDirection()));
+        }
+        safeLocationCache.invalidate(event.getBlock().getRelative(event.getDirection()));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void blockPistonRetract(BlockPistonRetractEvent event) {
+        for (Block block : event.getBlocks()) {
+            safeLocationCache.invalidate(block);
+            safeLocationCache.invalidate(block.getRelative(event.getDirection()));
+        }
+        safeLocationCache.invalidate(event.getBlock().getRelative(event.getDirection().getOppositeFace()));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void structureGrow(StructureGrowEvent event) {
+        for (BlockState blockState : event.getBlocks()) {
+            safeLocationCache.invalidate(blockState.getBlock());
+        }
+    }
+
+    private void invalidateBlocks(@NotNull List<Block> blocks) {
+        for (Block block : blocks) {
+            safeLocationCache.invalidate(block);
+        }
+    }
+}
@@ -24,7 +24,9 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerPortalEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.player.PlayerRespawnEvent;
 import org.bukkit.event.player.PlayerTeleportEvent;
 import org.bukkit.plugin.Plugin;
@@ -33,13 +35,14 @@ import org.jvnet.hk2.annotations.Service;
 import org.mvplugins.multiverse.core.MultiverseCore;
 import org.mvplugins.multiverse.core.command.MVCommandManager;
 import org.mvplugins.multiverse.core.config.CoreConfig;
-import org.mvplugins.multiverse.core.destination.DestinationsProvider;
+import org.mvplugins.multiverse.core.destination.CachedDestination;
 import org.mvplugins.multiverse.core.economy.MVEconomist;
 import org.mvplugins.multiverse.core.event.MVRespawnEvent;
 import org.mvplugins.multiverse.core.locale.PluginLocales;
 import org.mvplugins.multiverse.core.teleportation.BlockSafety;
-import org.mvplugins.multiverse.core.teleportation.TeleportQueue;
+import org.mvplugins.multiverse.core.teleportation.TeleportRegistry;
 import org.mvplugins.multiverse.core.utils.result.ResultChain;
+import org.mvplugins.multiverse.core.world.IdleWorldUnloader;
 import org.mvplugins.multiverse.core.world.LoadedMultiverseWorld;
 import org.mvplugins.multiverse.core.world.MultiverseWorld;
 import org.mvplugins.multiverse.core.world.WorldManager;
@@ -58,12 +61,13 @@ final class MVPlayerListener implements CoreListener {
     private final Provider<WorldManager> worldManagerProvider;
     private final BlockSafety blockSafety;
     private final Server server;
-    private final TeleportQueue teleportQueue;
+    private final TeleportRegistry teleportRegistry;
     private final MVEconomist economist;
     private final WorldEntryCheckerProvider worldEntryCheckerProvider;
     private final Provider<MVCommandManager> commandManagerProvider;
-    private final DestinationsProvider destinationsProvider;
     private final EnforcementHandler enforcementHandler;
+    private final RespawnTargetCache respawnTargetCache;
+    private final IdleWorldUnloader idleWorldUnloader;
 
     private final Map<String, String> playerWorld = new ConcurrentHashMap<>();
 
@@ -74,23 +78,25 @@ final class MVPlayerListener implements CoreListener {
             Provider<WorldManager> worldManagerProvider,
             BlockSafety blockSafety,
             Server server,
-            TeleportQueue teleportQueue,
+            TeleportRegistry teleportRegistry,
             MVEconomist economist,
             WorldEntryCheckerProvider worldEntryCheckerProvider,
             Provider<MVCommandManager> commandManagerProvider,
-            DestinationsProvider destinationsProvider,
-            EnforcementHandler enforcementHandler) {
+            EnforcementHandler enforcementHandler,
+            RespawnTargetCache respawnTargetCache,
+            IdleWorldUnloader idleWorldUnloader) {
         this.plugin = plugin;
         this.config = config;
         this.worldManagerProvider = worldManagerProvider;
         this.blockSafety = blockSafety;
         this.server = server;
-        this.teleportQueue = teleportQueue;
+        this.teleportRegistry = teleportRegistry;
         this.economist = economist;
         this.worldEntryCheckerProvider = worldEntryCheckerProvider;
         this.commandManagerProvider = commandManagerProvider;
-        this.destinationsProvider = destinationsProvider;
         this.enforcementHandler = enforcementHandler;
+        this.respawnTargetCache = respawnTargetCache;
+        this.idleWorldUnloader = idleWorldUnloader;
     }
 
     private WorldManager getWorldManager() {
@@ -140,7 +146,7 @@ final class MVPlayerListener implements CoreListener {
                     }
                     return true;
                 })
-                .flatMap(mvWorld -> getMostAccurateRespawnLocation(player, mvWorld, event.getRespawnLocation()))
+                .flatMap(mvWorld -> getMostAccurateRespawnLocation(mvWorld, event.getRespawnLocation()))
                 .peek(newRespawnLocation -> {
                     MVRespawnEvent respawnEvent = new MVRespawnEvent(newRespawnLocation, event.getPlayer());
                     this.server.getPluginManager().callEvent(respawnEvent);
@@ -153,21 +159,16 @@ final class MVPlayerListener implements CoreListener {
                 });
     }
 
-    private Option<Location> getMostAccurateRespawnLocation(Player player, MultiverseWorld mvWorld, Location defaultRespawnLocation) {
-        return Option.of(mvWorld.getRespawnWorldName().isEmpty()
-                        ? player.getWorld()
-                        : server.getWorld(mvWorld.getRespawnWorldName()))
-                .onEmpty(() -> Logging.warning("World '%s' has respawn-world property of '%s' that does not exist!",
-                        player.getWorld().getName(), mvWorld.getRespawnWorldName()))
-                .flatMap(newRespawnWorld -> {
-                    if (!config.getEnforceRespawnAtWorldSpawn() && newRespawnWorld.equals(defaultRespawnLocation.getWorld())) {
+    private Option<Location> getMostAccurateRespawnLocation(
+            LoadedMultiverseWorld mvWorld, Location defaultRespawnLocation) {
+        return respawnTargetCache.get(mvWorld)
+                .flatMap(respawnTarget -> {
+                    if (!config.getEnforceRespawnAtWorldSpawn()
+                            && respawnTarget.world().equals(defaultRespawnLocation.getWorld())) {
                         Logging.fine("Respawn location is within same world as respawn-world, not overriding.");
                         return Option.none();
                     }
-                    return getWorldManager()
-                            .getLoadedWorld(newRespawnWorld)
-                            .map(newMVRespawnWorld -> (Location) newMVRespawnWorld.getSpawnLocation())
-                            .orElse(() -> Option.of(newRespawnWorld.getSpawnLocation()));
+                    return Option.of(respawnTarget.copySpawnLocation());
                 });
     }
 
@@ -193,9 +194,10 @@ final class MVPlayerListener implements CoreListener {
             // User has disabled the feature in config
             return;
         }
-        Logging.fine("Moving NEW player to(firstspawnoverride): %s", config.getFirstSpawnLocation());
-        destinationsProvider.parseDestination(config.getFirstSpawnLocation())
-                .map(destination -> destination.getLocation(event.getPlayer())
+        CachedDestination firstSpawnLocation = config.getCachedFirstSpawnLocation();
+        Logging.fine("Moving NEW player to(firstspawnoverride): %s", firstSpawnLocation.getDestinationString());
+        firstSpawnLocation.getDestination()
+                .map(destination -> firstSpawnLocation.getLocation(destination, event.getPlayer())
                         .peek(event::setSpawnLocation)
                         .onEmpty(() -> Logging.warning("The destination in FirstSpawnLocation in config is invalid")))
                 .onFailure(failure -> {
@@ -210,13 +212,14 @@ final class MVPlayerListener implements CoreListener {
             // User has disabled the feature in config
             return;
         }
-        if (config.getJoinDestination().isBlank()) {
+        CachedDestination joinDestination = config.getCachedJoinDestination();
+        if (joinDestination.getDestinationString().isBlank()) {
             Logging.warning("Joindestination is enabled but no destination has been specified in config!");
             return;
         }
-        Logging.finer("JoinDestination is " + config.getJoinDestination());
-        destinationsProvider.parseDestination(config.getJoinDestination())
-                .map(destination -> destination.getLocation(event.getPlayer())
+        Logging.finer("JoinDestination is " + joinDestination.getDestinationString());
+        joinDestination.getDestination()
+                .map(destination -> joinDestination.getLocation(destination, event.getPlayer())
                     .peek(event::setSpawnLocation)
                     .onEmpty(() -> Logging.warning("The destination in JoinDestination in config is invalid")))
                 .onFailure(failure -> {
@@ -234,6 +237,26 @@ final class MVPlayerListener implements CoreListener {
         // Permissions now determine whether or not to handle a gamemode.
         this.handleGameModeAndFlight(event.getPlayer(), event.getPlayer().getWorld());
         playerWorld.put(event.getPlayer().getName(), event.getPlayer().getWorld().getName());
+        idleWorldUnloader.playerLeftWorld(event.getFrom(), null);
+        idleWorldUnloader.playerEnteredWorld(event.getPlayer().getWorld());
+    }
+
+    /**
+     * This method is called when a player joins the server.
+     * @param event The Event that was fired.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    void playerJoin(PlayerJoinEvent event) {
+        idleWorldUnloader.playerEnteredWorld(event.getPlayer().getWorld());
+    }
+
+    /**
+     * This method is called when a player leaves the server.
+     * @param event The Event that was fired.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    void playerQuit(PlayerQuitEvent event) {
+        idleWorldUnloader.playerLeftWorld(event.getPlayer().getWorld(), event.getPlayer());
     }
 
     /**
@@ -248,14 +271,16 @@ final class MVPlayerListener implements CoreListener {
             return;
         }
         Player teleportee = event.getPlayer();
-        Option<String> teleporterName = teleportQueue.popFromQueue(teleportee.getName());
-        CommandSender teleporter = teleporterName.map(name -> {
-            if (name.equalsIgnoreCase("CONSOLE")) {
-                Logging.finer("We know the teleporter is the console! Magical!");
-                return this.server.getConsoleSender();
-            }
-            return this.server.getPlayerExact(teleporterName.get());
-        }).getOrNull();
+        TeleportRegistry.InFlightTeleport inFlightTeleport = teleportRegistry.consume(teleportee.getUniqueId())
+                .getOrNull();
+        if (inFlightTeleport != null && inFlightTeleport.isCancelled()) {
+            Logging.fine("In-flight teleport for %s was cancelled.", teleportee.getName());
+            event.setCancelled(true);
+            return;
+        }
+        CommandSender teleporter = Option.of(inFlightTeleport)
+                .flatMap(TeleportRegistry.InFlightTeleport::getTeleporter)
+                .getOrNull();
 
         if (teleporter == null) {
             if (!config.getTeleportIntercept()) {
@@ -11,10 +11,17 @@ import com.dumptruckman.minecraft.util.Logging;
 import jakarta.inject.Inject;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
+import org.bukkit.event.world.SpawnChangeEvent;
 import org.bukkit.event.world.WorldLoadEvent;
 import org.bukkit.event.world.WorldUnloadEvent;
 import org.jvnet.hk2.annotations.Service;
 
+import org.mvplugins.multiverse.core.config.CoreConfig;
+import org.mvplugins.multiverse.core.event.world.MVWorldLoadedEvent;
+import org.mvplugins.multiverse.core.event.world.MVWorldPropertyChangedEvent;
+import org.mvplugins.multiverse.core.event.world.MVWorldRemovedEvent;
+import org.mvplugins.multiverse.core.event.world.MVWorldUnloadedEvent;
+import org.mvplugins.multiverse.core.teleportation.SafeLocationCache;
 import org.mvplugins.multiverse.core.world.WorldManager;
 import org.mvplugins.multiverse.core.world.options.UnloadWorldOptions;
 import org.mvplugins.multiverse.core.world.reasons.LoadFailureReason;
@@ -27,10 +34,20 @@ import org.mvplugins.multiverse.core.world.reasons.UnloadFailureReason;
 final class MVWorldListener implements CoreListener {
 
     private final WorldManager worldManager;
+    private final SafeLocationCache safeLocationCache;
+    private final CoreConfig config;
+    private final RespawnTargetCache respawnTargetCache;
 
     @Inject
-    MVWorldListener(WorldManager worldManager) {
+    MVWorldListener(
+            WorldManager worldManager,
+            SafeLocationCache safeLocationCache,
+            CoreConfig config,
+            RespawnTargetCache respawnTargetCache) {
         this.worldManager = worldManager;
+        this.safeLocationCache = safeLocationCache;
+        this.config = config;
+        this.respawnTargetCache = respawnTargetCache;
     }
 
     /**
@@ -43,6 +60,9 @@ final class MVWorldListener implements CoreListener {
         if (event.isCancelled()) {
             return;
         }
+        safeLocationCache.invalidateWorld(event.getWorld());
+        // The world may be a respawn target even if Multiverse does not manage it
+        respawnTargetCache.invalidateAll();
         worldManager.getLoadedWorld(event.getWorld().getName())
                 .peek(world -> worldManager.unloadWorld(UnloadWorldOptions.world(world)).onFailure(failure -> {
                     if (failure.getFailureReason() != UnloadFailureReason.WORLD_ALREADY_UNLOADING) {
@@ -58,6 +78,7 @@ final class MVWorldListener implements CoreListener {
      */
     @EventHandler(priority = EventPriority.MONITOR)
     public void worldLoad(WorldLoadEvent event) {
+        respawnTargetCache.invalidateAll();
         worldManager.getUnloadedWorld(event.getWorld().getName())
                 .peek(world -> {
                     Logging.fine("Loading world: " + world.getName());
@@ -68,4 +89,66 @@ final class MVWorldListener implements CoreListener {
                     });
                 });
     }
+
+    /**
+     * This method is called when a multiverse world is loaded.
+     *
+     * @param event The Event that was fired.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void mvWorldLoaded(MVWorldLoadedEvent event) {
+        config.invalidateCachedDestinations();
+        respawnTargetCache.invalidateAll();
+    }
+
+    /**
+     * This method is called when a multiverse world is unloaded.
+     *
+     * @param event The Event that was fired.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void mvWorldUnloaded(MVWorldUnloadedEvent event) {
+        config.invalidateCachedDestinations();
+        respawnTargetCache.invalidateAll();
+    }
+
+    /**
+     * This method is called when a multiverse world is removed.
+     *
+     * @param event The Event that was fired.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void mvWorldRemoved(MVWorldRemovedEvent event) {
+        config.invalidateCachedDestinations();
+        respawnTargetCache.invalidateAll();
+    }
+
+    /**
+     * This method is called when a multiverse world property is changed.
+     *
+     * @param event The Event that was fired.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void mvWorldPropertyChanged(MVWorldPropertyChangedEvent<?> event) {
+        switch (event.getName()) {
+            case "spawn-location" -> {
+                config.invalidateCachedDestinations();
+                respawnTargetCache.invalidateAll();
+            }
+            case "respawn-world" -> respawnTargetCache.invalidateAll();
+            case "alias" -> config.invalidateCachedDestinations();
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * This method is called when the spawn of a world is changed, including worlds not managed by Multiverse.
+     *
+     * @param event The Event that was fired.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void spawnChange(SpawnChangeEvent event) {
+        respawnTargetCache.invalidateAll();
+    }
 }
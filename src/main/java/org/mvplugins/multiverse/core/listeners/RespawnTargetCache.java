@@ -0,0 +1,87 @@
+package org.mvplugins.multiverse.core.listeners;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.dumptruckman.minecraft.util.Logging;
+import io.vavr.control.Option;
+import jakarta.inject.Inject;
+import jakarta.inject.Provider;
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+import org.jvnet.hk2.annotations.Service;
+
+import org.mvplugins.multiverse.core.world.LoadedMultiverseWorld;
+import org.mvplugins.multiverse.core.world.WorldManager;
+
+/**
+ * Caches where players that die in a world should respawn, resolved from the world's {@code respawn-world} property.
+ * <br />
+ * Entries are resolved on first use, and everything is invalidated whenever a world is loaded or unloaded, or a
+ * world's {@code respawn-world} or spawn location changes. A respawn-world that does not exist is not cached, as it
+ * may be loaded later by another plugin.
+ */
+@Service
+final class RespawnTargetCache {
+
+    private final Provider<WorldManager> worldManagerProvider;
+    private final Server server;
+
+    private final Map<String, RespawnTarget> respawnTargets = new ConcurrentHashMap<>();
+
+    @Inject
+    RespawnTargetCache(@NotNull Provider<WorldManager> worldManagerProvider, @NotNull Server server) {
+        this.worldManagerProvider = worldManagerProvider;
+        this.server = server;
+    }
+
+    /**
+     * Gets the respawn target for players that die in the given world.
+     *
+     * @param deathWorld    The world the player died in
+     * @return The respawn target, or none if the respawn-world does not exist
+     */
+    @NotNull Option<RespawnTarget> get(@NotNull LoadedMultiverseWorld deathWorld) {
+        return Option.of(respawnTargets.computeIfAbsent(deathWorld.getName(), ignore -> resolve(deathWorld)));
+    }
+
+    /**
+     * Invalidates all cached respawn targets.
+     */
+    void invalidateAll() {
+        respawnTargets.clear();
+    }
+
+    private RespawnTarget resolve(LoadedMultiverseWorld deathWorld) {
+        String respawnWorldName = deathWorld.getRespawnWorldName();
+        return Option.of(respawnWorldName.isEmpty()
+                        ? deathWorld.getBukkitWorld().getOrNull()
+                        : server.getWorld(respawnWorldName))
+                .onEmpty(() -> Logging.warning("World '%s' has respawn-world property of '%s' that does not exist!",
+                        deathWorld.getName(), respawnWorldName))
+                .map(respawnWorld -> new RespawnTarget(respawnWorld, worldManagerProvider.get()
+                        .getLoadedWorld(respawnWorld)
+                        .map(mvRespawnWorld -> (Location) mvRespawnWorld.getSpawnLocation())
+                        .getOrElse(respawnWorld::getSpawnLocation)))
+                .getOrNull();
+    }
+
+    /**
+     * A resolved respawn target.
+     *
+     * @param world         The world to respawn in
+     * @param spawnLocation The spawn location in that world. Do not modify, use {@link #copySpawnLocation()}.
+     */
+    record RespawnTarget(@NotNull World world, @NotNull Location spawnLocation) {
+        /**
+         * Gets a copy of the spawn location that is safe to hand out to events.
+         *
+         * @return A copy of the spawn location
+         */
+        @NotNull Location copySpawnLocation() {
+            return spawnLocation.clone();
+        }
+    }
+}
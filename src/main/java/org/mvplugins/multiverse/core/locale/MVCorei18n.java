@@ -32,6 +32,7 @@ public enum MVCorei18n implements MessageKeyProvider {
     CLONE_WORLD_DESCRIPTION,
     CLONE_NEWWORLD_DESCRIPTION,
     CLONE_CLONING,
+    CLONE_PROGRESS,
     CLONE_SUCCESS,
 
     // /mv confirm
@@ -71,6 +72,13 @@ public enum MVCorei18n implements MessageKeyProvider {
     DEBUG_CHANGE_DESCRIPTION,
     DEBUG_CHANGE_SYNTAX,
     DEBUG_CHANGE_LEVEL_DESCRIPTION,
+    DEBUG_TELEPORTS_DESCRIPTION,
+    DEBUG_TELEPORTS_NONE,
+    DEBUG_TELEPORTS_HEADER,
+    DEBUG_TELEPORTS_STAGE,
+    DEBUG_TELEPORTS_PROBES,
+    DEBUG_TELEPORTS_RESET_DESCRIPTION,
+    DEBUG_TELEPORTS_RESET_SUCCESS,
 
     // /mv delete
     DELETE_DESCRIPTION,
@@ -82,6 +90,14 @@ public enum MVCorei18n implements MessageKeyProvider {
     DUMPS_DESCRIPTION,
     DUMPS_URL_LIST,
 
+    // /mv footprint
+    FOOTPRINT_DESCRIPTION,
+    FOOTPRINT_WORLD_DESCRIPTION,
+    FOOTPRINT_FLAGS_DESCRIPTION,
+    FOOTPRINT_HEADER,
+    FOOTPRINT_WORLD_HEADER,
+    FOOTPRINT_NOCONTENT,
+
     // /mv gamerule set
     GAMERULE_SET_DESCRIPTION,
     GAMERULE_SET_GAMERULE_DESCRIPTION,
@@ -146,6 +162,17 @@ public enum MVCorei18n implements MessageKeyProvider {
     MODIFY_FAILURE,
     MODIFY_FAILURE_NOVALUE,
 
+    // /mv pool
+    POOL_LIST_DESCRIPTION,
+    POOL_LIST_FLAGS_DESCRIPTION,
+    POOL_LIST_HEADER,
+    POOL_LIST_NOCONTENT,
+    POOL_RETRY_DESCRIPTION,
+    POOL_RETRY_POOL_DESCRIPTION,
+    POOL_RETRY_SUCCESS,
+    POOL_NOTFOUND,
+    POOL_RESET_FAILED,
+
     // /mv regen
     REGEN_DESCRIPTION,
     REGEN_WORLD_DESCRIPTION,
@@ -173,6 +200,26 @@ public enum MVCorei18n implements MessageKeyProvider {
     SETSPAWN_LOCATION_DESCRIPTION,
     SETSPAWN_WORLD_DESCRIPTION,
 
+    // /mv snapshot
+    SNAPSHOT_CREATE_DESCRIPTION,
+    SNAPSHOT_CREATE_WORLD_DESCRIPTION,
+    SNAPSHOT_CREATE_CREATING,
+    SNAPSHOT_CREATE_SUCCESS,
+    SNAPSHOT_RESTORE_DESCRIPTION,
+    SNAPSHOT_RESTORE_WORLD_DESCRIPTION,
+    SNAPSHOT_RESTORE_SNAPSHOT_DESCRIPTION,
+    SNAPSHOT_RESTORE_FLAGS_DESCRIPTION,
+    SNAPSHOT_RESTORE_PROMPT,
+    SNAPSHOT_RESTORE_RESTORING,
+    SNAPSHOT_RESTORE_SUCCESS,
+    SNAPSHOT_LIST_DESCRIPTION,
+    SNAPSHOT_LIST_WORLD_DESCRIPTION,
+    SNAPSHOT_LIST_FLAGS_DESCRIPTION,
+    SNAPSHOT_LIST_HEADER,
+    SNAPSHOT_LIST_NOCONTENT,
+    SNAPSHOT_INPROGRESS,
+    SNAPSHOT_NOTFOUND,
+
     // /mv spawn
     SPAWN_DESCRIPTION,
     SPAWN_PLAYER_DESCRIPTION,
@@ -241,6 +288,8 @@ public enum MVCorei18n implements MessageKeyProvider {
     TELEPORTFAILUREREASON_TELEPORT_FAILED,
     TELEPORTFAILUREREASON_TELEPORT_FAILED_EXCEPTION,
     TELEPORTFAILUREREASON_EVENT_CANCELLED,
+    TELEPORTFAILUREREASON_TELEPORT_CANCELLED,
+    TELEPORTFAILUREREASON_WORLD_LOAD_FAILED,
 
     // world manager result
     CLONEWORLD_INVALIDWORLDNAME,
@@ -9,7 +9,10 @@ import org.jetbrains.annotations.Nullable;
 import org.jvnet.hk2.annotations.Service;
 
 import org.mvplugins.multiverse.core.MultiverseCore;
+import org.mvplugins.multiverse.core.config.CoreConfig;
 import org.mvplugins.multiverse.core.destination.DestinationInstance;
+import org.mvplugins.multiverse.core.utils.BukkitExecutors;
+import org.mvplugins.multiverse.core.world.OnDemandWorldLoader;
 
 /**
  * Teleports entities safely and asynchronously. Provider for the {@link AsyncSafetyTeleporter}.
@@ -19,19 +22,34 @@ public final class AsyncSafetyTeleporter {
     @NotNull
     private final MultiverseCore multiverseCore;
     private final BlockSafety blockSafety;
-    private final TeleportQueue teleportQueue;
+    private final TeleportRegistry teleportRegistry;
     private final PluginManager pluginManager;
+    private final BukkitExecutors executors;
+    private final CoreConfig config;
+    private final ChunkPrefetcher chunkPrefetcher;
+    private final TeleportTimings teleportTimings;
+    private final OnDemandWorldLoader onDemandWorldLoader;
 
     @Inject
     AsyncSafetyTeleporter(
             @NotNull MultiverseCore multiverseCore,
             @NotNull BlockSafety blockSafety,
-            @NotNull TeleportQueue teleportQueue,
-            @NotNull PluginManager pluginManager) {
+            @NotNull TeleportRegistry teleportRegistry,
+            @NotNull PluginManager pluginManager,
+            @NotNull BukkitExecutors executors,
+            @NotNull CoreConfig config,
+            @NotNull ChunkPrefetcher chunkPrefetcher,
+            @NotNull TeleportTimings teleportTimings,
+            @NotNull OnDemandWorldLoader onDemandWorldLoader) {
         this.multiverseCore = multiverseCore;
         this.blockSafety = blockSafety;
-        this.teleportQueue = teleportQueue;
+        this.teleportRegistry = teleportRegistry;
         this.pluginManager = pluginManager;
+        this.executors = executors;
+        this.config = config;
+        this.chunkPrefetcher = chunkPrefetcher;
+        this.teleportTimings = teleportTimings;
+        this.onDemandWorldLoader = onDemandWorldLoader;
     }
 
     /**
@@ -44,8 +62,13 @@ public final class AsyncSafetyTeleporter {
         return new AsyncSafetyTeleporterAction(
                 multiverseCore,
                 blockSafety,
-                teleportQueue,
+                teleportRegistry,
                 pluginManager,
+                executors,
+                config,
+                chunkPrefetcher,
+                teleportTimings,
+                onDemandWorldLoader,
                 Either.left(location)
         );
     }
@@ -60,8 +83,13 @@ public final class AsyncSafetyTeleporter {
         return new AsyncSafetyTeleporterAction(
                 multiverseCore,
                 blockSafety,
-                teleportQueue,
+                teleportRegistry,
                 pluginManager,
+                executors,
+                config,
+                chunkPrefetcher,
+                teleportTimings,
+                onDemandWorldLoader,
                 Either.right(destination)
         );
     }
@@ -9,18 +9,25 @@ import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Entity;
-import org.bukkit.entity.Player;
 import org.bukkit.plugin.PluginManager;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.mvplugins.multiverse.core.MultiverseCore;
+import org.mvplugins.multiverse.core.config.CoreConfig;
 import org.mvplugins.multiverse.core.destination.DestinationInstance;
 import org.mvplugins.multiverse.core.event.MVTeleportDestinationEvent;
+import org.mvplugins.multiverse.core.utils.BukkitExecutors;
 import org.mvplugins.multiverse.core.utils.result.AsyncAttempt;
 import org.mvplugins.multiverse.core.utils.result.AsyncAttemptsAggregate;
 import org.mvplugins.multiverse.core.utils.result.Attempt;
+import org.mvplugins.multiverse.core.world.OnDemandWorldLoader;
+import org.mvplugins.multiverse.core.world.location.UnloadedWorldLocation;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Teleports one or more entity safely to a location.
@@ -30,23 +37,41 @@ public final class AsyncSafetyTeleporterAction {
     @NotNull
     private final MultiverseCore multiverseCore;
     private final BlockSafety blockSafety;
-    private final TeleportQueue teleportQueue;
+    private final TeleportRegistry teleportRegistry;
     private final PluginManager pluginManager;
+    private final BukkitExecutors executors;
+    private final CoreConfig config;
+    private final ChunkPrefetcher chunkPrefetcher;
+    private final TeleportTimings teleportTimings;
+    private final OnDemandWorldLoader onDemandWorldLoader;
 
     private final @NotNull Either<Location, DestinationInstance<?, ?>> locationOrDestination;
     private boolean checkSafety;
     private @Nullable CommandSender teleporter = null;
+    private @Nullable Integer teleportsPerTick = null;
+    private @Nullable Boolean prefetchChunks = null;
+    private @Nullable Integer prefetchRadius = null;
 
     AsyncSafetyTeleporterAction(
             @NotNull MultiverseCore multiverseCore,
             @NotNull BlockSafety blockSafety,
-            @NotNull TeleportQueue teleportQueue,
+            @NotNull TeleportRegistry teleportRegistry,
             @NotNull PluginManager pluginManager,
+            @NotNull BukkitExecutors executors,
+            @NotNull CoreConfig config,
+            @NotNull ChunkPrefetcher chunkPrefetcher,
+            @NotNull TeleportTimings teleportTimings,
+            @NotNull OnDemandWorldLoader onDemandWorldLoader,
             @NotNull Either<Location, DestinationInstance<?, ?>> locationOrDestination) {
         this.multiverseCore = multiverseCore;
         this.blockSafety = blockSafety;
-        this.teleportQueue = teleportQueue;
+        this.teleportRegistry = teleportRegistry;
         this.pluginManager = pluginManager;
+        this.executors = executors;
+        this.config = config;
+        this.chunkPrefetcher = chunkPrefetcher;
+        this.teleportTimings = teleportTimings;
+        this.onDemandWorldLoader = onDemandWorldLoader;
         this.locationOrDestination = locationOrDestination;
         this.checkSafety = locationOrDestination.fold(
                 location -> true,
@@ -87,14 +112,77 @@ public final class AsyncSafetyTeleporterAction {
     }
 
     /**
-     * Teleport multiple entities
+     * Sets the maximum number of teleports to start per tick when teleporting multiple entities. Defaults to
+     * {@link CoreConfig#getTeleportsPerTick()}.
+     *
+     * @param teleportsPerTick The maximum number of teleports per tick, or 0 for no limit
+     * @return A new {@link AsyncSafetyTeleporterAction} to be chained
+     */
+    public AsyncSafetyTeleporterAction teleportsPerTick(int teleportsPerTick) {
+        this.teleportsPerTick = teleportsPerTick;
+        return this;
+    }
+
+    /**
+     * Sets whether to load and pin the chunks around the destination before teleporting. Defaults to
+     * {@link CoreConfig#getPrefetchDestinationChunks()}.
+     *
+     * @param prefetchChunks Whether to prefetch the destination chunks
+     * @return A new {@link AsyncSafetyTeleporterAction} to be chained
+     */
+    public AsyncSafetyTeleporterAction prefetchChunks(boolean prefetchChunks) {
+        this.prefetchChunks = prefetchChunks;
+        return this;
+    }
+
+    /**
+     * Sets the radius in chunks around the destination chunk to prefetch. Defaults to
+     * {@link CoreConfig#getPrefetchChunkRadius()}.
+     *
+     * @param prefetchRadius The prefetch radius in chunks
+     * @return A new {@link AsyncSafetyTeleporterAction} to be chained
+     */
+    public AsyncSafetyTeleporterAction prefetchRadius(int prefetchRadius) {
+        this.prefetchRadius = prefetchRadius;
+        return this;
+    }
+
+    /**
+     * Teleport multiple entities. Safety checks are shared between entities teleporting to the same location, and
+     * teleports are started in waves limited by the teleports per tick budget.
      *
      * @param teleportees The entities to teleport
      * @param <T>   The entity type
      * @return A list of async futures that represent the teleportation result of each entity
      */
     public <T extends Entity> AsyncAttemptsAggregate<Void, TeleportFailureReason> teleport(@NotNull List<T> teleportees) {
-        return AsyncAttemptsAggregate.allOf(teleportees.stream().map(this::teleport).toList());
+        // Waves may pick up safety checks from whichever thread completes the previous stage
+        Map<Location, AsyncAttempt<Location, TeleportFailureReason>> sharedSafetyChecks = new ConcurrentHashMap<>();
+        int waveSize = getWaveSize(teleportees.size());
+        List<AsyncAttempt<Void, TeleportFailureReason>> attempts = new ArrayList<>(teleportees.size());
+        AsyncAttempt<Void, TeleportFailureReason> waveStart = AsyncAttempt.success();
+        for (int i = 0; i < teleportees.size(); i++) {
+            if (i > 0 && i % waveSize == 0) {
+                waveStart = scheduleWave(i / waveSize);
+            }
+            T teleportee = teleportees.get(i);
+            attempts.add(waveStart.mapAsyncAttempt(ignore -> teleport(teleportee, sharedSafetyChecks)));
+        }
+        if (waveSize < teleportees.size()) {
+            Logging.finer("Teleporting %d entities in waves of %d per tick.", teleportees.size(), waveSize);
+        }
+        return AsyncAttemptsAggregate.allOf(attempts);
+    }
+
+    private int getWaveSize(int teleporteeCount) {
+        int budget = this.teleportsPerTick != null ? this.teleportsPerTick : config.getTeleportsPerTick();
+        return budget <= 0 ? Math.max(1, teleporteeCount) : budget;
+    }
+
+    private AsyncAttempt<Void, TeleportFailureReason> scheduleWave(long delayTicks) {
+        CompletableFuture<Void> waveFuture = new CompletableFuture<>();
+        Bukkit.getScheduler().runTaskLater(multiverseCore, () -> waveFuture.complete(null), delayTicks);
+        return AsyncAttempt.of(waveFuture, exception -> Attempt.failure(TeleportFailureReason.TELEPORT_FAILED_EXCEPTION));
     }
 
     /**
@@ -104,71 +192,165 @@ public final class AsyncSafetyTeleporterAction {
      * @return An async future that represents the teleportation result
      */
     public AsyncAttempt<Void, TeleportFailureReason> teleport(@NotNull Entity teleportee) {
+        return teleport(teleportee, new ConcurrentHashMap<>());
+    }
+
+    private AsyncAttempt<Void, TeleportFailureReason> teleport(
+            @NotNull Entity teleportee,
+            @NotNull Map<Location, AsyncAttempt<Location, TeleportFailureReason>> sharedSafetyChecks) {
         var localTeleporter = this.teleporter == null ? teleportee : this.teleporter;
-        return AsyncAttempt.fromAttempt(getLocation(teleportee).mapAttempt(this::doSafetyCheck))
-                .onSuccess(() -> {
-                    if (teleportee instanceof Player player) {
-                        this.teleportQueue.addToQueue(localTeleporter, player);
-                    }
-                })
-                .mapAsyncAttempt(location -> doAsyncTeleport(teleportee, location))
-                .thenRun(() -> {
-                    if (teleportee instanceof Player player) {
-                        this.teleportQueue.popFromQueue(player.getName());
-                    }
-                });
+        TeleportRegistry.InFlightTeleport inFlightTeleport = teleportRegistry.register(localTeleporter, teleportee);
+        long startTime = System.nanoTime();
+        return getLocation(teleportee)
+                .mapAsyncAttempt(location -> sharedSafetyChecks.computeIfAbsent(location, this::doSafetyCheck))
+                .mapAsyncAttempt(location -> doPrefetchAndTeleport(teleportee, location, inFlightTeleport))
+                .onSuccess(() -> teleportTimings.recordSince(getDestinationType(), TeleportStage.TOTAL, startTime))
+                .thenRun(() -> teleportRegistry.unregister(inFlightTeleport));
+    }
+
+    private String getDestinationType() {
+        return locationOrDestination.fold(
+                location -> TeleportTimings.LOCATION_TYPE,
+                destination -> destination == null ? TeleportTimings.LOCATION_TYPE : destination.getIdentifier());
     }
 
-    private Attempt<Location, TeleportFailureReason> getLocation(@NotNull Entity teleportee) {
+    private AsyncAttempt<Location, TeleportFailureReason> getLocation(@NotNull Entity teleportee) {
         return this.locationOrDestination.fold(
                 this::parseLocation,
                 destination -> parseDestination(teleportee, destination)
         );
     }
 
-    private Attempt<Location, TeleportFailureReason> parseLocation(@Nullable Location location) {
+    private AsyncAttempt<Location, TeleportFailureReason> parseLocation(@Nullable Location location) {
         if (location == null) {
-            return Attempt.failure(TeleportFailureReason.NULL_LOCATION);
+            return AsyncAttempt.fromAttempt(Attempt.failure(TeleportFailureReason.NULL_LOCATION));
+        }
+        if (location instanceof UnloadedWorldLocation unloadedWorldLocation && location.getWorld() == null) {
+            return loadWorldOnDemand(unloadedWorldLocation.getWorldName())
+                    .mapAttempt(ignore -> checkLocationWorld(location));
         }
-        //todo: if its a UnloadedWorldLocation, check worldManager if it an unloadedWorld
+        return AsyncAttempt.fromAttempt(checkLocationWorld(location));
+    }
+
+    private Attempt<Location, TeleportFailureReason> checkLocationWorld(@NotNull Location location) {
         return Try.of(() -> location.getWorld().getName())
                 .map(ignore -> Attempt.<Location, TeleportFailureReason>success(location))
                 .getOrElse(Attempt.failure(TeleportFailureReason.NULL_WORLD));
     }
 
-    private Attempt<Location, TeleportFailureReason> parseDestination(
+    private AsyncAttempt<Location, TeleportFailureReason> parseDestination(
             @NotNull Entity teleportee, @Nullable DestinationInstance<?, ?> destination) {
         if (destination == null) {
-            return Attempt.failure(TeleportFailureReason.NULL_DESTINATION);
+            return AsyncAttempt.fromAttempt(Attempt.failure(TeleportFailureReason.NULL_DESTINATION));
         }
+        String destinationType = destination.getIdentifier();
+        long eventStart = System.nanoTime();
         MVTeleportDestinationEvent event = new MVTeleportDestinationEvent(destination, teleportee, teleporter);
         this.pluginManager.callEvent(event);
+        teleportTimings.recordSince(destinationType, TeleportStage.DESTINATION_EVENT, eventStart);
         if (event.isCancelled()) {
-            return Attempt.failure(TeleportFailureReason.EVENT_CANCELLED);
+            return AsyncAttempt.fromAttempt(Attempt.failure(TeleportFailureReason.EVENT_CANCELLED));
         }
-        return parseLocation(destination.getLocation(teleportee).getOrNull());
+        return loadWorldOnDemand(destination.getWorldName().getOrNull())
+                .mapAsyncAttempt(ignore -> {
+                    long getLocationStart = System.nanoTime();
+                    Location location = destination.getLocation(teleportee).getOrNull();
+                    teleportTimings.recordSince(destinationType, TeleportStage.GET_LOCATION, getLocationStart);
+                    return parseLocation(location);
+                });
+    }
+
+    /**
+     * Loads the world if it is unloaded and has load on demand enabled. Succeeds straight away if there is nothing to
+     * load, so that the location checks after can report the usual failure.
+     */
+    private AsyncAttempt<Void, TeleportFailureReason> loadWorldOnDemand(@Nullable String worldName) {
+        return onDemandWorldLoader.getLoadableWorld(worldName)
+                .map(world -> {
+                    long loadStart = System.nanoTime();
+                    return onDemandWorldLoader.loadWorld(world)
+                            .transform(TeleportFailureReason.WORLD_LOAD_FAILED)
+                            .onSuccess(() -> teleportTimings.recordSince(
+                                    getDestinationType(), TeleportStage.WORLD_LOAD, loadStart))
+                            .map(ignore -> (Void) null);
+                })
+                .getOrElse(AsyncAttempt::success);
     }
 
-    private Attempt<Location, TeleportFailureReason> doSafetyCheck(@NotNull Location location) {
+    private AsyncAttempt<Location, TeleportFailureReason> doSafetyCheck(@NotNull Location location) {
         if (!this.checkSafety) {
-            return Attempt.success(location);
+            return AsyncAttempt.fromAttempt(Attempt.success(location));
+        }
+        // Safe location search is done off the main thread, so we hop back to the main thread before teleporting.
+        BlockSafety.SearchStats stats = new BlockSafety.SearchStats();
+        return AsyncAttempt.of(
+                blockSafety.findSafeSpawnLocationAsync(location, stats)
+                        .thenApplyAsync(safeLocation -> {
+                            recordSearchStats(stats);
+                            return safeLocation;
+                        }, executors.mainThread()),
+                (safeLocation, exception) -> {
+                    if (exception != null) {
+                        Logging.warning("Failed to find safe location around %s: %s", location, exception.getMessage());
+                        return Attempt.failure(TeleportFailureReason.UNSAFE_LOCATION);
+                    }
+                    if (safeLocation == null) {
+                        return Attempt.failure(TeleportFailureReason.UNSAFE_LOCATION);
+                    }
+                    return Attempt.success(safeLocation);
+                });
+    }
+
+    private void recordSearchStats(@NotNull BlockSafety.SearchStats stats) {
+        if (!stats.isSearched()) {
+            // Cached result, nothing was loaded or searched
+            return;
         }
-        Location safeLocation = blockSafety.findSafeSpawnLocation(location);
-        if (safeLocation == null) {
-            return Attempt.failure(TeleportFailureReason.UNSAFE_LOCATION);
+        String destinationType = getDestinationType();
+        teleportTimings.recordBlocksProbed(destinationType, stats.getBlocksProbed());
+        teleportTimings.record(destinationType, TeleportStage.SAFETY_CHUNK_LOAD, stats.getChunkLoadNanos());
+        teleportTimings.record(destinationType, TeleportStage.SAFETY_SEARCH, stats.getSearchNanos());
+    }
+
+    private AsyncAttempt<Void, TeleportFailureReason> doPrefetchAndTeleport(
+            @NotNull Entity teleportee,
+            @NotNull Location location,
+            @NotNull TeleportRegistry.InFlightTeleport inFlightTeleport) {
+        boolean shouldPrefetch = this.prefetchChunks != null
+                ? this.prefetchChunks
+                : config.getPrefetchDestinationChunks();
+        if (!shouldPrefetch) {
+            return doAsyncTeleport(teleportee, location, inFlightTeleport);
         }
-        return Attempt.success(safeLocation);
+        int radius = this.prefetchRadius != null ? this.prefetchRadius : config.getPrefetchChunkRadius();
+        long prefetchStart = System.nanoTime();
+        // Chunk futures complete on the main thread, so it is safe to teleport straight after
+        return AsyncAttempt.<ChunkPrefetcher.PrefetchedChunks, TeleportFailureReason>of(
+                        chunkPrefetcher.prefetch(location, radius),
+                        exception -> Attempt.failure(TeleportFailureReason.TELEPORT_FAILED_EXCEPTION))
+                .mapAsyncAttempt(prefetchedChunks -> {
+                    teleportTimings.recordSince(getDestinationType(), TeleportStage.CHUNK_PREFETCH, prefetchStart);
+                    return doAsyncTeleport(teleportee, location, inFlightTeleport).thenRun(prefetchedChunks::release);
+                });
     }
 
     private AsyncAttempt<Void, TeleportFailureReason> doAsyncTeleport(
             @NotNull Entity teleportee,
-            @NotNull Location location) {
+            @NotNull Location location,
+            @NotNull TeleportRegistry.InFlightTeleport inFlightTeleport) {
+        if (inFlightTeleport.isCancelled()) {
+            return AsyncAttempt.failure(TeleportFailureReason.TELEPORT_CANCELLED);
+        }
+        // Only now is the next teleport event of the teleportee caused by this teleport
+        inFlightTeleport.markTeleporting();
+        long teleportStart = System.nanoTime();
         return AsyncAttempt.of(PaperLib.teleportAsync(teleportee, location), exception -> {
             Logging.warning("Failed to teleport %s to %s: %s",
                     teleportee.getName(), location, exception.getMessage());
             return Attempt.failure(TeleportFailureReason.TELEPORT_FAILED_EXCEPTION);
         }).mapAttempt(success -> {
             if (success) {
+                teleportTimings.recordSince(getDestinationType(), TeleportStage.TELEPORT, teleportStart);
                 applyPostTeleportVelocity(teleportee);
                 Logging.finer("Teleported async %s to %s", teleportee.getName(), location);
                 return Attempt.success(null);
@@ -179,8 +361,13 @@ public final class AsyncSafetyTeleporterAction {
     }
 
     private void applyPostTeleportVelocity(@NotNull Entity teleportee) {
+        long velocityStart = System.nanoTime();
         locationOrDestination.peek(destination ->
                 destination.getVelocity(teleportee).peek(velocity ->
-                        Bukkit.getScheduler().runTaskLater(multiverseCore, () -> teleportee.setVelocity(velocity), 1L)));
+                        Bukkit.getScheduler().runTaskLater(multiverseCore, () -> {
+                            teleportee.setVelocity(velocity);
+                            teleportTimings.recordSince(
+                                    destination.getIdentifier(), TeleportStage.POST_TELEPORT_VELOCITY, velocityStart);
+                        }, 1L)));
     }
 }
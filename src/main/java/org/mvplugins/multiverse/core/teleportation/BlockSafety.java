@@ -1,8 +1,10 @@
 package org.mvplugins.multiverse.core.teleportation;
 
 import com.dumptruckman.minecraft.util.Logging;
-import io.vavr.control.Option;
+import io.papermc.lib.PaperLib;
 import jakarta.inject.Inject;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.HeightMap;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
@@ -11,10 +13,19 @@ import org.bukkit.block.BlockFace;
 import org.bukkit.block.data.Rail;
 import org.bukkit.entity.Minecart;
 import org.bukkit.entity.Vehicle;
+import org.bukkit.util.BlockVector;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jvnet.hk2.annotations.Service;
 import org.mvplugins.multiverse.core.config.CoreConfig;
+import org.mvplugins.multiverse.core.utils.BukkitExecutors;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Used to check get or find block/location-related information.
@@ -22,13 +33,43 @@ import org.mvplugins.multiverse.core.config.CoreConfig;
 @Service
 public final class BlockSafety {
 
+    /**
+     * The y of the nether's bedrock roof on vanilla generation.
+     */
+    private static final int NETHER_ROOF_HEIGHT = 128;
+
     private final CoreConfig config;
     private final LocationManipulation locationManipulation;
+    private final BukkitExecutors executors;
+    private final SafeLocationCache safeLocationCache;
+    private volatile MaterialSafetyTable safetyTable;
 
     @Inject
-    BlockSafety(@NotNull CoreConfig config, @NotNull LocationManipulation locationManipulation) {
+    BlockSafety(
+            @NotNull CoreConfig config,
+            @NotNull LocationManipulation locationManipulation,
+            @NotNull BukkitExecutors executors,
+            @NotNull SafeLocationCache safeLocationCache) {
         this.config = config;
         this.locationManipulation = locationManipulation;
+        this.executors = executors;
+        this.safeLocationCache = safeLocationCache;
+        if (config.isLoaded()) {
+            compileSafetyTable();
+        }
+    }
+
+    /**
+     * Compiles the material safety table from the configured safety hazard blocks. Called whenever the
+     * {@code teleport.safety-hazard-blocks} config option is set.
+     */
+    @ApiStatus.Internal
+    public void compileSafetyTable() {
+        List<Material> hazardBlocks = config.getSafetyHazardBlocks();
+        Logging.finer("Compiling material safety table with hazards: %s", hazardBlocks);
+        this.safetyTable = MaterialSafetyTable.compile(hazardBlocks);
+        // Cached results were found with the old policy
+        safeLocationCache.invalidateAll();
     }
 
     /**
@@ -53,42 +94,81 @@ public final class BlockSafety {
 
     /**
      * Gets the location of the highest spawnable block (i.e. y-axis) at the specified {@link Location}.
+     * <br />
+     * Uses the world's heightmap to skip the empty space above the surface. In the nether, the search starts below
+     * the bedrock roof instead.
      *
      * @param location  The location
      * @return The location if found, null of all blocks are unsafe.
      */
     public Location getTopBlock(Location location) {
+        World world = location.getWorld();
+        if (world == null) {
+            return null;
+        }
+        int minHeight = world.getMinHeight();
+        int startY = getColumnSearchCeiling(world, location.getBlockX(), location.getBlockZ());
         Location check = location.clone();
-        int maxHeight = Option.of(location.getWorld()).map(World::getMaxHeight).getOrElse(127);
-        check.setY(maxHeight);
-        while (check.getY() > 0) {
+        for (int y = startY; y > minHeight; y--) {
+            check.setY(y);
             if (canSpawnAtLocationSafely(check)) {
                 return check;
             }
-            check.setY(check.getY() - 1);
         }
         return null;
     }
 
     /**
      * Gets the location of the lowest spawnable block (i.e. y-axis) at the specified {@link Location}.
+     * <br />
+     * Uses the world's heightmap to stop at the surface. In the nether, the search stops below the bedrock roof.
      *
      * @param location  The location
      * @return The location if found, null of all blocks are unsafe.
      */
     public Location getBottomBlock(Location location) {
+        World world = location.getWorld();
+        if (world == null) {
+            return null;
+        }
+        // The lowest block can never be a platform, so start one above it.
+        int minHeight = world.getMinHeight() + 1;
+        int endY = getColumnSearchCeiling(world, location.getBlockX(), location.getBlockZ());
         Location check = location.clone();
-        int minHeight = Option.of(location.getWorld()).map(World::getMinHeight).getOrElse(0);
-        check.setY(minHeight);
-        while (check.getY() < 127) { // SUPPRESS CHECKSTYLE: MagicNumberCheck
+        for (int y = minHeight; y <= endY; y++) {
+            check.setY(y);
             if (canSpawnAtLocationSafely(check)) {
                 return check;
             }
-            check.setY(check.getY() + 1);
         }
         return null;
     }
 
+    /**
+     * Gets the highest y a player could possibly stand at in the given column.
+     * <br />
+     * For most worlds this is just above the highest motion blocking block. For the nether, the heightmap is
+     * always the bedrock roof, so we use the space below the roof instead. Empty columns, such as in void and end
+     * worlds, return a value below the world's min height.
+     *
+     * @param world The world
+     * @param x     The block x
+     * @param z     The block z
+     * @return The highest y to search from
+     */
+    private int getColumnSearchCeiling(@NotNull World world, int x, int z) {
+        int maxHeight = world.getMaxHeight();
+        if (world.getEnvironment() == World.Environment.NETHER) {
+            return Math.min(maxHeight, NETHER_ROOF_HEIGHT) - 1;
+        }
+        int highestBlockY = world.getHighestBlockYAt(x, z, HeightMap.MOTION_BLOCKING_NO_LEAVES);
+        if (highestBlockY < world.getMinHeight()) {
+            return highestBlockY;
+        }
+        // Space above the highest block, capped so the player's head is still within the world.
+        return Math.min(highestBlockY + 1, maxHeight - 2);
+    }
+
     /**
      * Checks if the specified {@link Minecart} can spawn safely.
      *
@@ -131,20 +211,25 @@ public final class BlockSafety {
      * @return Whether the player can spawn safely at the given {@link Location}
      */
     public boolean canSpawnAtBlockSafely(@NotNull Block block) {
+        return canSpawnAtBlockSafely(block, this.safetyTable);
+    }
+
+    private boolean canSpawnAtBlockSafely(@NotNull Block block, @NotNull MaterialSafetyTable safetyTable) {
         Logging.finest("Checking spawn safety for location: %s, %s, %s", block.getX(), block.getY(), block.getZ());
-        if (isUnsafeSpawnBody(block)) {
+        if (isUnsafeSpawnBody(block.getType(), safetyTable)) {
             // Player body will be stuck in solid
             Logging.finest("Unsafe location for player's body: " + block);
             return false;
         }
         Block airBlockForHead = block.getRelative(0, 1, 0);
-        if (isUnsafeSpawnBody(airBlockForHead)) {
+        if (isUnsafeSpawnBody(airBlockForHead.getType(), safetyTable)) {
             // Player's head will be stuck in solid
             Logging.finest("Unsafe location for player's head: " + airBlockForHead);
             return false;
         }
         Block standingOnBlock = block.getRelative(0, -1, 0);
-        if (isUnsafeSpawnPlatform(standingOnBlock)) {
+        if (isUnsafeSpawnPlatform(standingOnBlock.getType(), standingOnBlock.getRelative(0, -1, 0).getType(),
+                safetyTable)) {
             // Player will drop down
             Logging.finest("Unsafe location due to invalid platform: " + standingOnBlock);
             return false;
@@ -156,35 +241,38 @@ public final class BlockSafety {
     /**
      * Player's body must be in non-solid block that is non-harming.
      *
-     * @param block The block
+     * @param blockMaterial The block type
+     * @param safetyTable   The material safety table
      * @return True if the block is unsafe
      */
-    private boolean isUnsafeSpawnBody(@NotNull Block block) {
-        Material blockMaterial = block.getType();
-        return blockMaterial.isSolid() || blockMaterial == Material.FIRE;
+    private boolean isUnsafeSpawnBody(@NotNull Material blockMaterial, @NotNull MaterialSafetyTable safetyTable) {
+        return !safetyTable.isBodySafe(blockMaterial);
     }
 
     /**
-     * Player must stand on solid ground, or water that is only 1 block deep to prevent drowning.
+     * Player must stand on solid, non-harming ground, or water that is only 1 block deep to prevent drowning.
      *
-     * @param block The block
+     * @param platformMaterial  The block type the player stands on
+     * @param belowMaterial     The block type below the platform
+     * @param safetyTable       The material safety table
      * @return True if the block is unsafe
      */
-    private boolean isUnsafeSpawnPlatform(@NotNull Block block) {
-        return !block.getType().isSolid() || isDeepWater(block);
+    private boolean isUnsafeSpawnPlatform(
+            @NotNull Material platformMaterial,
+            @NotNull Material belowMaterial,
+            @NotNull MaterialSafetyTable safetyTable) {
+        return !safetyTable.isPlatformSafe(platformMaterial) || isDeepWater(platformMaterial, belowMaterial);
     }
 
     /**
      * Water that is 2 or more block deep
      *
-     * @param block The block
+     * @param platformMaterial  The block type the player stands on
+     * @param belowMaterial     The block type below the platform
      * @return True if the block is unsafe
      */
-    private boolean isDeepWater(@NotNull Block block) {
-        if (block.getType() != Material.WATER) {
-            return false;
-        }
-        return block.getRelative(0, -1, 0).getType() == Material.WATER;
+    private boolean isDeepWater(@NotNull Material platformMaterial, @NotNull Material belowMaterial) {
+        return platformMaterial == Material.WATER && belowMaterial == Material.WATER;
     }
 
     /**
@@ -244,21 +332,204 @@ public final class BlockSafety {
      * @return The safe block if found, otherwise null.
      */
     public @Nullable Block findSafeSpawnBlock(@NotNull Block block, int horizontalRange, int verticalRange) {
-        Block searchResult = searchAroundXZ(block, horizontalRange);
+        World world = block.getWorld();
+        var searchKey = new SafeLocationCache.SearchKey(
+                block.getX(), block.getY(), block.getZ(), horizontalRange, verticalRange);
+        MaterialSafetyTable table = this.safetyTable;
+        SafeLocationCache.Entry cached = safeLocationCache.get(world, searchKey);
+        BlockVector safeBlock;
+        if (cached != null) {
+            Logging.finest("Using cached safe spawn search result for %s", searchKey);
+            safeBlock = cached.getSafeBlock();
+        } else {
+            SafeLocationCache.Entry pending = safeLocationCache.reserve(world, searchKey);
+            try {
+                safeBlock = findSafeSpawnCoordinates(
+                        block.getX(), block.getY(), block.getZ(),
+                        world.getMinHeight(), world.getMaxHeight(),
+                        horizontalRange, verticalRange,
+                        (x, y, z) -> canSpawnAtBlockSafely(world.getBlockAt(x, y, z), table));
+            } catch (RuntimeException e) {
+                safeLocationCache.release(world, searchKey, pending);
+                throw e;
+            }
+            safeLocationCache.complete(world, searchKey, pending, safeBlock);
+        }
+        if (safeBlock == null) {
+            return null;
+        }
+        return world.getBlockAt(safeBlock.getBlockX(), safeBlock.getBlockY(), safeBlock.getBlockZ());
+    }
+
+    /**
+     * Finds the closest possible safe location around the given location with the configured search radius. The
+     * chunks in the search area are loaded asynchronously, and the search itself is done off the main thread on
+     * {@link org.bukkit.ChunkSnapshot}s.
+     *
+     * @param location  The target location to find
+     * @return A future that completes with the safe location if found, otherwise null. The future may be completed
+     *         off the main thread.
+     */
+    public @NotNull CompletableFuture<Location> findSafeSpawnLocationAsync(@NotNull Location location) {
+        return findSafeSpawnLocationAsync(
+                location,
+                config.getSafeLocationHorizontalSearchRadius(),
+                config.getSafeLocationVerticalSearchRadius());
+    }
+
+    /**
+     * Finds the closest possible safe location around the given location. The chunks in the search area are loaded
+     * asynchronously, and the search itself is done off the main thread on {@link org.bukkit.ChunkSnapshot}s.
+     *
+     * @param location          The target location to find
+     * @param horizontalRange   The radius around x,z of given location to search.
+     * @param verticalRange     The height of how far up and down to search.
+     * @return A future that completes with the safe location if found, otherwise null. The future may be completed
+     *         off the main thread.
+     */
+    public @NotNull CompletableFuture<Location> findSafeSpawnLocationAsync(
+            @NotNull Location location, int horizontalRange, int verticalRange) {
+        return findSafeSpawnLocationAsync(location, horizontalRange, verticalRange, new SearchStats());
+    }
+
+    /**
+     * Same as {@link #findSafeSpawnLocationAsync(Location)}, but also records how long each part of the search took.
+     *
+     * @param location  The target location to find
+     * @param stats     The stats to fill in, readable once the returned future completes
+     * @return A future that completes with the safe location if found, otherwise null.
+     */
+    @NotNull CompletableFuture<Location> findSafeSpawnLocationAsync(
+            @NotNull Location location, @NotNull SearchStats stats) {
+        return findSafeSpawnLocationAsync(
+                location,
+                config.getSafeLocationHorizontalSearchRadius(),
+                config.getSafeLocationVerticalSearchRadius(),
+                stats);
+    }
+
+    private @NotNull CompletableFuture<Location> findSafeSpawnLocationAsync(
+            @NotNull Location location, int horizontalRange, int verticalRange, @NotNull SearchStats stats) {
+        World world = location.getWorld();
+        if (world == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        int blockX = location.getBlockX();
+        int blockY = location.getBlockY();
+        int blockZ = location.getBlockZ();
+        var searchKey = new SafeLocationCache.SearchKey(blockX, blockY, blockZ, horizontalRange, verticalRange);
+        MaterialSafetyTable table = this.safetyTable;
+        SafeLocationCache.Entry cached = safeLocationCache.get(world, searchKey);
+        if (cached != null) {
+            Logging.finest("Using cached safe spawn search result for %s", searchKey);
+            return CompletableFuture.completedFuture(toSafeLocation(location, cached.getSafeBlock()));
+        }
+        SafeLocationCache.Entry pending = safeLocationCache.reserve(world, searchKey);
+        long chunkLoadStart = System.nanoTime();
+        return loadChunkSnapshotRegion(world, blockX, blockZ, horizontalRange)
+                .thenApplyAsync(region -> {
+                    long searchStart = System.nanoTime();
+                    stats.searched = true;
+                    stats.chunkLoadNanos = searchStart - chunkLoadStart;
+                    BlockVector safeBlock = findSafeSpawnCoordinates(
+                            blockX, blockY, blockZ,
+                            region.getMinHeight(), region.getMaxHeight(),
+                            horizontalRange, verticalRange,
+                            (x, y, z) -> {
+                                stats.blocksProbed++;
+                                return canSpawnAtSnapshotSafely(region, table, x, y, z);
+                            });
+                    stats.searchNanos = System.nanoTime() - searchStart;
+                    return safeBlock;
+                }, executors.async())
+                .whenComplete((safeBlock, exception) -> {
+                    if (exception != null) {
+                        safeLocationCache.release(world, searchKey, pending);
+                    }
+                })
+                .thenApply(safeBlock -> {
+                    safeLocationCache.complete(world, searchKey, pending, safeBlock);
+                    return toSafeLocation(location, safeBlock);
+                });
+    }
+
+    private @Nullable Location toSafeLocation(@NotNull Location location, @Nullable BlockVector safeBlock) {
+        if (safeBlock == null) {
+            return null;
+        }
+        return new Location(
+                location.getWorld(),
+                safeBlock.getBlockX() + 0.5,
+                safeBlock.getBlockY(),
+                safeBlock.getBlockZ() + 0.5,
+                location.getYaw(),
+                location.getPitch());
+    }
+
+    /**
+     * Loads all chunks within the horizontal radius of the given block coordinates and takes a snapshot of them.
+     * Snapshots are taken on the main thread once the chunk is available.
+     */
+    private CompletableFuture<ChunkSnapshotRegion> loadChunkSnapshotRegion(
+            @NotNull World world, int blockX, int blockZ, int horizontalRange) {
+        int minChunkX = ChunkSnapshotRegion.toChunkCoord(blockX - horizontalRange);
+        int maxChunkX = ChunkSnapshotRegion.toChunkCoord(blockX + horizontalRange);
+        int minChunkZ = ChunkSnapshotRegion.toChunkCoord(blockZ - horizontalRange);
+        int maxChunkZ = ChunkSnapshotRegion.toChunkCoord(blockZ + horizontalRange);
+
+        Map<Long, ChunkSnapshot> snapshots = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> chunkFutures = new ArrayList<>();
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                long chunkKey = ChunkSnapshotRegion.chunkKey(chunkX, chunkZ);
+                chunkFutures.add(PaperLib.getChunkAtAsync(world, chunkX, chunkZ)
+                        .thenAcceptAsync(chunk -> snapshots.put(chunkKey, chunk.getChunkSnapshot()),
+                                executors.mainThread()));
+            }
+        }
+        return CompletableFuture.allOf(chunkFutures.toArray(CompletableFuture[]::new))
+                .thenApply(ignore -> new ChunkSnapshotRegion(snapshots, world.getMinHeight(), world.getMaxHeight()));
+    }
+
+    /**
+     * Same checks as {@link #canSpawnAtBlockSafely(Block)}, but done against a snapshot so it can be run off
+     * the main thread.
+     */
+    private boolean canSpawnAtSnapshotSafely(
+            @NotNull ChunkSnapshotRegion region, @NotNull MaterialSafetyTable safetyTable, int x, int y, int z) {
+        if (isUnsafeSpawnBody(region.getType(x, y, z), safetyTable)) {
+            return false;
+        }
+        if (isUnsafeSpawnBody(region.getType(x, y + 1, z), safetyTable)) {
+            return false;
+        }
+        return !isUnsafeSpawnPlatform(region.getType(x, y - 1, z), region.getType(x, y - 2, z), safetyTable);
+    }
+
+    /**
+     * Searches outwards from the given block coordinates, first around x,z on the same level, then alternating
+     * up and down within the vertical range.
+     *
+     * @return The safe block coordinates, or null
+     */
+    private @Nullable BlockVector findSafeSpawnCoordinates(
+            int blockX, int blockY, int blockZ,
+            int minHeight, int maxHeight,
+            int horizontalRange, int verticalRange,
+            @NotNull SpawnSafetyCheck safetyCheck) {
+        BlockVector searchResult = searchAroundXZ(blockX, blockY, blockZ, horizontalRange, safetyCheck);
         if (searchResult != null) {
             return searchResult;
         }
-        int maxHeight = block.getWorld().getMaxHeight();
-        int minHeight = block.getWorld().getMinHeight();
         for (int i = 1; i <= verticalRange; i++) {
-            if (block.getY() + i < maxHeight) {
-                searchResult = searchAroundXZ(block.getRelative(0, i, 0), horizontalRange);
+            if (blockY + i < maxHeight) {
+                searchResult = searchAroundXZ(blockX, blockY + i, blockZ, horizontalRange, safetyCheck);
                 if (searchResult != null) {
                     return searchResult;
                 }
             }
-            if (block.getY() - i >= minHeight) {
-                searchResult = searchAroundXZ(block.getRelative(0, -i, 0), horizontalRange);
+            if (blockY - i >= minHeight) {
+                searchResult = searchAroundXZ(blockX, blockY - i, blockZ, horizontalRange, safetyCheck);
                 if (searchResult != null) {
                     return searchResult;
                 }
@@ -270,14 +541,17 @@ public final class BlockSafety {
     /**
      * Search a square from n - radius to n + radius for both x and z
      *
-     * @param block     The block to be relative to
-     * @param radius    The number of blocks +/- x and z to search
-     * @return The safe block, or null
+     * @param blockX        The block x to be relative to
+     * @param blockY        The block y to search on
+     * @param blockZ        The block z to be relative to
+     * @param radius        The number of blocks +/- x and z to search
+     * @param safetyCheck   The check to determine if a block is safe
+     * @return The safe block coordinates, or null
      */
     @Nullable
-    private Block searchAroundXZ(Block block, int radius) {
-        if (canSpawnAtBlockSafely(block)) {
-            return block;
+    private BlockVector searchAroundXZ(int blockX, int blockY, int blockZ, int radius, SpawnSafetyCheck safetyCheck) {
+        if (safetyCheck.isSafe(blockX, blockY, blockZ)) {
+            return new BlockVector(blockX, blockY, blockZ);
         }
         for (int r = 1; r <= radius; r++) {
             boolean radiusX = true;
@@ -285,9 +559,9 @@ public final class BlockSafety {
             int offset = 0;
             int noOfIterations = r * 2 + 1;
             for (int i = 0; i < noOfIterations; i++) {
-                Block searchResult = radiusX
-                        ? searchPlusMinusPermutation(block, r, offset)
-                        : searchPlusMinusPermutation(block, offset, r);
+                BlockVector searchResult = radiusX
+                        ? searchPlusMinusPermutation(blockX, blockY, blockZ, r, offset, safetyCheck)
+                        : searchPlusMinusPermutation(blockX, blockY, blockZ, offset, r, safetyCheck);
                 if (searchResult != null) {
                     return searchResult;
                 }
@@ -304,33 +578,29 @@ public final class BlockSafety {
     /**
      * Search 4 relative blocks with the following offsets: (-x, -z) (-x, z) (x, -z) (x, z)
      *
-     * @param block The block to be relative to
-     * @param x     Amount to offset for the x axis
-     * @param z     Amount to offset for the z axis
-     * @return The safe block, or null
+     * @param blockX        The block x to be relative to
+     * @param blockY        The block y to search on
+     * @param blockZ        The block z to be relative to
+     * @param x             Amount to offset for the x axis
+     * @param z             Amount to offset for the z axis
+     * @param safetyCheck   The check to determine if a block is safe
+     * @return The safe block coordinates, or null
      */
     @Nullable
-    private Block searchPlusMinusPermutation(Block block, int x, int z) {
-        Block relative = block.getRelative(-x, 0, -z);
-        if (canSpawnAtBlockSafely(relative)) {
-            return relative;
-        }
-        if (z != 0) {
-            relative = block.getRelative(-x, 0, z);
-            if (canSpawnAtBlockSafely(relative)) {
-                return relative;
-            }
+    private BlockVector searchPlusMinusPermutation(
+            int blockX, int blockY, int blockZ, int x, int z, SpawnSafetyCheck safetyCheck) {
+        if (safetyCheck.isSafe(blockX - x, blockY, blockZ - z)) {
+            return new BlockVector(blockX - x, blockY, blockZ - z);
+        }
+        if (z != 0 && safetyCheck.isSafe(blockX - x, blockY, blockZ + z)) {
+            return new BlockVector(blockX - x, blockY, blockZ + z);
         }
         if (x != 0) {
-            relative = block.getRelative(x, 0, -z);
-            if (canSpawnAtBlockSafely(relative)) {
-                return relative;
+            if (safetyCheck.isSafe(blockX + x, blockY, blockZ - z)) {
+                return new BlockVector(blockX + x, blockY, blockZ - z);
             }
-            if (z != 0) {
-                relative = block.getRelative(x, 0, z);
-                if (canSpawnAtBlockSafely(relative)) {
-                    return relative;
-                }
+            if (z != 0 && safetyCheck.isSafe(blockX + x, blockY, blockZ + z)) {
+                return new BlockVector(blockX + x, blockY, blockZ + z);
             }
         }
         return null;
@@ -385,4 +655,38 @@ public final class BlockSafety {
         }
         return blockB;
     }
+
+    /**
+     * Timings of a single safe location search. Everything is left at 0 if the result was cached.
+     */
+    static final class SearchStats {
+        private boolean searched;
+        private long chunkLoadNanos;
+        private long searchNanos;
+        private int blocksProbed;
+
+        boolean isSearched() {
+            return searched;
+        }
+
+        long getChunkLoadNanos() {
+            return chunkLoadNanos;
+        }
+
+        long getSearchNanos() {
+            return searchNanos;
+        }
+
+        int getBlocksProbed() {
+            return blocksProbed;
+        }
+    }
+
+    /**
+     * Checks whether a player can spawn safely at the given block coordinates.
+     */
+    @FunctionalInterface
+    private interface SpawnSafetyCheck {
+        boolean isSafe(int x, int y, int z);
+    }
 }
@@ -0,0 +1,157 @@
+package org.mvplugins.multiverse.core.teleportation;
+
+import com.dumptruckman.minecraft.util.Logging;
+import io.papermc.lib.PaperLib;
+import jakarta.inject.Inject;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+import org.jvnet.hk2.annotations.Service;
+import org.mvplugins.multiverse.core.MultiverseCore;
+import org.mvplugins.multiverse.core.utils.BukkitExecutors;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Loads chunks around a teleport destination ahead of time, and keeps them loaded with plugin chunk tickets until
+ * the teleport is done.
+ */
+@Service
+public final class ChunkPrefetcher {
+
+    /**
+     * How long to keep prefetched chunks pinned if they are never released.
+     */
+    private static final long PREFETCH_TIMEOUT_TICKS = 20L * 30;
+
+    private final MultiverseCore plugin;
+    private final BukkitExecutors executors;
+
+    /**
+     * Plugin chunk tickets are not counted by the server, so we count them ourselves to allow multiple teleports to
+     * pin the same chunk. Only accessed on the main thread.
+     */
+    private final Map<UUID, Map<Long, Integer>> ticketCounts = new HashMap<>();
+
+    @Inject
+    ChunkPrefetcher(@NotNull MultiverseCore plugin, @NotNull BukkitExecutors executors) {
+        this.plugin = plugin;
+        this.executors = executors;
+    }
+
+    /**
+     * Loads the chunk at the given location and all chunks within the radius asynchronously, and pins them with a
+     * plugin chunk ticket. The chunks stay pinned until {@link PrefetchedChunks#release()} is called, or the
+     * prefetch times out.
+     *
+     * @param location  The location to prefetch around
+     * @param radius    The radius in chunks around the location's chunk
+     * @return A future that completes once all chunks are loaded and pinned
+     */
+    public @NotNull CompletableFuture<PrefetchedChunks> prefetch(@NotNull Location location, int radius) {
+        World world = location.getWorld();
+        if (world == null) {
+            return CompletableFuture.completedFuture(new PrefetchedChunks(null));
+        }
+        int centerX = ChunkSnapshotRegion.toChunkCoord(location.getBlockX());
+        int centerZ = ChunkSnapshotRegion.toChunkCoord(location.getBlockZ());
+        PrefetchedChunks prefetchedChunks = new PrefetchedChunks(world);
+        List<CompletableFuture<?>> chunkFutures = new ArrayList<>();
+        for (int chunkX = centerX - radius; chunkX <= centerX + radius; chunkX++) {
+            for (int chunkZ = centerZ - radius; chunkZ <= centerZ + radius; chunkZ++) {
+                int x = chunkX;
+                int z = chunkZ;
+                chunkFutures.add(PaperLib.getChunkAtAsync(world, x, z)
+                        .thenRunAsync(() -> prefetchedChunks.pin(x, z), executors.mainThread()));
+            }
+        }
+        Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            if (prefetchedChunks.releaseInternal()) {
+                Logging.fine("Chunk prefetch around %s timed out, releasing chunks.", location);
+            }
+        }, PREFETCH_TIMEOUT_TICKS);
+        return CompletableFuture.allOf(chunkFutures.toArray(CompletableFuture[]::new))
+                .handle((ignore, exception) -> {
+                    if (exception != null) {
+                        Logging.warning("Failed to prefetch chunks around %s: %s", location, exception.getMessage());
+                    }
+                    return prefetchedChunks;
+                });
+    }
+
+    /**
+     * Gets the number of chunks currently pinned by teleport prefetches.
+     *
+     * @return The number of pinned chunks
+     */
+    public int getPinnedChunkCount() {
+        return ticketCounts.values().stream().mapToInt(Map::size).sum();
+    }
+
+    private void addTicket(World world, int chunkX, int chunkZ) {
+        Map<Long, Integer> worldCounts = ticketCounts.computeIfAbsent(world.getUID(), uid -> new HashMap<>());
+        if (worldCounts.merge(ChunkSnapshotRegion.chunkKey(chunkX, chunkZ), 1, Integer::sum) == 1) {
+            world.addPluginChunkTicket(chunkX, chunkZ, plugin);
+        }
+    }
+
+    private void removeTicket(World world, int chunkX, int chunkZ) {
+        Map<Long, Integer> worldCounts = ticketCounts.get(world.getUID());
+        if (worldCounts == null) {
+            return;
+        }
+        Integer remaining = worldCounts.computeIfPresent(
+                ChunkSnapshotRegion.chunkKey(chunkX, chunkZ),
+                (key, count) -> count <= 1 ? null : count - 1);
+        if (remaining == null) {
+            world.removePluginChunkTicket(chunkX, chunkZ, plugin);
+        }
+        if (worldCounts.isEmpty()) {
+            ticketCounts.remove(world.getUID());
+        }
+    }
+
+    /**
+     * Chunks pinned by a prefetch.
+     */
+    public final class PrefetchedChunks {
+        private final World world;
+        private final List<int[]> pinnedChunks = new ArrayList<>();
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private PrefetchedChunks(World world) {
+            this.world = world;
+        }
+
+        /**
+         * Releases the chunk tickets held by this prefetch. Safe to call more than once and from any thread.
+         */
+        public void release() {
+            executors.mainThread().execute(this::releaseInternal);
+        }
+
+        private void pin(int chunkX, int chunkZ) {
+            if (released.get()) {
+                return;
+            }
+            addTicket(world, chunkX, chunkZ);
+            pinnedChunks.add(new int[]{chunkX, chunkZ});
+        }
+
+        private boolean releaseInternal() {
+            if (world == null || !released.compareAndSet(false, true)) {
+                return false;
+            }
+            pinnedChunks.forEach(coords -> removeTicket(world, coords[0], coords[1]));
+            pinnedChunks.clear();
+            return true;
+        }
+    }
+}
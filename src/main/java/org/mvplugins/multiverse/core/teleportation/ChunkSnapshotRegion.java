@@ -0,0 +1,62 @@
+package org.mvplugins.multiverse.core.teleportation;
+
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/**
+ * A read-only view of blocks across a group of {@link ChunkSnapshot}s, safe to be read off the main thread.
+ */
+final class ChunkSnapshotRegion {
+
+    private static final int CHUNK_SHIFT = 4;
+    private static final int CHUNK_MASK = 15;
+
+    static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << Integer.SIZE) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    static int toChunkCoord(int blockCoord) {
+        return blockCoord >> CHUNK_SHIFT;
+    }
+
+    private final Map<Long, ChunkSnapshot> snapshots;
+    private final int minHeight;
+    private final int maxHeight;
+
+    ChunkSnapshotRegion(@NotNull Map<Long, ChunkSnapshot> snapshots, int minHeight, int maxHeight) {
+        this.snapshots = snapshots;
+        this.minHeight = minHeight;
+        this.maxHeight = maxHeight;
+    }
+
+    /**
+     * Gets the block type at the given world coordinates. Blocks outside the world height or in chunks not part of
+     * this region are treated as {@link Material#VOID_AIR}.
+     *
+     * @param x The block x coordinate
+     * @param y The block y coordinate
+     * @param z The block z coordinate
+     * @return The block type
+     */
+    @NotNull Material getType(int x, int y, int z) {
+        if (y < minHeight || y >= maxHeight) {
+            return Material.VOID_AIR;
+        }
+        ChunkSnapshot snapshot = snapshots.get(chunkKey(toChunkCoord(x), toChunkCoord(z)));
+        if (snapshot == null) {
+            return Material.VOID_AIR;
+        }
+        return snapshot.getBlockType(x & CHUNK_MASK, y, z & CHUNK_MASK);
+    }
+
+    int getMinHeight() {
+        return minHeight;
+    }
+
+    int getMaxHeight() {
+        return maxHeight;
+    }
+}
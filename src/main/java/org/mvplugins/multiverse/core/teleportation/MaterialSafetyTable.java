@@ -0,0 +1,66 @@
+package org.mvplugins.multiverse.core.teleportation;
+
+import org.bukkit.Material;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * A lookup table of spawn safety flags for every {@link Material}, indexed by ordinal. Compiled once from the
+ * configured safety policy so that checking a block during a safe location search is a single array read.
+ */
+final class MaterialSafetyTable {
+
+    private static final byte BODY_SAFE = 1;
+    private static final byte PLATFORM_SAFE = 1 << 1;
+    private static final byte UNSAFE = 0;
+
+    /**
+     * Compiles the safety table.
+     * <br />
+     * A material is body safe if it is not solid, platform safe if it is solid, and hazardous materials are
+     * neither, regardless of whether they are solid.
+     *
+     * @param hazardousMaterials    Materials that are unsafe to be in or stand on
+     * @return The compiled table
+     */
+    static @NotNull MaterialSafetyTable compile(@NotNull List<Material> hazardousMaterials) {
+        Material[] materials = Material.values();
+        byte[] flags = new byte[materials.length];
+        for (Material material : materials) {
+            flags[material.ordinal()] = material.isSolid() ? PLATFORM_SAFE : BODY_SAFE;
+        }
+        for (Material material : hazardousMaterials) {
+            if (material != null) {
+                flags[material.ordinal()] = UNSAFE;
+            }
+        }
+        return new MaterialSafetyTable(flags);
+    }
+
+    private final byte[] flags;
+
+    private MaterialSafetyTable(byte[] flags) {
+        this.flags = flags;
+    }
+
+    /**
+     * Checks if a player's body or head can be in a block of this material.
+     *
+     * @param material The material
+     * @return True if safe
+     */
+    boolean isBodySafe(@NotNull Material material) {
+        return (flags[material.ordinal()] & BODY_SAFE) != 0;
+    }
+
+    /**
+     * Checks if a player can stand on a block of this material.
+     *
+     * @param material The material
+     * @return True if safe
+     */
+    boolean isPlatformSafe(@NotNull Material material) {
+        return (flags[material.ordinal()] & PLATFORM_SAFE) != 0;
+    }
+}
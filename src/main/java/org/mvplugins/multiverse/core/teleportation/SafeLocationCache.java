@@ -0,0 +1,257 @@
+package org.mvplugins.multiverse.core.teleportation;
+
+import com.dumptruckman.minecraft.util.Logging;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.util.BlockVector;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jvnet.hk2.annotations.Service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the results of safe spawn searches done by {@link BlockSafety}, keyed by world, block coordinate and
+ * search radii. Entries are invalidated when a block within their search volume changes, or when the world unloads.
+ * <br />
+ * Entries are also indexed by the chunks their search volume overlaps, so a block change only has to check the
+ * entries of its own chunk.
+ */
+@Service
+public final class SafeLocationCache {
+
+    private static final int MAX_ENTRIES_PER_WORLD = 1024;
+
+    private final Map<UUID, WorldCache> worldCaches = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the cached search result for the given search.
+     *
+     * @param world             The world searched in
+     * @param searchKey         The search parameters
+     * @return The completed entry if cached, otherwise null.
+     */
+    @Nullable Entry get(@NotNull World world, @NotNull SearchKey searchKey) {
+        WorldCache worldCache = worldCaches.get(world.getUID());
+        if (worldCache == null) {
+            return null;
+        }
+        Entry entry = worldCache.entries.get(searchKey);
+        return entry != null && entry.isCompleted() ? entry : null;
+    }
+
+    /**
+     * Reserves a pending entry for a search about to be done. If a block in the search volume changes before the
+     * search completes, the reservation is dropped and {@link #complete(World, SearchKey, Entry, BlockVector)} will
+     * not cache the now possibly outdated result.
+     *
+     * @param world     The world searched in
+     * @param searchKey The search parameters
+     * @return The pending entry.
+     */
+    @NotNull Entry reserve(@NotNull World world, @NotNull SearchKey searchKey) {
+        WorldCache worldCache = worldCaches.computeIfAbsent(world.getUID(), uid -> new WorldCache());
+        if (worldCache.entries.size() >= MAX_ENTRIES_PER_WORLD) {
+            Logging.finer("Safe location cache for world %s is full, clearing it.", world.getName());
+            worldCache.clear();
+        }
+        Entry pending = new Entry(null, false);
+        worldCache.put(searchKey, pending);
+        return pending;
+    }
+
+    /**
+     * Completes a reserved entry with the search result, if it has not been invalidated in the meantime.
+     *
+     * @param world         The world searched in
+     * @param searchKey     The search parameters
+     * @param pending       The entry returned by {@link #reserve(World, SearchKey)}
+     * @param safeBlock     The safe block found, or null if none
+     */
+    void complete(@NotNull World world, @NotNull SearchKey searchKey, @NotNull Entry pending,
+                  @Nullable BlockVector safeBlock) {
+        WorldCache worldCache = worldCaches.get(world.getUID());
+        if (worldCache != null) {
+            worldCache.entries.replace(searchKey, pending, new Entry(safeBlock, true));
+        }
+    }
+
+    /**
+     * Drops a reserved entry whose search failed, if it has not been replaced in the meantime.
+     *
+     * @param world     The world searched in
+     * @param searchKey The search parameters
+     * @param pending   The entry returned by {@link #reserve(World, SearchKey)}
+     */
+    void release(@NotNull World world, @NotNull SearchKey searchKey, @NotNull Entry pending) {
+        WorldCache worldCache = worldCaches.get(world.getUID());
+        if (worldCache != null) {
+            worldCache.remove(searchKey, pending);
+        }
+    }
+
+    /**
+     * Invalidates all cached searches whose search volume contains the given block.
+     *
+     * @param block The block that changed
+     */
+    @ApiStatus.Internal
+    public void invalidate(@NotNull Block block) {
+        WorldCache worldCache = worldCaches.get(block.getWorld().getUID());
+        if (worldCache == null || worldCache.entries.isEmpty()) {
+            return;
+        }
+        worldCache.invalidate(block.getX(), block.getY(), block.getZ());
+    }
+
+    /**
+     * Invalidates all cached searches in the given world.
+     *
+     * @param world The world
+     */
+    @ApiStatus.Internal
+    public void invalidateWorld(@NotNull World world) {
+        worldCaches.remove(world.getUID());
+    }
+
+    /**
+     * Invalidates all cached searches.
+     */
+    public void invalidateAll() {
+        worldCaches.clear();
+    }
+
+    /**
+     * Gets the number of cached searches in the given world.
+     *
+     * @param world The world
+     * @return The number of cached searches
+     */
+    public int size(@NotNull World world) {
+        WorldCache worldCache = worldCaches.get(world.getUID());
+        return worldCache == null ? 0 : worldCache.entries.size();
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * The cached searches of a world, and the index of the chunks their search volumes overlap.
+     */
+    private static final class WorldCache {
+        private final Map<SearchKey, Entry> entries = new ConcurrentHashMap<>();
+        private final Map<Long, Set<SearchKey>> chunkIndex = new ConcurrentHashMap<>();
+
+        void put(SearchKey searchKey, Entry entry) {
+            if (entries.put(searchKey, entry) != null) {
+                return;
+            }
+            searchKey.forEachChunk((chunkX, chunkZ) -> chunkIndex
+                    .computeIfAbsent(chunkKey(chunkX, chunkZ), key -> ConcurrentHashMap.newKeySet())
+                    .add(searchKey));
+        }
+
+        void invalidate(int blockX, int blockY, int blockZ) {
+            Set<SearchKey> chunkKeys = chunkIndex.get(chunkKey(blockX >> 4, blockZ >> 4));
+            if (chunkKeys == null) {
+                return;
+            }
+            for (SearchKey searchKey : chunkKeys) {
+                if (searchKey.volumeContains(blockX, blockY, blockZ)) {
+                    remove(searchKey);
+                }
+            }
+        }
+
+        void remove(SearchKey searchKey) {
+            if (entries.remove(searchKey) == null) {
+                return;
+            }
+            removeFromChunkIndex(searchKey);
+        }
+
+        void remove(SearchKey searchKey, Entry entry) {
+            if (!entries.remove(searchKey, entry)) {
+                return;
+            }
+            removeFromChunkIndex(searchKey);
+        }
+
+        private void removeFromChunkIndex(SearchKey searchKey) {
+            searchKey.forEachChunk((chunkX, chunkZ) -> chunkIndex.computeIfPresent(chunkKey(chunkX, chunkZ),
+                    (key, chunkKeys) -> {
+                        chunkKeys.remove(searchKey);
+                        return chunkKeys.isEmpty() ? null : chunkKeys;
+                    }));
+        }
+
+        void clear() {
+            entries.clear();
+            chunkIndex.clear();
+        }
+    }
+
+    /**
+     * The parameters of a safe spawn search.
+     *
+     * @param x                 The origin block x
+     * @param y                 The origin block y
+     * @param z                 The origin block z
+     * @param horizontalRange   The horizontal search radius
+     * @param verticalRange     The vertical search radius
+     */
+    record SearchKey(int x, int y, int z, int horizontalRange, int verticalRange) {
+        /**
+         * Checks if a block change at the given coordinates may affect the result of this search. This covers the
+         * searched area, plus the head space above and the platform and block below it that are checked for safety.
+         */
+        boolean volumeContains(int blockX, int blockY, int blockZ) {
+            return Math.abs(blockX - x) <= horizontalRange
+                    && Math.abs(blockZ - z) <= horizontalRange
+                    && blockY >= y - verticalRange - 2
+                    && blockY <= y + verticalRange + 1;
+        }
+
+        /**
+         * Calls the consumer with every chunk the search volume overlaps.
+         */
+        void forEachChunk(ChunkConsumer consumer) {
+            for (int chunkX = (x - horizontalRange) >> 4; chunkX <= (x + horizontalRange) >> 4; chunkX++) {
+                for (int chunkZ = (z - horizontalRange) >> 4; chunkZ <= (z + horizontalRange) >> 4; chunkZ++) {
+                    consumer.accept(chunkX, chunkZ);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkConsumer {
+        void accept(int chunkX, int chunkZ);
+    }
+
+    /**
+     * A cached search, either pending or completed.
+     */
+    static final class Entry {
+        private final BlockVector safeBlock;
+        private final boolean completed;
+
+        private Entry(@Nullable BlockVector safeBlock, boolean completed) {
+            this.safeBlock = safeBlock;
+            this.completed = completed;
+        }
+
+        @Nullable BlockVector getSafeBlock() {
+            return safeBlock == null ? null : safeBlock.clone();
+        }
+
+        boolean isCompleted() {
+            return completed;
+        }
+    }
+}
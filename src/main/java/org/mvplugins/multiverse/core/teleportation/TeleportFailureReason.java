@@ -44,6 +44,16 @@ public enum TeleportFailureReason implements FailureReason {
      * The {@link MVTeleportDestinationEvent} was cancelled.
      */
     EVENT_CANCELLED(MVCorei18n.TELEPORTFAILUREREASON_EVENT_CANCELLED),
+
+    /**
+     * The in-flight teleport was cancelled through the {@link TeleportRegistry}.
+     */
+    TELEPORT_CANCELLED(MVCorei18n.TELEPORTFAILUREREASON_TELEPORT_CANCELLED),
+
+    /**
+     * The destination world is unloaded and could not be loaded on demand.
+     */
+    WORLD_LOAD_FAILED(MVCorei18n.TELEPORTFAILUREREASON_WORLD_LOAD_FAILED),
     ;
 
     private final MessageKeyProvider messageKey;
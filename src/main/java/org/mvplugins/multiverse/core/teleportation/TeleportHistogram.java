@@ -0,0 +1,94 @@
+package org.mvplugins.multiverse.core.teleportation;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram with power of two buckets. Percentiles are estimated from the bucket boundaries, so they are
+ * accurate to within a factor of two, which is plenty to tell a 2 ms stage apart from a 200 ms one.
+ * <br />
+ * Bucket 0 holds the value 0, and bucket n holds values in the range [2^(n-1), 2^n).
+ */
+public final class TeleportHistogram {
+
+    private static final int BUCKET_COUNT = Long.SIZE + 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    TeleportHistogram() {
+    }
+
+    /**
+     * Records a value. Negative values are recorded as 0.
+     *
+     * @param value The value to record
+     */
+    void record(long value) {
+        long clamped = Math.max(0, value);
+        buckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(clamped));
+        count.incrementAndGet();
+        sum.addAndGet(clamped);
+        max.accumulateAndGet(clamped, Math::max);
+    }
+
+    /**
+     * Gets the number of recorded values.
+     *
+     * @return The count
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Gets the mean of the recorded values.
+     *
+     * @return The mean, or 0 if nothing was recorded
+     */
+    public double getMean() {
+        long currentCount = count.get();
+        return currentCount == 0 ? 0 : (double) sum.get() / currentCount;
+    }
+
+    /**
+     * Gets the largest recorded value.
+     *
+     * @return The max, or 0 if nothing was recorded
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Estimates a percentile of the recorded values. The result is the upper bound of the bucket the percentile
+     * falls into, capped at the largest recorded value.
+     *
+     * @param percentile The percentile between 0 and 100
+     * @return The estimated value, or 0 if nothing was recorded
+     */
+    public long getPercentile(double percentile) {
+        long currentCount = count.get();
+        if (currentCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(currentCount * Math.min(100, Math.max(0, percentile)) / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    private static long bucketUpperBound(int bucket) {
+        if (bucket == 0) {
+            return 0;
+        }
+        return bucket >= Long.SIZE - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+}
@@ -1,21 +1,27 @@
 package org.mvplugins.multiverse.core.teleportation;
 
-import java.util.HashMap;
-import java.util.Map;
-
-import com.dumptruckman.minecraft.util.Logging;
 import io.vavr.control.Option;
+import jakarta.inject.Inject;
+import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
 import org.jvnet.hk2.annotations.Service;
 
+/**
+ * Name based view of the {@link TeleportRegistry}.
+ *
+ * @deprecated Use {@link TeleportRegistry} instead, which is keyed by UUID and keeps a reference to the teleporter.
+ */
+@Deprecated
 @Service
 public final class TeleportQueue {
 
-    private final Map<String, String> teleportQueueMap;
+    private final TeleportRegistry teleportRegistry;
 
-    TeleportQueue() {
-        teleportQueueMap = new HashMap<>();
+    @Inject
+    TeleportQueue(@NotNull TeleportRegistry teleportRegistry) {
+        this.teleportRegistry = teleportRegistry;
     }
 
     /**
@@ -25,7 +31,7 @@ public final class TeleportQueue {
      * @param teleportee The player that will be teleported.
      */
     public void addToQueue(CommandSender teleporter, Player teleportee) {
-        addToQueue(teleporter.getName(), teleportee.getName());
+        teleportRegistry.register(teleporter, teleportee).markTeleporting();
     }
 
     /**
@@ -35,8 +41,13 @@ public final class TeleportQueue {
      * @param teleportee The name of the player that will be teleported.
      */
     public void addToQueue(String teleporter, String teleportee) {
-        Logging.finest("Adding mapping '%s' => '%s' to teleport queue", teleporter, teleportee);
-        teleportQueueMap.put(teleportee, teleporter);
+        Player teleporteePlayer = Bukkit.getPlayerExact(teleportee);
+        CommandSender teleporterSender = teleporter.equalsIgnoreCase("CONSOLE")
+                ? Bukkit.getConsoleSender()
+                : Bukkit.getPlayerExact(teleporter);
+        if (teleporteePlayer != null && teleporterSender != null) {
+            teleportRegistry.register(teleporterSender, teleporteePlayer).markTeleporting();
+        }
     }
 
     /**
@@ -45,11 +56,9 @@ public final class TeleportQueue {
      * @return The player that teleported the other one (the teleporter).
      */
     public Option<String> popFromQueue(String playerName) {
-        if (teleportQueueMap.containsKey(playerName)) {
-            String teleportee = teleportQueueMap.get(playerName);
-            teleportQueueMap.remove(playerName);
-            return Option.of(teleportee);
-        }
-        return Option.none();
+        return Option.of(Bukkit.getPlayerExact(playerName))
+                .flatMap(player -> teleportRegistry.consume(player.getUniqueId()))
+                .flatMap(TeleportRegistry.InFlightTeleport::getTeleporter)
+                .map(CommandSender::getName);
     }
 }
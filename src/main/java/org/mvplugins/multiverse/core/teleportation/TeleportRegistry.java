@@ -0,0 +1,229 @@
+package org.mvplugins.multiverse.core.teleportation;
+
+import com.dumptruckman.minecraft.util.Logging;
+import io.vavr.control.Option;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jvnet.hk2.annotations.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of teleports started by Multiverse that have not completed yet, keyed by the teleportee's UUID.
+ * <br />
+ * An entry is only matched to a teleport event once it is marked as teleporting, right before the teleportee is
+ * moved, and is consumed by the first teleport event that matches it. Entries are removed when the teleport
+ * completes, whether it succeeded or not. Entries that are never removed, for example if a teleport gets stuck,
+ * expire after their time-to-live.
+ */
+@Service
+public final class TeleportRegistry {
+
+    /**
+     * The default time-to-live of an in-flight teleport.
+     */
+    public static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+
+    private final Map<UUID, InFlightTeleport> inFlightTeleports = new ConcurrentHashMap<>();
+
+    TeleportRegistry() {
+    }
+
+    /**
+     * Registers a new in-flight teleport with the {@link #DEFAULT_TTL}. Replaces any existing in-flight teleport of
+     * the same teleportee.
+     *
+     * @param teleporter    The sender that initiated the teleport.
+     * @param teleportee    The entity that will be teleported.
+     * @return The registered in-flight teleport.
+     */
+    public @NotNull InFlightTeleport register(@NotNull CommandSender teleporter, @NotNull Entity teleportee) {
+        return register(teleporter, teleportee, DEFAULT_TTL);
+    }
+
+    /**
+     * Registers a new in-flight teleport. Replaces any existing in-flight teleport of the same teleportee.
+     *
+     * @param teleporter    The sender that initiated the teleport.
+     * @param teleportee    The entity that will be teleported.
+     * @param ttl           How long the entry is valid for if it is never completed.
+     * @return The registered in-flight teleport.
+     */
+    public @NotNull InFlightTeleport register(
+            @NotNull CommandSender teleporter,
+            @NotNull Entity teleportee,
+            @NotNull Duration ttl) {
+        Logging.finest("Registering in-flight teleport '%s' => '%s'", teleporter.getName(), teleportee.getName());
+        long now = System.currentTimeMillis();
+        InFlightTeleport inFlightTeleport = new InFlightTeleport(
+                teleportee.getUniqueId(), teleporter, now, now + ttl.toMillis());
+        inFlightTeleports.put(teleportee.getUniqueId(), inFlightTeleport);
+        return inFlightTeleport;
+    }
+
+    /**
+     * Removes the given in-flight teleport, if it is still the current one for its teleportee.
+     *
+     * @param inFlightTeleport  The in-flight teleport to remove.
+     */
+    public void unregister(@NotNull InFlightTeleport inFlightTeleport) {
+        inFlightTeleports.remove(inFlightTeleport.getTeleporteeId(), inFlightTeleport);
+    }
+
+    /**
+     * Gets the in-flight teleport of the given teleportee.
+     *
+     * @param teleporteeId  The UUID of the teleportee.
+     * @return The in-flight teleport if there is one that has not expired.
+     */
+    public @NotNull Option<InFlightTeleport> get(@NotNull UUID teleporteeId) {
+        InFlightTeleport inFlightTeleport = inFlightTeleports.get(teleporteeId);
+        if (inFlightTeleport == null) {
+            return Option.none();
+        }
+        if (inFlightTeleport.isExpired(System.currentTimeMillis())) {
+            Logging.finer("In-flight teleport of %s has expired.", teleporteeId);
+            inFlightTeleports.remove(teleporteeId, inFlightTeleport);
+            return Option.none();
+        }
+        return Option.of(inFlightTeleport);
+    }
+
+    /**
+     * Removes and returns the in-flight teleport of the given teleportee, if it is about to move the teleportee. Used
+     * to match a teleport event to the Multiverse teleport that caused it, so that no other teleport of the same
+     * teleportee is mistaken for it.
+     *
+     * @param teleporteeId  The UUID of the teleportee.
+     * @return The in-flight teleport if there is one that is teleporting and has not expired.
+     */
+    public @NotNull Option<InFlightTeleport> consume(@NotNull UUID teleporteeId) {
+        return get(teleporteeId)
+                .filter(InFlightTeleport::isTeleporting)
+                .filter(inFlightTeleport -> inFlightTeleports.remove(teleporteeId, inFlightTeleport));
+    }
+
+    /**
+     * Cancels the in-flight teleport of the given teleportee. The teleport will fail with
+     * {@link TeleportFailureReason#TELEPORT_CANCELLED} if it has not started moving the teleportee yet, and the
+     * resulting teleport event will be cancelled otherwise.
+     *
+     * @param teleporteeId  The UUID of the teleportee.
+     * @return True if there was an in-flight teleport to cancel.
+     */
+    public boolean cancel(@NotNull UUID teleporteeId) {
+        return get(teleporteeId)
+                .peek(InFlightTeleport::cancel)
+                .isDefined();
+    }
+
+    /**
+     * Gets the number of in-flight teleports that have not expired.
+     *
+     * @return The number of active in-flight teleports.
+     */
+    public int getActiveCount() {
+        long now = System.currentTimeMillis();
+        inFlightTeleports.values().removeIf(inFlightTeleport -> inFlightTeleport.isExpired(now));
+        return inFlightTeleports.size();
+    }
+
+    /**
+     * A teleport started by Multiverse that has not completed yet.
+     */
+    public static final class InFlightTeleport {
+        private final UUID teleporteeId;
+        private final CommandSender teleporter;
+        private final long startTime;
+        private final long expiryTime;
+        private volatile boolean cancelled = false;
+        private volatile boolean teleporting = false;
+
+        private InFlightTeleport(UUID teleporteeId, CommandSender teleporter, long startTime, long expiryTime) {
+            this.teleporteeId = teleporteeId;
+            this.teleporter = teleporter;
+            this.startTime = startTime;
+            this.expiryTime = expiryTime;
+        }
+
+        /**
+         * Gets the UUID of the entity being teleported.
+         *
+         * @return The teleportee's UUID.
+         */
+        public @NotNull UUID getTeleporteeId() {
+            return teleporteeId;
+        }
+
+        /**
+         * Gets the sender that initiated the teleport. If the teleporter is a player that has since gone offline,
+         * none is returned.
+         *
+         * @return The teleporter.
+         */
+        public @NotNull Option<CommandSender> getTeleporter() {
+            if (teleporter instanceof Player player && !player.isOnline()) {
+                return Option.none();
+            }
+            return Option.of(teleporter);
+        }
+
+        /**
+         * Gets the time the teleport was started, in epoch milliseconds.
+         *
+         * @return The start time.
+         */
+        public long getStartTime() {
+            return startTime;
+        }
+
+        /**
+         * Gets the time this entry expires, in epoch milliseconds.
+         *
+         * @return The expiry time.
+         */
+        public long getExpiryTime() {
+            return expiryTime;
+        }
+
+        /**
+         * Checks if this teleport has been cancelled.
+         *
+         * @return True if cancelled.
+         */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        private void cancel() {
+            this.cancelled = true;
+        }
+
+        /**
+         * Checks if the teleportee is about to be moved, so the next teleport event of the teleportee belongs to
+         * this teleport.
+         *
+         * @return True if teleporting.
+         */
+        public boolean isTeleporting() {
+            return teleporting;
+        }
+
+        /**
+         * Marks that the teleportee is about to be moved. Must be called right before the teleport is started, as
+         * the next teleport event of the teleportee will be matched to this teleport.
+         */
+        public void markTeleporting() {
+            this.teleporting = true;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiryTime;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.mvplugins.multiverse.core.teleportation;
+
+/**
+ * The stages of a teleport that are timed by {@link TeleportTimings}.
+ */
+public enum TeleportStage {
+    /**
+     * Parsing a destination string into a destination instance.
+     */
+    DESTINATION_PARSE,
+
+    /**
+     * Calling the {@link org.mvplugins.multiverse.core.event.MVTeleportDestinationEvent}.
+     */
+    DESTINATION_EVENT,
+
+    /**
+     * Loading an unloaded world that has load on demand enabled, including prefetching its spawn chunks.
+     */
+    WORLD_LOAD,
+
+    /**
+     * Getting the target location from the destination.
+     */
+    GET_LOCATION,
+
+    /**
+     * Loading and snapshotting the chunks needed for the safe location search.
+     */
+    SAFETY_CHUNK_LOAD,
+
+    /**
+     * Searching the chunk snapshots for a safe location.
+     */
+    SAFETY_SEARCH,
+
+    /**
+     * Waiting for the destination chunks to be prefetched and pinned.
+     */
+    CHUNK_PREFETCH,
+
+    /**
+     * Waiting for the server to complete the teleport.
+     */
+    TELEPORT,
+
+    /**
+     * Waiting for the post teleport velocity to be applied.
+     */
+    POST_TELEPORT_VELOCITY,
+
+    /**
+     * The whole teleport, from getting the location to the teleport completing.
+     */
+    TOTAL
+}
@@ -0,0 +1,130 @@
+package org.mvplugins.multiverse.core.teleportation;
+
+import io.vavr.control.Option;
+import org.jetbrains.annotations.NotNull;
+import org.jvnet.hk2.annotations.Service;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects how long each {@link TeleportStage} of a teleport takes, grouped by destination type.
+ * <br />
+ * Stage timings are recorded in microseconds. Teleports to a plain location are grouped under
+ * {@link #LOCATION_TYPE}, and teleports to a destination under its {@link
+ * org.mvplugins.multiverse.core.destination.Destination#getIdentifier()}.
+ */
+@Service
+public final class TeleportTimings {
+
+    /**
+     * The destination type used for teleports to a plain location.
+     */
+    public static final String LOCATION_TYPE = "location";
+
+    private final Map<String, DestinationTimings> timingsByType = new ConcurrentHashMap<>();
+
+    TeleportTimings() {
+    }
+
+    /**
+     * Records the duration of a stage.
+     *
+     * @param destinationType   The destination type
+     * @param stage             The stage
+     * @param startNanos        The {@link System#nanoTime()} when the stage started
+     */
+    public void recordSince(@NotNull String destinationType, @NotNull TeleportStage stage, long startNanos) {
+        record(destinationType, stage, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Records the duration of a stage.
+     *
+     * @param destinationType   The destination type
+     * @param stage             The stage
+     * @param durationNanos     The duration of the stage in nanoseconds
+     */
+    public void record(@NotNull String destinationType, @NotNull TeleportStage stage, long durationNanos) {
+        getOrCreate(destinationType).getStage(stage).record(TimeUnit.NANOSECONDS.toMicros(durationNanos));
+    }
+
+    /**
+     * Records how many blocks were probed by a safe location search.
+     *
+     * @param destinationType   The destination type
+     * @param blocksProbed      The number of blocks probed, 0 if the result was cached
+     */
+    public void recordBlocksProbed(@NotNull String destinationType, int blocksProbed) {
+        getOrCreate(destinationType).getBlocksProbed().record(blocksProbed);
+    }
+
+    /**
+     * Gets the destination types that have recorded timings.
+     *
+     * @return The destination types
+     */
+    public @NotNull Set<String> getDestinationTypes() {
+        return Collections.unmodifiableSet(timingsByType.keySet());
+    }
+
+    /**
+     * Gets the timings of a destination type.
+     *
+     * @param destinationType   The destination type
+     * @return The timings if any were recorded
+     */
+    public @NotNull Option<DestinationTimings> getTimings(@NotNull String destinationType) {
+        return Option.of(timingsByType.get(destinationType));
+    }
+
+    /**
+     * Clears all recorded timings.
+     */
+    public void reset() {
+        timingsByType.clear();
+    }
+
+    private DestinationTimings getOrCreate(String destinationType) {
+        return timingsByType.computeIfAbsent(destinationType, type -> new DestinationTimings());
+    }
+
+    /**
+     * The timings recorded for one destination type.
+     */
+    public static final class DestinationTimings {
+        private final Map<TeleportStage, TeleportHistogram> stages;
+        private final TeleportHistogram blocksProbed = new TeleportHistogram();
+
+        private DestinationTimings() {
+            Map<TeleportStage, TeleportHistogram> stageMap = new EnumMap<>(TeleportStage.class);
+            for (TeleportStage stage : TeleportStage.values()) {
+                stageMap.put(stage, new TeleportHistogram());
+            }
+            this.stages = Collections.unmodifiableMap(stageMap);
+        }
+
+        /**
+         * Gets the histogram of a stage, in microseconds.
+         *
+         * @param stage The stage
+         * @return The histogram
+         */
+        public @NotNull TeleportHistogram getStage(@NotNull TeleportStage stage) {
+            return stages.get(stage);
+        }
+
+        /**
+         * Gets the histogram of the number of blocks probed by each safe location search.
+         *
+         * @return The histogram
+         */
+        public @NotNull TeleportHistogram getBlocksProbed() {
+            return blocksProbed;
+        }
+    }
+}
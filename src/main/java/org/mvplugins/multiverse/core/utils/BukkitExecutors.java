@@ -0,0 +1,52 @@
+package org.mvplugins.multiverse.core.utils;
+
+import jakarta.inject.Inject;
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+import org.jvnet.hk2.annotations.Service;
+import org.mvplugins.multiverse.core.MultiverseCore;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Provides {@link Executor}s backed by the bukkit scheduler, for composing {@link java.util.concurrent.CompletableFuture}s
+ * across the main server thread and async worker threads.
+ */
+@Service
+public final class BukkitExecutors {
+
+    private final Executor mainThreadExecutor;
+    private final Executor asyncExecutor;
+
+    @Inject
+    BukkitExecutors(@NotNull MultiverseCore plugin) {
+        this.mainThreadExecutor = runnable -> {
+            if (Bukkit.isPrimaryThread()) {
+                runnable.run();
+                return;
+            }
+            Bukkit.getScheduler().runTask(plugin, runnable);
+        };
+        this.asyncExecutor = runnable -> Bukkit.getScheduler().runTaskAsynchronously(plugin, runnable);
+    }
+
+    /**
+     * Gets an executor that runs tasks on the main server thread. If already on the main thread, the task is run
+     * immediately, otherwise it is scheduled for the next tick.
+     *
+     * @return The main thread executor.
+     */
+    public @NotNull Executor mainThread() {
+        return mainThreadExecutor;
+    }
+
+    /**
+     * Gets an executor that runs tasks on the bukkit scheduler's async worker threads. Tasks run on this executor must
+     * not access non thread-safe bukkit apis.
+     *
+     * @return The async executor.
+     */
+    public @NotNull Executor async() {
+        return asyncExecutor;
+    }
+}
@@ -31,6 +31,12 @@ import static java.nio.file.StandardCopyOption.COPY_ATTRIBUTES;
 @Service
 public final class FileUtils {
 
+    /**
+     * How recent a modification time has to be to not be trusted. File systems store modification times with limited
+     * precision, so a file changed shortly after its modification time was read may keep the same modification time.
+     */
+    public static final long RACY_MODIFIED_TIME_MILLIS = 2000;
+
     private final File serverFolder;
     private final File bukkitYml;
     private final File serverProperties;
@@ -119,6 +125,18 @@ public final class FileUtils {
         }
     }
 
+    /**
+     * Checks whether a modification time is too close to the time it was read at to be trusted, see
+     * {@link #RACY_MODIFIED_TIME_MILLIS}. A later change to a file with a racy modification time may not change it.
+     *
+     * @param modified  The modification time, in milliseconds since the epoch.
+     * @param readAt    The time the modification time was read at, in milliseconds since the epoch.
+     * @return True if the modification time cannot be trusted to change on the next change, else false.
+     */
+    public static boolean isRacyModifiedTime(long modified, long readAt) {
+        return readAt - modified <= RACY_MODIFIED_TIME_MILLIS;
+    }
+
     /**
      * Copies all the content of the given folder to the given target folder.
      *
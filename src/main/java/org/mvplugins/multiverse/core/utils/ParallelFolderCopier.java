@@ -0,0 +1,251 @@
+package org.mvplugins.multiverse.core.utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import com.dumptruckman.minecraft.util.Logging;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jvnet.hk2.annotations.Service;
+
+/**
+ * Copies folders off the main thread, copying the files of a folder in parallel on a small bounded worker pool. This
+ * is meant for world folders, which are mostly made up of many region files of similar size.
+ * <br />
+ * Files are copied with {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}, which lets
+ * the kernel copy the data without going through the java heap, and on some file systems share the data blocks
+ * instead of copying them. A plain buffered copy is used if that fails.
+ */
+@Service
+public final class ParallelFolderCopier {
+
+    private static final int MAX_WORKERS = 4;
+    private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final int BUFFER_SIZE = 1024 * 64;
+
+    private final ExecutorService workers;
+
+    @Inject
+    ParallelFolderCopier() {
+        int workerCount = Math.max(1, Math.min(MAX_WORKERS, Runtime.getRuntime().availableProcessors() / 2));
+        this.workers = Executors.newFixedThreadPool(workerCount, new WorkerThreadFactory());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * Copies most of the content of the given folder to the given target folder, except the list of excluded files
+     * specified. The target folder may already exist, but must not contain any of the files being copied.
+     *
+     * @param sourceDir         The folder to copy.
+     * @param targetDir         The target folder to copy to.
+     * @param excludeFiles      The list of files to exclude from copying.
+     * @param progressListener  Called from the worker threads as the copy progresses, at most about once a second,
+     *                          and once more when the copy is done.
+     * @return A future that completes once all files are copied, or completes exceptionally if any file could not be
+     *         copied.
+     */
+    public @NotNull CompletableFuture<CopyProgress> copyFolder(
+            @NotNull Path sourceDir,
+            @NotNull Path targetDir,
+            @NotNull List<String> excludeFiles,
+            @Nullable Consumer<CopyProgress> progressListener) {
+        long startTime = System.nanoTime();
+        return CompletableFuture.supplyAsync(() -> scanFolder(sourceDir, targetDir, excludeFiles), workers)
+                .thenCompose(files -> {
+                    CopyTracker tracker = new CopyTracker(files, progressListener);
+                    List<CompletableFuture<Void>> copies = files.stream()
+                            .map(file -> CompletableFuture.runAsync(() -> {
+                                copyFile(file.source(), file.target());
+                                tracker.fileCopied(file.size());
+                            }, workers))
+                            .toList();
+                    return CompletableFuture.allOf(copies.toArray(CompletableFuture[]::new))
+                            .thenApply(ignore -> tracker.finish());
+                })
+                .whenComplete((progress, exception) -> {
+                    if (exception != null) {
+                        Logging.severe("Failed to copy folder: %s", sourceDir.toAbsolutePath());
+                        exception.printStackTrace();
+                        return;
+                    }
+                    Logging.fine("Copied %d files (%d bytes) from %s in %d ms.", progress.totalFiles(),
+                            progress.totalBytes(), sourceDir, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+                });
+    }
+
+    /**
+     * Creates the folder structure in the target folder, and lists the files to copy.
+     */
+    private List<FileToCopy> scanFolder(Path sourceDir, Path targetDir, List<String> excludeFiles) {
+        List<FileToCopy> files = new ArrayList<>();
+        try {
+            Files.walkFileTree(sourceDir, new SimpleFileVisitor<>() {
+                @Override
+                public @NotNull FileVisitResult preVisitDirectory(Path dir, @NotNull BasicFileAttributes attrs)
+                        throws IOException {
+                    Path newDir = targetDir.resolve(sourceDir.relativize(dir));
+                    if (!Files.isDirectory(newDir)) {
+                        Files.createDirectory(newDir);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public @NotNull FileVisitResult visitFile(Path file, @NotNull BasicFileAttributes attrs) {
+                    if (excludeFiles.contains(file.getFileName().toString())) {
+                        Logging.finest("Ignoring file: " + file.getFileName());
+                        return FileVisitResult.CONTINUE;
+                    }
+                    files.add(new FileToCopy(file, targetDir.resolve(sourceDir.relativize(file)), attrs.size()));
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+        return files;
+    }
+
+    private static void copyFile(Path source, Path target) {
+        try {
+            try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+                 FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                long position = transfer(in, out);
+                if (position < in.size()) {
+                    bufferedCopy(in, out, position);
+                }
+            }
+            Files.setLastModifiedTime(target, Files.getLastModifiedTime(source));
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Copies as much as the kernel is willing to transfer directly.
+     *
+     * @return The position the transfer stopped at.
+     */
+    private static long transfer(FileChannel in, FileChannel out) {
+        long size;
+        long position = 0;
+        try {
+            size = in.size();
+            while (position < size) {
+                long transferred = in.transferTo(position, size - position, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+        } catch (IOException e) {
+            Logging.finest("Direct transfer failed, falling back to buffered copy: " + e.getMessage());
+        }
+        return position;
+    }
+
+    private static void bufferedCopy(FileChannel in, FileChannel out, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        out.position(position);
+        while (in.read(buffer, position) > 0) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                position += out.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    private record FileToCopy(Path source, Path target, long size) {
+    }
+
+    private static final class CopyTracker {
+        private final int totalFiles;
+        private final long totalBytes;
+        private final @Nullable Consumer<CopyProgress> progressListener;
+        private final AtomicInteger copiedFiles = new AtomicInteger();
+        private final AtomicLong copiedBytes = new AtomicLong();
+        private final AtomicLong lastReport = new AtomicLong(System.nanoTime());
+
+        private CopyTracker(List<FileToCopy> files, @Nullable Consumer<CopyProgress> progressListener) {
+            this.totalFiles = files.size();
+            this.totalBytes = files.stream().mapToLong(FileToCopy::size).sum();
+            this.progressListener = progressListener;
+        }
+
+        private void fileCopied(long size) {
+            int files = copiedFiles.incrementAndGet();
+            long bytes = copiedBytes.addAndGet(size);
+            if (progressListener == null) {
+                return;
+            }
+            long now = System.nanoTime();
+            long last = lastReport.get();
+            if (now - last >= PROGRESS_INTERVAL_NANOS && lastReport.compareAndSet(last, now)) {
+                progressListener.accept(new CopyProgress(files, totalFiles, bytes, totalBytes));
+            }
+        }
+
+        private CopyProgress finish() {
+            CopyProgress progress = new CopyProgress(totalFiles, totalFiles, totalBytes, totalBytes);
+            if (progressListener != null) {
+                progressListener.accept(progress);
+            }
+            return progress;
+        }
+    }
+
+    /**
+     * The progress of a folder copy.
+     *
+     * @param copiedFiles   The number of files copied so far.
+     * @param totalFiles    The number of files to copy.
+     * @param copiedBytes   The number of bytes copied so far.
+     * @param totalBytes    The number of bytes to copy.
+     */
+    public record CopyProgress(int copiedFiles, int totalFiles, long copiedBytes, long totalBytes) {
+        /**
+         * Gets the percentage of bytes copied so far.
+         *
+         * @return The percentage, from 0 to 100.
+         */
+        public int getPercent() {
+            return totalBytes <= 0 ? 100 : (int) (copiedBytes * 100 / totalBytes);
+        }
+    }
+
+    private static final class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(@NotNull Runnable runnable) {
+            Thread thread = new Thread(runnable, "Multiverse-FolderCopier-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
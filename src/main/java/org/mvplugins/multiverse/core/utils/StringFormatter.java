@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -139,4 +140,24 @@ public final class StringFormatter {
     public static String quoteMultiWordString(String input) {
         return input.contains(" ") ? "\"" + input + "\"" : input;
     }
+
+    /**
+     * Formats a number of bytes with the largest binary unit that keeps it at least 1. E.g. 1536 -> "1.5 KiB".
+     *
+     * @param bytes The number of bytes
+     * @return The formatted size
+     */
+    public static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        String[] units = {"KiB", "MiB", "GiB", "TiB"};
+        double size = bytes;
+        int unitIndex = -1;
+        while (size >= 1024 && unitIndex < units.length - 1) {
+            size /= 1024;
+            unitIndex++;
+        }
+        return String.format(Locale.ROOT, "%.1f %s", size, units[unitIndex]);
+    }
 }
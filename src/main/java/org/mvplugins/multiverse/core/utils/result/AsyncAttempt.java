@@ -71,7 +71,7 @@ public final class AsyncAttempt<T, F extends FailureReason> {
      * @return A successful {@link AsyncAttempt}.
      */
     public static <F extends FailureReason> AsyncAttempt<Void, F> success() {
-        return new AsyncAttempt<>(CompletableFuture.completedFuture(null));
+        return new AsyncAttempt<>(CompletableFuture.completedFuture(Attempt.success(null)));
     }
 
     /**
@@ -105,6 +105,16 @@ public final class AsyncAttempt<T, F extends FailureReason> {
         return new AsyncAttempt<>(future.thenApply(attempt -> attempt.thenRun(runnable)));
     }
 
+    /**
+     * Executes the provided runnable once this {@link AsyncAttempt} is done, even if it completed exceptionally.
+     *
+     * @param runnable  The runnable to execute.
+     * @return A new {@link AsyncAttempt} instance.
+     */
+    public AsyncAttempt<T, F> whenComplete(Runnable runnable) {
+        return new AsyncAttempt<>(future.whenComplete((attempt, exception) -> runnable.run()));
+    }
+
 
     /**
      * Executes the provided consumer with the result of this {@link AsyncAttempt} if it is successful.
@@ -159,6 +169,17 @@ public final class AsyncAttempt<T, F extends FailureReason> {
         }));
     }
 
+    /**
+     * Maps to another async attempt with a different fail reason.
+     *
+     * @param failureReason The new fail reason.
+     * @param <UF>          The type of the new fail reason.
+     * @return A new {@link AsyncAttempt} with the new fail reason.
+     */
+    public <UF extends FailureReason> AsyncAttempt<T, UF> transform(UF failureReason) {
+        return new AsyncAttempt<>(future.thenApply(attempt -> attempt.transform(failureReason)));
+    }
+
     /**
      * Executes a runnable if this {@link AsyncAttempt} is successful.
      *
@@ -169,6 +190,16 @@ public final class AsyncAttempt<T, F extends FailureReason> {
         return new AsyncAttempt<>(future.thenApply(attempt -> attempt.onSuccess(runnable)));
     }
 
+    /**
+     * Executes a consumer with the value if this {@link AsyncAttempt} is successful.
+     *
+     * @param consumer The consumer to process the value on success.
+     * @return A new {@link AsyncAttempt} instance.
+     */
+    public AsyncAttempt<T, F> onSuccess(Consumer<T> consumer) {
+        return new AsyncAttempt<>(future.thenApply(attempt -> attempt.onSuccess(consumer)));
+    }
+
     /**
      * Executes a runnable if this {@link AsyncAttempt} fails.
      *
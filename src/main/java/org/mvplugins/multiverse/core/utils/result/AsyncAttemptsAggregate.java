@@ -1,8 +1,11 @@
 package org.mvplugins.multiverse.core.utils.result;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 /**
@@ -47,22 +50,61 @@ public final class AsyncAttemptsAggregate<T, F extends FailureReason> {
      * @return An instance of {@link AsyncAttemptsAggregate} with no attempts.
      */
     public static <T, F extends FailureReason> AsyncAttemptsAggregate<T, F> emptySuccess() {
-        return new AsyncAttemptsAggregate<>(CompletableFuture.completedFuture(AttemptsAggregate.emptySuccess()));
+        return new AsyncAttemptsAggregate<>(
+                Collections.emptyList(),
+                CompletableFuture.completedFuture(AttemptsAggregate.emptySuccess()));
     }
 
+    private final List<CompletableFuture<Attempt<T, F>>> attemptFutures;
     private final CompletableFuture<AttemptsAggregate<T, F>> future;
 
     private AsyncAttemptsAggregate(List<AsyncAttempt<T, F>> attempts) {
-        future = CompletableFuture.allOf(attempts.stream().map(AsyncAttempt::getFuture).toArray(CompletableFuture[]::new))
-                .thenApply(v -> AttemptsAggregate.allOf(attempts.stream()
-                        .map(AsyncAttempt::getFuture)
+        attemptFutures = attempts.stream().map(AsyncAttempt::getFuture).toList();
+        future = CompletableFuture.allOf(attemptFutures.toArray(CompletableFuture[]::new))
+                .thenApply(v -> AttemptsAggregate.allOf(attemptFutures.stream()
                         .map(CompletableFuture::join).toList()));
     }
 
-    private AsyncAttemptsAggregate(CompletableFuture<AttemptsAggregate<T, F>> future) {
+    private AsyncAttemptsAggregate(
+            List<CompletableFuture<Attempt<T, F>>> attemptFutures,
+            CompletableFuture<AttemptsAggregate<T, F>> future) {
+        this.attemptFutures = attemptFutures;
         this.future = future;
     }
 
+    /**
+     * Gets the total number of attempts in this aggregate.
+     *
+     * @return The total number of attempts.
+     */
+    public int getTotalCount() {
+        return attemptFutures.size();
+    }
+
+    /**
+     * Gets the number of attempts that have completed so far, regardless of success or failure.
+     *
+     * @return The number of completed attempts.
+     */
+    public int getCompletedCount() {
+        return (int) attemptFutures.stream().filter(CompletableFuture::isDone).count();
+    }
+
+    /**
+     * Executes the provided {@link BiConsumer} every time an attempt completes, with the number of completed
+     * attempts so far and the total number of attempts.
+     *
+     * @param progressConsumer The consumer to process the completed and total count.
+     * @return This {@link AsyncAttemptsAggregate} instance.
+     */
+    public AsyncAttemptsAggregate<T, F> onProgress(BiConsumer<Integer, Integer> progressConsumer) {
+        AtomicInteger completedCount = new AtomicInteger();
+        int totalCount = attemptFutures.size();
+        attemptFutures.forEach(attemptFuture -> attemptFuture.thenRun(
+                () -> progressConsumer.accept(completedCount.incrementAndGet(), totalCount)));
+        return this;
+    }
+
     /**
      * Executes the provided {@link Runnable} if there are successful attempts.
      *
@@ -70,7 +112,7 @@ public final class AsyncAttemptsAggregate<T, F extends FailureReason> {
      * @return A new {@link AsyncAttemptsAggregate} instance.
      */
     public AsyncAttemptsAggregate<T, F> onSuccess(Runnable runnable) {
-        return new AsyncAttemptsAggregate<>(
+        return new AsyncAttemptsAggregate<>(attemptFutures,
                 future.thenApply(aggregate -> aggregate.onSuccess(runnable)));
     }
 
@@ -81,7 +123,7 @@ public final class AsyncAttemptsAggregate<T, F extends FailureReason> {
      * @return A new {@link AsyncAttemptsAggregate} instance.
      */
     public AsyncAttemptsAggregate<T, F> onFailure(Runnable runnable) {
-        return new AsyncAttemptsAggregate<>(
+        return new AsyncAttemptsAggregate<>(attemptFutures,
                 future.thenApply(aggregate -> aggregate.onFailure(runnable)));
     }
 
@@ -92,7 +134,7 @@ public final class AsyncAttemptsAggregate<T, F extends FailureReason> {
      * @return A new {@link AsyncAttemptsAggregate} instance.
      */
     public AsyncAttemptsAggregate<T, F> onSuccess(Consumer<List<Attempt<T, F>>> successConsumer) {
-        return new AsyncAttemptsAggregate<>(
+        return new AsyncAttemptsAggregate<>(attemptFutures,
                 future.thenApply(aggregate -> aggregate.onSuccess(successConsumer)));
     }
 
@@ -103,7 +145,7 @@ public final class AsyncAttemptsAggregate<T, F extends FailureReason> {
      * @return A new {@link AsyncAttemptsAggregate} instance.
      */
     public AsyncAttemptsAggregate<T, F> onFailure(Consumer<List<Attempt<T, F>>> failureConsumer) {
-        return new AsyncAttemptsAggregate<>(
+        return new AsyncAttemptsAggregate<>(attemptFutures,
                 future.thenApply(aggregate -> aggregate.onFailure(failureConsumer)));
     }
 
@@ -114,7 +156,7 @@ public final class AsyncAttemptsAggregate<T, F extends FailureReason> {
      * @return A new {@link AsyncAttemptsAggregate} instance.
      */
     public AsyncAttemptsAggregate<T, F> onSuccessCount(Consumer<Integer> successConsumer) {
-        return new AsyncAttemptsAggregate<>(
+        return new AsyncAttemptsAggregate<>(attemptFutures,
                 future.thenApply(aggregate -> aggregate.onSuccessCount(successConsumer)));
     }
 
@@ -125,7 +167,7 @@ public final class AsyncAttemptsAggregate<T, F extends FailureReason> {
      * @return A new {@link AsyncAttemptsAggregate} instance.
      */
     public AsyncAttemptsAggregate<T, F> onFailureCount(Consumer<Map<F, Long>> failureConsumer) {
-        return new AsyncAttemptsAggregate<>(
+        return new AsyncAttemptsAggregate<>(attemptFutures,
                 future.thenApply(aggregate -> aggregate.onFailureCount(failureConsumer)));
     }
 }
@@ -0,0 +1,129 @@
+package org.mvplugins.multiverse.core.world;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.dumptruckman.minecraft.util.Logging;
+import io.vavr.control.Try;
+import jakarta.inject.Inject;
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+import org.jvnet.hk2.annotations.Service;
+
+import org.mvplugins.multiverse.core.MultiverseCore;
+import org.mvplugins.multiverse.core.config.CoreConfig;
+import org.mvplugins.multiverse.core.utils.result.AsyncAttempt;
+import org.mvplugins.multiverse.core.utils.result.AsyncAttemptsAggregate;
+import org.mvplugins.multiverse.core.utils.result.Attempt;
+import org.mvplugins.multiverse.core.utils.result.FailureReason;
+
+/**
+ * Runs a world operation for many worlds on the main thread, spread across ticks so that no tick spends more than
+ * {@link CoreConfig#getBatchOperationTickBudget()} on them. At least one operation is run every tick, so a batch
+ * always makes progress even if a single operation takes longer than the budget.
+ */
+@Service
+final class BatchWorldOperationRunner {
+
+    private final MultiverseCore plugin;
+    private final CoreConfig config;
+
+    @Inject
+    BatchWorldOperationRunner(@NotNull MultiverseCore plugin, @NotNull CoreConfig config) {
+        this.plugin = plugin;
+        this.config = config;
+    }
+
+    /**
+     * Starts running an operation that may finish in a later tick for every item, beginning on the current tick. Only
+     * the time spent starting the operations counts towards the tick budget, so the next operation may start before
+     * the previous one is done. Must be called on the main thread.
+     *
+     * @param items         The items to run the operation for, in order
+     * @param operation     The operation to run for each item, whose result must complete on the main thread
+     * @param errorReason   The failure reason for an operation that throws an exception
+     * @param onFinish      Called on the main thread once every operation is done, before the last result is
+     *                      completed
+     * @param <I>           The type of the items
+     * @param <T>           The type of a successful result
+     * @param <F>           The type of the failure reasons
+     * @return The results of the operations, in the same order as the items
+     */
+    <I, T, F extends FailureReason> AsyncAttemptsAggregate<T, F> runAsync(
+            @NotNull List<I> items,
+            @NotNull Function<I, AsyncAttempt<T, F>> operation,
+            @NotNull F errorReason,
+            @NotNull Runnable onFinish) {
+        if (items.isEmpty()) {
+            onFinish.run();
+            return AsyncAttemptsAggregate.emptySuccess();
+        }
+        Batch<I, T, F> batch = new Batch<>(items, operation, errorReason, onFinish);
+        List<AsyncAttempt<T, F>> attempts = batch.results.stream()
+                .map(result -> AsyncAttempt.<AsyncAttempt<T, F>, F>of(result, exception -> Attempt.failure(errorReason))
+                        .mapAsyncAttempt(attempt -> attempt))
+                .toList();
+        batch.runTick();
+        return AsyncAttemptsAggregate.allOf(attempts);
+    }
+
+    private final class Batch<I, T, F extends FailureReason> {
+        private final List<I> items;
+        private final Function<I, AsyncAttempt<T, F>> operation;
+        private final F errorReason;
+        private final Runnable onFinish;
+        private final List<CompletableFuture<AsyncAttempt<T, F>>> results;
+        private final long startTime = System.nanoTime();
+        private int nextIndex = 0;
+        private int doneCount = 0;
+        private int tickCount = 0;
+
+        private Batch(List<I> items, Function<I, AsyncAttempt<T, F>> operation, F errorReason, Runnable onFinish) {
+            this.items = items;
+            this.operation = operation;
+            this.errorReason = errorReason;
+            this.onFinish = onFinish;
+            this.results = new ArrayList<>(items.size());
+            items.forEach(item -> results.add(new CompletableFuture<>()));
+        }
+
+        private void runTick() {
+            tickCount++;
+            long budgetNanos = TimeUnit.MILLISECONDS.toNanos(config.getBatchOperationTickBudget());
+            long tickStartTime = System.nanoTime();
+            do {
+                runNext();
+            } while (nextIndex < items.size()
+                    && (budgetNanos <= 0 || System.nanoTime() - tickStartTime < budgetNanos));
+
+            if (nextIndex < items.size()) {
+                Bukkit.getScheduler().runTaskLater(plugin, this::runTick, 1L);
+            }
+        }
+
+        private void runNext() {
+            int index = nextIndex++;
+            I item = items.get(index);
+            AsyncAttempt<T, F> result = Try.of(() -> operation.apply(item))
+                    .onFailure(exception -> {
+                        Logging.severe("Batch world operation %d/%d failed: %s",
+                                index + 1, items.size(), exception.getMessage());
+                        exception.printStackTrace();
+                    })
+                    .getOrElseGet(exception -> AsyncAttempt.fromAttempt(Attempt.failure(errorReason)));
+            results.get(index).complete(result.whenComplete(this::operationDone));
+        }
+
+        private void operationDone() {
+            if (++doneCount < items.size()) {
+                return;
+            }
+            Logging.fine("Finished batch of %d world operations over %d ticks in %d ms.", items.size(),
+                    tickCount, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+            onFinish.run();
+        }
+    }
+}
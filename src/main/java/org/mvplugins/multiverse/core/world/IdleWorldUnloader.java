@@ -0,0 +1,124 @@
+package org.mvplugins.multiverse.core.world;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.dumptruckman.minecraft.util.Logging;
+import jakarta.inject.Inject;
+import jakarta.inject.Provider;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jvnet.hk2.annotations.Service;
+
+import org.mvplugins.multiverse.core.MultiverseCore;
+import org.mvplugins.multiverse.core.world.options.UnloadWorldOptions;
+
+/**
+ * Unloads worlds that have been idle for longer than their {@link MultiverseWorld#getIdleUnloadAfter()}. A world is
+ * idle when it has no players and no plugin chunk tickets.
+ * <br />
+ * Player movement between worlds is reported by the player listener, so that the idle time starts when the last
+ * player leaves. Worlds that become idle in other ways are picked up by a periodic check. The default world and
+ * worlds used as another world's {@code respawn-world} are never unloaded.
+ */
+@Service
+public final class IdleWorldUnloader {
+
+    private static final long CHECK_INTERVAL_TICKS = 20L * 10;
+
+    private final MultiverseCore plugin;
+    private final Provider<WorldManager> worldManagerProvider;
+
+    /**
+     * The {@link System#nanoTime()} each world became idle at. Only accessed on the main thread.
+     */
+    private final Map<String, Long> idleSince = new HashMap<>();
+
+    @Inject
+    IdleWorldUnloader(@NotNull MultiverseCore plugin, @NotNull Provider<WorldManager> worldManagerProvider) {
+        this.plugin = plugin;
+        this.worldManagerProvider = worldManagerProvider;
+    }
+
+    /**
+     * Starts the periodic idle check.
+     */
+    public void start() {
+        Bukkit.getScheduler().runTaskTimer(plugin, this::unloadIdleWorlds, CHECK_INTERVAL_TICKS, CHECK_INTERVAL_TICKS);
+    }
+
+    /**
+     * Called when a player enters a world, which stops the world from being idle.
+     *
+     * @param world The world entered
+     */
+    public void playerEnteredWorld(@NotNull World world) {
+        idleSince.remove(world.getName());
+    }
+
+    /**
+     * Called when a player leaves a world. Starts the idle time if no other players are left in the world.
+     *
+     * @param world         The world left
+     * @param leavingPlayer The player leaving, if they are still counted in the world's players
+     */
+    public void playerLeftWorld(@NotNull World world, @Nullable Player leavingPlayer) {
+        List<Player> players = world.getPlayers();
+        if (players.isEmpty() || (players.size() == 1 && players.get(0).equals(leavingPlayer))) {
+            idleSince.putIfAbsent(world.getName(), System.nanoTime());
+        }
+    }
+
+    private void unloadIdleWorlds() {
+        WorldManager worldManager = worldManagerProvider.get();
+        idleSince.keySet().removeIf(worldName -> !worldManager.isLoadedWorld(worldName));
+        List<LoadedMultiverseWorld> candidates = worldManager.getLoadedWorlds().stream()
+                .filter(world -> world.getIdleUnloadAfter() >= 0)
+                .toList();
+        if (candidates.isEmpty()) {
+            return;
+        }
+        Set<String> protectedWorlds = getProtectedWorldNames(worldManager);
+        long now = System.nanoTime();
+        for (LoadedMultiverseWorld world : candidates) {
+            World bukkitWorld = world.getBukkitWorld().getOrNull();
+            if (bukkitWorld == null || protectedWorlds.contains(world.getName()) || !isIdle(bukkitWorld)) {
+                idleSince.remove(world.getName());
+                continue;
+            }
+            long idleStart = idleSince.computeIfAbsent(world.getName(), worldName -> now);
+            if (now - idleStart >= TimeUnit.SECONDS.toNanos(world.getIdleUnloadAfter())) {
+                unloadIdleWorld(worldManager, world, now - idleStart);
+            }
+        }
+    }
+
+    private Set<String> getProtectedWorldNames(WorldManager worldManager) {
+        Set<String> protectedWorlds = worldManager.getWorlds().stream()
+                .map(MultiverseWorld::getRespawnWorldName)
+                .filter(worldName -> worldName != null && !worldName.isEmpty())
+                .collect(Collectors.toSet());
+        worldManager.getDefaultWorld().peek(defaultWorld -> protectedWorlds.add(defaultWorld.getName()));
+        return protectedWorlds;
+    }
+
+    private boolean isIdle(World world) {
+        return world.getPlayers().isEmpty() && world.getPluginChunkTickets().isEmpty();
+    }
+
+    private void unloadIdleWorld(WorldManager worldManager, LoadedMultiverseWorld world, long idleNanos) {
+        idleSince.remove(world.getName());
+        worldManager.unloadWorld(UnloadWorldOptions.world(world).saveBukkitWorld(true))
+                .onSuccess(ignore -> Logging.info("Unloaded world '%s' after being idle for %d seconds.",
+                        world.getName(), TimeUnit.NANOSECONDS.toSeconds(idleNanos)))
+                .onFailure(failure -> Logging.warning("Failed to unload idle world '%s': %s",
+                        world.getName(), failure.getFailureReason()));
+    }
+}
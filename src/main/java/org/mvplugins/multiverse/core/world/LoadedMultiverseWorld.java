@@ -2,6 +2,8 @@ package org.mvplugins.multiverse.core.world;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import com.dumptruckman.minecraft.util.Logging;
 import io.vavr.control.Option;
@@ -27,6 +29,7 @@ public final class LoadedMultiverseWorld extends MultiverseWorld {
 
     private final BlockSafety blockSafety;
     private final LocationManipulation locationManipulation;
+    private boolean spawnAdjustPending = false;
 
     LoadedMultiverseWorld(
             @NotNull World world,
@@ -34,13 +37,29 @@ public final class LoadedMultiverseWorld extends MultiverseWorld {
             @NotNull BlockSafety blockSafety,
             @NotNull LocationManipulation locationManipulation,
             @NotNull CoreConfig config) {
+        this(world, worldConfig, blockSafety, locationManipulation, config, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param deferSpawnAdjust  If true and the world has no spawn location set yet, the spawn from the world is used
+     *                          as is, and checking it for safety is left to {@link #adjustSpawnAsync(Executor)}.
+     */
+    LoadedMultiverseWorld(
+            @NotNull World world,
+            @NotNull WorldConfig worldConfig,
+            @NotNull BlockSafety blockSafety,
+            @NotNull LocationManipulation locationManipulation,
+            @NotNull CoreConfig config,
+            boolean deferSpawnAdjust) {
         super(world.getName(), worldConfig, config);
         this.worldUid = world.getUID();
         this.blockSafety = blockSafety;
         this.locationManipulation = locationManipulation;
 
         setupWorldConfig(world);
-        setupSpawnLocation(world);
+        setupSpawnLocation(world, deferSpawnAdjust);
     }
 
     private void setupWorldConfig(World world) {
@@ -50,20 +69,61 @@ public final class LoadedMultiverseWorld extends MultiverseWorld {
         worldConfig.setSeed(world.getSeed());
     }
 
-    private void setupSpawnLocation(World world) {
+    private void setupSpawnLocation(World world, boolean deferSpawnAdjust) {
         Location spawnLocation = worldConfig.getSpawnLocation();
-        if (spawnLocation == null || spawnLocation instanceof NullSpawnLocation) {
-            SpawnLocation newLocation = new SpawnLocation(readSpawnFromWorld(world));
-            worldConfig.setSpawnLocation(newLocation);
+        if (spawnLocation != null && !(spawnLocation instanceof NullSpawnLocation)) {
+            return;
         }
+        if (deferSpawnAdjust) {
+            worldConfig.setSpawnLocation(new SpawnLocation(world.getSpawnLocation()));
+            spawnAdjustPending = true;
+            return;
+        }
+        worldConfig.setSpawnLocation(new SpawnLocation(readSpawnFromWorld(world)));
+    }
+
+    /**
+     * Checks the spawn location read from the world for safety if that was deferred when this world was loaded, and
+     * adjusts it if needed. The safe location search is done off the main thread.
+     *
+     * @param mainThreadExecutor    Executor to run tasks on the main thread
+     * @return A future that completes once the spawn location is checked and adjusted
+     */
+    CompletableFuture<Void> adjustSpawnAsync(@NotNull Executor mainThreadExecutor) {
+        World world = getBukkitWorld().getOrNull();
+        if (!spawnAdjustPending || world == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        spawnAdjustPending = false;
+        Location location = world.getSpawnLocation();
+        if (!isSpawnAdjustNeeded(location)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return blockSafety.findSafeSpawnLocationAsync(location)
+                .thenAcceptAsync(newSpawn -> worldConfig.setSpawnLocation(new SpawnLocation(newSpawn != null
+                        ? logNewSpawn(newSpawn)
+                        : findTopBlockSpawn(world, location))), mainThreadExecutor);
     }
 
     private Location readSpawnFromWorld(World world) {
         Location location = world.getSpawnLocation();
+        if (!isSpawnAdjustNeeded(location)) {
+            return location;
+        }
+        Location newSpawn = blockSafety.findSafeSpawnLocation(location);
+        // I think we could also do this, as I think this is what Notch does.
+        // Not sure how it will work in the nether...
+        //Location newSpawn = this.spawnLocation.getWorld().getHighestBlockAt(this.spawnLocation).getLocation();
+        if (newSpawn != null) {
+            return logNewSpawn(newSpawn);
+        }
+        return findTopBlockSpawn(world, location);
+    }
 
+    private boolean isSpawnAdjustNeeded(Location location) {
         // Verify that location was safe
         if (blockSafety.canSpawnAtLocationSafely(location)) {
-            return location;
+            return false;
         }
 
         if (!this.getAdjustSpawn()) {
@@ -71,30 +131,27 @@ public final class LoadedMultiverseWorld extends MultiverseWorld {
             Logging.fine("NOT adjusting spawn for '" + this.getAliasOrName() + "' because you told me not to.");
             Logging.fine("To turn on spawn adjustment for this world simply type:");
             Logging.fine("/mvm set adjustspawn true " + this.getAliasOrName());
-            return location;
+            return false;
         }
 
         // The location is not safe, so we need to find a better one.
         Logging.warning("Spawn location from world.dat file was unsafe. Adjusting...");
         Logging.warning("Original Location: " + locationManipulation.strCoordsRaw(location));
-        Location newSpawn = blockSafety.findSafeSpawnLocation(location);
-        // I think we could also do this, as I think this is what Notch does.
-        // Not sure how it will work in the nether...
-        //Location newSpawn = this.spawnLocation.getWorld().getHighestBlockAt(this.spawnLocation).getLocation();
-        if (newSpawn != null) {
-            Logging.info("New Spawn for '%s' is located at: %s",
-                    this.getName(), locationManipulation.locationToString(newSpawn));
-            return newSpawn;
-        }
+        return true;
+    }
+
+    private Location logNewSpawn(Location newSpawn) {
+        Logging.info("New Spawn for '%s' is located at: %s",
+                this.getName(), locationManipulation.locationToString(newSpawn));
+        return newSpawn;
+    }
 
+    private Location findTopBlockSpawn(World world, Location location) {
         // If it's a standard end world, let's check in a better place:
         Logging.fine("Checking for a safe location using top block...");
-        Location newerSpawn;
-        newerSpawn = blockSafety.getTopBlock(new Location(world, 0, 0, 0));
+        Location newerSpawn = blockSafety.getTopBlock(new Location(world, 0, 0, 0));
         if (newerSpawn != null) {
-            Logging.info("New Spawn for '%s' is located at: %s",
-                    this.getName(), locationManipulation.locationToString(newerSpawn));
-            return newerSpawn;
+            return logNewSpawn(newerSpawn);
         }
 
         Logging.severe("Safe spawn NOT found!!!");
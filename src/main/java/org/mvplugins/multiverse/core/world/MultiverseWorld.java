@@ -394,6 +394,27 @@ public sealed class MultiverseWorld permits LoadedMultiverseWorld {
         return worldConfig.setHunger(hunger);
     }
 
+    /**
+     * Gets how long this world must be idle before it is unloaded automatically. A world is idle when it has no
+     * players and no plugin chunk tickets. A value of -1 or less disables idle unloading.
+     *
+     * @return The idle time in seconds
+     */
+    public int getIdleUnloadAfter() {
+        return worldConfig.getIdleUnloadAfter();
+    }
+
+    /**
+     * Sets how long this world must be idle before it is unloaded automatically. A world is idle when it has no
+     * players and no plugin chunk tickets. A value of -1 or less disables idle unloading.
+     *
+     * @param idleUnloadAfter The idle time in seconds
+     * @return Result of setting property.
+     */
+    public Try<Void> setIdleUnloadAfter(int idleUnloadAfter) {
+        return worldConfig.setIdleUnloadAfter(idleUnloadAfter);
+    }
+
     /**
      * Gets whether or not CraftBukkit is keeping the chunks for this world in memory.
      *
@@ -415,6 +436,46 @@ public sealed class MultiverseWorld permits LoadedMultiverseWorld {
         return worldConfig.setKeepSpawnInMemory(keepSpawnInMemory);
     }
 
+    /**
+     * Gets the priority of this world when auto loading worlds on startup. Worlds with a higher priority are loaded
+     * first.
+     *
+     * @return The load priority
+     */
+    public int getLoadPriority() {
+        return worldConfig.getLoadPriority();
+    }
+
+    /**
+     * Sets the priority of this world when auto loading worlds on startup. Worlds with a higher priority are loaded
+     * first.
+     *
+     * @param loadPriority The load priority
+     * @return Result of setting property.
+     */
+    public Try<Void> setLoadPriority(int loadPriority) {
+        return worldConfig.setLoadPriority(loadPriority);
+    }
+
+    /**
+     * Gets whether this world is loaded when something teleports into it while it is unloaded.
+     *
+     * @return True if the world is loaded on demand.
+     */
+    public boolean isLoadOnDemand() {
+        return worldConfig.isLoadOnDemand();
+    }
+
+    /**
+     * Sets whether this world is loaded when something teleports into it while it is unloaded.
+     *
+     * @param loadOnDemand True to load the world on demand.
+     * @return Result of setting property.
+     */
+    public Try<Void> setLoadOnDemand(boolean loadOnDemand) {
+        return worldConfig.setLoadOnDemand(loadOnDemand);
+    }
+
     /**
      * Gets the player limit for this world after which players without an override
      * permission node will not be allowed in. A value of -1 or less signifies no limit
@@ -514,6 +575,26 @@ public sealed class MultiverseWorld permits LoadedMultiverseWorld {
         return worldConfig.setPvp(pvp);
     }
 
+    /**
+     * Gets whether this world is regenerated by restoring a saved copy of it instead of generating new terrain.
+     *
+     * @return True if regen restores the world from its template.
+     */
+    public boolean isRegenTemplate() {
+        return worldConfig.isRegenTemplate();
+    }
+
+    /**
+     * Sets whether this world is regenerated by restoring a saved copy of it instead of generating new terrain.
+     * Enabling this saves a copy of the world as it is now, which is then restored on every regen.
+     *
+     * @param regenTemplate True to regen the world from its template.
+     * @return Result of setting property.
+     */
+    public Try<Void> setRegenTemplate(boolean regenTemplate) {
+        return worldConfig.setRegenTemplate(regenTemplate);
+    }
+
     /**
      * Gets the world name players will respawn in if they die in this one.
      *
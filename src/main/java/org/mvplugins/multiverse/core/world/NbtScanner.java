@@ -0,0 +1,142 @@
+package org.mvplugins.multiverse.core.world;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Reads a few numeric values out of a binary NBT stream without building the whole tag tree, skipping over everything
+ * else. This is enough for reading chunk and level data of worlds that are not loaded.
+ */
+final class NbtScanner {
+
+    private static final byte TAG_END = 0;
+    private static final byte TAG_BYTE = 1;
+    private static final byte TAG_SHORT = 2;
+    private static final byte TAG_INT = 3;
+    private static final byte TAG_LONG = 4;
+    private static final byte TAG_FLOAT = 5;
+    private static final byte TAG_DOUBLE = 6;
+    private static final byte TAG_BYTE_ARRAY = 7;
+    private static final byte TAG_STRING = 8;
+    private static final byte TAG_LIST = 9;
+    private static final byte TAG_COMPOUND = 10;
+    private static final byte TAG_INT_ARRAY = 11;
+    private static final byte TAG_LONG_ARRAY = 12;
+
+    private NbtScanner() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Finds numeric tags by name in the root compound, or in a compound directly inside the root compound. Scanning
+     * stops as soon as all names are found.
+     *
+     * @param in              The uncompressed NBT stream, starting at the root tag
+     * @param nestedCompound  The name of a compound in the root compound to also look in, such as {@code Level} for
+     *                        chunks saved before 1.18 or {@code Data} for level.dat
+     * @param names           The names of the numeric tags to find
+     * @return The values found, by name
+     * @throws IOException If the stream could not be read or is not valid NBT
+     */
+    static @NotNull Map<String, Number> findNumbers(
+            @NotNull DataInput in, @NotNull String nestedCompound, @NotNull Set<String> names) throws IOException {
+        if (in.readByte() != TAG_COMPOUND) {
+            throw new IOException("Root tag is not a compound");
+        }
+        skipFully(in, in.readUnsignedShort());
+        Map<String, Number> found = new HashMap<>();
+        scanCompound(in, nestedCompound, names, found);
+        return found;
+    }
+
+    /**
+     * Scans a compound for the given names.
+     *
+     * @return True if all names are found, in which case the rest of the stream is left unread
+     */
+    private static boolean scanCompound(
+            DataInput in, String nestedCompound, Set<String> names, Map<String, Number> found) throws IOException {
+        byte type;
+        while ((type = in.readByte()) != TAG_END) {
+            String name = in.readUTF();
+            if (type == TAG_COMPOUND && name.equals(nestedCompound)) {
+                if (scanCompound(in, "", names, found)) {
+                    return true;
+                }
+            } else if (names.contains(name) && isNumeric(type)) {
+                found.put(name, readNumber(in, type));
+                if (found.size() == names.size()) {
+                    return true;
+                }
+            } else {
+                skipPayload(in, type);
+            }
+        }
+        return false;
+    }
+
+    private static boolean isNumeric(byte type) {
+        return type >= TAG_BYTE && type <= TAG_DOUBLE;
+    }
+
+    private static Number readNumber(DataInput in, byte type) throws IOException {
+        return switch (type) {
+            case TAG_BYTE -> Byte.valueOf(in.readByte());
+            case TAG_SHORT -> Short.valueOf(in.readShort());
+            case TAG_INT -> Integer.valueOf(in.readInt());
+            case TAG_LONG -> Long.valueOf(in.readLong());
+            case TAG_FLOAT -> Float.valueOf(in.readFloat());
+            case TAG_DOUBLE -> Double.valueOf(in.readDouble());
+            default -> throw new IOException("Not a numeric tag: " + type);
+        };
+    }
+
+    private static void skipPayload(DataInput in, byte type) throws IOException {
+        switch (type) {
+            case TAG_BYTE -> skipFully(in, 1);
+            case TAG_SHORT -> skipFully(in, 2);
+            case TAG_INT, TAG_FLOAT -> skipFully(in, 4);
+            case TAG_LONG, TAG_DOUBLE -> skipFully(in, 8);
+            case TAG_BYTE_ARRAY -> skipFully(in, in.readInt());
+            case TAG_STRING -> skipFully(in, in.readUnsignedShort());
+            case TAG_LIST -> {
+                byte elementType = in.readByte();
+                int length = in.readInt();
+                for (int i = 0; i < length; i++) {
+                    skipPayload(in, elementType);
+                }
+            }
+            case TAG_COMPOUND -> {
+                byte childType;
+                while ((childType = in.readByte()) != TAG_END) {
+                    skipFully(in, in.readUnsignedShort());
+                    skipPayload(in, childType);
+                }
+            }
+            case TAG_INT_ARRAY -> skipFully(in, (long) in.readInt() * 4);
+            case TAG_LONG_ARRAY -> skipFully(in, (long) in.readInt() * 8);
+            default -> throw new IOException("Unknown tag type: " + type);
+        }
+    }
+
+    private static void skipFully(DataInput in, long count) throws IOException {
+        if (count < 0) {
+            throw new IOException("Negative length: " + count);
+        }
+        long remaining = count;
+        while (remaining > 0) {
+            int skipped = in.skipBytes((int) Math.min(remaining, Integer.MAX_VALUE));
+            if (skipped <= 0) {
+                // skipBytes may give up early, so make sure we are not at the end of the stream
+                in.readByte();
+                skipped = 1;
+            }
+            remaining -= skipped;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package org.mvplugins.multiverse.core.world;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.dumptruckman.minecraft.util.Logging;
+import io.vavr.control.Option;
+import jakarta.inject.Inject;
+import jakarta.inject.Provider;
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jvnet.hk2.annotations.Service;
+
+import org.mvplugins.multiverse.core.MultiverseCore;
+import org.mvplugins.multiverse.core.config.CoreConfig;
+import org.mvplugins.multiverse.core.teleportation.ChunkPrefetcher;
+import org.mvplugins.multiverse.core.utils.BukkitExecutors;
+import org.mvplugins.multiverse.core.utils.result.AsyncAttempt;
+import org.mvplugins.multiverse.core.utils.result.Attempt;
+import org.mvplugins.multiverse.core.world.reasons.LoadFailureReason;
+
+/**
+ * Loads unloaded worlds that have {@link MultiverseWorld#isLoadOnDemand()} enabled when something needs them, such as
+ * a teleport into the world.
+ * <br />
+ * Concurrent requests for the same world share a single in-flight load. A load completes once the world is loaded
+ * and its spawn chunks are prefetched.
+ */
+@Service
+public final class OnDemandWorldLoader {
+
+    /**
+     * How long to keep the spawn chunks of a world loaded on demand pinned, so that the teleports waiting on the
+     * load can land before the chunks are unloaded again.
+     */
+    private static final long SPAWN_PIN_TICKS = 20L * 5;
+
+    private final MultiverseCore plugin;
+    private final Provider<WorldManager> worldManagerProvider;
+    private final BukkitExecutors executors;
+    private final ChunkPrefetcher chunkPrefetcher;
+    private final CoreConfig config;
+
+    private final Map<String, CompletableFuture<Attempt<LoadedMultiverseWorld, LoadFailureReason>>> inFlightLoads =
+            new ConcurrentHashMap<>();
+
+    @Inject
+    OnDemandWorldLoader(
+            @NotNull MultiverseCore plugin,
+            @NotNull Provider<WorldManager> worldManagerProvider,
+            @NotNull BukkitExecutors executors,
+            @NotNull ChunkPrefetcher chunkPrefetcher,
+            @NotNull CoreConfig config) {
+        this.plugin = plugin;
+        this.worldManagerProvider = worldManagerProvider;
+        this.executors = executors;
+        this.chunkPrefetcher = chunkPrefetcher;
+        this.config = config;
+    }
+
+    /**
+     * Gets the unloaded world with the given name if it can be loaded on demand.
+     *
+     * @param worldName The name of the world
+     * @return The unloaded world, or none if it does not exist, is already loaded or does not load on demand
+     */
+    public @NotNull Option<MultiverseWorld> getLoadableWorld(@Nullable String worldName) {
+        return worldManagerProvider.get().getUnloadedWorld(worldName)
+                .filter(MultiverseWorld::isLoadOnDemand);
+    }
+
+    /**
+     * Loads the world if it is not loaded yet, and prefetches its spawn chunks. If the world is already being loaded,
+     * the in-flight load is returned instead of starting a new one.
+     *
+     * @param world The world to load
+     * @return The result of the load
+     */
+    public @NotNull AsyncAttempt<LoadedMultiverseWorld, LoadFailureReason> loadWorld(@NotNull MultiverseWorld world) {
+        Option<LoadedMultiverseWorld> loadedWorld = worldManagerProvider.get().getLoadedWorld(world.getName());
+        if (loadedWorld.isDefined()) {
+            return AsyncAttempt.fromAttempt(Attempt.success(loadedWorld.get()));
+        }
+        CompletableFuture<Attempt<LoadedMultiverseWorld, LoadFailureReason>> newLoad = new CompletableFuture<>();
+        CompletableFuture<Attempt<LoadedMultiverseWorld, LoadFailureReason>> inFlightLoad =
+                inFlightLoads.putIfAbsent(world.getName(), newLoad);
+        if (inFlightLoad != null) {
+            Logging.finer("Joining in-flight on demand load of world '%s'.", world.getName());
+            return toAsyncAttempt(inFlightLoad);
+        }
+        executors.mainThread().execute(() -> doLoadWorld(world, newLoad));
+        return toAsyncAttempt(newLoad);
+    }
+
+    private void doLoadWorld(
+            MultiverseWorld world,
+            CompletableFuture<Attempt<LoadedMultiverseWorld, LoadFailureReason>> load) {
+        long startTime = System.nanoTime();
+        WorldManager worldManager = worldManagerProvider.get();
+        Attempt<LoadedMultiverseWorld, LoadFailureReason> result = worldManager.getLoadedWorld(world.getName())
+                .map(Attempt::<LoadedMultiverseWorld, LoadFailureReason>success)
+                .getOrElse(() -> worldManager.loadWorld(world));
+        if (result.isFailure()) {
+            Logging.warning("Failed to load world '%s' on demand: %s", world.getName(), result.getFailureReason());
+            completeLoad(world, load, result);
+            return;
+        }
+        chunkPrefetcher.prefetch(result.get().getSpawnLocation(), config.getPrefetchChunkRadius())
+                .thenAccept(prefetchedChunks -> {
+                    Bukkit.getScheduler().runTaskLater(plugin, prefetchedChunks::release, SPAWN_PIN_TICKS);
+                    Logging.fine("Loaded world '%s' on demand in %d ms.", world.getName(),
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+                    completeLoad(world, load, result);
+                });
+    }
+
+    private void completeLoad(
+            MultiverseWorld world,
+            CompletableFuture<Attempt<LoadedMultiverseWorld, LoadFailureReason>> load,
+            Attempt<LoadedMultiverseWorld, LoadFailureReason> result) {
+        inFlightLoads.remove(world.getName(), load);
+        load.complete(result);
+    }
+
+    private AsyncAttempt<LoadedMultiverseWorld, LoadFailureReason> toAsyncAttempt(
+            CompletableFuture<Attempt<LoadedMultiverseWorld, LoadFailureReason>> load) {
+        return AsyncAttempt.<Attempt<LoadedMultiverseWorld, LoadFailureReason>, LoadFailureReason>of(
+                        load, exception -> Attempt.failure(LoadFailureReason.WORLD_CREATOR_FAILED))
+                .mapAttempt(result -> result);
+    }
+}
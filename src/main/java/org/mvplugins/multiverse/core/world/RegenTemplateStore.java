@@ -0,0 +1,171 @@
+package org.mvplugins.multiverse.core.world;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import com.dumptruckman.minecraft.util.Logging;
+import io.vavr.control.Try;
+import jakarta.inject.Inject;
+import org.jetbrains.annotations.NotNull;
+import org.jvnet.hk2.annotations.Service;
+
+import org.mvplugins.multiverse.core.MultiverseCore;
+import org.mvplugins.multiverse.core.utils.BukkitExecutors;
+import org.mvplugins.multiverse.core.utils.FileUtils;
+import org.mvplugins.multiverse.core.utils.ParallelFolderCopier;
+
+/**
+ * Stores the saved copies of worlds with {@link MultiverseWorld#isRegenTemplate()} enabled, which are restored instead
+ * of generating new terrain when the world is regenerated.
+ * <br />
+ * Templates are written to a partial folder first and moved into place once complete, so a template that exists is
+ * always whole. Writes of the same template are done one after another.
+ */
+@Service
+final class RegenTemplateStore {
+
+    private static final String TEMPLATES_FOLDER_NAME = "regen-templates";
+    private static final String PARTIAL_SUFFIX = ".partial";
+
+    private final Path templatesFolder;
+    private final ParallelFolderCopier folderCopier;
+    private final FileUtils fileUtils;
+    private final BukkitExecutors executors;
+
+    private final Map<String, CompletableFuture<Void>> pendingWrites = new ConcurrentHashMap<>();
+
+    @Inject
+    RegenTemplateStore(
+            @NotNull MultiverseCore plugin,
+            @NotNull ParallelFolderCopier folderCopier,
+            @NotNull FileUtils fileUtils,
+            @NotNull BukkitExecutors executors) {
+        this.templatesFolder = plugin.getDataFolder().toPath().resolve(TEMPLATES_FOLDER_NAME);
+        this.folderCopier = folderCopier;
+        this.fileUtils = fileUtils;
+        this.executors = executors;
+    }
+
+    /**
+     * Checks if a template exists or is being written for the given world.
+     *
+     * @param worldName The name of the world
+     * @return True if the world has a template
+     */
+    boolean hasTemplate(@NotNull String worldName) {
+        return pendingWrites.containsKey(worldName) || Files.isDirectory(getTemplateFolder(worldName));
+    }
+
+    /**
+     * Copies a world folder as the world's template, replacing any existing template. The world should be saved, and
+     * not be auto-saved until the returned future completes.
+     *
+     * @param worldName     The name of the world
+     * @param worldFolder   The folder of the world to copy
+     * @param excludeFiles  The files in the world folder that should not be copied
+     * @return A future that completes once the template is written
+     */
+    CompletableFuture<Void> createTemplate(
+            @NotNull String worldName,
+            @NotNull Path worldFolder,
+            @NotNull List<String> excludeFiles) {
+        Path partialFolder = templatesFolder.resolve(worldName + PARTIAL_SUFFIX);
+        Path templateFolder = getTemplateFolder(worldName);
+        return trackWrite(worldName, () -> CompletableFuture
+                .runAsync(() -> {
+                    deleteIfExists(partialFolder);
+                    Try.run(() -> Files.createDirectories(templatesFolder)).getOrElseThrow(CompletionException::new);
+                }, executors.async())
+                .thenCompose(ignore -> folderCopier.copyFolder(worldFolder, partialFolder, excludeFiles, null))
+                .thenRun(() -> {
+                    deleteIfExists(templateFolder);
+                    try {
+                        Files.move(partialFolder, templateFolder, StandardCopyOption.ATOMIC_MOVE);
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                    Logging.fine("Saved regen template of world '%s'.", worldName);
+                }));
+    }
+
+    /**
+     * Deletes the template of the given world, if any.
+     *
+     * @param worldName The name of the world
+     * @return A future that completes once the template is deleted
+     */
+    CompletableFuture<Void> deleteTemplate(@NotNull String worldName) {
+        return trackWrite(worldName, () -> CompletableFuture
+                .runAsync(() -> deleteIfExists(getTemplateFolder(worldName)), executors.async()));
+    }
+
+    /**
+     * Gets a future that completes once any pending write of the given world's template is done, with whether the
+     * template exists. A failed write is logged rather than failing the future.
+     *
+     * @param worldName The name of the world
+     * @return A future that completes with true if the world has a complete template
+     */
+    CompletableFuture<Boolean> whenTemplateReady(@NotNull String worldName) {
+        return whenWritten(worldName).handle((ignore, exception) -> {
+            if (exception != null) {
+                Logging.warning("Failed to save regen template of world '%s': %s", worldName, exception.getMessage());
+            }
+            return Files.isDirectory(getTemplateFolder(worldName));
+        });
+    }
+
+    /**
+     * Gets a future that completes once any pending write of the given world's template is done.
+     *
+     * @param worldName The name of the world
+     * @return The pending write, or a completed future if there is none
+     */
+    CompletableFuture<Void> whenWritten(@NotNull String worldName) {
+        return pendingWrites.getOrDefault(worldName, CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * Copies the template of the given world into the target folder in the background. Wait for
+     * {@link #whenTemplateReady(String)} first.
+     *
+     * @param worldName     The name of the world
+     * @param targetFolder  The folder to restore the template into, which should not exist yet
+     * @return A future that completes once the template is restored
+     */
+    CompletableFuture<Void> restoreTemplate(@NotNull String worldName, @NotNull Path targetFolder) {
+        return folderCopier.copyFolder(getTemplateFolder(worldName), targetFolder, List.of(), null)
+                .thenAccept(progress -> { });
+    }
+
+    /**
+     * Starts a write once any previous write of the same template is done, so that writes never overlap.
+     */
+    private CompletableFuture<Void> trackWrite(String worldName, Supplier<CompletableFuture<Void>> write) {
+        CompletableFuture<Void> previousWrite = pendingWrites.get(worldName);
+        CompletableFuture<Void> chainedWrite = previousWrite == null
+                ? write.get()
+                : previousWrite.exceptionally(ignore -> null).thenCompose(ignore -> write.get());
+        pendingWrites.put(worldName, chainedWrite);
+        chainedWrite.whenComplete((ignore, exception) -> pendingWrites.remove(worldName, chainedWrite));
+        return chainedWrite;
+    }
+
+    private void deleteIfExists(Path folder) {
+        if (Files.exists(folder)) {
+            fileUtils.deleteFolder(folder).getOrElseThrow(CompletionException::new);
+        }
+    }
+
+    private Path getTemplateFolder(String worldName) {
+        return templatesFolder.resolve(worldName);
+    }
+}
@@ -0,0 +1,364 @@
+package org.mvplugins.multiverse.core.world;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import io.vavr.control.Option;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Rewrites Anvil region files without some of their chunks, and without the unused sectors left behind when chunks
+ * grow or are removed.
+ * <br />
+ * A region file starts with a header of chunk locations and timestamps for its 32x32 chunks, followed by the chunk data
+ * in 4 KiB sectors. Each chunk starts with its length and compression type. Chunks too large for the region file are
+ * stored in a separate {@code c.<x>.<z>.mcc} file next to it.
+ * <br />
+ * The chunks of a region file can also be read and written as a whole, which world snapshots use to store region files
+ * chunk by chunk.
+ */
+final class RegionFileCompactor {
+
+    static final int CHUNKS_PER_REGION = 1024;
+
+    private static final int SECTOR_BYTES = 4096;
+    private static final int HEADER_BYTES = SECTOR_BYTES * 2;
+    private static final int MAX_SECTORS_PER_CHUNK = 255;
+    private static final int CHUNK_HEADER_BYTES = 5;
+    private static final int EXTERNAL_FLAG = 0x80;
+    private static final byte COMPRESSION_GZIP = 1;
+    private static final byte COMPRESSION_ZLIB = 2;
+    private static final byte COMPRESSION_NONE = 3;
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private RegionFileCompactor() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Decides which chunks to remove from a region file.
+     */
+    @FunctionalInterface
+    interface ChunkFilter {
+        /**
+         * Checks if a chunk should be removed.
+         *
+         * @param chunkX    The x coordinate of the chunk
+         * @param chunkZ    The z coordinate of the chunk
+         * @param chunkData The chunk data, starting at the compression type
+         * @return True if the chunk should be removed
+         * @throws IOException If the chunk data could not be read, in which case the chunk is kept
+         */
+        boolean shouldRemove(int chunkX, int chunkZ, @NotNull ByteBuffer chunkData) throws IOException;
+    }
+
+    /**
+     * The result of compacting a region file.
+     *
+     * @param removedChunks The indexes of the removed chunks, see {@link #chunkIndex(int, int)}
+     * @param bytesBefore   The size of the region file and removed external chunk files before compacting
+     * @param bytesAfter    The size of the region file after compacting
+     */
+    record CompactResult(@NotNull BitSet removedChunks, long bytesBefore, long bytesAfter) {
+        long bytesReclaimed() {
+            return bytesBefore - bytesAfter;
+        }
+    }
+
+    /**
+     * Gets the index of a chunk in its region file.
+     *
+     * @param chunkX    The x coordinate of the chunk
+     * @param chunkZ    The z coordinate of the chunk
+     * @return The index of the chunk
+     */
+    static int chunkIndex(int chunkX, int chunkZ) {
+        return (chunkX & 31) + (chunkZ & 31) * 32;
+    }
+
+    /**
+     * Removes the chunks matching the filter from a region file, and writes the remaining chunks back to back. The
+     * new region file is written next to the old one and moved over it atomically, so the region file is never left
+     * half written. A region file without any remaining chunks is deleted. The file is left untouched if there is
+     * nothing to remove or compact, or if a chunk location in its header points outside of the file.
+     *
+     * @param regionFile    The region file
+     * @param regionX       The x coordinate of the region
+     * @param regionZ       The z coordinate of the region
+     * @param filter        Decides which chunks to remove
+     * @return The result of the compaction
+     * @throws IOException If the region file could not be read or written
+     */
+    static @NotNull CompactResult compact(
+            @NotNull Path regionFile, int regionX, int regionZ, @NotNull ChunkFilter filter) throws IOException {
+        long sizeBefore = Files.size(regionFile);
+        BitSet removedChunks = new BitSet(CHUNKS_PER_REGION);
+        if (sizeBefore < HEADER_BYTES) {
+            return new CompactResult(removedChunks, sizeBefore, sizeBefore);
+        }
+
+        // Read the file onto the heap rather than mapping it, a mapped file can't be replaced or deleted on Windows
+        // until the mapping is garbage collected
+        ByteBuffer file = readFile(regionFile, sizeBefore);
+        List<Path> removedExternalFiles = new ArrayList<>();
+        List<RegionChunk> keptChunks = new ArrayList<>();
+        long compactedSize = HEADER_BYTES;
+        for (int index = 0; index < CHUNKS_PER_REGION; index++) {
+            ByteBuffer chunk = readChunk(file, index);
+            if (chunk == null) {
+                if (file.getInt(index * 4) != 0) {
+                    // The header is corrupt, rewriting the file would drop whatever the location meant to point to
+                    return new CompactResult(new BitSet(CHUNKS_PER_REGION), sizeBefore, sizeBefore);
+                }
+                continue;
+            }
+            int chunkX = regionX * 32 + (index & 31);
+            int chunkZ = regionZ * 32 + (index >> 5);
+            if (shouldRemove(filter, chunkX, chunkZ, chunk)) {
+                removedChunks.set(index);
+                if (isExternal(chunk)) {
+                    removedExternalFiles.add(getExternalFile(regionFile, chunkX, chunkZ));
+                }
+                continue;
+            }
+            keptChunks.add(new RegionChunk(index, file.getInt(SECTOR_BYTES + index * 4), chunk));
+            compactedSize += (long) sectorsFor(chunk) * SECTOR_BYTES;
+        }
+        if (removedChunks.isEmpty() && compactedSize == sizeBefore) {
+            return new CompactResult(removedChunks, sizeBefore, sizeBefore);
+        }
+
+        long externalBytes = 0;
+        for (Path externalFile : removedExternalFiles) {
+            if (Files.exists(externalFile)) {
+                externalBytes += Files.size(externalFile);
+            }
+        }
+        long sizeAfter;
+        if (keptChunks.isEmpty()) {
+            Files.delete(regionFile);
+            sizeAfter = 0;
+        } else {
+            Path tempFile = regionFile.resolveSibling(regionFile.getFileName() + TEMP_SUFFIX);
+            try {
+                writeRegionFile(tempFile, keptChunks);
+                Files.move(tempFile, regionFile, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                // Only left behind if writing or moving it failed
+                Files.deleteIfExists(tempFile);
+            }
+            sizeAfter = Files.size(regionFile);
+        }
+        for (Path externalFile : removedExternalFiles) {
+            Files.deleteIfExists(externalFile);
+        }
+        return new CompactResult(removedChunks, sizeBefore + externalBytes, sizeAfter);
+    }
+
+    /**
+     * Reads all chunks of a region file. The chunk data is copied onto the heap, so the file can be replaced or
+     * deleted while the chunks are still in use.
+     *
+     * @param regionFile    The region file
+     * @return The chunks present in the region file, in index order
+     * @throws IOException If the region file could not be read
+     */
+    static @NotNull List<RegionChunk> readChunks(@NotNull Path regionFile) throws IOException {
+        long size = Files.size(regionFile);
+        List<RegionChunk> chunks = new ArrayList<>();
+        if (size < HEADER_BYTES) {
+            return chunks;
+        }
+        ByteBuffer file = readFile(regionFile, size);
+        for (int index = 0; index < CHUNKS_PER_REGION; index++) {
+            ByteBuffer chunk = readChunk(file, index);
+            if (chunk != null) {
+                chunks.add(new RegionChunk(index, file.getInt(SECTOR_BYTES + index * 4), chunk));
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * Opens the uncompressed NBT data of a chunk, reading it from its external file if needed.
+     *
+     * @param regionFile    The region file the chunk is in
+     * @param chunkX        The x coordinate of the chunk
+     * @param chunkZ        The z coordinate of the chunk
+     * @param chunkData     The chunk data, starting at the compression type
+     * @return The NBT stream, or none if the chunk uses an unsupported compression
+     * @throws IOException If the external chunk file could not be opened
+     */
+    static @NotNull Option<DataInputStream> openChunkData(
+            @NotNull Path regionFile, int chunkX, int chunkZ, @NotNull ByteBuffer chunkData) throws IOException {
+        ByteBuffer data = chunkData.duplicate();
+        byte compressionType = data.get();
+        InputStream compressedStream = (compressionType & EXTERNAL_FLAG) != 0
+                ? Files.newInputStream(getExternalFile(regionFile, chunkX, chunkZ))
+                : new ByteBufferInputStream(data);
+        InputStream uncompressedStream = switch ((byte) (compressionType & ~EXTERNAL_FLAG)) {
+            case COMPRESSION_GZIP -> new GZIPInputStream(compressedStream);
+            case COMPRESSION_ZLIB -> new InflaterInputStream(compressedStream);
+            case COMPRESSION_NONE -> compressedStream;
+            default -> null;
+        };
+        if (uncompressedStream == null) {
+            compressedStream.close();
+            return Option.none();
+        }
+        return Option.of(new DataInputStream(new BufferedInputStream(uncompressedStream)));
+    }
+
+    /**
+     * Reads a whole region file onto the heap.
+     */
+    private static ByteBuffer readFile(Path regionFile, long size) throws IOException {
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Region file is too large: " + size + " bytes");
+        }
+        ByteBuffer file = ByteBuffer.allocate((int) size);
+        try (FileChannel channel = FileChannel.open(regionFile, StandardOpenOption.READ)) {
+            while (file.hasRemaining()) {
+                if (channel.read(file) < 0) {
+                    throw new IOException("Region file got shorter while reading it");
+                }
+            }
+        }
+        return file.clear();
+    }
+
+    /**
+     * Reads the data of a chunk, from its length field up to the end of its data.
+     *
+     * @return The chunk data, or null if the chunk is not present or its location points outside of the file
+     */
+    private static ByteBuffer readChunk(ByteBuffer file, int index) {
+        int location = file.getInt(index * 4);
+        if (location == 0) {
+            return null;
+        }
+        long start = (long) (location >>> 8) * SECTOR_BYTES;
+        long declaredEnd = Math.min(file.limit(), start + (long) (location & 0xFF) * SECTOR_BYTES);
+        if (start < HEADER_BYTES || start + CHUNK_HEADER_BYTES > declaredEnd) {
+            return null;
+        }
+        int length = file.getInt((int) start);
+        long end = length > 0 && start + 4 + length <= declaredEnd
+                ? start + 4 + length
+                // Unknown length, keep all the sectors the header points to
+                : declaredEnd;
+        return file.slice((int) start, (int) (end - start));
+    }
+
+    private static boolean shouldRemove(ChunkFilter filter, int chunkX, int chunkZ, ByteBuffer chunk) {
+        int length = chunk.getInt(0);
+        if (length <= 0 || 4 + length != chunk.limit()) {
+            // Can't tell where the data ends, so don't risk touching it
+            return false;
+        }
+        try {
+            return filter.shouldRemove(chunkX, chunkZ, chunk.slice(4, length));
+        } catch (IOException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static boolean isExternal(ByteBuffer chunk) {
+        return (chunk.get(4) & EXTERNAL_FLAG) != 0;
+    }
+
+    private static Path getExternalFile(Path regionFile, int chunkX, int chunkZ) {
+        return regionFile.resolveSibling("c." + chunkX + "." + chunkZ + ".mcc");
+    }
+
+    private static int sectorsFor(ByteBuffer chunk) {
+        return (chunk.limit() + SECTOR_BYTES - 1) / SECTOR_BYTES;
+    }
+
+    /**
+     * Writes a region file with the given chunks back to back, replacing the file if it exists.
+     *
+     * @param file      The region file to write
+     * @param chunks    The chunks to write
+     * @throws IOException If the region file could not be written, in which case it is deleted
+     */
+    static void writeRegionFile(@NotNull Path file, @NotNull List<RegionChunk> chunks) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        int nextSector = HEADER_BYTES / SECTOR_BYTES;
+        for (RegionChunk chunk : chunks) {
+            int sectors = sectorsFor(chunk.data());
+            if (sectors > MAX_SECTORS_PER_CHUNK) {
+                throw new IOException("Chunk " + chunk.index() + " is too large for a region file");
+            }
+            header.putInt(chunk.index() * 4, nextSector << 8 | sectors);
+            header.putInt(SECTOR_BYTES + chunk.index() * 4, chunk.timestamp());
+            nextSector += sectors;
+        }
+
+        try (FileChannel out = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(out, header);
+            for (RegionChunk chunk : chunks) {
+                writeFully(out, chunk.data().duplicate());
+                int padding = sectorsFor(chunk.data()) * SECTOR_BYTES - chunk.data().limit();
+                writeFully(out, ByteBuffer.allocate(padding));
+            }
+            out.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    private static void writeFully(FileChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    /**
+     * A chunk in a region file.
+     *
+     * @param index     The index of the chunk, see {@link #chunkIndex(int, int)}
+     * @param timestamp The time the chunk was last saved, in seconds
+     * @param data      The chunk data, starting at its length
+     */
+    record RegionChunk(int index, int timestamp, @NotNull ByteBuffer data) {
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+    }
+}
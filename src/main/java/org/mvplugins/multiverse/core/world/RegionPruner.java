@@ -0,0 +1,271 @@
+package org.mvplugins.multiverse.core.world;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import com.dumptruckman.minecraft.util.Logging;
+import io.vavr.control.Option;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Provider;
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+import org.jvnet.hk2.annotations.Service;
+
+import org.mvplugins.multiverse.core.locale.message.MessageReplacement.Replace;
+import org.mvplugins.multiverse.core.utils.result.AsyncAttempt;
+import org.mvplugins.multiverse.core.utils.result.Attempt;
+import org.mvplugins.multiverse.core.world.helpers.WorldNameChecker;
+import org.mvplugins.multiverse.core.world.options.PruneWorldOptions;
+import org.mvplugins.multiverse.core.world.reasons.PruneFailureReason;
+
+/**
+ * Shrinks the folders of unloaded worlds by removing chunks that are outside the world border, or that players have
+ * barely spent any time near, which are generated again if ever visited. Removed chunks are also removed from the
+ * entity and poi region files, and every region file is rewritten without unused sectors.
+ * <br />
+ * Region files are processed in parallel on a small worker pool, and are each replaced atomically, so a crash while
+ * pruning leaves every region file either as it was or fully pruned. The world cannot be loaded while it is pruned.
+ */
+@Service
+public final class RegionPruner {
+
+    private static final int MAX_WORKERS = 4;
+    private static final Pattern REGION_FILE_NAME = Pattern.compile("r\\.(-?\\d+)\\.(-?\\d+)\\.mca");
+    private static final List<String> DIMENSION_FOLDERS = List.of("", "DIM-1", "DIM1");
+    private static final String REGION_FOLDER = "region";
+    private static final List<String> CHUNK_DATA_FOLDERS = List.of("entities", "poi");
+    private static final String INHABITED_TIME = "InhabitedTime";
+    private static final String BORDER_CENTER_X = "BorderCenterX";
+    private static final String BORDER_CENTER_Z = "BorderCenterZ";
+    private static final String BORDER_SIZE = "BorderSize";
+
+    private final Provider<WorldManager> worldManagerProvider;
+    private final WorldNameChecker worldNameChecker;
+    private final ExecutorService workers;
+
+    private final Set<String> pruningWorlds = ConcurrentHashMap.newKeySet();
+
+    @Inject
+    RegionPruner(@NotNull Provider<WorldManager> worldManagerProvider, @NotNull WorldNameChecker worldNameChecker) {
+        this.worldManagerProvider = worldManagerProvider;
+        this.worldNameChecker = worldNameChecker;
+        int workerCount = Math.max(1, Math.min(MAX_WORKERS, Runtime.getRuntime().availableProcessors() / 2));
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "Multiverse-RegionPruner-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * Prunes the chunks of an unloaded world. Must be called on the main thread.
+     *
+     * @param options   The options for customizing the pruning.
+     * @return The result of the pruning, which completes once all region files are processed.
+     */
+    public AsyncAttempt<PruneResult, PruneFailureReason> pruneWorld(@NotNull PruneWorldOptions options) {
+        String worldName = options.world().getName();
+        WorldManager worldManager = worldManagerProvider.get();
+        if (!worldManager.isWorld(worldName)) {
+            return pruneFailure(PruneFailureReason.WORLD_NON_EXISTENT, worldName);
+        }
+        if (worldManager.isLoadedWorld(worldName)) {
+            return pruneFailure(PruneFailureReason.WORLD_LOADED, worldName);
+        }
+        File worldFolder = new File(Bukkit.getWorldContainer(), worldName);
+        if (!worldNameChecker.isValidWorldFolder(worldFolder)) {
+            return pruneFailure(PruneFailureReason.WORLD_FOLDER_NOT_FOUND, worldName);
+        }
+        if (!pruningWorlds.add(worldName)) {
+            return pruneFailure(PruneFailureReason.PRUNE_IN_PROGRESS, worldName);
+        }
+
+        long startTime = System.nanoTime();
+        Path worldPath = worldFolder.toPath();
+        CompletableFuture<PruneResult> pruning = CompletableFuture
+                .supplyAsync(() -> options.pruneOutsideWorldBorder() ? readWorldBorder(worldPath) : null, workers)
+                .thenCompose(border -> {
+                    List<CompletableFuture<PruneResult>> regionResults = findRegionFiles(worldPath).stream()
+                            .map(regionFile -> CompletableFuture.supplyAsync(
+                                    () -> pruneRegionFile(regionFile, border, options.minInhabitedTicks()), workers))
+                            .toList();
+                    return CompletableFuture.allOf(regionResults.toArray(CompletableFuture[]::new))
+                            .thenApply(ignore -> regionResults.stream()
+                                    .map(CompletableFuture::join)
+                                    .reduce(PruneResult.EMPTY, PruneResult::plus));
+                })
+                .whenComplete((result, exception) -> pruningWorlds.remove(worldName));
+
+        return AsyncAttempt.<PruneResult, PruneFailureReason>of(pruning, exception -> {
+            Logging.severe("Failed to prune world '%s': %s", worldName, exception.getMessage());
+            return Attempt.failure(PruneFailureReason.PRUNE_FAILED, Replace.WORLD.with(worldName));
+        }).onSuccess(result -> Logging.info(
+                "Pruned world '%s' in %d ms: removed %d chunks from %d region files, reclaimed %d bytes.",
+                worldName, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), result.removedChunks(),
+                result.regionFiles(), result.bytesReclaimed()));
+    }
+
+    /**
+     * Checks if a world is being pruned. A world must not be loaded while it is being pruned.
+     *
+     * @param worldName The name of the world.
+     * @return True if the world is being pruned.
+     */
+    public boolean isPruning(@NotNull String worldName) {
+        return pruningWorlds.contains(worldName);
+    }
+
+    private AsyncAttempt<PruneResult, PruneFailureReason> pruneFailure(PruneFailureReason reason, String worldName) {
+        return AsyncAttempt.fromAttempt(Attempt.failure(reason, Replace.WORLD.with(worldName)));
+    }
+
+    private WorldBorder readWorldBorder(Path worldFolder) {
+        Path levelDat = worldFolder.resolve("level.dat");
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(Files.newInputStream(levelDat)))) {
+            Map<String, Number> values = NbtScanner.findNumbers(in, "Data",
+                    Set.of(BORDER_CENTER_X, BORDER_CENTER_Z, BORDER_SIZE));
+            if (!values.containsKey(BORDER_SIZE)) {
+                return null;
+            }
+            return new WorldBorder(
+                    values.getOrDefault(BORDER_CENTER_X, 0).doubleValue(),
+                    values.getOrDefault(BORDER_CENTER_Z, 0).doubleValue(),
+                    values.get(BORDER_SIZE).doubleValue());
+        } catch (IOException e) {
+            Logging.warning("Failed to read the world border from %s, chunks outside of it will be kept: %s",
+                    levelDat, e.getMessage());
+            return null;
+        }
+    }
+
+    private List<Path> findRegionFiles(Path worldFolder) {
+        List<Path> regionFiles = new ArrayList<>();
+        for (String dimensionFolder : DIMENSION_FOLDERS) {
+            Path regionFolder = worldFolder.resolve(dimensionFolder).resolve(REGION_FOLDER);
+            if (!Files.isDirectory(regionFolder)) {
+                continue;
+            }
+            try (Stream<Path> files = Files.list(regionFolder)) {
+                files.filter(file -> REGION_FILE_NAME.matcher(file.getFileName().toString()).matches())
+                        .forEach(regionFiles::add);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }
+        return regionFiles;
+    }
+
+    /**
+     * Prunes a terrain region file, then removes the same chunks from the matching entity and poi region files. A
+     * region file that fails is logged and skipped, so that one corrupt file does not stop the whole world.
+     */
+    private PruneResult pruneRegionFile(Path regionFile, WorldBorder border, long minInhabitedTicks) {
+        Matcher matcher = REGION_FILE_NAME.matcher(regionFile.getFileName().toString());
+        if (!matcher.matches()) {
+            return PruneResult.EMPTY;
+        }
+        int regionX = Integer.parseInt(matcher.group(1));
+        int regionZ = Integer.parseInt(matcher.group(2));
+        try {
+            RegionFileCompactor.CompactResult terrainResult = RegionFileCompactor.compact(regionFile, regionX, regionZ,
+                    (chunkX, chunkZ, chunkData) -> shouldRemoveChunk(
+                            regionFile, chunkX, chunkZ, chunkData, border, minInhabitedTicks));
+            BitSet removedChunks = terrainResult.removedChunks();
+            long bytesReclaimed = terrainResult.bytesReclaimed();
+            for (String chunkDataFolder : CHUNK_DATA_FOLDERS) {
+                Path chunkDataFile = regionFile.getParent().resolveSibling(chunkDataFolder)
+                        .resolve(regionFile.getFileName());
+                if (Files.exists(chunkDataFile)) {
+                    bytesReclaimed += RegionFileCompactor.compact(chunkDataFile, regionX, regionZ,
+                                    (chunkX, chunkZ, chunkData) -> removedChunks.get(
+                                            RegionFileCompactor.chunkIndex(chunkX, chunkZ)))
+                            .bytesReclaimed();
+                }
+            }
+            return new PruneResult(1, removedChunks.cardinality(), bytesReclaimed, 0);
+        } catch (IOException e) {
+            Logging.warning("Failed to prune region file %s, it was left as it was: %s", regionFile, e.getMessage());
+            return new PruneResult(0, 0, 0, 1);
+        }
+    }
+
+    private boolean shouldRemoveChunk(
+            Path regionFile, int chunkX, int chunkZ, ByteBuffer chunkData, WorldBorder border, long minInhabitedTicks)
+            throws IOException {
+        if (border != null && border.isOutside(chunkX, chunkZ)) {
+            return true;
+        }
+        if (minInhabitedTicks <= 0) {
+            return false;
+        }
+        Option<DataInputStream> chunkStream = RegionFileCompactor.openChunkData(regionFile, chunkX, chunkZ, chunkData);
+        if (chunkStream.isEmpty()) {
+            return false;
+        }
+        try (DataInputStream in = chunkStream.get()) {
+            Number inhabitedTime = NbtScanner.findNumbers(in, "Level", Set.of(INHABITED_TIME))
+                    .get(INHABITED_TIME);
+            return inhabitedTime != null && inhabitedTime.longValue() < minInhabitedTicks;
+        }
+    }
+
+    /**
+     * The world border saved in a world's level.dat.
+     */
+    private record WorldBorder(double centerX, double centerZ, double size) {
+        private boolean isOutside(int chunkX, int chunkZ) {
+            double radius = size / 2;
+            double minBlockX = chunkX * 16.0;
+            double minBlockZ = chunkZ * 16.0;
+            return minBlockX + 16 <= centerX - radius || minBlockX >= centerX + radius
+                    || minBlockZ + 16 <= centerZ - radius || minBlockZ >= centerZ + radius;
+        }
+    }
+
+    /**
+     * The result of pruning a world.
+     *
+     * @param regionFiles       The number of terrain region files processed
+     * @param removedChunks     The number of chunks removed
+     * @param bytesReclaimed    The number of bytes freed on disk, including entity and poi region files
+     * @param failedRegionFiles The number of region files that could not be processed and were left as they were
+     */
+    public record PruneResult(int regionFiles, int removedChunks, long bytesReclaimed, int failedRegionFiles) {
+        private static final PruneResult EMPTY = new PruneResult(0, 0, 0, 0);
+
+        private PruneResult plus(PruneResult other) {
+            return new PruneResult(
+                    regionFiles + other.regionFiles,
+                    removedChunks + other.removedChunks,
+                    bytesReclaimed + other.bytesReclaimed,
+                    failedRegionFiles + other.failedRegionFiles);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package org.mvplugins.multiverse.core.world;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.dumptruckman.minecraft.util.Logging;
+import jakarta.inject.Inject;
+import jakarta.inject.Provider;
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+import org.jvnet.hk2.annotations.Service;
+
+import org.mvplugins.multiverse.core.MultiverseCore;
+import org.mvplugins.multiverse.core.config.CoreConfig;
+import org.mvplugins.multiverse.core.utils.BukkitExecutors;
+import org.mvplugins.multiverse.core.world.helpers.WorldNameChecker;
+
+/**
+ * Loads the auto load worlds when the server starts, in stages:
+ * <ol>
+ *     <li>World folders and level.dat files are validated in parallel before any world is loaded.</li>
+ *     <li>Worlds are created on the main thread in order of their {@link MultiverseWorld#getLoadPriority()},
+ *     spread across ticks if {@link CoreConfig#getStartupWorldsPerTick()} is set.</li>
+ *     <li>Spawn locations of newly loaded worlds are checked for safety asynchronously.</li>
+ * </ol>
+ * The worlds config is saved once at the end, instead of after every world.
+ */
+@Service
+final class StartupWorldLoader {
+
+    private final MultiverseCore plugin;
+    private final Provider<WorldManager> worldManagerProvider;
+    private final WorldNameChecker worldNameChecker;
+    private final BukkitExecutors executors;
+    private final CoreConfig config;
+
+    @Inject
+    StartupWorldLoader(
+            @NotNull MultiverseCore plugin,
+            @NotNull Provider<WorldManager> worldManagerProvider,
+            @NotNull WorldNameChecker worldNameChecker,
+            @NotNull BukkitExecutors executors,
+            @NotNull CoreConfig config) {
+        this.plugin = plugin;
+        this.worldManagerProvider = worldManagerProvider;
+        this.worldNameChecker = worldNameChecker;
+        this.executors = executors;
+        this.config = config;
+    }
+
+    /**
+     * Loads the given worlds. Must be called on the main thread.
+     *
+     * @param worlds    The worlds to load
+     * @return A future that completes once all worlds are loaded and their spawns checked
+     */
+    CompletableFuture<Void> loadWorlds(@NotNull List<MultiverseWorld> worlds) {
+        if (worlds.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long startTime = System.nanoTime();
+        Logging.config("Loading %d worlds...", worlds.size());
+        validateWorldFolders(worlds);
+
+        List<MultiverseWorld> loadOrder = new ArrayList<>(worlds);
+        loadOrder.sort(Comparator.comparingInt(MultiverseWorld::getLoadPriority).reversed());
+
+        LoadProgress progress = new LoadProgress(loadOrder, startTime);
+        int worldsPerTick = config.getStartupWorldsPerTick();
+        if (worldsPerTick <= 0) {
+            progress.loadNext(loadOrder.size());
+        } else {
+            progress.loadNext(worldsPerTick);
+            scheduleNextBatch(progress, worldsPerTick);
+        }
+        return progress.completion;
+    }
+
+    /**
+     * Checks the world folders in parallel and waits for the checks to finish, so the warnings are logged before the
+     * worlds load. A world without a valid folder is still loaded, which makes bukkit generate a new world, so we just
+     * warn about it.
+     * <br />
+     * The checks run on the common fork join pool rather than the bukkit async scheduler, as the scheduler only starts
+     * async tasks on the next tick, which cannot happen while this method blocks the main thread.
+     */
+    private void validateWorldFolders(List<MultiverseWorld> worlds) {
+        worlds.parallelStream().forEach(world -> {
+            WorldNameChecker.FolderStatus folderStatus = worldNameChecker.checkFolder(world.getName());
+            if (folderStatus != WorldNameChecker.FolderStatus.VALID) {
+                Logging.warning("World '%s' has no valid world folder (%s), a new world will be generated.",
+                        world.getName(), folderStatus);
+            }
+        });
+    }
+
+    private void scheduleNextBatch(LoadProgress progress, int worldsPerTick) {
+        if (progress.isDone()) {
+            return;
+        }
+        Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            progress.loadNext(worldsPerTick);
+            scheduleNextBatch(progress, worldsPerTick);
+        }, 1L);
+    }
+
+    private final class LoadProgress {
+        private final List<MultiverseWorld> loadOrder;
+        private final long startTime;
+        private final List<CompletableFuture<Void>> spawnAdjustments = new ArrayList<>();
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+        private int nextIndex = 0;
+        private int loadedCount = 0;
+
+        private LoadProgress(List<MultiverseWorld> loadOrder, long startTime) {
+            this.loadOrder = loadOrder;
+            this.startTime = startTime;
+        }
+
+        private boolean isDone() {
+            return nextIndex >= loadOrder.size();
+        }
+
+        private void loadNext(int count) {
+            int endIndex = Math.min(loadOrder.size(), nextIndex + count);
+            for (; nextIndex < endIndex; nextIndex++) {
+                loadWorld(loadOrder.get(nextIndex));
+            }
+            if (endIndex < loadOrder.size()) {
+                Logging.config("Loaded %d/%d worlds...", endIndex, loadOrder.size());
+                return;
+            }
+            finish();
+        }
+
+        private void loadWorld(MultiverseWorld world) {
+            long worldStartTime = System.nanoTime();
+            worldManagerProvider.get().loadWorldOnStartup(world)
+                    .onSuccess(loadedWorld -> {
+                        loadedCount++;
+                        Logging.fine("Loaded world '%s' in %d ms.", world.getName(),
+                                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - worldStartTime));
+                        spawnAdjustments.add(loadedWorld.adjustSpawnAsync(executors.mainThread())
+                                .exceptionally(exception -> {
+                                    Logging.warning("Failed to check spawn of world '%s': %s",
+                                            world.getName(), exception.getMessage());
+                                    return null;
+                                }));
+                    })
+                    .onFailure(failure -> Logging.severe("Failed to load world %s: %s", world.getName(), failure));
+        }
+
+        private void finish() {
+            Logging.config("Loaded %d/%d worlds in %d ms.", loadedCount, loadOrder.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+            CompletableFuture.allOf(spawnAdjustments.toArray(CompletableFuture[]::new))
+                    .thenRunAsync(() -> {
+                        worldManagerProvider.get().saveWorldsConfig();
+                        completion.complete(null);
+                    }, executors.mainThread());
+        }
+    }
+}
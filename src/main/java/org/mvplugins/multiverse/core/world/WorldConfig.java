@@ -286,6 +286,14 @@ final class WorldConfig {
     Try<Void> setHunger(boolean hunger) {
         return configHandle.set(configNodes.hunger, hunger);
     }
+
+    int getIdleUnloadAfter() {
+        return configHandle.get(configNodes.idleUnloadAfter);
+    }
+
+    Try<Void> setIdleUnloadAfter(int idleUnloadAfter) {
+        return configHandle.set(configNodes.idleUnloadAfter, idleUnloadAfter);
+    }
     boolean isKeepSpawnInMemory() {
         return configHandle.get(configNodes.keepSpawnInMemory);
     }
@@ -294,6 +302,22 @@ final class WorldConfig {
         return configHandle.set(configNodes.keepSpawnInMemory, keepSpawnInMemory);
     }
 
+    int getLoadPriority() {
+        return configHandle.get(configNodes.loadPriority);
+    }
+
+    Try<Void> setLoadPriority(int loadPriority) {
+        return configHandle.set(configNodes.loadPriority, loadPriority);
+    }
+
+    boolean isLoadOnDemand() {
+        return configHandle.get(configNodes.loadOnDemand);
+    }
+
+    Try<Void> setLoadOnDemand(boolean loadOnDemand) {
+        return configHandle.set(configNodes.loadOnDemand, loadOnDemand);
+    }
+
     int getPlayerLimit() {
         return configHandle.get(configNodes.playerLimit);
     }
@@ -318,6 +342,14 @@ final class WorldConfig {
         return configHandle.set(configNodes.pvp, pvp);
     }
 
+    boolean isRegenTemplate() {
+        return configHandle.get(configNodes.regenTemplate);
+    }
+
+    Try<Void> setRegenTemplate(boolean regenTemplate) {
+        return configHandle.set(configNodes.regenTemplate, regenTemplate);
+    }
+
     String getRespawnWorld() {
         return configHandle.get(configNodes.respawnWorld);
     }
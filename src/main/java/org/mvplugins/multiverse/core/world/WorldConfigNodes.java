@@ -83,6 +83,9 @@ final class WorldConfigNodes {
             .onSetValue((oldValue, newValue) -> {
                 if (world == null) return;
                 world.updateColourlessAlias();
+                if (worldManager != null) {
+                    worldManager.updateWorldAlias(world);
+                }
             }));
 
     final ConfigNode<Boolean> allowFlight = node(ConfigNode.builder("allow-flight", Boolean.class)
@@ -185,6 +188,9 @@ final class WorldConfigNodes {
     final ConfigNode<Boolean> hunger = node(ConfigNode.builder("hunger", Boolean.class)
             .defaultValue(true));
 
+    final ConfigNode<Integer> idleUnloadAfter = node(ConfigNode.builder("idle-unload-after", Integer.class)
+            .defaultValue(-1));
+
     final ConfigNode<Boolean> keepSpawnInMemory = node(ConfigNode
             .builder("keep-spawn-in-memory", Boolean.class)
             .defaultValue(true)
@@ -193,6 +199,12 @@ final class WorldConfigNodes {
                 loadedWorld.getBukkitWorld().peek(bukkitWorld -> bukkitWorld.setKeepSpawnInMemory(newValue));
             }));
 
+    final ConfigNode<Integer> loadPriority = node(ConfigNode.builder("load-priority", Integer.class)
+            .defaultValue(0));
+
+    final ConfigNode<Boolean> loadOnDemand = node(ConfigNode.builder("load-on-demand", Boolean.class)
+            .defaultValue(false));
+
     final ConfigNode<Integer> playerLimit = node(ConfigNode.builder("player-limit", Integer.class)
             .defaultValue(-1));
 
@@ -207,6 +219,14 @@ final class WorldConfigNodes {
                 loadedWorld.getBukkitWorld().peek(bukkitWorld -> bukkitWorld.setPVP(newValue));
             }));
 
+    final ConfigNode<Boolean> regenTemplate = node(ConfigNode.builder("regen-template", Boolean.class)
+            .defaultValue(false)
+            .onSetValue((oldValue, newValue) -> {
+                if (Objects.equals(oldValue, newValue) || worldManager == null) return;
+                if (!(world instanceof LoadedMultiverseWorld loadedWorld)) return;
+                worldManager.updateRegenTemplate(loadedWorld, newValue);
+            }));
+
     final ConfigNode<String> respawnWorld = node(ConfigNode.builder("respawn-world", String.class)
             .defaultValue("")
             .suggester(input -> {
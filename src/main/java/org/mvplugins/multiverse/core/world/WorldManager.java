@@ -1,15 +1,25 @@
 package org.mvplugins.multiverse.core.world;
 
 import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 import com.dumptruckman.minecraft.util.Logging;
 import com.google.common.base.Strings;
@@ -17,7 +27,6 @@ import io.vavr.control.Option;
 import io.vavr.control.Try;
 import jakarta.inject.Inject;
 import org.bukkit.Bukkit;
-import org.bukkit.ChatColor;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.WorldCreator;
@@ -43,7 +52,12 @@ import org.mvplugins.multiverse.core.locale.message.MessageReplacement.Replace;
 import org.mvplugins.multiverse.core.permissions.CorePermissions;
 import org.mvplugins.multiverse.core.teleportation.BlockSafety;
 import org.mvplugins.multiverse.core.teleportation.LocationManipulation;
+import org.mvplugins.multiverse.core.utils.BukkitExecutors;
+import org.mvplugins.multiverse.core.utils.ParallelFolderCopier;
+import org.mvplugins.multiverse.core.utils.ParallelFolderCopier.CopyProgress;
 import org.mvplugins.multiverse.core.utils.ServerProperties;
+import org.mvplugins.multiverse.core.utils.result.AsyncAttempt;
+import org.mvplugins.multiverse.core.utils.result.AsyncAttemptsAggregate;
 import org.mvplugins.multiverse.core.utils.result.Attempt;
 import org.mvplugins.multiverse.core.utils.result.FailureReason;
 import org.mvplugins.multiverse.core.utils.FileUtils;
@@ -51,6 +65,8 @@ import org.mvplugins.multiverse.core.world.biomeprovider.BiomeProviderFactory;
 import org.mvplugins.multiverse.core.world.generators.GeneratorProvider;
 import org.mvplugins.multiverse.core.world.helpers.DataStore.GameRulesStore;
 import org.mvplugins.multiverse.core.world.helpers.DataTransfer;
+import org.mvplugins.multiverse.core.world.helpers.WorldFolderIndex;
+import org.mvplugins.multiverse.core.world.helpers.WorldFolderTrash;
 import org.mvplugins.multiverse.core.world.helpers.WorldNameChecker;
 import org.mvplugins.multiverse.core.world.options.CloneWorldOptions;
 import org.mvplugins.multiverse.core.world.options.CreateWorldOptions;
@@ -65,6 +81,7 @@ import org.mvplugins.multiverse.core.world.reasons.ImportFailureReason;
 import org.mvplugins.multiverse.core.world.reasons.LoadFailureReason;
 import org.mvplugins.multiverse.core.world.reasons.RegenFailureReason;
 import org.mvplugins.multiverse.core.world.reasons.RemoveFailureReason;
+import org.mvplugins.multiverse.core.world.reasons.SnapshotFailureReason;
 import org.mvplugins.multiverse.core.world.reasons.UnloadFailureReason;
 import org.mvplugins.multiverse.core.world.reasons.WorldCreatorFailureReason;
 
@@ -76,21 +93,38 @@ import static org.mvplugins.multiverse.core.world.helpers.DataStore.WorldConfigS
 public final class WorldManager {
 
     private static final List<String> CLONE_IGNORE_FILES = Arrays.asList("uid.dat", "session.lock");
+    private static final List<String> SNAPSHOT_IGNORE_FILES = List.of("session.lock");
+    private static final String SNAPSHOT_RESTORE_FOLDER_NAME = ".mv-restore";
 
-    private final Map<String, MultiverseWorld> worldsMap;
-    private final Map<String, MultiverseWorld> loadedWorldsMap;
+    /**
+     * The current snapshot of known worlds. Readers may be on any thread. Writers must hold {@link #registryLock}.
+     */
+    private volatile WorldRegistry registry = WorldRegistry.EMPTY;
+    private final Object registryLock = new Object();
     private final List<String> unloadTracker;
     private final List<String> loadTracker;
+    private final Map<String, BatchSave> batchingWorlds = new HashMap<>();
+    private final Map<UUID, AutoSavePause> autoSavePauses = new HashMap<>();
+    private final Set<String> regeneratingWorlds = new HashSet<>();
     private final WorldsConfigManager worldsConfigManager;
     private final WorldNameChecker worldNameChecker;
+    private final WorldFolderIndex worldFolderIndex;
     private final BiomeProviderFactory biomeProviderFactory;
     private final GeneratorProvider generatorProvider;
     private final FileUtils fileUtils;
+    private final ParallelFolderCopier folderCopier;
+    private final BukkitExecutors executors;
+    private final WorldFolderTrash worldFolderTrash;
     private final BlockSafety blockSafety;
     private final LocationManipulation locationManipulation;
     private final PluginManager pluginManager;
     private final CorePermissions corePermissions;
     private final ServerProperties serverProperties;
+    private final StartupWorldLoader startupWorldLoader;
+    private final RegenTemplateStore regenTemplateStore;
+    private final BatchWorldOperationRunner batchRunner;
+    private final RegionPruner regionPruner;
+    private final WorldSnapshotStore snapshotStore;
     @NotNull
     private final CoreConfig config;
 
@@ -98,43 +132,60 @@ public final class WorldManager {
     WorldManager(
             @NotNull WorldsConfigManager worldsConfigManager,
             @NotNull WorldNameChecker worldNameChecker,
+            @NotNull WorldFolderIndex worldFolderIndex,
             @NotNull BiomeProviderFactory biomeProviderFactory,
             @NotNull GeneratorProvider generatorProvider,
             @NotNull FileUtils fileUtils,
+            @NotNull ParallelFolderCopier folderCopier,
+            @NotNull BukkitExecutors executors,
+            @NotNull WorldFolderTrash worldFolderTrash,
             @NotNull BlockSafety blockSafety,
             @NotNull LocationManipulation locationManipulation,
             @NotNull PluginManager pluginManager,
             @NotNull CorePermissions corePermissions,
             @NotNull ServerProperties serverProperties,
+            @NotNull StartupWorldLoader startupWorldLoader,
+            @NotNull RegenTemplateStore regenTemplateStore,
+            @NotNull BatchWorldOperationRunner batchRunner,
+            @NotNull RegionPruner regionPruner,
+            @NotNull WorldSnapshotStore snapshotStore,
             @NotNull CoreConfig config) {
         this.worldsConfigManager = worldsConfigManager;
         this.worldNameChecker = worldNameChecker;
+        this.worldFolderIndex = worldFolderIndex;
         this.biomeProviderFactory = biomeProviderFactory;
         this.generatorProvider = generatorProvider;
         this.fileUtils = fileUtils;
+        this.folderCopier = folderCopier;
+        this.executors = executors;
+        this.worldFolderTrash = worldFolderTrash;
         this.blockSafety = blockSafety;
         this.locationManipulation = locationManipulation;
         this.pluginManager = pluginManager;
         this.corePermissions = corePermissions;
         this.serverProperties = serverProperties;
+        this.startupWorldLoader = startupWorldLoader;
+        this.regenTemplateStore = regenTemplateStore;
+        this.batchRunner = batchRunner;
+        this.regionPruner = regionPruner;
+        this.snapshotStore = snapshotStore;
         this.config = config;
 
-        this.worldsMap = new HashMap<>();
-        this.loadedWorldsMap = new HashMap<>();
         this.unloadTracker = new ArrayList<>();
         this.loadTracker = new ArrayList<>();
     }
 
     /**
-     * Loads all worlds from the worlds config.
+     * Loads all worlds from the worlds config. Auto load worlds may continue to load over the following ticks if
+     * {@link CoreConfig#getStartupWorldsPerTick()} is set.
      *
      * @return The result of the load.
      */
     public Try<Void> initAllWorlds() {
         return updateWorldsFromConfig().andThenTry(() -> {
             loadDefaultWorlds();
-            autoLoadWorlds();
             saveWorldsConfig();
+            autoLoadWorlds();
         });
     }
 
@@ -147,16 +198,24 @@ public final class WorldManager {
         return worldsConfigManager.load().mapTry(result -> {
             loadNewWorldConfigs(result.newWorlds());
             removeWorldsNotInConfigs(result.removedWorlds());
+            updateRegistry(WorldRegistry::withAliasesRebuilt);
+            reportAliasCollisions();
             return null;
         });
     }
 
     private void loadNewWorldConfigs(Collection<WorldConfig> newWorldConfigs) {
-        newWorldConfigs.forEach(worldConfig -> Option.of(worldsMap.get(worldConfig.getWorldName()))
+        newWorldConfigs.forEach(worldConfig -> Option.of(registry.getWorld(worldConfig.getWorldName()))
                 .peek(unloadedWorld ->  unloadedWorld.setWorldConfig(worldConfig))
                 .onEmpty(() -> newMultiverseWorld(worldConfig.getWorldName(), worldConfig)));
     }
 
+    private void reportAliasCollisions() {
+        registry.getAliasCollisions().forEach((alias, worldNames) -> Logging.warning(
+                "Worlds %s share the alias '%s'. Looking up that alias will find '%s'.",
+                worldNames, alias, worldNames.get(0)));
+    }
+
     private void removeWorldsNotInConfigs(Collection<String> removedWorlds) {
         removedWorlds.forEach(worldName -> removeWorld(worldName)
                 .onFailure(failure -> Logging.severe("Failed to unload world %s: %s", worldName, failure))
@@ -181,13 +240,9 @@ public final class WorldManager {
      * Loads all worlds that are set to autoload.
      */
     private void autoLoadWorlds() {
-        getWorlds().forEach(world -> {
-            if (isLoadedWorld(world) || !world.isAutoLoad()) {
-                return;
-            }
-            loadWorld(world).onFailure(failure -> Logging.severe("Failed to load world %s: %s",
-                    world.getName(), failure));
-        });
+        startupWorldLoader.loadWorlds(getWorlds().stream()
+                .filter(world -> !isLoadedWorld(world) && world.isAutoLoad())
+                .toList());
     }
 
     /**
@@ -288,7 +343,7 @@ public final class WorldManager {
 
     private MultiverseWorld newMultiverseWorld(String worldName, WorldConfig worldConfig) {
         MultiverseWorld mvWorld = new MultiverseWorld(worldName, worldConfig, config);
-        worldsMap.put(mvWorld.getName(), mvWorld);
+        updateRegistry(currentRegistry -> currentRegistry.withWorld(mvWorld));
         corePermissions.addWorldPermissions(mvWorld);
         return mvWorld;
     }
@@ -316,8 +371,8 @@ public final class WorldManager {
                 locationManipulation,
                 config);
         setDefaultEnvironmentScale(mvWorld);
-        loadedWorldsMap.put(loadedWorld.getName(), loadedWorld);
-        saveWorldsConfig();
+        updateRegistry(currentRegistry -> currentRegistry.withLoadedWorld(loadedWorld));
+        saveWorldsConfigUnlessBatching(world.getName());
         pluginManager.callEvent(new MVWorldLoadedEvent(loadedWorld));
         return loadedWorld;
     }
@@ -352,7 +407,18 @@ public final class WorldManager {
      * @return The result of the load.
      */
     public Attempt<LoadedMultiverseWorld, LoadFailureReason> loadWorld(@NotNull MultiverseWorld world) {
-        return validateWorldToLoad(world).mapAttempt(this::doLoadWorld);
+        return validateWorldToLoad(world).mapAttempt(mvWorld -> doLoadWorld(mvWorld, false));
+    }
+
+    /**
+     * Loads an existing world in config as part of startup. The worlds config is not saved, and checking the spawn
+     * location for safety is left to {@link LoadedMultiverseWorld#adjustSpawnAsync(java.util.concurrent.Executor)}.
+     *
+     * @param world The world to load.
+     * @return The result of the load.
+     */
+    Attempt<LoadedMultiverseWorld, LoadFailureReason> loadWorldOnStartup(@NotNull MultiverseWorld world) {
+        return validateWorldToLoad(world).mapAttempt(mvWorld -> doLoadWorld(mvWorld, true));
     }
 
     private Attempt<MultiverseWorld, LoadFailureReason> validateWorldToLoad(
@@ -364,11 +430,15 @@ public final class WorldManager {
         } else if (isLoadedWorld(mvWorld)) {
             Logging.severe("World already loaded: " + mvWorld.getName());
             return worldActionResult(LoadFailureReason.WORLD_EXIST_LOADED, mvWorld.getName());
+        } else if (regionPruner.isPruning(mvWorld.getName())) {
+            Logging.severe("World is being pruned: " + mvWorld.getName());
+            return worldActionResult(LoadFailureReason.WORLD_IN_MAINTENANCE, mvWorld.getName());
         }
         return worldActionResult(mvWorld);
     }
 
-    private Attempt<LoadedMultiverseWorld, LoadFailureReason> doLoadWorld(@NotNull MultiverseWorld mvWorld) {
+    private Attempt<LoadedMultiverseWorld, LoadFailureReason> doLoadWorld(
+            @NotNull MultiverseWorld mvWorld, boolean onStartup) {
         WorldCreator worldCreator = WorldCreator.name(mvWorld.getName())
                 .environment(mvWorld.getEnvironment())
                 .seed(mvWorld.getSeed());
@@ -384,9 +454,12 @@ public final class WorldManager {
                             worldConfig,
                             blockSafety,
                             locationManipulation,
-                            config);
-                    loadedWorldsMap.put(loadedWorld.getName(), loadedWorld);
-                    saveWorldsConfig();
+                            config,
+                            onStartup);
+                    updateRegistry(currentRegistry -> currentRegistry.withLoadedWorld(loadedWorld));
+                    if (!onStartup) {
+                        saveWorldsConfigUnlessBatching(mvWorld.getName());
+                    }
                     pluginManager.callEvent(new MVWorldLoadedEvent(loadedWorld));
                     return loadedWorld;
                 });
@@ -410,14 +483,14 @@ public final class WorldManager {
         return unloadBukkitWorld(world.getBukkitWorld().getOrNull(), options.saveBukkitWorld()).fold(
                 exception -> worldActionResult(UnloadFailureReason.BUKKIT_UNLOAD_FAILED,
                         world.getName(), exception),
-                success -> Option.of(loadedWorldsMap.remove(world.getName())).fold(
+                success -> Option.of(removeLoadedWorld(world.getName())).fold(
                         () -> {
                             Logging.severe("Failed to remove world from map: " + world.getName());
                             return worldActionResult(UnloadFailureReason.WORLD_NON_EXISTENT, world.getName());
                         },
                         mvWorld -> {
                             Logging.fine("Removed MultiverseWorld from map: " + world.getName());
-                            var unloadedWorld = Objects.requireNonNull(worldsMap.get(world.getName()),
+                            var unloadedWorld = Objects.requireNonNull(registry.getWorld(world.getName()),
                                     "For some reason, the unloaded world isn't in the map... BUGGG");
                             mvWorld.getWorldConfig().setMVWorld(unloadedWorld);
                             pluginManager.callEvent(new MVWorldUnloadedEvent(mvWorld));
@@ -473,11 +546,15 @@ public final class WorldManager {
      */
     private Attempt<String, RemoveFailureReason> removeWorldFromConfig(@NotNull MultiverseWorld world) {
         // Remove world from config
-        worldsMap.remove(world.getName());
+        updateRegistry(currentRegistry -> currentRegistry.withoutWorld(world.getName()));
         world.getWorldConfig().deferenceMVWorld();
         worldsConfigManager.deleteWorldConfig(world.getName());
-        saveWorldsConfig();
+        saveWorldsConfigUnlessBatching(world.getName());
         corePermissions.removeWorldPermissions(world);
+        // A regenerated world is added back right away, and may still need its template
+        if (!regeneratingWorlds.contains(world.getName())) {
+            deleteRegenTemplate(world.getName());
+        }
         pluginManager.callEvent(new MVWorldRemovedEvent(world));
         return worldActionResult(world.getName());
     }
@@ -512,6 +589,9 @@ public final class WorldManager {
 
     /**
      * Deletes an existing multiverse world entirely. Warning: This will delete all world files.
+     * <br />
+     * The world folder is moved out of the way immediately, so the world name can be reused right away, and its files
+     * are deleted in the background.
      *
      * @param world The multiverse world to delete.
      * @return The result of the delete action.
@@ -528,7 +608,7 @@ public final class WorldManager {
                             : Attempt.success(null);
                 })
                 .mapAttempt(() -> removeWorld(world).transform(DeleteFailureReason.REMOVE_FAILED))
-                .mapAttempt(() -> fileUtils.deleteFolder(worldFolder.get()).fold(
+                .mapAttempt(() -> worldFolderTrash.deleteFolder(worldFolder.get()).fold(
                         exception -> worldActionResult(DeleteFailureReason.FAILED_TO_DELETE_FOLDER,
                                 world.getName(), exception),
                         success -> worldActionResult(world.getName())));
@@ -553,20 +633,95 @@ public final class WorldManager {
     public Attempt<LoadedMultiverseWorld, CloneFailureReason> cloneWorld(@NotNull CloneWorldOptions options) {
         return cloneWorldValidateWorld(options)
                 .mapAttempt(this::cloneWorldCopyFolder)
-                .mapAttempt(validatedOptions -> {
-                    ImportWorldOptions importWorldOptions = ImportWorldOptions
-                            .worldName(validatedOptions.newWorldName())
-                            .biome(validatedOptions.world().getBiome())
-                            .environment(validatedOptions.world().getEnvironment())
-                            .generator(validatedOptions.world().getGenerator());
-                    return importWorld(importWorldOptions).transform(CloneFailureReason.IMPORT_FAILED);
-                })
+                .mapAttempt(this::cloneWorldImport);
+    }
+
+    /**
+     * Clones an existing multiverse world without blocking the main thread. The world folder is copied in parallel
+     * on worker threads, and the new world is imported on the main thread once the copy is done. The source world is
+     * saved first, and is not auto-saved until the copy is done. Must be called on the main thread.
+     *
+     * @param options           The options for customizing the cloning of a world.
+     * @param progressListener  Called from worker threads as the world folder copy progresses.
+     * @return The result of the clone, which completes on the main thread.
+     */
+    public AsyncAttempt<LoadedMultiverseWorld, CloneFailureReason> cloneWorldAsync(
+            @NotNull CloneWorldOptions options,
+            @Nullable Consumer<CopyProgress> progressListener) {
+        return AsyncAttempt.fromAttempt(cloneWorldValidateWorld(options))
+                .mapAsyncAttempt(validatedOptions -> cloneWorldCopyFolderAsync(validatedOptions, progressListener))
+                .mapAttempt(this::cloneWorldImport);
+    }
+
+    private AsyncAttempt<CloneWorldOptions, CloneFailureReason> cloneWorldCopyFolderAsync(
+            @NotNull CloneWorldOptions options,
+            @Nullable Consumer<CopyProgress> progressListener) {
+        File worldFolder = options.world().getBukkitWorld().map(World::getWorldFolder).get();
+        File newWorldFolder = new File(Bukkit.getWorldContainer(), options.newWorldName());
+        // Create the folder right away, so that other clones to the same name fail validation while we copy
+        if (!newWorldFolder.mkdirs()) {
+            return AsyncAttempt.fromAttempt(worldActionResult(CloneFailureReason.COPY_FAILED, options.world().getName(),
+                    new IllegalStateException("Unable to create folder " + newWorldFolder)));
+        }
+        Runnable resumeAutoSave = pauseAutoSave(options.world().getBukkitWorld().getOrNull());
+        CompletableFuture<Attempt<CloneWorldOptions, CloneFailureReason>> copy = folderCopier
+                .copyFolder(worldFolder.toPath(), newWorldFolder.toPath(), CLONE_IGNORE_FILES, progressListener)
+                .whenCompleteAsync((progress, exception) -> resumeAutoSave.run(), executors.mainThread())
+                .handle((progress, exception) -> {
+                    if (exception == null) {
+                        return worldActionResult(options);
+                    }
+                    fileUtils.deleteFolder(newWorldFolder);
+                    Throwable cause = exception instanceof CompletionException && exception.getCause() != null
+                            ? exception.getCause()
+                            : exception;
+                    return worldActionResult(CloneFailureReason.COPY_FAILED, options.world().getName(), cause);
+                });
+        return AsyncAttempt.<Attempt<CloneWorldOptions, CloneFailureReason>, CloneFailureReason>of(
+                        copy.thenApplyAsync(result -> result, executors.mainThread()),
+                        exception -> worldActionResult(CloneFailureReason.COPY_FAILED,
+                                options.world().getName(), exception))
+                .mapAttempt(result -> result);
+    }
+
+    /**
+     * Saves a world and turns off its auto-save, so that the server does not write to the world folder while it is
+     * read off the main thread. Pauses of the same world may overlap, auto-save is only restored once the last one
+     * is resumed. Must be called on the main thread.
+     *
+     * @param bukkitWorld   The world to pause, or null if it is not loaded.
+     * @return A runnable that resumes auto-save, to be run once on the main thread when done reading the folder.
+     */
+    private Runnable pauseAutoSave(@Nullable World bukkitWorld) {
+        if (bukkitWorld == null) {
+            return () -> { };
+        }
+        bukkitWorld.save();
+        AutoSavePause pause = autoSavePauses.computeIfAbsent(bukkitWorld.getUID(),
+                uid -> new AutoSavePause(bukkitWorld.isAutoSave()));
+        pause.count++;
+        bukkitWorld.setAutoSave(false);
+        return () -> {
+            if (--pause.count == 0) {
+                autoSavePauses.remove(bukkitWorld.getUID());
+                bukkitWorld.setAutoSave(pause.autoSave);
+            }
+        };
+    }
+
+    private Attempt<LoadedMultiverseWorld, CloneFailureReason> cloneWorldImport(@NotNull CloneWorldOptions options) {
+        ImportWorldOptions importWorldOptions = ImportWorldOptions
+                .worldName(options.newWorldName())
+                .biome(options.world().getBiome())
+                .environment(options.world().getEnvironment())
+                .generator(options.world().getGenerator());
+        return importWorld(importWorldOptions).transform(CloneFailureReason.IMPORT_FAILED)
                 .onSuccess(newWorld -> {
                     cloneWorldTransferData(options, newWorld);
                     if (options.keepWorldConfig()) {
                         newWorld.setSpawnLocation(options.world().getSpawnLocation());
                     }
-                    saveWorldsConfig();
+                    saveWorldsConfigUnlessBatching(newWorld.getName());
                     pluginManager.callEvent(new MVWorldClonedEvent(newWorld, options.world()));
                 });
     }
@@ -625,7 +780,8 @@ public final class WorldManager {
     }
 
     /**
-     * Regenerates a world.
+     * Regenerates a world by generating new terrain. Use {@link #regenWorldAsync(RegenWorldOptions)} to restore the
+     * world's saved regen template instead, if it has one.
      *
      * @param options The options for customizing the regeneration of a world.
      * @return The result of the regeneration.
@@ -636,27 +792,477 @@ public final class WorldManager {
         boolean shouldKeepSpawnLocation = options.keepWorldConfig() && options.seed() == world.getSeed();
         Location spawnLocation = world.getSpawnLocation();
 
-        CreateWorldOptions createWorldOptions = CreateWorldOptions.worldName(world.getName())
+        return regenWorldGenerate(world, regenCreateWorldOptions(world, options.seed(), shouldKeepSpawnLocation))
+                .onSuccess(newWorld -> regenWorldRestoreData(
+                        newWorld, dataTransfer, shouldKeepSpawnLocation, spawnLocation));
+    }
+
+    /**
+     * Regenerates a world. If the world has {@link MultiverseWorld#isRegenTemplate()} enabled and is regenerated with
+     * its current seed, its saved template is restored in the background instead of generating new terrain. Must be
+     * called on the main thread.
+     *
+     * @param options The options for customizing the regeneration of a world.
+     * @return The result of the regeneration, which completes on the main thread.
+     */
+    public AsyncAttempt<LoadedMultiverseWorld, RegenFailureReason> regenWorldAsync(
+            @NotNull RegenWorldOptions options) {
+        LoadedMultiverseWorld world = options.world();
+        if (!world.isRegenTemplate() || options.seed() != world.getSeed()) {
+            return AsyncAttempt.fromAttempt(regenWorld(options));
+        }
+        DataTransfer<LoadedMultiverseWorld> dataTransfer = transferData(options, world);
+        boolean shouldKeepSpawnLocation = options.keepWorldConfig();
+        Location spawnLocation = world.getSpawnLocation();
+
+        return AsyncAttempt.<Boolean, RegenFailureReason>of(
+                        regenTemplateStore.whenTemplateReady(world.getName())
+                                .thenApplyAsync(hasTemplate -> hasTemplate, executors.mainThread()),
+                        exception -> worldActionResult(RegenFailureReason.TEMPLATE_RESTORE_FAILED,
+                                world.getName(), exception))
+                .mapAsyncAttempt(hasTemplate -> {
+                    if (hasTemplate) {
+                        return regenWorldFromTemplate(world);
+                    }
+                    Logging.warning("World '%s' has no regen template yet, generating new terrain instead.",
+                            world.getName());
+                    return AsyncAttempt.fromAttempt(regenWorldGenerate(world,
+                            regenCreateWorldOptions(world, options.seed(), shouldKeepSpawnLocation)));
+                })
+                .onSuccess(newWorld -> regenWorldRestoreData(
+                        newWorld, dataTransfer, shouldKeepSpawnLocation, spawnLocation));
+    }
+
+    private CreateWorldOptions regenCreateWorldOptions(
+            @NotNull LoadedMultiverseWorld world, long seed, boolean shouldKeepSpawnLocation) {
+        return CreateWorldOptions.worldName(world.getName())
                 .environment(world.getEnvironment())
                 .generateStructures(world.canGenerateStructures().getOrElse(true))
                 .generator(world.getGenerator())
-                .seed(options.seed())
+                .seed(seed)
                 .useSpawnAdjust(!shouldKeepSpawnLocation && world.getAdjustSpawn())
                 .worldType(world.getWorldType().getOrElse(WorldType.NORMAL));
+    }
 
-        return deleteWorld(world)
-                .transform(RegenFailureReason.DELETE_FAILED)
-                .mapAttempt(() -> createWorld(createWorldOptions).transform(RegenFailureReason.CREATE_FAILED))
-                .onSuccess(newWorld -> {
-                    dataTransfer.pasteAllTo(newWorld);
-                    if (shouldKeepSpawnLocation) {
-                        // Special case for spawn location to prevent unsafe location if world was regen using a
-                        // different seed.
-                        newWorld.setSpawnLocation(spawnLocation);
+    private Attempt<LoadedMultiverseWorld, RegenFailureReason> regenWorldGenerate(
+            @NotNull LoadedMultiverseWorld world,
+            @NotNull CreateWorldOptions createWorldOptions) {
+        return regenWorldDelete(world)
+                .mapAttempt(() -> createWorld(createWorldOptions).transform(RegenFailureReason.CREATE_FAILED));
+    }
+
+    private AsyncAttempt<LoadedMultiverseWorld, RegenFailureReason> regenWorldFromTemplate(
+            @NotNull LoadedMultiverseWorld world) {
+        ImportWorldOptions importWorldOptions = ImportWorldOptions.worldName(world.getName())
+                .biome(world.getBiome())
+                .environment(world.getEnvironment())
+                .generator(world.getGenerator());
+        File worldFolder = new File(Bukkit.getWorldContainer(), world.getName());
+
+        return AsyncAttempt.fromAttempt(regenWorldDelete(world))
+                .mapAsyncAttempt(ignore -> AsyncAttempt.<Void, RegenFailureReason>of(
+                        regenTemplateStore.restoreTemplate(world.getName(), worldFolder.toPath())
+                                // Only hops back to the main thread, on failure as well as on success
+                                .whenCompleteAsync((ignoreResult, exception) -> { }, executors.mainThread()),
+                        exception -> worldActionResult(RegenFailureReason.TEMPLATE_RESTORE_FAILED,
+                                world.getName(), exception)))
+                .mapAttempt(ignore -> importWorld(importWorldOptions).transform(RegenFailureReason.CREATE_FAILED));
+    }
+
+    /**
+     * Deletes a world that is about to be added back by a regen, keeping its regen template.
+     */
+    private Attempt<String, RegenFailureReason> regenWorldDelete(@NotNull LoadedMultiverseWorld world) {
+        regeneratingWorlds.add(world.getName());
+        try {
+            return deleteWorld(world).transform(RegenFailureReason.DELETE_FAILED);
+        } finally {
+            regeneratingWorlds.remove(world.getName());
+        }
+    }
+
+    private void regenWorldRestoreData(
+            @NotNull LoadedMultiverseWorld newWorld,
+            @NotNull DataTransfer<LoadedMultiverseWorld> dataTransfer,
+            boolean shouldKeepSpawnLocation,
+            @NotNull Location spawnLocation) {
+        dataTransfer.pasteAllTo(newWorld);
+        if (shouldKeepSpawnLocation) {
+            // Special case for spawn location to prevent unsafe location if world was regen using a
+            // different seed.
+            newWorld.setSpawnLocation(spawnLocation);
+        }
+        if (!newWorld.isRegenTemplate()) {
+            // The world config was not kept, so the template is no longer wanted
+            deleteRegenTemplate(newWorld.getName());
+        }
+        saveWorldsConfigUnlessBatching(newWorld.getName());
+        pluginManager.callEvent(new MVWorldRegeneratedEvent(newWorld));
+    }
+
+    /**
+     * Saves or deletes the regen template of a world, for when its {@code regen-template} property changes. The world
+     * is saved first, and is not auto-saved until the template is written.
+     *
+     * @param world     The world
+     * @param enabled   True if regen templates were enabled for the world
+     */
+    void updateRegenTemplate(@NotNull LoadedMultiverseWorld world, boolean enabled) {
+        if (!enabled) {
+            deleteRegenTemplate(world.getName());
+            return;
+        }
+        World bukkitWorld = world.getBukkitWorld().getOrNull();
+        if (bukkitWorld == null || regenTemplateStore.hasTemplate(world.getName())) {
+            return;
+        }
+        Runnable resumeAutoSave = pauseAutoSave(bukkitWorld);
+        regenTemplateStore.createTemplate(world.getName(), bukkitWorld.getWorldFolder().toPath(), CLONE_IGNORE_FILES)
+                .whenCompleteAsync((ignore, exception) -> {
+                    resumeAutoSave.run();
+                    if (exception != null) {
+                        Logging.warning("Failed to save regen template of world '%s': %s",
+                                world.getName(), exception.getMessage());
                     }
-                    saveWorldsConfig();
-                    pluginManager.callEvent(new MVWorldRegeneratedEvent(newWorld));
-                });
+                }, executors.mainThread());
+    }
+
+    private void deleteRegenTemplate(@NotNull String worldName) {
+        if (!regenTemplateStore.hasTemplate(worldName)) {
+            return;
+        }
+        regenTemplateStore.deleteTemplate(worldName).whenComplete((ignore, exception) -> {
+            if (exception != null) {
+                Logging.warning("Failed to delete regen template of world '%s': %s",
+                        worldName, exception.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Creates a snapshot of a world's folder, which the world can later be restored to with
+     * {@link #restoreSnapshot(MultiverseWorld, String)}. Only the chunks and files that changed since earlier snapshots
+     * take up extra disk space. A loaded world is saved first, and is not auto-saved until the snapshot is done. Must
+     * be called on the main thread.
+     *
+     * @param world The world to create a snapshot of.
+     * @return The result of the snapshot, which completes on the main thread.
+     */
+    public AsyncAttempt<WorldSnapshot, SnapshotFailureReason> createSnapshot(@NotNull MultiverseWorld world) {
+        String worldName = world.getName();
+        File worldFolder = new File(Bukkit.getWorldContainer(), worldName);
+        if (!worldNameChecker.isValidWorldFolder(worldFolder)) {
+            return AsyncAttempt.fromAttempt(worldActionResult(SnapshotFailureReason.WORLD_FOLDER_NOT_FOUND, worldName));
+        }
+        if (snapshotStore.isBusy(worldName)) {
+            return AsyncAttempt.fromAttempt(worldActionResult(SnapshotFailureReason.SNAPSHOT_IN_PROGRESS, worldName));
+        }
+
+        Runnable resumeAutoSave = pauseAutoSave(
+                getLoadedWorld(worldName).flatMap(LoadedMultiverseWorld::getBukkitWorld).getOrNull());
+        CompletableFuture<WorldSnapshot> snapshot = snapshotStore.trackOperation(worldName, snapshotStore
+                .createSnapshot(worldName, worldFolder.toPath(), SNAPSHOT_IGNORE_FILES)
+                .whenCompleteAsync((ignore, exception) -> resumeAutoSave.run(), executors.mainThread()));
+        return AsyncAttempt.<WorldSnapshot, SnapshotFailureReason>of(snapshot, exception -> {
+            Logging.severe("Failed to create snapshot of world '%s': %s", worldName, exception.getMessage());
+            return worldActionResult(SnapshotFailureReason.CREATE_FAILED, worldName, exception);
+        });
+    }
+
+    /**
+     * Restores a world to a snapshot created by {@link #createSnapshot(MultiverseWorld)}. The world folder is rebuilt
+     * in a separate folder first, so a loaded world stays playable until the new folder is ready. The world is then
+     * unloaded without saving, its folder is replaced, and it is loaded again. A world that is not loaded stays
+     * unloaded. Must be called on the main thread.
+     *
+     * @param world         The world to restore.
+     * @param snapshotId    The id of the snapshot to restore.
+     * @return The result of the restore, which completes on the main thread.
+     */
+    public AsyncAttempt<MultiverseWorld, SnapshotFailureReason> restoreSnapshot(
+            @NotNull MultiverseWorld world, @NotNull String snapshotId) {
+        String worldName = world.getName();
+        if (snapshotStore.isBusy(worldName)) {
+            return AsyncAttempt.fromAttempt(worldActionResult(SnapshotFailureReason.SNAPSHOT_IN_PROGRESS, worldName));
+        }
+        if (!snapshotStore.hasSnapshot(worldName, snapshotId)) {
+            return AsyncAttempt.fromAttempt(Attempt.failure(SnapshotFailureReason.SNAPSHOT_NOT_FOUND,
+                    Replace.WORLD.with(worldName), replace("{snapshot}").with(snapshotId)));
+        }
+
+        File worldFolder = new File(Bukkit.getWorldContainer(), worldName);
+        Path restoreFolder = Bukkit.getWorldContainer().toPath()
+                .resolve(SNAPSHOT_RESTORE_FOLDER_NAME)
+                .resolve(worldName);
+        CompletableFuture<Attempt<MultiverseWorld, SnapshotFailureReason>> restore = snapshotStore.trackOperation(
+                worldName, snapshotStore.restoreSnapshot(worldName, snapshotId, restoreFolder)
+                        .<Attempt<MultiverseWorld, SnapshotFailureReason>>handleAsync((ignore, exception) -> {
+                            if (exception != null) {
+                                Logging.severe("Failed to restore snapshot '%s' of world '%s': %s",
+                                        snapshotId, worldName, exception.getMessage());
+                                discardRestoreFolder(restoreFolder);
+                                return worldActionResult(SnapshotFailureReason.RESTORE_FAILED, worldName, exception);
+                            }
+                            return restoreSnapshotReplaceFolder(worldName, worldFolder, restoreFolder);
+                        }, executors.mainThread()));
+        return AsyncAttempt.<Attempt<MultiverseWorld, SnapshotFailureReason>, SnapshotFailureReason>of(
+                        restore,
+                        exception -> worldActionResult(SnapshotFailureReason.RESTORE_FAILED, worldName, exception))
+                .mapAttempt(result -> result);
+    }
+
+    private Attempt<MultiverseWorld, SnapshotFailureReason> restoreSnapshotReplaceFolder(
+            @NotNull String worldName, @NotNull File worldFolder, @NotNull Path restoreFolder) {
+        Option<LoadedMultiverseWorld> loadedWorld = getLoadedWorld(worldName);
+        boolean wasLoaded = loadedWorld.isDefined();
+        Attempt<MultiverseWorld, SnapshotFailureReason> unloadResult;
+        if (wasLoaded) {
+            unloadResult = unloadWorld(UnloadWorldOptions.world(loadedWorld.get()).saveBukkitWorld(false))
+                    .transform(SnapshotFailureReason.UNLOAD_FAILED);
+        } else {
+            // The world may have been removed while the folder was being rebuilt
+            Option<MultiverseWorld> unloadedWorld = getWorld(worldName);
+            unloadResult = unloadedWorld.isDefined()
+                    ? worldActionResult(unloadedWorld.get())
+                    : worldActionResult(SnapshotFailureReason.RESTORE_FAILED, worldName);
+        }
+
+        return unloadResult
+                .onFailure(() -> discardRestoreFolder(restoreFolder))
+                .mapAttempt(unloadedWorld -> swapWorldFolder(worldName, worldFolder.toPath(), restoreFolder).fold(
+                        exception -> {
+                            discardRestoreFolder(restoreFolder);
+                            return worldActionResult(SnapshotFailureReason.RESTORE_FAILED, worldName, exception);
+                        },
+                        success -> worldActionResult(unloadedWorld)))
+                .mapAttempt(unloadedWorld -> wasLoaded
+                        ? loadWorld(worldName)
+                                .transform(SnapshotFailureReason.LOAD_FAILED)
+                                .map(newWorld -> (MultiverseWorld) newWorld)
+                        : worldActionResult(unloadedWorld));
+    }
+
+    /**
+     * Replaces a world folder with a restored one. The old folder is renamed aside first and only trashed once the
+     * restored folder is in place, so a failed move puts the old folder back instead of leaving the world without one.
+     */
+    private Try<Void> swapWorldFolder(
+            @NotNull String worldName, @NotNull Path worldFolder, @NotNull Path restoreFolder) {
+        Path oldFolder = restoreFolder.resolveSibling(worldName + "-replaced-" + System.nanoTime());
+        boolean hadWorldFolder = Files.exists(worldFolder);
+        if (hadWorldFolder) {
+            Try<Path> moveAside = Try.of(() -> Files.move(worldFolder, oldFolder, StandardCopyOption.ATOMIC_MOVE));
+            if (moveAside.isFailure()) {
+                Logging.severe("Failed to move the folder of world '%s' aside, it was left as it was: %s",
+                        worldName, moveAside.getCause().getMessage());
+                return Try.failure(moveAside.getCause());
+            }
+        }
+        Try<Path> moveIn = Try.of(() -> Files.move(restoreFolder, worldFolder, StandardCopyOption.ATOMIC_MOVE));
+        if (moveIn.isFailure()) {
+            Logging.severe("Failed to move the restored folder of world '%s' in place: %s",
+                    worldName, moveIn.getCause().getMessage());
+            if (hadWorldFolder) {
+                Try.of(() -> Files.move(oldFolder, worldFolder, StandardCopyOption.ATOMIC_MOVE))
+                        .onFailure(exception -> Logging.severe("Failed to move the old folder of world '%s' back, "
+                                + "it is left at %s: %s", worldName, oldFolder, exception.getMessage()));
+            }
+            return Try.failure(moveIn.getCause());
+        }
+        if (hadWorldFolder) {
+            worldFolderTrash.deleteFolder(oldFolder.toFile())
+                    .onFailure(exception -> Logging.warning("Failed to delete the old folder of world '%s' at %s: %s",
+                            worldName, oldFolder, exception.getMessage()));
+        }
+        return Try.success(null);
+    }
+
+    private void discardRestoreFolder(@NotNull Path restoreFolder) {
+        if (Files.exists(restoreFolder)) {
+            worldFolderTrash.deleteFolder(restoreFolder.toFile());
+        }
+    }
+
+    /**
+     * Gets the snapshots of a world created by {@link #createSnapshot(MultiverseWorld)}.
+     *
+     * @param world The world to get the snapshots of.
+     * @return A future that completes off the main thread with the snapshots, oldest first.
+     */
+    public CompletableFuture<List<WorldSnapshot>> getSnapshots(@NotNull MultiverseWorld world) {
+        return snapshotStore.getSnapshots(world.getName());
+    }
+
+    /**
+     * Loads many existing worlds in config by name. The worlds are loaded on the main thread across ticks, within
+     * {@link CoreConfig#getBatchOperationTickBudget()} per tick, and the worlds config is saved once at the end.
+     * Must be called on the main thread.
+     *
+     * @param worldNames    The names of the worlds to load.
+     * @return The results of the loads, in the same order as the world names.
+     */
+    public AsyncAttemptsAggregate<LoadedMultiverseWorld, LoadFailureReason> loadWorldsByName(
+            @NotNull Collection<String> worldNames) {
+        return runBatch(worldNames, Function.identity(), this::loadWorld, LoadFailureReason.WORLD_CREATOR_FAILED);
+    }
+
+    /**
+     * Loads many existing worlds in config. The worlds are loaded on the main thread across ticks, within
+     * {@link CoreConfig#getBatchOperationTickBudget()} per tick, and the worlds config is saved once at the end.
+     * Must be called on the main thread.
+     *
+     * @param worlds    The worlds to load.
+     * @return The results of the loads, in the same order as the worlds.
+     */
+    public AsyncAttemptsAggregate<LoadedMultiverseWorld, LoadFailureReason> loadWorlds(
+            @NotNull Collection<? extends MultiverseWorld> worlds) {
+        return runBatch(List.<MultiverseWorld>copyOf(worlds), MultiverseWorld::getName, this::loadWorld,
+                LoadFailureReason.WORLD_CREATOR_FAILED);
+    }
+
+    /**
+     * Unloads many worlds by name, saving them first. The worlds are unloaded on the main thread across ticks, within
+     * {@link CoreConfig#getBatchOperationTickBudget()} per tick. Must be called on the main thread.
+     *
+     * @param worldNames    The names of the worlds to unload.
+     * @return The results of the unloads, in the same order as the world names.
+     */
+    public AsyncAttemptsAggregate<MultiverseWorld, UnloadFailureReason> unloadWorldsByName(
+            @NotNull Collection<String> worldNames) {
+        return runBatch(worldNames, Function.identity(), worldName -> getWorld(worldName)
+                        .map(this::unloadWorldInBatch)
+                        .getOrElse(() -> worldActionResult(UnloadFailureReason.WORLD_NON_EXISTENT, worldName)),
+                UnloadFailureReason.BUKKIT_UNLOAD_FAILED);
+    }
+
+    /**
+     * Unloads many worlds, saving them first. The worlds are unloaded on the main thread across ticks, within
+     * {@link CoreConfig#getBatchOperationTickBudget()} per tick. Must be called on the main thread.
+     *
+     * @param worlds    The worlds to unload.
+     * @return The results of the unloads, in the same order as the worlds.
+     */
+    public AsyncAttemptsAggregate<MultiverseWorld, UnloadFailureReason> unloadWorlds(
+            @NotNull Collection<? extends MultiverseWorld> worlds) {
+        return runBatch(List.<MultiverseWorld>copyOf(worlds), MultiverseWorld::getName, this::unloadWorldInBatch,
+                UnloadFailureReason.BUKKIT_UNLOAD_FAILED);
+    }
+
+    private Attempt<MultiverseWorld, UnloadFailureReason> unloadWorldInBatch(@NotNull MultiverseWorld world) {
+        return getLoadedWorld(world)
+                .map(loadedWorld -> unloadWorld(UnloadWorldOptions.world(loadedWorld)))
+                .getOrElse(() -> worldActionResult(UnloadFailureReason.WORLD_UNLOADED, world.getName()));
+    }
+
+    /**
+     * Deletes many worlds entirely by name. Warning: This will delete all world files.
+     * <br />
+     * The worlds are deleted on the main thread across ticks, within {@link CoreConfig#getBatchOperationTickBudget()}
+     * per tick, and the worlds config is saved once at the end. Must be called on the main thread.
+     *
+     * @param worldNames    The names of the worlds to delete.
+     * @return The results of the deletions, in the same order as the world names.
+     */
+    public AsyncAttemptsAggregate<String, DeleteFailureReason> deleteWorldsByName(
+            @NotNull Collection<String> worldNames) {
+        return runBatch(worldNames, Function.identity(), this::deleteWorld,
+                DeleteFailureReason.FAILED_TO_DELETE_FOLDER);
+    }
+
+    /**
+     * Deletes many worlds entirely. Warning: This will delete all world files.
+     * <br />
+     * The worlds are deleted on the main thread across ticks, within {@link CoreConfig#getBatchOperationTickBudget()}
+     * per tick, and the worlds config is saved once at the end. Must be called on the main thread.
+     *
+     * @param worlds    The worlds to delete.
+     * @return The results of the deletions, in the same order as the worlds.
+     */
+    public AsyncAttemptsAggregate<String, DeleteFailureReason> deleteWorlds(
+            @NotNull Collection<? extends MultiverseWorld> worlds) {
+        return runBatch(List.<MultiverseWorld>copyOf(worlds), MultiverseWorld::getName, this::deleteWorld,
+                DeleteFailureReason.FAILED_TO_DELETE_FOLDER);
+    }
+
+    /**
+     * Regenerates many worlds by name with their current seeds, keeping their game rules, config and world border.
+     * Worlds that are not loaded are loaded first.
+     * <br />
+     * The worlds are regenerated on the main thread across ticks, within
+     * {@link CoreConfig#getBatchOperationTickBudget()} per tick, and the worlds config is saved once at the end.
+     * Must be called on the main thread.
+     *
+     * @param worldNames    The names of the worlds to regenerate.
+     * @return The results of the regenerations, in the same order as the world names.
+     */
+    public AsyncAttemptsAggregate<LoadedMultiverseWorld, RegenFailureReason> regenWorldsByName(
+            @NotNull Collection<String> worldNames) {
+        return runAsyncBatch(worldNames, Function.identity(), worldName -> getWorld(worldName)
+                        .map(this::regenWorldInBatch)
+                        .getOrElse(() -> AsyncAttempt.<LoadedMultiverseWorld, RegenFailureReason>fromAttempt(
+                                worldActionResult(RegenFailureReason.WORLD_NON_EXISTENT, worldName))),
+                RegenFailureReason.CREATE_FAILED);
+    }
+
+    /**
+     * Regenerates many worlds with their current seeds, keeping their game rules, config and world border. Worlds
+     * that are not loaded are loaded first.
+     * <br />
+     * The worlds are regenerated on the main thread across ticks, within
+     * {@link CoreConfig#getBatchOperationTickBudget()} per tick, and the worlds config is saved once at the end.
+     * Must be called on the main thread.
+     *
+     * @param worlds    The worlds to regenerate.
+     * @return The results of the regenerations, in the same order as the worlds.
+     */
+    public AsyncAttemptsAggregate<LoadedMultiverseWorld, RegenFailureReason> regenWorlds(
+            @NotNull Collection<? extends MultiverseWorld> worlds) {
+        return runAsyncBatch(List.<MultiverseWorld>copyOf(worlds), MultiverseWorld::getName, this::regenWorldInBatch,
+                RegenFailureReason.CREATE_FAILED);
+    }
+
+    private AsyncAttempt<LoadedMultiverseWorld, RegenFailureReason> regenWorldInBatch(
+            @NotNull MultiverseWorld world) {
+        return AsyncAttempt.fromAttempt(getLoadedWorld(world)
+                        .map(Attempt::<LoadedMultiverseWorld, RegenFailureReason>success)
+                        .getOrElse(() -> loadWorld(world).transform(RegenFailureReason.LOAD_FAILED)))
+                .mapAsyncAttempt(loadedWorld -> regenWorldAsync(RegenWorldOptions.world(loadedWorld)));
+    }
+
+    /**
+     * Runs a world operation for each item as a batch. Changes to the worlds config made by the operations are saved
+     * once the batch is done.
+     */
+    private <I, T, F extends FailureReason> AsyncAttemptsAggregate<T, F> runBatch(
+            @NotNull Collection<I> items,
+            @NotNull Function<I, String> worldName,
+            @NotNull Function<I, Attempt<T, F>> operation,
+            @NotNull F errorReason) {
+        return runAsyncBatch(items, worldName, item -> AsyncAttempt.fromAttempt(operation.apply(item)), errorReason);
+    }
+
+    /**
+     * Runs a world operation that may finish in a later tick for each item as a batch. Changes to the worlds config
+     * made by the operations are saved once the batch is done.
+     */
+    private <I, T, F extends FailureReason> AsyncAttemptsAggregate<T, F> runAsyncBatch(
+            @NotNull Collection<I> items,
+            @NotNull Function<I, String> worldName,
+            @NotNull Function<I, AsyncAttempt<T, F>> operation,
+            @NotNull F errorReason) {
+        BatchSave batchSave = new BatchSave();
+        return batchRunner.runAsync(List.copyOf(items), item -> {
+            String name = worldName.apply(item);
+            batchingWorlds.put(name, batchSave);
+            return Try.of(() -> operation.apply(item))
+                    .onFailure(exception -> batchingWorlds.remove(name, batchSave))
+                    .get()
+                    .whenComplete(() -> batchingWorlds.remove(name, batchSave));
+        }, errorReason, () -> {
+            if (batchSave.worldsConfigChanged) {
+                saveWorldsConfig();
+            }
+        });
     }
 
     private <T, F extends FailureReason> Attempt<T, F> worldActionResult(@NotNull T value) {
@@ -767,14 +1373,8 @@ public final class WorldManager {
      * @return A list of all potential worlds.
      */
     public List<String> getPotentialWorlds() {
-        File[] files = Bukkit.getWorldContainer().listFiles();
-        if (files == null) {
-            return Collections.emptyList();
-        }
-        return Arrays.stream(files)
-                .filter(file -> !isWorld(file.getName()))
-                .filter(worldNameChecker::isValidWorldFolder)
-                .map(File::getName)
+        return worldFolderIndex.getWorldFolderNames().stream()
+                .filter(worldName -> !isWorld(worldName))
                 .toList();
     }
 
@@ -822,10 +1422,16 @@ public final class WorldManager {
      * @return A list of all worlds that may or may not be loaded.
      */
     public Collection<MultiverseWorld> getWorlds() {
-        return worldsMap.values().stream()
-                .map(world -> getLoadedWorld(world)
-                        .fold(() -> world, loadedWorld -> loadedWorld))
-                .toList();
+        return registry.getWorldsView();
+    }
+
+    /**
+     * Gets the number of worlds known to multiverse, loaded or not.
+     *
+     * @return The number of worlds.
+     */
+    public int getWorldCount() {
+        return registry.getWorldCount();
     }
 
     /**
@@ -835,7 +1441,7 @@ public final class WorldManager {
      * @return True if the world is a world is known to multiverse, but may or may not be loaded.
      */
     public boolean isWorld(@Nullable String worldName) {
-        return worldsMap.containsKey(worldName);
+        return registry.isWorld(worldName);
     }
 
     /**
@@ -845,7 +1451,10 @@ public final class WorldManager {
      * @return The world if it exists.
      */
     public Option<MultiverseWorld> getUnloadedWorld(@Nullable String worldName) {
-        return isLoadedWorld(worldName) ? Option.none() : Option.of(worldsMap.get(worldName));
+        WorldRegistry currentRegistry = registry;
+        return currentRegistry.isLoadedWorld(worldName)
+                ? Option.none()
+                : Option.of(currentRegistry.getWorld(worldName));
     }
 
     /**
@@ -859,21 +1468,31 @@ public final class WorldManager {
     }
 
     private Option<MultiverseWorld> getUnloadedWorldByAlias(@Nullable String alias) {
-        return Option.ofOptional(worldsMap.values().stream()
-                .filter(world -> !world.isLoaded())
-                .filter(world -> world.getColourlessAlias().equalsIgnoreCase(ChatColor.stripColor(alias)))
-                .findFirst());
+        WorldRegistry currentRegistry = registry;
+        for (MultiverseWorld world : currentRegistry.getWorldsByAlias(alias)) {
+            if (!currentRegistry.isLoadedWorld(world.getName())) {
+                return Option.of(world);
+            }
+        }
+        return Option.none();
     }
 
     /**
-     * Get a list of all worlds that are not loaded.
+     * Get a read-only list of all worlds that are not loaded.
      *
      * @return A list of all worlds that are not loaded.
      */
     public Collection<MultiverseWorld> getUnloadedWorlds() {
-        return worldsMap.values().stream()
-                .filter(world -> !world.isLoaded())
-                .toList();
+        return registry.getUnloadedWorldsView();
+    }
+
+    /**
+     * Gets the number of worlds that are not loaded.
+     *
+     * @return The number of worlds that are not loaded.
+     */
+    public int getUnloadedWorldCount() {
+        return registry.getUnloadedWorldCount();
     }
 
     /**
@@ -893,7 +1512,7 @@ public final class WorldManager {
      * @return The multiverse world if it exists.
      */
     public Option<LoadedMultiverseWorld> getLoadedWorld(@Nullable World world) {
-        return world == null ? Option.none() : Option.of((LoadedMultiverseWorld) loadedWorldsMap.get(world.getName()));
+        return world == null ? Option.none() : Option.of(registry.getLoadedWorld(world.getUID()));
     }
 
     /**
@@ -903,7 +1522,7 @@ public final class WorldManager {
      * @return The multiverse world if it exists.
      */
     public Option<LoadedMultiverseWorld> getLoadedWorld(@Nullable MultiverseWorld world) {
-        return world == null ? Option.none() : Option.of((LoadedMultiverseWorld) loadedWorldsMap.get(world.getName()));
+        return world == null ? Option.none() : Option.of(registry.getLoadedWorld(world.getName()));
     }
 
     /**
@@ -913,7 +1532,7 @@ public final class WorldManager {
      * @return The multiverse world if it exists.
      */
     public Option<LoadedMultiverseWorld> getLoadedWorld(@Nullable String worldName) {
-        return Option.of((LoadedMultiverseWorld) loadedWorldsMap.get(worldName));
+        return Option.of(registry.getLoadedWorld(worldName));
     }
 
     /**
@@ -928,10 +1547,14 @@ public final class WorldManager {
     }
 
     private Option<LoadedMultiverseWorld> getLoadedWorldByAlias(@Nullable String alias) {
-        return Option.ofOptional(loadedWorldsMap.values().stream()
-                .filter(world -> world.getColourlessAlias().equalsIgnoreCase(ChatColor.stripColor(alias)))
-                .map(world -> (LoadedMultiverseWorld) world)
-                .findFirst());
+        WorldRegistry currentRegistry = registry;
+        for (MultiverseWorld world : currentRegistry.getWorldsByAlias(alias)) {
+            LoadedMultiverseWorld loadedWorld = currentRegistry.getLoadedWorld(world.getName());
+            if (loadedWorld != null) {
+                return Option.of(loadedWorld);
+            }
+        }
+        return Option.none();
     }
 
     /**
@@ -940,9 +1563,16 @@ public final class WorldManager {
      * @return A list of all multiverse worlds that are loaded.
      */
     public Collection<LoadedMultiverseWorld> getLoadedWorlds() {
-        return loadedWorldsMap.values().stream()
-                .map(world -> (LoadedMultiverseWorld) world)
-                .toList();
+        return registry.getLoadedWorldsView();
+    }
+
+    /**
+     * Gets the number of multiverse worlds that are loaded.
+     *
+     * @return The number of multiverse worlds that are loaded.
+     */
+    public int getLoadedWorldCount() {
+        return registry.getLoadedWorldCount();
     }
 
     /**
@@ -972,7 +1602,41 @@ public final class WorldManager {
      * @return True if the world is a multiverse world that is loaded.
      */
     public boolean isLoadedWorld(@Nullable String worldName) {
-        return loadedWorldsMap.containsKey(worldName);
+        return registry.isLoadedWorld(worldName);
+    }
+
+    /**
+     * Applies a change to the world registry and publishes the new snapshot.
+     */
+    private void updateRegistry(UnaryOperator<WorldRegistry> update) {
+        synchronized (registryLock) {
+            registry = update.apply(registry);
+        }
+    }
+
+    private @Nullable LoadedMultiverseWorld removeLoadedWorld(String worldName) {
+        synchronized (registryLock) {
+            LoadedMultiverseWorld loadedWorld = registry.getLoadedWorld(worldName);
+            registry = registry.withoutLoadedWorld(worldName);
+            return loadedWorld;
+        }
+    }
+
+    /**
+     * Re-indexes the alias of a world in the world registry. Called when the alias of a world changes.
+     *
+     * @param world The world whose alias changed
+     */
+    void updateWorldAlias(@NotNull MultiverseWorld world) {
+        updateRegistry(currentRegistry -> currentRegistry.withAliasUpdated(world.getName()));
+        List<MultiverseWorld> sameAlias = registry.getWorldsByAlias(world.getAliasOrName());
+        if (sameAlias.size() > 1) {
+            Logging.warning("World '%s' now shares its alias with %s. Looking up that alias will find '%s'.",
+                    world.getName(),
+                    sameAlias.stream().map(MultiverseWorld::getName).filter(name -> !name.equals(world.getName()))
+                            .toList(),
+                    sameAlias.get(0).getName());
+        }
     }
 
     /**
@@ -1000,4 +1664,38 @@ public final class WorldManager {
                     failure.printStackTrace();
                 });
     }
+
+    /**
+     * Saves the worlds.yml config after a change to a world, or once its batch is done if a batch operation is running
+     * for the world.
+     *
+     * @param worldName The name of the changed world.
+     */
+    private void saveWorldsConfigUnlessBatching(@NotNull String worldName) {
+        BatchSave batchSave = batchingWorlds.get(worldName);
+        if (batchSave != null) {
+            batchSave.worldsConfigChanged = true;
+            return;
+        }
+        saveWorldsConfig();
+    }
+
+    /**
+     * Whether the operations of a running batch changed the worlds config.
+     */
+    private static final class BatchSave {
+        private boolean worldsConfigChanged = false;
+    }
+
+    /**
+     * The auto-save setting of a world from before it was paused by {@link #pauseAutoSave(World)}.
+     */
+    private static final class AutoSavePause {
+        private final boolean autoSave;
+        private int count = 0;
+
+        private AutoSavePause(boolean autoSave) {
+            this.autoSave = autoSave;
+        }
+    }
 }
@@ -0,0 +1,350 @@
+package org.mvplugins.multiverse.core.world;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import com.dumptruckman.minecraft.util.Logging;
+import io.vavr.control.Option;
+import jakarta.inject.Inject;
+import jakarta.inject.Provider;
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+import org.jvnet.hk2.annotations.Service;
+
+import org.mvplugins.multiverse.core.MultiverseCore;
+import org.mvplugins.multiverse.core.utils.BukkitExecutors;
+import org.mvplugins.multiverse.core.utils.result.AsyncAttempt;
+import org.mvplugins.multiverse.core.utils.result.Attempt;
+import org.mvplugins.multiverse.core.world.options.CreateWorldOptions;
+import org.mvplugins.multiverse.core.world.options.RegenWorldOptions;
+import org.mvplugins.multiverse.core.world.options.UnloadWorldOptions;
+import org.mvplugins.multiverse.core.world.options.WorldPoolOptions;
+import org.mvplugins.multiverse.core.world.reasons.WorldPoolFailureReason;
+
+import static org.mvplugins.multiverse.core.locale.message.MessageReplacement.replace;
+
+/**
+ * Keeps pools of pre-created worlds, so that worlds for short-lived uses such as minigame arenas can be handed out
+ * without waiting for world generation.
+ * <br />
+ * Pooled worlds are named {@code <pool>-<number>} and have {@link MultiverseWorld#isRegenTemplate()} enabled, so that
+ * a released world is reset by restoring its template. Pools are refilled on the main thread, one world at a time,
+ * while keeping the average time spent per tick within the pool's budget: the unused budget of earlier ticks is
+ * saved up, and a world is only created or reset once the saved budget covers what the last one took. A world that
+ * fails to reset is tried again later, and is left out of the pool after {@value #MAX_RECYCLE_ATTEMPTS} tries until
+ * {@link #retryFailed(String)} is called. Pools are not saved, and should be registered again on every startup.
+ * Existing worlds of a pool are reset and reused when it is registered.
+ * <br />
+ * All methods must be called on the main thread.
+ */
+@Service
+public final class WorldPool {
+
+    private static final long FAILURE_BACKOFF_TICKS = 20L * 30;
+    private static final int MAX_RECYCLE_ATTEMPTS = 3;
+
+    private final MultiverseCore plugin;
+    private final Provider<WorldManager> worldManagerProvider;
+    private final RegenTemplateStore regenTemplateStore;
+    private final BukkitExecutors executors;
+
+    private final Map<String, Pool> pools = new LinkedHashMap<>();
+    private boolean refillTaskStarted = false;
+
+    @Inject
+    WorldPool(
+            @NotNull MultiverseCore plugin,
+            @NotNull Provider<WorldManager> worldManagerProvider,
+            @NotNull RegenTemplateStore regenTemplateStore,
+            @NotNull BukkitExecutors executors) {
+        this.plugin = plugin;
+        this.worldManagerProvider = worldManagerProvider;
+        this.regenTemplateStore = regenTemplateStore;
+        this.executors = executors;
+    }
+
+    /**
+     * Registers a new pool. The pool starts filling up on the next tick.
+     *
+     * @param options   The options for the pool.
+     * @return The result of the registration.
+     */
+    public Attempt<Void, WorldPoolFailureReason> register(@NotNull WorldPoolOptions options) {
+        if (pools.containsKey(options.poolName())) {
+            return Attempt.failure(WorldPoolFailureReason.POOL_EXISTS);
+        }
+        Pool pool = new Pool(options);
+        Pattern worldNamePattern = Pattern.compile(Pattern.quote(options.poolName()) + "-\\d+");
+        worldManagerProvider.get().getWorlds().stream()
+                .map(MultiverseWorld::getName)
+                .filter(worldName -> worldNamePattern.matcher(worldName).matches())
+                .sorted()
+                .forEach(pool.toRecycle::add);
+        pools.put(options.poolName(), pool);
+        Logging.fine("Registered world pool '%s' with %d existing worlds.", options.poolName(), pool.toRecycle.size());
+        startRefillTask();
+        return Attempt.success(null);
+    }
+
+    /**
+     * Unregisters a pool. Its worlds are left as they are.
+     *
+     * @param poolName  The name of the pool.
+     * @return The result of the removal.
+     */
+    public Attempt<Void, WorldPoolFailureReason> unregister(@NotNull String poolName) {
+        return pools.remove(poolName) == null
+                ? Attempt.failure(WorldPoolFailureReason.POOL_NOT_FOUND, replace("{pool}").with(poolName))
+                : Attempt.success(null);
+    }
+
+    /**
+     * Takes a ready world out of the pool. If the pool does not keep its worlds loaded, the world is loaded first,
+     * which is still much faster than generating it.
+     *
+     * @param poolName  The name of the pool.
+     * @return The acquired world, or a failure if the pool does not exist or has no ready worlds.
+     */
+    public Attempt<LoadedMultiverseWorld, WorldPoolFailureReason> acquire(@NotNull String poolName) {
+        Pool pool = pools.get(poolName);
+        if (pool == null) {
+            return Attempt.failure(WorldPoolFailureReason.POOL_NOT_FOUND, replace("{pool}").with(poolName));
+        }
+        WorldManager worldManager = worldManagerProvider.get();
+        String worldName;
+        while ((worldName = pool.ready.poll()) != null) {
+            Option<MultiverseWorld> world = worldManager.getWorld(worldName);
+            if (world.isEmpty()) {
+                // Removed by something else while it was in the pool
+                continue;
+            }
+            String acquiredWorldName = worldName;
+            return worldManager.getLoadedWorld(world.get())
+                    .map(Attempt::<LoadedMultiverseWorld, WorldPoolFailureReason>success)
+                    .getOrElse(() -> worldManager.loadWorld(world.get()).transform(WorldPoolFailureReason.LOAD_FAILED))
+                    .onSuccess(() -> pool.inUse.add(acquiredWorldName))
+                    .onFailure(() -> pool.toRecycle.add(acquiredWorldName));
+        }
+        return Attempt.failure(WorldPoolFailureReason.POOL_EMPTY);
+    }
+
+    /**
+     * Returns an acquired world to its pool. The world is reset by restoring its template in the background, and is
+     * ready to be acquired again after that. Players should be moved out of the world first.
+     *
+     * @param world The world to release.
+     * @return The result of the release.
+     */
+    public Attempt<Void, WorldPoolFailureReason> release(@NotNull MultiverseWorld world) {
+        for (Pool pool : pools.values()) {
+            if (pool.inUse.remove(world.getName())) {
+                pool.toRecycle.add(world.getName());
+                return Attempt.success(null);
+            }
+        }
+        return Attempt.failure(WorldPoolFailureReason.NOT_POOLED);
+    }
+
+    /**
+     * Queues the worlds of a pool that failed to reset to be tried again.
+     *
+     * @param poolName  The name of the pool.
+     * @return The number of worlds queued, or a failure if the pool does not exist.
+     */
+    public Attempt<Integer, WorldPoolFailureReason> retryFailed(@NotNull String poolName) {
+        Pool pool = pools.get(poolName);
+        if (pool == null) {
+            return Attempt.failure(WorldPoolFailureReason.POOL_NOT_FOUND, replace("{pool}").with(poolName));
+        }
+        int count = pool.failed.size();
+        pool.toRecycle.addAll(pool.failed);
+        pool.failed.clear();
+        return Attempt.success(count);
+    }
+
+    /**
+     * Gets the current state of every registered pool.
+     *
+     * @return The states of the pools, in the order they were registered.
+     */
+    public List<WorldPoolStatus> getStatuses() {
+        return pools.values().stream().map(Pool::getStatus).toList();
+    }
+
+    /**
+     * Gets the number of worlds ready to be acquired from a pool.
+     *
+     * @param poolName  The name of the pool.
+     * @return The number of ready worlds, or none if the pool does not exist.
+     */
+    public Option<Integer> getReadyCount(@NotNull String poolName) {
+        return Option.of(pools.get(poolName)).map(pool -> pool.ready.size());
+    }
+
+    private void startRefillTask() {
+        if (refillTaskStarted) {
+            return;
+        }
+        refillTaskStarted = true;
+        Bukkit.getScheduler().runTaskTimer(plugin, () -> pools.values().forEach(Pool::refillTick), 1L, 1L);
+    }
+
+    private final class Pool {
+        private final WorldPoolOptions options;
+        private final Deque<String> ready = new ArrayDeque<>();
+        private final Set<String> inUse = new HashSet<>();
+        private final Deque<String> toRecycle = new ArrayDeque<>();
+        private final Map<String, Integer> recycleFailures = new HashMap<>();
+        private final Set<String> failed = new LinkedHashSet<>();
+        private int preparing = 0;
+        private int nextWorldNumber = 1;
+
+        /**
+         * Unused budget of earlier ticks, which is spent when a world is prepared. Negative while paying back time
+         * spent beyond the budget, or while backing off after a failure.
+         */
+        private long budgetCreditNanos = 0;
+        private long createCostNanos = 0;
+        private long recycleCostNanos = 0;
+
+        private Pool(WorldPoolOptions options) {
+            this.options = options;
+        }
+
+        private void refillTick() {
+            boolean recycle = !toRecycle.isEmpty();
+            if (!recycle && ready.size() + preparing >= options.size()) {
+                // Nothing to do, so don't save up budget for a burst of work later
+                budgetCreditNanos = Math.min(budgetCreditNanos, 0);
+                return;
+            }
+            budgetCreditNanos += TimeUnit.MILLISECONDS.toNanos(options.tickBudgetMillis());
+            if (budgetCreditNanos < (recycle ? recycleCostNanos : createCostNanos)) {
+                return;
+            }
+            long startTime = System.nanoTime();
+            if (recycle) {
+                recycleWorld(toRecycle.poll());
+            } else {
+                createWorld();
+            }
+            long costNanos = System.nanoTime() - startTime;
+            budgetCreditNanos -= costNanos;
+            if (recycle) {
+                recycleCostNanos = costNanos;
+            } else {
+                createCostNanos = costNanos;
+            }
+        }
+
+        private WorldPoolStatus getStatus() {
+            return new WorldPoolStatus(options.poolName(), options.size(), ready.size(), inUse.size(), preparing,
+                    toRecycle.size(), List.copyOf(failed));
+        }
+
+        private void createWorld() {
+            WorldManager worldManager = worldManagerProvider.get();
+            String worldName = nextWorldName(worldManager);
+            CreateWorldOptions createWorldOptions = CreateWorldOptions.worldName(worldName)
+                    .environment(options.environment())
+                    .generateStructures(options.generateStructures())
+                    .generator(options.generator())
+                    .worldType(options.worldType());
+            if (options.seed() != null) {
+                createWorldOptions.seed(options.seed());
+            }
+            preparing++;
+            worldManager.createWorld(createWorldOptions)
+                    .onSuccess(this::prepareWorld)
+                    .onFailure(failure -> {
+                        preparing--;
+                        backOff();
+                        Logging.warning("Failed to create world '%s' for pool '%s': %s",
+                                worldName, options.poolName(), failure.getFailureReason());
+                    });
+        }
+
+        private String nextWorldName(WorldManager worldManager) {
+            String worldName;
+            do {
+                worldName = options.poolName() + "-" + nextWorldNumber++;
+            } while (worldManager.isWorld(worldName) || Bukkit.getWorld(worldName) != null);
+            return worldName;
+        }
+
+        private void recycleWorld(String worldName) {
+            WorldManager worldManager = worldManagerProvider.get();
+            Option<MultiverseWorld> world = worldManager.getWorld(worldName);
+            if (world.isEmpty()) {
+                return;
+            }
+            preparing++;
+            AsyncAttempt.fromAttempt(worldManager.getLoadedWorld(world.get())
+                            .map(Attempt::<LoadedMultiverseWorld, WorldPoolFailureReason>success)
+                            .getOrElse(() -> worldManager.loadWorld(world.get())
+                                    .transform(WorldPoolFailureReason.LOAD_FAILED)))
+                    .mapAsyncAttempt(loadedWorld -> worldManager.regenWorldAsync(RegenWorldOptions.world(loadedWorld))
+                            .transform(WorldPoolFailureReason.RESET_FAILED))
+                    .onSuccess(loadedWorld -> {
+                        recycleFailures.remove(worldName);
+                        prepareWorld(loadedWorld);
+                    })
+                    .onFailure(failure -> {
+                        preparing--;
+                        backOff();
+                        recycleFailed(worldName, failure.getFailureReason());
+                    });
+        }
+
+        /**
+         * Makes sure the world has a template, then unloads it if needed and marks it ready.
+         */
+        private void prepareWorld(LoadedMultiverseWorld world) {
+            if (!world.isRegenTemplate()) {
+                world.setRegenTemplate(true);
+                worldManagerProvider.get().saveWorldsConfig();
+            }
+            regenTemplateStore.whenWritten(world.getName()).whenCompleteAsync((ignore, exception) -> {
+                preparing--;
+                if (exception != null) {
+                    Logging.warning("Failed to save regen template of pooled world '%s': %s",
+                            world.getName(), exception.getMessage());
+                }
+                if (!options.keepLoaded()) {
+                    worldManagerProvider.get().unloadWorld(UnloadWorldOptions.world(world).saveBukkitWorld(true))
+                            .onFailure(failure -> Logging.warning("Failed to unload pooled world '%s': %s",
+                                    world.getName(), failure.getFailureReason()));
+                }
+                ready.add(world.getName());
+                Logging.fine("World '%s' is ready in pool '%s'.", world.getName(), options.poolName());
+            }, executors.mainThread());
+        }
+
+        private void recycleFailed(String worldName, WorldPoolFailureReason reason) {
+            int attempts = recycleFailures.merge(worldName, 1, Integer::sum);
+            if (attempts < MAX_RECYCLE_ATTEMPTS) {
+                Logging.warning("Failed to reset world '%s' for pool '%s', trying again later: %s",
+                        worldName, options.poolName(), reason);
+                toRecycle.add(worldName);
+                return;
+            }
+            recycleFailures.remove(worldName);
+            failed.add(worldName);
+            Logging.severe("Failed to reset world '%s' for pool '%s' %d times, leaving it out of the pool: %s",
+                    worldName, options.poolName(), attempts, reason);
+        }
+
+        private void backOff() {
+            budgetCreditNanos -= FAILURE_BACKOFF_TICKS * TimeUnit.MILLISECONDS.toNanos(options.tickBudgetMillis());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package org.mvplugins.multiverse.core.world;
+
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The state of a world pool at one point in time.
+ *
+ * @param poolName        The name of the pool
+ * @param size            The number of ready worlds the pool is kept filled with
+ * @param readyCount      The number of worlds ready to be acquired
+ * @param inUseCount      The number of acquired worlds that have not been released yet
+ * @param preparingCount  The number of worlds being created or reset
+ * @param recycleCount    The number of released worlds waiting to be reset
+ * @param failedWorlds    The worlds that could not be reset after several tries, which are left out of the pool
+ */
+public record WorldPoolStatus(
+        @NotNull String poolName,
+        int size,
+        int readyCount,
+        int inUseCount,
+        int preparingCount,
+        int recycleCount,
+        @NotNull List<String> failedWorlds) {
+}
@@ -0,0 +1,287 @@
+package org.mvplugins.multiverse.core.world;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import org.bukkit.ChatColor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An immutable snapshot of the worlds known to the {@link WorldManager}. Every change creates a new snapshot, so a
+ * snapshot can be read from any thread without locking. Maps that a change does not touch are shared between
+ * snapshots.
+ * <br />
+ * Worlds are indexed by name, by alias key (see {@link #aliasKey(String)}), and loaded worlds by their bukkit world
+ * UID. Worlds sharing an alias key are kept in name order, so that alias lookups are deterministic.
+ * <br />
+ * The world lists handed out by the {@link WorldManager} are built once per snapshot.
+ */
+final class WorldRegistry {
+
+    static final WorldRegistry EMPTY = new WorldRegistry(Map.of(), Map.of(), Map.of(), Map.of(), Map.of());
+
+    private static final Comparator<MultiverseWorld> NAME_ORDER = Comparator.comparing(MultiverseWorld::getName);
+
+    private final Map<String, MultiverseWorld> worlds;
+    private final Map<String, LoadedMultiverseWorld> loadedWorlds;
+    private final Map<UUID, LoadedMultiverseWorld> loadedWorldsByUid;
+    private final Map<String, String> aliasKeysByName;
+    private final Map<String, List<MultiverseWorld>> worldsByAlias;
+
+    // Views are built on first use. Racing threads may each build one, which is harmless as they are equal.
+    private volatile List<MultiverseWorld> worldsView;
+    private volatile List<LoadedMultiverseWorld> loadedWorldsView;
+    private volatile List<MultiverseWorld> unloadedWorldsView;
+
+    /**
+     * Creates a snapshot that takes ownership of the given maps. They must not be modified afterward.
+     */
+    private WorldRegistry(
+            Map<String, MultiverseWorld> worlds,
+            Map<String, LoadedMultiverseWorld> loadedWorlds,
+            Map<UUID, LoadedMultiverseWorld> loadedWorldsByUid,
+            Map<String, String> aliasKeysByName,
+            Map<String, List<MultiverseWorld>> worldsByAlias) {
+        this.worlds = worlds;
+        this.loadedWorlds = loadedWorlds;
+        this.loadedWorldsByUid = loadedWorldsByUid;
+        this.aliasKeysByName = aliasKeysByName;
+        this.worldsByAlias = worldsByAlias;
+    }
+
+    /**
+     * Gets the key an alias is indexed by. Colour codes are stripped and the case is folded, so that lookups match
+     * the alias as it is shown in chat.
+     *
+     * @param alias The alias, which may contain colour codes
+     * @return The index key, or null if the alias is null
+     */
+    static @Nullable String aliasKey(@Nullable String alias) {
+        if (alias == null) {
+            return null;
+        }
+        return ChatColor.stripColor(ChatColor.translateAlternateColorCodes('&', alias)).toLowerCase(Locale.ROOT);
+    }
+
+    private static String aliasKeyOf(MultiverseWorld world) {
+        return aliasKey(world.getAliasOrName());
+    }
+
+    WorldRegistry withWorld(@NotNull MultiverseWorld world) {
+        Map<String, MultiverseWorld> newWorlds = new HashMap<>(worlds);
+        newWorlds.put(world.getName(), world);
+        Map<String, String> newAliasKeys = new HashMap<>(aliasKeysByName);
+        Map<String, List<MultiverseWorld>> newAliasIndex = new HashMap<>(worldsByAlias);
+        removeFromAliasIndex(world.getName(), newAliasKeys, newAliasIndex);
+        addToAliasIndex(world, newAliasKeys, newAliasIndex);
+        return new WorldRegistry(Collections.unmodifiableMap(newWorlds), loadedWorlds, loadedWorldsByUid,
+                Collections.unmodifiableMap(newAliasKeys), Collections.unmodifiableMap(newAliasIndex));
+    }
+
+    WorldRegistry withoutWorld(@NotNull String worldName) {
+        Map<String, MultiverseWorld> newWorlds = new HashMap<>(worlds);
+        newWorlds.remove(worldName);
+        Map<String, String> newAliasKeys = new HashMap<>(aliasKeysByName);
+        Map<String, List<MultiverseWorld>> newAliasIndex = new HashMap<>(worldsByAlias);
+        removeFromAliasIndex(worldName, newAliasKeys, newAliasIndex);
+        return new WorldRegistry(Collections.unmodifiableMap(newWorlds), loadedWorlds, loadedWorldsByUid,
+                Collections.unmodifiableMap(newAliasKeys), Collections.unmodifiableMap(newAliasIndex))
+                .withoutLoadedWorld(worldName);
+    }
+
+    WorldRegistry withLoadedWorld(@NotNull LoadedMultiverseWorld loadedWorld) {
+        Map<String, LoadedMultiverseWorld> newLoadedWorlds = new HashMap<>(loadedWorlds);
+        LoadedMultiverseWorld previous = newLoadedWorlds.put(loadedWorld.getName(), loadedWorld);
+        Map<UUID, LoadedMultiverseWorld> newUidIndex = new HashMap<>(loadedWorldsByUid);
+        if (previous != null) {
+            newUidIndex.remove(previous.getUID());
+        }
+        newUidIndex.put(loadedWorld.getUID(), loadedWorld);
+        return new WorldRegistry(worlds, Collections.unmodifiableMap(newLoadedWorlds),
+                Collections.unmodifiableMap(newUidIndex), aliasKeysByName, worldsByAlias);
+    }
+
+    WorldRegistry withoutLoadedWorld(@NotNull String worldName) {
+        if (!loadedWorlds.containsKey(worldName)) {
+            return this;
+        }
+        Map<String, LoadedMultiverseWorld> newLoadedWorlds = new HashMap<>(loadedWorlds);
+        LoadedMultiverseWorld removed = newLoadedWorlds.remove(worldName);
+        Map<UUID, LoadedMultiverseWorld> newUidIndex = new HashMap<>(loadedWorldsByUid);
+        newUidIndex.remove(removed.getUID());
+        return new WorldRegistry(worlds, Collections.unmodifiableMap(newLoadedWorlds),
+                Collections.unmodifiableMap(newUidIndex), aliasKeysByName, worldsByAlias);
+    }
+
+    /**
+     * Creates a copy of this snapshot with the alias of one world re-indexed, for when its alias has changed.
+     *
+     * @param worldName The name of the world whose alias changed
+     * @return The new snapshot
+     */
+    WorldRegistry withAliasUpdated(@NotNull String worldName) {
+        MultiverseWorld world = worlds.get(worldName);
+        if (world == null || aliasKeyOf(world).equals(aliasKeysByName.get(worldName))) {
+            return this;
+        }
+        Map<String, String> newAliasKeys = new HashMap<>(aliasKeysByName);
+        Map<String, List<MultiverseWorld>> newAliasIndex = new HashMap<>(worldsByAlias);
+        removeFromAliasIndex(worldName, newAliasKeys, newAliasIndex);
+        addToAliasIndex(world, newAliasKeys, newAliasIndex);
+        return new WorldRegistry(worlds, loadedWorlds, loadedWorldsByUid,
+                Collections.unmodifiableMap(newAliasKeys), Collections.unmodifiableMap(newAliasIndex));
+    }
+
+    /**
+     * Creates a copy of this snapshot with the whole alias index rebuilt, for when many aliases may have changed,
+     * such as after the worlds config is reloaded.
+     *
+     * @return The new snapshot
+     */
+    WorldRegistry withAliasesRebuilt() {
+        Map<String, String> newAliasKeys = new HashMap<>(worlds.size());
+        Map<String, List<MultiverseWorld>> newAliasIndex = new HashMap<>(worlds.size());
+        worlds.values().forEach(world -> addToAliasIndex(world, newAliasKeys, newAliasIndex));
+        return new WorldRegistry(worlds, loadedWorlds, loadedWorldsByUid,
+                Collections.unmodifiableMap(newAliasKeys), Collections.unmodifiableMap(newAliasIndex));
+    }
+
+    private static void addToAliasIndex(
+            MultiverseWorld world,
+            Map<String, String> aliasKeys,
+            Map<String, List<MultiverseWorld>> aliasIndex) {
+        String aliasKey = aliasKeyOf(world);
+        aliasKeys.put(world.getName(), aliasKey);
+        List<MultiverseWorld> sameAlias = new ArrayList<>(aliasIndex.getOrDefault(aliasKey, List.of()));
+        sameAlias.add(world);
+        sameAlias.sort(NAME_ORDER);
+        aliasIndex.put(aliasKey, List.copyOf(sameAlias));
+    }
+
+    private static void removeFromAliasIndex(
+            String worldName,
+            Map<String, String> aliasKeys,
+            Map<String, List<MultiverseWorld>> aliasIndex) {
+        String aliasKey = aliasKeys.remove(worldName);
+        if (aliasKey == null) {
+            return;
+        }
+        List<MultiverseWorld> sameAlias = aliasIndex.getOrDefault(aliasKey, List.of()).stream()
+                .filter(world -> !world.getName().equals(worldName))
+                .toList();
+        if (sameAlias.isEmpty()) {
+            aliasIndex.remove(aliasKey);
+        } else {
+            aliasIndex.put(aliasKey, sameAlias);
+        }
+    }
+
+    /**
+     * Gets a world by name. This is always the unloaded instance, even if the world is loaded.
+     */
+    @Nullable MultiverseWorld getWorld(@Nullable String worldName) {
+        return worldName == null ? null : worlds.get(worldName);
+    }
+
+    /**
+     * Gets the worlds with the given alias, in name order. These are always the unloaded instances, even if the
+     * world is loaded.
+     */
+    @NotNull List<MultiverseWorld> getWorldsByAlias(@Nullable String alias) {
+        String aliasKey = aliasKey(alias);
+        return aliasKey == null ? List.of() : worldsByAlias.getOrDefault(aliasKey, List.of());
+    }
+
+    /**
+     * Gets the alias keys that are shared by more than one world, with the names of those worlds.
+     */
+    @NotNull Map<String, List<String>> getAliasCollisions() {
+        Map<String, List<String>> collisions = new HashMap<>();
+        worldsByAlias.forEach((aliasKey, sameAlias) -> {
+            if (sameAlias.size() > 1) {
+                collisions.put(aliasKey, sameAlias.stream().map(MultiverseWorld::getName).toList());
+            }
+        });
+        return collisions;
+    }
+
+    @Nullable LoadedMultiverseWorld getLoadedWorld(@Nullable String worldName) {
+        return worldName == null ? null : loadedWorlds.get(worldName);
+    }
+
+    @Nullable LoadedMultiverseWorld getLoadedWorld(@Nullable UUID worldUid) {
+        return worldUid == null ? null : loadedWorldsByUid.get(worldUid);
+    }
+
+    boolean isWorld(@Nullable String worldName) {
+        return worldName != null && worlds.containsKey(worldName);
+    }
+
+    boolean isLoadedWorld(@Nullable String worldName) {
+        return worldName != null && loadedWorlds.containsKey(worldName);
+    }
+
+    /**
+     * Gets all worlds. These are always the unloaded instances, even if the world is loaded.
+     */
+    Collection<MultiverseWorld> getWorlds() {
+        return worlds.values();
+    }
+
+    /**
+     * Gets all worlds, with the loaded instance for worlds that are loaded.
+     */
+    @NotNull List<MultiverseWorld> getWorldsView() {
+        List<MultiverseWorld> view = worldsView;
+        if (view == null) {
+            view = worlds.values().stream()
+                    .map(world -> {
+                        LoadedMultiverseWorld loadedWorld = loadedWorlds.get(world.getName());
+                        return loadedWorld == null ? world : loadedWorld;
+                    })
+                    .toList();
+            worldsView = view;
+        }
+        return view;
+    }
+
+    @NotNull List<LoadedMultiverseWorld> getLoadedWorldsView() {
+        List<LoadedMultiverseWorld> view = loadedWorldsView;
+        if (view == null) {
+            view = List.copyOf(loadedWorlds.values());
+            loadedWorldsView = view;
+        }
+        return view;
+    }
+
+    @NotNull List<MultiverseWorld> getUnloadedWorldsView() {
+        List<MultiverseWorld> view = unloadedWorldsView;
+        if (view == null) {
+            view = worlds.values().stream()
+                    .filter(world -> !loadedWorlds.containsKey(world.getName()))
+                    .toList();
+            unloadedWorldsView = view;
+        }
+        return view;
+    }
+
+    int getWorldCount() {
+        return worlds.size();
+    }
+
+    int getLoadedWorldCount() {
+        return loadedWorlds.size();
+    }
+
+    int getUnloadedWorldCount() {
+        return worlds.size() - loadedWorlds.size();
+    }
+}
@@ -0,0 +1,40 @@
+package org.mvplugins.multiverse.core.world;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A snapshot of a world folder, which the world can be restored to.
+ *
+ * @param worldName         The name of the world
+ * @param id                The id of the snapshot, unique for the world and made of its creation time in UTC
+ * @param createdAt         The time the snapshot was created, in milliseconds since the epoch
+ * @param durationMillis    The time it took to create the snapshot, in milliseconds
+ * @param fileCount         The number of files in the snapshot
+ * @param chunkCount        The number of chunks in the region files of the snapshot
+ * @param totalBytes        The size of the files in the snapshot
+ * @param storedBytes       The number of bytes that had to be stored for this snapshot, as the rest was already stored
+ *                          by earlier snapshots
+ */
+public record WorldSnapshot(
+        @NotNull String worldName,
+        @NotNull String id,
+        long createdAt,
+        long durationMillis,
+        int fileCount,
+        int chunkCount,
+        long totalBytes,
+        long storedBytes) {
+
+    /**
+     * Gets the fraction of the snapshot's data that was already stored by earlier snapshots, and so took up no extra
+     * disk space.
+     *
+     * @return The deduplication ratio, from 0 to 1
+     */
+    public double getDeduplicationRatio() {
+        if (totalBytes <= 0) {
+            return 0;
+        }
+        return Math.max(0, 1 - (double) storedBytes / totalBytes);
+    }
+}
@@ -0,0 +1,566 @@
+package org.mvplugins.multiverse.core.world;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.dumptruckman.minecraft.util.Logging;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import org.jetbrains.annotations.NotNull;
+import org.jvnet.hk2.annotations.Service;
+
+import org.mvplugins.multiverse.core.MultiverseCore;
+import org.mvplugins.multiverse.core.utils.FileUtils;
+
+/**
+ * Stores incremental snapshots of world folders. Every file is stored once by the SHA-256 hash of its content, in a
+ * store shared by all snapshots, so a snapshot only takes up disk space for the files that changed since any earlier
+ * snapshot. Region files are stored chunk by chunk, along with an index of their chunks, as most chunks of a region
+ * file do not change between snapshots even if some do.
+ * <br />
+ * Files with the same size and modification time as in the world's previous snapshot are not read again. Each
+ * snapshot is described by a manifest listing the files of the world folder and the hashes of their content, which is
+ * written last, so a snapshot that exists is always complete.
+ */
+@Service
+final class WorldSnapshotStore {
+
+    private static final String SNAPSHOTS_FOLDER_NAME = "snapshots";
+    private static final String OBJECTS_FOLDER_NAME = "objects";
+    private static final String WORLDS_FOLDER_NAME = "worlds";
+    private static final String MANIFEST_EXTENSION = ".snapshot";
+    private static final String MANIFEST_FORMAT = "multiverse-snapshot 1";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String REGION_FILE_EXTENSION = ".mca";
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final int HASH_BYTES = 32;
+    private static final int REGION_INDEX_ENTRY_BYTES = Integer.BYTES * 2 + HASH_BYTES;
+    private static final Pattern SNAPSHOT_ID = Pattern.compile("[0-9A-Za-z-]+");
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{" + HASH_BYTES * 2 + "}");
+    private static final DateTimeFormatter SNAPSHOT_ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")
+            .withZone(ZoneOffset.UTC);
+    /**
+     * Orders snapshots oldest first by their creation time, with the id breaking ties.
+     */
+    private static final Comparator<WorldSnapshot> OLDEST_FIRST = Comparator.comparingLong(WorldSnapshot::createdAt)
+            .thenComparing(WorldSnapshot::id);
+    private static final HexFormat HEX = HexFormat.of();
+    private static final int MAX_WORKERS = 4;
+    private static final long UNKNOWN_MODIFIED_TIME = -1;
+
+    private final Path objectsFolder;
+    private final Path worldsFolder;
+    private final FileUtils fileUtils;
+    private final ExecutorService workers;
+    private final ThreadLocal<MessageDigest> digests = ThreadLocal.withInitial(WorldSnapshotStore::newDigest);
+
+    private final Set<String> busyWorlds = ConcurrentHashMap.newKeySet();
+
+    @Inject
+    WorldSnapshotStore(@NotNull MultiverseCore plugin, @NotNull FileUtils fileUtils) {
+        Path snapshotsFolder = plugin.getDataFolder().toPath().resolve(SNAPSHOTS_FOLDER_NAME);
+        this.objectsFolder = snapshotsFolder.resolve(OBJECTS_FOLDER_NAME);
+        this.worldsFolder = snapshotsFolder.resolve(WORLDS_FOLDER_NAME);
+        this.fileUtils = fileUtils;
+        int workerCount = Math.max(1, Math.min(MAX_WORKERS, Runtime.getRuntime().availableProcessors() / 2));
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "Multiverse-Snapshot-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * Checks if a snapshot of the given world is being created or restored.
+     *
+     * @param worldName The name of the world
+     * @return True if the world is busy
+     */
+    boolean isBusy(@NotNull String worldName) {
+        return busyWorlds.contains(worldName);
+    }
+
+    /**
+     * Marks the given world as busy until the operation completes. Must be called on the main thread, right after
+     * checking {@link #isBusy(String)}.
+     *
+     * @param worldName The name of the world
+     * @param operation The snapshot operation on the world
+     * @param <T>       The result type of the operation
+     * @return The operation
+     */
+    <T> CompletableFuture<T> trackOperation(@NotNull String worldName, @NotNull CompletableFuture<T> operation) {
+        busyWorlds.add(worldName);
+        operation.whenComplete((ignore, exception) -> busyWorlds.remove(worldName));
+        return operation;
+    }
+
+    /**
+     * Checks if the given world has a snapshot with the given id.
+     *
+     * @param worldName     The name of the world
+     * @param snapshotId    The id of the snapshot
+     * @return True if the snapshot exists
+     */
+    boolean hasSnapshot(@NotNull String worldName, @NotNull String snapshotId) {
+        return SNAPSHOT_ID.matcher(snapshotId).matches()
+                && Files.isRegularFile(getManifestFile(worldName, snapshotId));
+    }
+
+    /**
+     * Gets the snapshots of the given world.
+     *
+     * @param worldName The name of the world
+     * @return A future that completes with the snapshots, oldest first
+     */
+    CompletableFuture<List<WorldSnapshot>> getSnapshots(@NotNull String worldName) {
+        return CompletableFuture.supplyAsync(() -> readSnapshots(worldName), workers);
+    }
+
+    /**
+     * Creates a snapshot of the given world folder. The world should not write to its folder until this is done.
+     *
+     * @param worldName     The name of the world
+     * @param worldFolder   The world folder
+     * @param excludeFiles  The files in the world folder that should not be stored
+     * @return A future that completes with the snapshot once it is written
+     */
+    CompletableFuture<WorldSnapshot> createSnapshot(
+            @NotNull String worldName, @NotNull Path worldFolder, @NotNull List<String> excludeFiles) {
+        long createdAt = System.currentTimeMillis();
+        long startTime = System.nanoTime();
+        AtomicLong totalBytes = new AtomicLong();
+        AtomicLong storedBytes = new AtomicLong();
+        return CompletableFuture
+                .supplyAsync(() -> scanWorldFolder(worldFolder, excludeFiles, createdAt), workers)
+                .thenCompose(files -> {
+                    Map<String, ManifestEntry> previousEntries = readLatestEntries(worldName);
+                    List<CompletableFuture<ManifestEntry>> entries = files.stream()
+                            .map(file -> CompletableFuture.supplyAsync(() -> {
+                                totalBytes.addAndGet(file.size());
+                                return storeFile(file, previousEntries.get(file.path()), storedBytes);
+                            }, workers))
+                            .toList();
+                    return CompletableFuture.allOf(entries.toArray(CompletableFuture[]::new))
+                            .thenApply(ignore -> entries.stream()
+                                    .map(CompletableFuture::join)
+                                    .filter(Objects::nonNull)
+                                    .toList());
+                })
+                .thenApply(entries -> {
+                    WorldSnapshot snapshot = new WorldSnapshot(
+                            worldName,
+                            nextSnapshotId(worldName, createdAt),
+                            createdAt,
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime),
+                            entries.size(),
+                            entries.stream().mapToInt(ManifestEntry::chunkCount).sum(),
+                            totalBytes.get(),
+                            storedBytes.get());
+                    try {
+                        writeManifest(snapshot, entries);
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                    Logging.fine("Created snapshot '%s' of world '%s' in %d ms: %d files, %d of %d bytes stored.",
+                            snapshot.id(), worldName, snapshot.durationMillis(), snapshot.fileCount(),
+                            snapshot.storedBytes(), snapshot.totalBytes());
+                    return snapshot;
+                });
+    }
+
+    /**
+     * Rebuilds a world folder from a snapshot. Call {@link #hasSnapshot(String, String)} first.
+     *
+     * @param worldName     The name of the world
+     * @param snapshotId    The id of the snapshot
+     * @param targetFolder  The folder to rebuild the world in, which is replaced if it exists
+     * @return A future that completes once the folder is rebuilt
+     */
+    CompletableFuture<Void> restoreSnapshot(
+            @NotNull String worldName, @NotNull String snapshotId, @NotNull Path targetFolder) {
+        Path manifestFile = getManifestFile(worldName, snapshotId);
+        Path absoluteTargetFolder = targetFolder.toAbsolutePath().normalize();
+        long startTime = System.nanoTime();
+        return CompletableFuture
+                .supplyAsync(() -> {
+                    try {
+                        List<ManifestEntry> entries = readManifest(manifestFile, true).entries();
+                        if (Files.exists(absoluteTargetFolder)) {
+                            fileUtils.deleteFolder(absoluteTargetFolder).getOrElseThrow(CompletionException::new);
+                        }
+                        Files.createDirectories(absoluteTargetFolder);
+                        return entries;
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                }, workers)
+                .thenCompose(entries -> CompletableFuture.allOf(entries.stream()
+                        .map(entry -> CompletableFuture.runAsync(
+                                () -> restoreFile(absoluteTargetFolder, entry), workers))
+                        .toArray(CompletableFuture[]::new)))
+                .thenRun(() -> Logging.fine("Restored snapshot '%s' of world '%s' in %d ms.", snapshotId, worldName,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+    }
+
+    /**
+     * Lists the files to store, with their size and modification time at the time of listing.
+     */
+    private List<ScannedFile> scanWorldFolder(Path worldFolder, List<String> excludeFiles, long scanTime) {
+        List<ScannedFile> files = new ArrayList<>();
+        try {
+            Files.walkFileTree(worldFolder, new SimpleFileVisitor<>() {
+                @Override
+                public @NotNull FileVisitResult visitFile(Path file, @NotNull BasicFileAttributes attrs) {
+                    if (!attrs.isRegularFile() || excludeFiles.contains(file.getFileName().toString())) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                    long lastModified = attrs.lastModifiedTime().toMillis();
+                    files.add(new ScannedFile(
+                            worldFolder.relativize(file).toString().replace(File.separatorChar, '/'),
+                            file,
+                            attrs.size(),
+                            FileUtils.isRacyModifiedTime(lastModified, scanTime)
+                                    ? UNKNOWN_MODIFIED_TIME
+                                    : lastModified));
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+        return files;
+    }
+
+    /**
+     * Stores a file, unless it is unchanged since the previous snapshot.
+     *
+     * @return The manifest entry of the file, or null if the file no longer exists
+     */
+    private ManifestEntry storeFile(ScannedFile file, ManifestEntry previousEntry, AtomicLong storedBytes) {
+        if (previousEntry != null
+                && file.lastModified() != UNKNOWN_MODIFIED_TIME
+                && previousEntry.lastModified() == file.lastModified()
+                && previousEntry.size() == file.size()) {
+            return previousEntry;
+        }
+        try {
+            if (file.path().endsWith(REGION_FILE_EXTENSION)) {
+                List<RegionFileCompactor.RegionChunk> chunks = RegionFileCompactor.readChunks(file.file());
+                ByteBuffer regionIndex = ByteBuffer.allocate(chunks.size() * REGION_INDEX_ENTRY_BYTES);
+                for (RegionFileCompactor.RegionChunk chunk : chunks) {
+                    regionIndex.putInt(chunk.index())
+                            .putInt(chunk.timestamp())
+                            .put(storeObject(chunk.data(), storedBytes));
+                }
+                return new ManifestEntry(true, file.path(), file.size(), file.lastModified(), chunks.size(),
+                        HEX.formatHex(storeObject(regionIndex.flip(), storedBytes)));
+            }
+            // Not mapped, so the world folder can be deleted or replaced on Windows right after the snapshot
+            ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(file.file()));
+            return new ManifestEntry(false, file.path(), file.size(), file.lastModified(), 0,
+                    HEX.formatHex(storeObject(data, storedBytes)));
+        } catch (NoSuchFileException e) {
+            Logging.finer("File was removed while creating snapshot: %s", file.file());
+            return null;
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Stores the given data by its hash, unless data with the same hash is already stored.
+     *
+     * @return The hash of the data
+     */
+    private byte[] storeObject(ByteBuffer data, AtomicLong storedBytes) throws IOException {
+        MessageDigest digest = digests.get();
+        digest.update(data.duplicate());
+        byte[] hash = digest.digest();
+        Path objectFile = getObjectFile(HEX.formatHex(hash));
+        if (Files.exists(objectFile)) {
+            return hash;
+        }
+        Files.createDirectories(objectFile.getParent());
+        Path tempFile = objectFile.resolveSibling(
+                objectFile.getFileName() + "." + Thread.currentThread().getId() + TEMP_SUFFIX);
+        try (FileChannel out = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer source = data.duplicate();
+            while (source.hasRemaining()) {
+                out.write(source);
+            }
+        }
+        Files.move(tempFile, objectFile, StandardCopyOption.ATOMIC_MOVE);
+        storedBytes.addAndGet(data.remaining());
+        return hash;
+    }
+
+    private void restoreFile(Path targetFolder, ManifestEntry entry) {
+        Path target = targetFolder.resolve(entry.path()).normalize();
+        try {
+            if (!target.startsWith(targetFolder)) {
+                throw new IOException("File is outside of the world folder: " + entry.path());
+            }
+            Files.createDirectories(target.getParent());
+            if (entry.region()) {
+                RegionFileCompactor.writeRegionFile(target, readRegionChunks(entry.hash()));
+            } else {
+                Files.copy(getObjectFile(entry.hash()), target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            if (entry.lastModified() != UNKNOWN_MODIFIED_TIME) {
+                Files.setLastModifiedTime(target, FileTime.fromMillis(entry.lastModified()));
+            }
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private List<RegionFileCompactor.RegionChunk> readRegionChunks(String regionIndexHash) throws IOException {
+        ByteBuffer regionIndex = ByteBuffer.wrap(Files.readAllBytes(getObjectFile(regionIndexHash)));
+        List<RegionFileCompactor.RegionChunk> chunks = new ArrayList<>(
+                regionIndex.remaining() / REGION_INDEX_ENTRY_BYTES);
+        byte[] chunkHash = new byte[HASH_BYTES];
+        while (regionIndex.hasRemaining()) {
+            int index = regionIndex.getInt();
+            int timestamp = regionIndex.getInt();
+            regionIndex.get(chunkHash);
+            ByteBuffer chunkData = ByteBuffer.wrap(Files.readAllBytes(getObjectFile(HEX.formatHex(chunkHash))));
+            chunks.add(new RegionFileCompactor.RegionChunk(index, timestamp, chunkData));
+        }
+        return chunks;
+    }
+
+    private Map<String, ManifestEntry> readLatestEntries(String worldName) {
+        List<WorldSnapshot> snapshots = readSnapshots(worldName);
+        if (snapshots.isEmpty()) {
+            return Map.of();
+        }
+        Path latestManifestFile = getManifestFile(worldName, snapshots.get(snapshots.size() - 1).id());
+        try {
+            Map<String, ManifestEntry> entries = new HashMap<>();
+            readManifest(latestManifestFile, true).entries().forEach(entry -> entries.put(entry.path(), entry));
+            return entries;
+        } catch (IOException e) {
+            Logging.warning("Failed to read snapshot %s, all files will be read again: %s",
+                    latestManifestFile, e.getMessage());
+            return Map.of();
+        }
+    }
+
+    /**
+     * Reads the details of the snapshots of a world, oldest first. Snapshots that can't be read are skipped.
+     */
+    private List<WorldSnapshot> readSnapshots(String worldName) {
+        Path worldSnapshotsFolder = worldsFolder.resolve(worldName);
+        if (!Files.isDirectory(worldSnapshotsFolder)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(worldSnapshotsFolder)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(MANIFEST_EXTENSION))
+                    .map(manifestFile -> {
+                        try {
+                            return readManifest(manifestFile, false).snapshot();
+                        } catch (IOException e) {
+                            Logging.warning("Failed to read snapshot %s: %s", manifestFile, e.getMessage());
+                            return null;
+                        }
+                    })
+                    .filter(Objects::nonNull)
+                    .sorted(OLDEST_FIRST)
+                    .toList();
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Gets an id for a new snapshot from its creation time in UTC and a zero padded sequence number for snapshots
+     * created in the same second, so that ids also sort by creation time as text.
+     */
+    private String nextSnapshotId(String worldName, long createdAt) {
+        String baseId = SNAPSHOT_ID_FORMAT.format(Instant.ofEpochMilli(createdAt));
+        String snapshotId = baseId + "-00";
+        for (int count = 1; Files.exists(getManifestFile(worldName, snapshotId)); count++) {
+            snapshotId = baseId + "-" + String.format(Locale.ROOT, "%02d", count);
+        }
+        return snapshotId;
+    }
+
+    private void writeManifest(WorldSnapshot snapshot, List<ManifestEntry> entries) throws IOException {
+        Path manifestFile = getManifestFile(snapshot.worldName(), snapshot.id());
+        Files.createDirectories(manifestFile.getParent());
+        Path tempFile = manifestFile.resolveSibling(manifestFile.getFileName() + TEMP_SUFFIX);
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(tempFile)), StandardCharsets.UTF_8))) {
+            writer.write(MANIFEST_FORMAT);
+            writer.newLine();
+            writeHeader(writer, "world", snapshot.worldName());
+            writeHeader(writer, "id", snapshot.id());
+            writeHeader(writer, "created-at", snapshot.createdAt());
+            writeHeader(writer, "duration-millis", snapshot.durationMillis());
+            writeHeader(writer, "files", snapshot.fileCount());
+            writeHeader(writer, "chunks", snapshot.chunkCount());
+            writeHeader(writer, "total-bytes", snapshot.totalBytes());
+            writeHeader(writer, "stored-bytes", snapshot.storedBytes());
+            writer.newLine();
+            for (ManifestEntry entry : entries) {
+                writer.write(entry.toLine());
+                writer.newLine();
+            }
+        }
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(tempFile, manifestFile, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void writeHeader(BufferedWriter writer, String key, Object value) throws IOException {
+        writer.write(key + " " + value);
+        writer.newLine();
+    }
+
+    /**
+     * Reads a manifest file.
+     *
+     * @param manifestFile  The manifest file
+     * @param readEntries   Whether to read the file entries, or only the snapshot details at the top of the file
+     * @return The manifest
+     */
+    private Manifest readManifest(Path manifestFile, boolean readEntries) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(manifestFile)), StandardCharsets.UTF_8))) {
+            if (!MANIFEST_FORMAT.equals(reader.readLine())) {
+                throw new IOException("Unknown snapshot format");
+            }
+            Map<String, String> header = new HashMap<>();
+            String line;
+            while ((line = reader.readLine()) != null && !line.isEmpty()) {
+                String[] keyValue = line.split(" ", 2);
+                header.put(keyValue[0], keyValue.length > 1 ? keyValue[1] : "");
+            }
+            WorldSnapshot snapshot = parseSnapshot(header);
+            List<ManifestEntry> entries = new ArrayList<>();
+            while (readEntries && (line = reader.readLine()) != null) {
+                entries.add(ManifestEntry.fromLine(line));
+            }
+            return new Manifest(snapshot, entries);
+        }
+    }
+
+    private WorldSnapshot parseSnapshot(Map<String, String> header) throws IOException {
+        try {
+            return new WorldSnapshot(
+                    Objects.requireNonNull(header.get("world")),
+                    Objects.requireNonNull(header.get("id")),
+                    Long.parseLong(header.get("created-at")),
+                    Long.parseLong(header.get("duration-millis")),
+                    Integer.parseInt(header.get("files")),
+                    Integer.parseInt(header.get("chunks")),
+                    Long.parseLong(header.get("total-bytes")),
+                    Long.parseLong(header.get("stored-bytes")));
+        } catch (NullPointerException | NumberFormatException e) {
+            throw new IOException("Invalid snapshot details", e);
+        }
+    }
+
+    private Path getManifestFile(String worldName, String snapshotId) {
+        return worldsFolder.resolve(worldName).resolve(snapshotId + MANIFEST_EXTENSION);
+    }
+
+    private Path getObjectFile(String hash) {
+        return objectsFolder.resolve(hash.substring(0, 2)).resolve(hash.substring(2));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(HASH_ALGORITHM + " is not available", e);
+        }
+    }
+
+    private record ScannedFile(String path, Path file, long size, long lastModified) {
+    }
+
+    private record Manifest(WorldSnapshot snapshot, List<ManifestEntry> entries) {
+    }
+
+    /**
+     * A file in a snapshot. The hash of a region file is the hash of its chunk index, which lists the index, timestamp
+     * and hash of each chunk.
+     */
+    private record ManifestEntry(
+            boolean region, String path, long size, long lastModified, int chunkCount, String hash) {
+
+        private static final String FILE_TYPE = "F";
+        private static final String REGION_TYPE = "R";
+
+        private String toLine() {
+            return String.join(" ", region ? REGION_TYPE : FILE_TYPE, String.valueOf(size),
+                    String.valueOf(lastModified), String.valueOf(chunkCount), hash, path);
+        }
+
+        private static ManifestEntry fromLine(String line) throws IOException {
+            String[] parts = line.split(" ", 6);
+            if (parts.length != 6 || !(parts[0].equals(FILE_TYPE) || parts[0].equals(REGION_TYPE))
+                    || !HASH.matcher(parts[4]).matches()) {
+                throw new IOException("Invalid snapshot entry: " + line);
+            }
+            try {
+                return new ManifestEntry(parts[0].equals(REGION_TYPE), parts[5], Long.parseLong(parts[1]),
+                        Long.parseLong(parts[2]), Integer.parseInt(parts[3]), parts[4]);
+            } catch (NumberFormatException e) {
+                throw new IOException("Invalid snapshot entry: " + line, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.mvplugins.multiverse.core.world.footprint;
+
+import java.util.Map;
+
+import org.bukkit.entity.SpawnCategory;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A snapshot of the resources used by a loaded world.
+ *
+ * @param worldName             The name of the world
+ * @param loadedChunks          The number of loaded chunks
+ * @param entityCounts          The number of entities per spawn category, only including categories with entities
+ * @param tileEntityCount       The number of tile entities in loaded chunks
+ * @param pluginChunkTickets    The number of chunks each plugin holds a chunk ticket for, by plugin name
+ * @param forceLoadedChunks     The number of force loaded chunks
+ * @param playerCount           The number of players in the world
+ * @param keepSpawnInMemory     Whether the spawn chunks are kept in memory
+ * @param regionDiskBytes       The size of the world's region files on disk, or {@link #UNKNOWN_SIZE} if it could not
+ *                              be read
+ */
+public record WorldFootprint(
+        @NotNull String worldName,
+        int loadedChunks,
+        @NotNull Map<SpawnCategory, Integer> entityCounts,
+        int tileEntityCount,
+        @NotNull Map<String, Integer> pluginChunkTickets,
+        int forceLoadedChunks,
+        int playerCount,
+        boolean keepSpawnInMemory,
+        long regionDiskBytes) {
+
+    /**
+     * The value of {@link #regionDiskBytes()} when the size of the region files could not be read.
+     */
+    public static final long UNKNOWN_SIZE = -1;
+
+    /**
+     * Gets the total number of entities across all spawn categories.
+     *
+     * @return The total number of entities
+     */
+    public int getEntityCount() {
+        return entityCounts.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * Gets the total number of chunks held by plugin chunk tickets, across all plugins.
+     *
+     * @return The total number of plugin chunk tickets
+     */
+    public int getPluginChunkTicketCount() {
+        return pluginChunkTickets.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * Creates a copy of this footprint with the given region size.
+     *
+     * @param regionDiskBytesInput  The size of the world's region files on disk
+     * @return The new footprint
+     */
+    @NotNull WorldFootprint withRegionDiskBytes(long regionDiskBytesInput) {
+        return new WorldFootprint(worldName, loadedChunks, entityCounts, tileEntityCount, pluginChunkTickets,
+                forceLoadedChunks, playerCount, keepSpawnInMemory, regionDiskBytesInput);
+    }
+}
@@ -0,0 +1,186 @@
+package org.mvplugins.multiverse.core.world.footprint;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import com.dumptruckman.minecraft.util.Logging;
+import jakarta.inject.Inject;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.SpawnCategory;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jvnet.hk2.annotations.Service;
+
+import org.mvplugins.multiverse.core.MultiverseCore;
+import org.mvplugins.multiverse.core.utils.BukkitExecutors;
+import org.mvplugins.multiverse.core.world.LoadedMultiverseWorld;
+import org.mvplugins.multiverse.core.world.WorldManager;
+
+/**
+ * Reports the resources used by loaded worlds, such as loaded chunks, entities and chunk tickets, to find out which
+ * worlds are responsible for high memory use or low TPS.
+ * <br />
+ * Counts are taken on the main thread when a footprint is requested. Tile entities are counted across ticks, as getting
+ * them builds a snapshot of each one. The size of the region files on disk is computed asynchronously and cached for a
+ * few minutes, as walking the world folder is slow for large worlds.
+ */
+@Service
+public final class WorldFootprintReporter {
+
+    private static final String REGION_FILE_EXTENSION = ".mca";
+    private static final long DISK_SIZE_CACHE_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    private static final int TILE_ENTITY_CHUNKS_PER_TICK = 64;
+
+    private final MultiverseCore plugin;
+    private final WorldManager worldManager;
+    private final BukkitExecutors executors;
+
+    private final Map<String, CachedDiskSize> diskSizes = new ConcurrentHashMap<>();
+
+    @Inject
+    WorldFootprintReporter(
+            @NotNull MultiverseCore plugin,
+            @NotNull WorldManager worldManager,
+            @NotNull BukkitExecutors executors) {
+        this.plugin = plugin;
+        this.worldManager = worldManager;
+        this.executors = executors;
+    }
+
+    /**
+     * Gets the footprints of all loaded worlds. Must be called on the main thread.
+     *
+     * @return A future that completes with the footprints once the region sizes are known
+     */
+    public CompletableFuture<List<WorldFootprint>> getFootprints() {
+        List<CompletableFuture<WorldFootprint>> footprints = worldManager.getLoadedWorlds().stream()
+                .filter(world -> world.getBukkitWorld().isDefined())
+                .map(this::getFootprint)
+                .toList();
+        return CompletableFuture.allOf(footprints.toArray(CompletableFuture[]::new))
+                .thenApply(ignore -> footprints.stream().map(CompletableFuture::join).toList());
+    }
+
+    /**
+     * Gets the footprint of a loaded world. Must be called on the main thread.
+     *
+     * @param world The world
+     * @return A future that completes with the footprint once the tile entities are counted and the region size is
+     *         known
+     */
+    public CompletableFuture<WorldFootprint> getFootprint(@NotNull LoadedMultiverseWorld world) {
+        return getFootprint(world, System.currentTimeMillis());
+    }
+
+    /**
+     * Gets the footprint of a loaded world, using the given time to decide whether the cached region size is stale.
+     */
+    CompletableFuture<WorldFootprint> getFootprint(@NotNull LoadedMultiverseWorld world, long now) {
+        World bukkitWorld = world.getBukkitWorld().getOrNull();
+        if (bukkitWorld == null) {
+            return CompletableFuture.failedFuture(new IllegalStateException("World is not loaded: " + world.getName()));
+        }
+        CompletableFuture<Long> regionDiskBytes = getRegionDiskBytes(bukkitWorld, now);
+        return countResources(bukkitWorld, world.isKeepSpawnInMemory())
+                .thenCombine(regionDiskBytes, WorldFootprint::withRegionDiskBytes);
+    }
+
+    private CompletableFuture<WorldFootprint> countResources(World world, boolean keepSpawnInMemory) {
+        Chunk[] loadedChunks = world.getLoadedChunks();
+
+        Map<SpawnCategory, Integer> entityCounts = new EnumMap<>(SpawnCategory.class);
+        for (Entity entity : world.getEntities()) {
+            entityCounts.merge(entity.getSpawnCategory(), 1, Integer::sum);
+        }
+
+        Map<String, Integer> pluginChunkTickets = new TreeMap<>();
+        for (Map.Entry<Plugin, Collection<Chunk>> entry : world.getPluginChunkTickets().entrySet()) {
+            pluginChunkTickets.put(entry.getKey().getName(), entry.getValue().size());
+        }
+
+        int forceLoadedChunks = world.getForceLoadedChunks().size();
+        int playerCount = world.getPlayers().size();
+        return countTileEntities(loadedChunks).thenApply(tileEntityCount -> new WorldFootprint(
+                world.getName(),
+                loadedChunks.length,
+                entityCounts,
+                tileEntityCount,
+                pluginChunkTickets,
+                forceLoadedChunks,
+                playerCount,
+                keepSpawnInMemory,
+                WorldFootprint.UNKNOWN_SIZE));
+    }
+
+    /**
+     * Counts the tile entities of the chunks, {@link #TILE_ENTITY_CHUNKS_PER_TICK} chunks per tick. Chunks that unload
+     * before they are counted are skipped.
+     */
+    private CompletableFuture<Integer> countTileEntities(Chunk[] chunks) {
+        CompletableFuture<Integer> tileEntityCount = new CompletableFuture<>();
+        countTileEntities(chunks, 0, 0, tileEntityCount);
+        return tileEntityCount;
+    }
+
+    private void countTileEntities(Chunk[] chunks, int startIndex, int countSoFar, CompletableFuture<Integer> result) {
+        int endIndex = Math.min(chunks.length, startIndex + TILE_ENTITY_CHUNKS_PER_TICK);
+        int count = countSoFar;
+        for (int i = startIndex; i < endIndex; i++) {
+            if (chunks[i].isLoaded()) {
+                count += chunks[i].getTileEntities().length;
+            }
+        }
+        if (endIndex >= chunks.length) {
+            result.complete(count);
+            return;
+        }
+        int nextCount = count;
+        Bukkit.getScheduler().runTaskLater(plugin, () -> countTileEntities(chunks, endIndex, nextCount, result), 1L);
+    }
+
+    private CompletableFuture<Long> getRegionDiskBytes(World world, long now) {
+        Path worldFolder = world.getWorldFolder().toPath();
+        return diskSizes.compute(world.getName(), (worldName, cachedSize) -> {
+            if (cachedSize != null && !cachedSize.isStale(now)) {
+                return cachedSize;
+            }
+            return new CachedDiskSize(
+                    CompletableFuture.supplyAsync(() -> sumRegionFiles(worldFolder), executors.async()), now);
+        }).size();
+    }
+
+    /**
+     * Sums up the size of all region files in the world folder, including entity and poi regions and the regions
+     * of dimension folders.
+     */
+    private long sumRegionFiles(Path worldFolder) {
+        try (Stream<Path> files = Files.walk(worldFolder)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(REGION_FILE_EXTENSION))
+                    .mapToLong(file -> file.toFile().length())
+                    .sum();
+        } catch (IOException | UncheckedIOException e) {
+            Logging.warning("Failed to read the region size of %s: %s", worldFolder, e.getMessage());
+            return WorldFootprint.UNKNOWN_SIZE;
+        }
+    }
+
+    private record CachedDiskSize(CompletableFuture<Long> size, long computedAt) {
+        private boolean isStale(long now) {
+            return size.isDone() && now - computedAt >= DISK_SIZE_CACHE_MILLIS;
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package org.mvplugins.multiverse.core.world.helpers;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import com.dumptruckman.minecraft.util.Logging;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+import org.jvnet.hk2.annotations.Service;
+
+import org.mvplugins.multiverse.core.utils.BukkitExecutors;
+import org.mvplugins.multiverse.core.utils.FileUtils;
+import org.mvplugins.multiverse.core.world.helpers.WorldNameChecker.FolderStatus;
+
+/**
+ * An index of the folders in the world container and whether they look like worlds, so that world folder lookups do
+ * not have to list the world container every time.
+ * <br />
+ * The index is built asynchronously by {@link #start()}. Each lookup reads the modification time of the world
+ * container, and rescans it if it changed, so folders created or deleted just before a lookup are always seen. A
+ * rescan only checks the folders whose own modification time changed. Like git's index, a modification time that
+ * was very recent when it was recorded is not trusted, and is checked again on the next lookup.
+ * <br />
+ * Folders that do not look like worlds are watched by a {@link WatchService}, so that a world copied into the
+ * container is picked up once its level.dat is written. As a fallback for file systems that do not report changes,
+ * such as network storage, those folders are checked again when their own modification time changes.
+ */
+@Service
+public final class WorldFolderIndex {
+
+    private static final long NOT_SCANNED = -1;
+
+    private final WorldNameChecker worldNameChecker;
+    private final BukkitExecutors executors;
+
+    private final Map<String, FolderEntry> folders = new ConcurrentHashMap<>();
+    private final Map<String, WatchKey> folderWatchKeys = new ConcurrentHashMap<>();
+    private final Object scanLock = new Object();
+    private volatile long scannedContainerModified = NOT_SCANNED;
+    private volatile WatchService watchService;
+    private volatile boolean watching = false;
+
+    @Inject
+    WorldFolderIndex(@NotNull WorldNameChecker worldNameChecker, @NotNull BukkitExecutors executors) {
+        this.worldNameChecker = worldNameChecker;
+        this.executors = executors;
+    }
+
+    /**
+     * Starts watching the world container for changes and builds the index in the background. Lookups done before
+     * the index is built scan the world container themselves.
+     */
+    public void start() {
+        startWatching();
+        CompletableFuture.runAsync(this::refreshIfStale, executors.async());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        WatchService currentWatchService = watchService;
+        if (currentWatchService == null) {
+            return;
+        }
+        try {
+            currentWatchService.close();
+        } catch (IOException e) {
+            Logging.finer("Failed to close world container watch service: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the names of all folders directly in the world container that look like worlds.
+     *
+     * @return The folder names.
+     */
+    public @NotNull List<String> getWorldFolderNames() {
+        refreshIfStale();
+        return folders.entrySet().stream()
+                .filter(entry -> revalidate(entry.getKey(), entry.getValue()).status() == FolderStatus.VALID)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * Rescans the container if it changed since the last scan. The watch service reports changes asynchronously, so
+     * it cannot be relied on to have seen a folder that was created or deleted just before the lookup.
+     */
+    private void refreshIfStale() {
+        File container = Bukkit.getWorldContainer();
+        long containerModified = container.lastModified();
+        if (containerModified == scannedContainerModified) {
+            return;
+        }
+        synchronized (scanLock) {
+            if (containerModified == scannedContainerModified) {
+                return;
+            }
+            // Record the time read before the scan, so that changes made during the scan cause another one
+            scan(container);
+            scannedContainerModified = trustedModified(containerModified);
+        }
+    }
+
+    private void scan(File container) {
+        File[] files = container.listFiles(File::isDirectory);
+        if (files == null) {
+            folders.clear();
+            return;
+        }
+        Set<String> folderNames = Arrays.stream(files).map(File::getName).collect(Collectors.toSet());
+        folders.keySet().retainAll(folderNames);
+        folderWatchKeys.keySet().stream()
+                .filter(folderName -> !folderNames.contains(folderName))
+                .toList()
+                .forEach(this::unwatchFolder);
+        for (File folder : files) {
+            FolderEntry entry = folders.get(folder.getName());
+            if (entry == null || entry.modified() != folder.lastModified()) {
+                entry = checkFolder(folder);
+                folders.put(folder.getName(), entry);
+            }
+            updateFolderWatch(folder, entry.status());
+        }
+        Logging.finer("Indexed %d folders in the world container.", folders.size());
+    }
+
+    /**
+     * Checks a folder that did not look like a world again if it changed. Only needed without the watcher, which
+     * reports new files in such folders.
+     */
+    private FolderEntry revalidate(String folderName, FolderEntry entry) {
+        if (watching || entry.status() != FolderStatus.NOT_A_WORLD) {
+            return entry;
+        }
+        File folder = new File(Bukkit.getWorldContainer(), folderName);
+        if (folder.lastModified() == entry.modified()) {
+            return entry;
+        }
+        FolderEntry newEntry = checkFolder(folder);
+        if (newEntry.status() == FolderStatus.DOES_NOT_EXIST) {
+            folders.remove(folderName, entry);
+        } else {
+            folders.replace(folderName, entry, newEntry);
+        }
+        return newEntry;
+    }
+
+    private FolderEntry checkFolder(File folder) {
+        long modified = trustedModified(folder.lastModified());
+        return new FolderEntry(worldNameChecker.checkFolder(folder), modified);
+    }
+
+    private static long trustedModified(long modified) {
+        return FileUtils.isRacyModifiedTime(modified, System.currentTimeMillis()) ? NOT_SCANNED : modified;
+    }
+
+    /**
+     * Watches a folder that does not look like a world for new files, such as a level.dat being copied in.
+     */
+    private void updateFolderWatch(File folder, FolderStatus status) {
+        if (!watching || status != FolderStatus.NOT_A_WORLD) {
+            unwatchFolder(folder.getName());
+            return;
+        }
+        if (folderWatchKeys.containsKey(folder.getName())) {
+            return;
+        }
+        try {
+            folderWatchKeys.put(folder.getName(),
+                    folder.toPath().register(watchService, StandardWatchEventKinds.ENTRY_CREATE));
+        } catch (IOException | ClosedWatchServiceException e) {
+            Logging.finer("Unable to watch folder '%s' in the world container: %s", folder.getName(), e.getMessage());
+            return;
+        }
+        // Files created before the watch was registered are not reported, so check once more
+        FolderEntry entry = checkFolder(folder);
+        if (entry.status() != FolderStatus.NOT_A_WORLD) {
+            unwatchFolder(folder.getName());
+            if (entry.status() == FolderStatus.DOES_NOT_EXIST) {
+                folders.remove(folder.getName());
+            } else {
+                folders.put(folder.getName(), entry);
+            }
+        }
+    }
+
+    private void unwatchFolder(String folderName) {
+        WatchKey key = folderWatchKeys.remove(folderName);
+        if (key != null) {
+            key.cancel();
+        }
+    }
+
+    private void startWatching() {
+        Path container = Bukkit.getWorldContainer().toPath();
+        WatchKey containerKey;
+        try {
+            watchService = container.getFileSystem().newWatchService();
+            containerKey = container.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException | UnsupportedOperationException e) {
+            Logging.fine("Unable to watch the world container, changes will be picked up by rescanning: "
+                    + e.getMessage());
+            return;
+        }
+        watching = true;
+        Thread watcherThread = new Thread(() -> watch(container, containerKey), "Multiverse-WorldFolderWatcher");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+    }
+
+    private void watch(Path container, WatchKey containerKey) {
+        try {
+            while (true) {
+                WatchKey key;
+                try {
+                    key = watchService.take();
+                } catch (InterruptedException | ClosedWatchServiceException e) {
+                    return;
+                }
+                if (key == containerKey) {
+                    handleContainerEvents(container, key);
+                } else {
+                    handleFolderEvents((Path) key.watchable(), key);
+                }
+                if (!key.reset()) {
+                    if (key == containerKey) {
+                        Logging.fine("World container is no longer watched, changes will be picked up by rescanning.");
+                        return;
+                    }
+                    folderWatchKeys.values().remove(key);
+                }
+            }
+        } finally {
+            watching = false;
+            scannedContainerModified = NOT_SCANNED;
+            folderWatchKeys.keySet().forEach(this::unwatchFolder);
+        }
+    }
+
+    private void handleContainerEvents(Path container, WatchKey key) {
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                scannedContainerModified = NOT_SCANNED;
+                continue;
+            }
+            String folderName = event.context().toString();
+            File folder = container.resolve(folderName).toFile();
+            if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE || !folder.isDirectory()) {
+                folders.remove(folderName);
+                unwatchFolder(folderName);
+            } else {
+                FolderEntry entry = checkFolder(folder);
+                folders.put(folderName, entry);
+                updateFolderWatch(folder, entry.status());
+            }
+        }
+    }
+
+    private void handleFolderEvents(Path folderPath, WatchKey key) {
+        if (key.pollEvents().isEmpty()) {
+            return;
+        }
+        File folder = folderPath.toFile();
+        if (!folder.isDirectory()) {
+            return;
+        }
+        FolderEntry entry = checkFolder(folder);
+        folders.put(folder.getName(), entry);
+        updateFolderWatch(folder, entry.status());
+    }
+
+    private record FolderEntry(@NotNull FolderStatus status, long modified) {
+    }
+}
@@ -0,0 +1,125 @@
+package org.mvplugins.multiverse.core.world.helpers;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import com.dumptruckman.minecraft.util.Logging;
+import io.vavr.control.Try;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+import org.jvnet.hk2.annotations.Service;
+
+import org.mvplugins.multiverse.core.utils.FileUtils;
+
+/**
+ * Deletes world folders without blocking the main thread. A folder is first renamed into a {@code .mv-trash} folder
+ * next to it, which frees up the name right away, and is then deleted on a background thread.
+ * <br />
+ * Deletion is throttled so that it does not starve the server of disk I/O. Trash left behind by a shutdown or crash
+ * is deleted the next time {@link #reapLeftovers()} is called, which is done on startup.
+ */
+@Service
+public final class WorldFolderTrash {
+
+    static final String TRASH_FOLDER_NAME = ".mv-trash";
+
+    private static final int FILES_PER_PAUSE = 64;
+    private static final long PAUSE_MILLIS = 5;
+
+    private final FileUtils fileUtils;
+    private final ExecutorService reaper;
+
+    @Inject
+    WorldFolderTrash(@NotNull FileUtils fileUtils) {
+        this.fileUtils = fileUtils;
+        this.reaper = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Multiverse-TrashReaper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        reaper.shutdownNow();
+    }
+
+    /**
+     * Deletes the given folder. The folder is gone from its original location once this returns, but its files are
+     * deleted in the background. If the folder cannot be moved to the trash, it is deleted right away instead.
+     *
+     * @param folder    The folder to delete.
+     * @return A {@link Try} that will contain {@code null} if the folder was deleted or moved to the trash
+     *         successfully, or an exception if the folder could not be deleted.
+     */
+    public Try<Void> deleteFolder(@NotNull File folder) {
+        return moveToTrash(folder.toPath())
+                .<Void>map(trashedFolder -> {
+                    reaper.execute(() -> reap(trashedFolder));
+                    return null;
+                })
+                .orElse(() -> {
+                    Logging.warning("Unable to move folder %s to the trash, deleting it now instead.", folder);
+                    return fileUtils.deleteFolder(folder);
+                });
+    }
+
+    /**
+     * Deletes any trash left behind in the world container, such as after a crash.
+     */
+    public void reapLeftovers() {
+        Path trashFolder = Bukkit.getWorldContainer().toPath().resolve(TRASH_FOLDER_NAME);
+        if (!Files.isDirectory(trashFolder)) {
+            return;
+        }
+        try (Stream<Path> trashedFolders = Files.list(trashFolder)) {
+            trashedFolders.forEach(trashedFolder -> {
+                Logging.fine("Deleting leftover trash: %s", trashedFolder);
+                reaper.execute(() -> reap(trashedFolder));
+            });
+        } catch (IOException e) {
+            Logging.warning("Unable to list the trash folder %s: %s", trashFolder, e.getMessage());
+        }
+    }
+
+    private Try<Path> moveToTrash(Path folder) {
+        return Try.of(() -> {
+            Path trashFolder = folder.toAbsolutePath().getParent().resolve(TRASH_FOLDER_NAME);
+            Files.createDirectories(trashFolder);
+            Path trashedFolder = trashFolder.resolve(folder.getFileName() + "-" + System.nanoTime());
+            return Files.move(folder, trashedFolder, StandardCopyOption.ATOMIC_MOVE);
+        });
+    }
+
+    private void reap(Path trashedFolder) {
+        long startTime = System.nanoTime();
+        int deletedCount = 0;
+        try (Stream<Path> files = Files.walk(trashedFolder)) {
+            Iterator<Path> iterator = files.sorted(Comparator.reverseOrder()).iterator();
+            while (iterator.hasNext()) {
+                Files.deleteIfExists(iterator.next());
+                if (++deletedCount % FILES_PER_PAUSE == 0) {
+                    Thread.sleep(PAUSE_MILLIS);
+                }
+            }
+            Logging.fine("Deleted %d files from %s in %d ms.", deletedCount, trashedFolder,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        } catch (IOException e) {
+            Logging.warning("Failed to delete %s, it will be retried on the next startup: %s",
+                    trashedFolder, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package org.mvplugins.multiverse.core.world.options;
+
+import org.jetbrains.annotations.NotNull;
+
+import org.mvplugins.multiverse.core.world.MultiverseWorld;
+
+/**
+ * Options for customizing the pruning of chunks from an unloaded world.
+ */
+public final class PruneWorldOptions {
+
+    /**
+     * Creates a new {@link PruneWorldOptions} instance with the given world.
+     *
+     * @param world The unloaded world to prune.
+     * @return A new {@link PruneWorldOptions} instance.
+     */
+    public static @NotNull PruneWorldOptions world(@NotNull MultiverseWorld world) {
+        return new PruneWorldOptions(world);
+    }
+
+    private final MultiverseWorld world;
+    private long minInhabitedTicks = 20;
+    private boolean pruneOutsideWorldBorder = true;
+
+    PruneWorldOptions(@NotNull MultiverseWorld world) {
+        this.world = world;
+    }
+
+    /**
+     * Gets the world to prune.
+     *
+     * @return The world to prune.
+     */
+    public @NotNull MultiverseWorld world() {
+        return world;
+    }
+
+    /**
+     * Sets the minimum time in ticks players must have spent near a chunk for it to be kept. Chunks players have spent
+     * less time near are removed, and will be generated again when next visited. Set to 0 to keep chunks regardless of
+     * how long players have spent near them.
+     *
+     * @param minInhabitedTicksInput    The minimum inhabited time in ticks.
+     * @return This {@link PruneWorldOptions} instance.
+     */
+    public @NotNull PruneWorldOptions minInhabitedTicks(long minInhabitedTicksInput) {
+        this.minInhabitedTicks = minInhabitedTicksInput;
+        return this;
+    }
+
+    /**
+     * Gets the minimum time in ticks players must have spent near a chunk for it to be kept.
+     *
+     * @return The minimum inhabited time in ticks.
+     */
+    public long minInhabitedTicks() {
+        return minInhabitedTicks;
+    }
+
+    /**
+     * Sets whether to remove chunks that are entirely outside the world border saved in the world's level.dat.
+     *
+     * @param pruneOutsideWorldBorderInput  Whether to remove chunks outside the world border.
+     * @return This {@link PruneWorldOptions} instance.
+     */
+    public @NotNull PruneWorldOptions pruneOutsideWorldBorder(boolean pruneOutsideWorldBorderInput) {
+        this.pruneOutsideWorldBorder = pruneOutsideWorldBorderInput;
+        return this;
+    }
+
+    /**
+     * Gets whether to remove chunks that are entirely outside the world border.
+     *
+     * @return Whether to remove chunks outside the world border.
+     */
+    public boolean pruneOutsideWorldBorder() {
+        return pruneOutsideWorldBorder;
+    }
+}
@@ -0,0 +1,205 @@
+package org.mvplugins.multiverse.core.world.options;
+
+import org.bukkit.World;
+import org.bukkit.WorldType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Options for customizing a pool of pre-created worlds.
+ */
+public final class WorldPoolOptions {
+
+    /**
+     * Creates a new {@link WorldPoolOptions} instance with the given pool name.
+     *
+     * @param poolName The name of the pool, which is also the prefix of the pooled world names.
+     * @return A new {@link WorldPoolOptions} instance.
+     */
+    public static @NotNull WorldPoolOptions poolName(@NotNull String poolName) {
+        return new WorldPoolOptions(poolName);
+    }
+
+    private final String poolName;
+    private World.Environment environment = World.Environment.NORMAL;
+    private boolean generateStructures = true;
+    private String generator = null;
+    private Long seed = null;
+    private WorldType worldType = WorldType.NORMAL;
+    private int size = 1;
+    private boolean keepLoaded = false;
+    private int tickBudgetMillis = 5;
+
+    WorldPoolOptions(@NotNull String poolName) {
+        this.poolName = poolName;
+    }
+
+    /**
+     * Gets the name of the pool.
+     *
+     * @return The name of the pool.
+     */
+    public @NotNull String poolName() {
+        return poolName;
+    }
+
+    /**
+     * Sets the environment of the pooled worlds.
+     *
+     * @param environmentInput  The environment of the pooled worlds.
+     * @return This {@link WorldPoolOptions} instance.
+     */
+    public @NotNull WorldPoolOptions environment(@NotNull World.Environment environmentInput) {
+        this.environment = environmentInput;
+        return this;
+    }
+
+    /**
+     * Gets the environment of the pooled worlds.
+     *
+     * @return The environment of the pooled worlds.
+     */
+    public @NotNull World.Environment environment() {
+        return environment;
+    }
+
+    /**
+     * Sets whether structures will generate in the pooled worlds.
+     *
+     * @param generateStructuresInput   Whether structures will generate in the pooled worlds.
+     * @return This {@link WorldPoolOptions} instance.
+     */
+    public @NotNull WorldPoolOptions generateStructures(boolean generateStructuresInput) {
+        this.generateStructures = generateStructuresInput;
+        return this;
+    }
+
+    /**
+     * Gets whether structures will generate in the pooled worlds.
+     *
+     * @return Whether structures will generate in the pooled worlds.
+     */
+    public boolean generateStructures() {
+        return generateStructures;
+    }
+
+    /**
+     * Sets the custom generator plugin and its parameters for the pooled worlds.
+     *
+     * @param generatorInput    The custom generator plugin and its parameters.
+     * @return This {@link WorldPoolOptions} instance.
+     */
+    public @NotNull WorldPoolOptions generator(@Nullable String generatorInput) {
+        this.generator = generatorInput;
+        return this;
+    }
+
+    /**
+     * Gets the custom generator plugin and its parameters for the pooled worlds.
+     *
+     * @return The custom generator plugin and its parameters.
+     */
+    public @Nullable String generator() {
+        return generator;
+    }
+
+    /**
+     * Sets a fixed seed for all pooled worlds. By default, every pooled world gets a random seed.
+     *
+     * @param seedInput The seed, or null for a random seed per world.
+     * @return This {@link WorldPoolOptions} instance.
+     */
+    public @NotNull WorldPoolOptions seed(@Nullable Long seedInput) {
+        this.seed = seedInput;
+        return this;
+    }
+
+    /**
+     * Gets the fixed seed of the pooled worlds.
+     *
+     * @return The seed, or null if every pooled world gets a random seed.
+     */
+    public @Nullable Long seed() {
+        return seed;
+    }
+
+    /**
+     * Sets the world type of the pooled worlds.
+     *
+     * @param worldTypeInput    The world type.
+     * @return This {@link WorldPoolOptions} instance.
+     */
+    public @NotNull WorldPoolOptions worldType(@NotNull WorldType worldTypeInput) {
+        this.worldType = worldTypeInput;
+        return this;
+    }
+
+    /**
+     * Gets the world type of the pooled worlds.
+     *
+     * @return The world type.
+     */
+    public @NotNull WorldType worldType() {
+        return worldType;
+    }
+
+    /**
+     * Sets the number of worlds to keep ready in the pool.
+     *
+     * @param sizeInput The number of worlds to keep ready.
+     * @return This {@link WorldPoolOptions} instance.
+     */
+    public @NotNull WorldPoolOptions size(int sizeInput) {
+        this.size = sizeInput;
+        return this;
+    }
+
+    /**
+     * Gets the number of worlds to keep ready in the pool.
+     *
+     * @return The number of worlds to keep ready.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Sets whether worlds ready in the pool are kept loaded with their spawn chunks in memory, instead of unloaded.
+     *
+     * @param keepLoadedInput   Whether to keep ready worlds loaded.
+     * @return This {@link WorldPoolOptions} instance.
+     */
+    public @NotNull WorldPoolOptions keepLoaded(boolean keepLoadedInput) {
+        this.keepLoaded = keepLoadedInput;
+        return this;
+    }
+
+    /**
+     * Gets whether worlds ready in the pool are kept loaded.
+     *
+     * @return Whether to keep ready worlds loaded.
+     */
+    public boolean keepLoaded() {
+        return keepLoaded;
+    }
+
+    /**
+     * Sets the average main thread time per tick the pool may spend refilling itself.
+     *
+     * @param tickBudgetMillisInput The budget in milliseconds per tick.
+     * @return This {@link WorldPoolOptions} instance.
+     */
+    public @NotNull WorldPoolOptions tickBudgetMillis(int tickBudgetMillisInput) {
+        this.tickBudgetMillis = tickBudgetMillisInput;
+        return this;
+    }
+
+    /**
+     * Gets the average main thread time per tick the pool may spend refilling itself.
+     *
+     * @return The budget in milliseconds per tick.
+     */
+    public int tickBudgetMillis() {
+        return tickBudgetMillis;
+    }
+}
@@ -33,7 +33,12 @@ public enum LoadFailureReason implements FailureReason {
     /**
      * Bukkit API failed to create the world.
      */
-    WORLD_CREATOR_FAILED(MVCorei18n.GENERIC_FAILURE);
+    WORLD_CREATOR_FAILED(MVCorei18n.GENERIC_FAILURE),
+
+    /**
+     * The world files are being changed by an offline maintenance task, such as pruning.
+     */
+    WORLD_IN_MAINTENANCE(MVCorei18n.GENERIC_FAILURE);
 
     private final MessageKeyProvider message;
 
@@ -0,0 +1,51 @@
+package org.mvplugins.multiverse.core.world.reasons;
+
+import co.aikar.locales.MessageKey;
+import co.aikar.locales.MessageKeyProvider;
+
+import org.mvplugins.multiverse.core.locale.MVCorei18n;
+import org.mvplugins.multiverse.core.utils.result.FailureReason;
+
+/**
+ * Result of a world pruning operation.
+ */
+public enum PruneFailureReason implements FailureReason {
+    /**
+     * The world does not exist.
+     */
+    WORLD_NON_EXISTENT(MVCorei18n.GENERIC_FAILURE),
+
+    /**
+     * The world is loaded, and can only be pruned while unloaded.
+     */
+    WORLD_LOADED(MVCorei18n.GENERIC_FAILURE),
+
+    /**
+     * The world folder could not be found.
+     */
+    WORLD_FOLDER_NOT_FOUND(MVCorei18n.GENERIC_FAILURE),
+
+    /**
+     * The world is already being pruned.
+     */
+    PRUNE_IN_PROGRESS(MVCorei18n.GENERIC_FAILURE),
+
+    /**
+     * The world could not be pruned.
+     */
+    PRUNE_FAILED(MVCorei18n.GENERIC_FAILURE);
+
+    private final MessageKeyProvider message;
+
+    PruneFailureReason(MessageKeyProvider message) {
+        this.message = message;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MessageKey getMessageKey() {
+        return message.getMessageKey();
+    }
+}
@@ -10,6 +10,16 @@ import org.mvplugins.multiverse.core.utils.result.FailureReason;
  * Result of a world regeneration operation.
  */
 public enum RegenFailureReason implements FailureReason {
+    /**
+     * The world does not exist.
+     */
+    WORLD_NON_EXISTENT(MVCorei18n.GENERIC_FAILURE),
+
+    /**
+     * The world could not be loaded before regenerating it.
+     */
+    LOAD_FAILED(MVCorei18n.GENERIC_FAILURE),
+
     /**
      * The world does not exist.
      */
@@ -18,7 +28,12 @@ public enum RegenFailureReason implements FailureReason {
     /**
      * The new world could not be created.
      */
-    CREATE_FAILED(MVCorei18n.GENERIC_FAILURE);
+    CREATE_FAILED(MVCorei18n.GENERIC_FAILURE),
+
+    /**
+     * The world could not be restored from its regen template.
+     */
+    TEMPLATE_RESTORE_FAILED(MVCorei18n.GENERIC_FAILURE);
 
     private final MessageKeyProvider message;
 
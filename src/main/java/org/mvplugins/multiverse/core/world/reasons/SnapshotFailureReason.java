@@ -0,0 +1,61 @@
+package org.mvplugins.multiverse.core.world.reasons;
+
+import co.aikar.locales.MessageKey;
+import co.aikar.locales.MessageKeyProvider;
+
+import org.mvplugins.multiverse.core.locale.MVCorei18n;
+import org.mvplugins.multiverse.core.utils.result.FailureReason;
+
+/**
+ * Result of a world snapshot create or restore operation.
+ */
+public enum SnapshotFailureReason implements FailureReason {
+    /**
+     * The world folder could not be found.
+     */
+    WORLD_FOLDER_NOT_FOUND(MVCorei18n.GENERIC_FAILURE),
+
+    /**
+     * A snapshot of the world is already being created or restored.
+     */
+    SNAPSHOT_IN_PROGRESS(MVCorei18n.SNAPSHOT_INPROGRESS),
+
+    /**
+     * The snapshot to restore does not exist.
+     */
+    SNAPSHOT_NOT_FOUND(MVCorei18n.SNAPSHOT_NOTFOUND),
+
+    /**
+     * The snapshot could not be created.
+     */
+    CREATE_FAILED(MVCorei18n.GENERIC_FAILURE),
+
+    /**
+     * The world folder could not be rebuilt from the snapshot.
+     */
+    RESTORE_FAILED(MVCorei18n.GENERIC_FAILURE),
+
+    /**
+     * The world could not be unloaded to replace its folder.
+     */
+    UNLOAD_FAILED(MVCorei18n.GENERIC_FAILURE),
+
+    /**
+     * The world could not be loaded again after replacing its folder.
+     */
+    LOAD_FAILED(MVCorei18n.GENERIC_FAILURE);
+
+    private final MessageKeyProvider message;
+
+    SnapshotFailureReason(MessageKeyProvider message) {
+        this.message = message;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MessageKey getMessageKey() {
+        return message.getMessageKey();
+    }
+}
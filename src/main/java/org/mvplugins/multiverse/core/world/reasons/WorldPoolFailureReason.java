@@ -0,0 +1,56 @@
+package org.mvplugins.multiverse.core.world.reasons;
+
+import co.aikar.locales.MessageKey;
+import co.aikar.locales.MessageKeyProvider;
+
+import org.mvplugins.multiverse.core.locale.MVCorei18n;
+import org.mvplugins.multiverse.core.utils.result.FailureReason;
+
+/**
+ * Result of a world pool operation.
+ */
+public enum WorldPoolFailureReason implements FailureReason {
+    /**
+     * A pool with the given name is already registered.
+     */
+    POOL_EXISTS(MVCorei18n.GENERIC_FAILURE),
+
+    /**
+     * No pool with the given name is registered.
+     */
+    POOL_NOT_FOUND(MVCorei18n.POOL_NOTFOUND),
+
+    /**
+     * The pool has no ready worlds left.
+     */
+    POOL_EMPTY(MVCorei18n.GENERIC_FAILURE),
+
+    /**
+     * The pooled world could not be loaded.
+     */
+    LOAD_FAILED(MVCorei18n.GENERIC_FAILURE),
+
+    /**
+     * The pooled world could not be regenerated back to its template.
+     */
+    RESET_FAILED(MVCorei18n.POOL_RESET_FAILED),
+
+    /**
+     * The world was not acquired from a pool.
+     */
+    NOT_POOLED(MVCorei18n.GENERIC_FAILURE);
+
+    private final MessageKeyProvider message;
+
+    WorldPoolFailureReason(MessageKeyProvider message) {
+        this.message = message;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MessageKey getMessageKey() {
+        return message.getMessageKey();
+    }
+}
@@ -33,6 +33,20 @@ abstract class TestWithMockBukkit {
         MockBukkit.unmock()
     }
 
+    /**
+     * Ticks the server until the condition is met, failing the test if it is not met within the given ticks.
+     */
+    fun tickUntil(maxTicks: Int = 500, condition: () -> Boolean) {
+        repeat(maxTicks) {
+            if (condition()) {
+                return
+            }
+            server.scheduler.performOneTick()
+            Thread.sleep(10)
+        }
+        fail("Condition was not met in time")
+    }
+
     fun getResourceAsText(path: String): String? = object {}.javaClass.getResource(path)?.readText()
 
     fun writeResourceFileToPluginDataFolder(resourcePath: String, dataPath: String) {
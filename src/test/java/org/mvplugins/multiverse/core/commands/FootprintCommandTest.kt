@@ -0,0 +1,60 @@
+package org.mvplugins.multiverse.core.commands
+
+import org.bukkit.Bukkit
+import org.bukkit.ChatColor
+import org.bukkit.Location
+import org.bukkit.World
+import org.bukkit.entity.EntityType
+import org.mvplugins.multiverse.core.world.options.CreateWorldOptions
+import java.io.File
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+
+class FootprintCommandTest : AbstractCommandTest() {
+
+    @BeforeTest
+    fun setUp() {
+        assertTrue(worldManager.createWorld(CreateWorldOptions.worldName("world2")).isSuccess)
+        assertTrue(worldManager.createWorld(CreateWorldOptions.worldName("world3")).isSuccess)
+
+        // world2 has the most chunks, world the most entities and world3 the largest region files
+        setUpWorld(server.getWorld("world")!!, chunks = 0, entities = 5, regionBytes = 1024)
+        setUpWorld(server.getWorld("world2")!!, chunks = 30, entities = 0, regionBytes = 2048)
+        setUpWorld(server.getWorld("world3")!!, chunks = 20, entities = 2, regionBytes = 4096)
+    }
+
+    @Test
+    fun `Worlds are sorted by loaded chunks by default`() {
+        assertEquals(listOf("world2", "world3", "world"), worldOrder("mv footprint"))
+    }
+
+    @Test
+    fun `Worlds are sorted by the sort flag`() {
+        assertEquals(listOf("world", "world2", "world3"), worldOrder("mv footprint --sort name"))
+        assertEquals(listOf("world", "world3", "world2"), worldOrder("mv footprint --sort entities"))
+        assertEquals(listOf("world3", "world2", "world"), worldOrder("mv footprint --sort disk"))
+    }
+
+    private fun setUpWorld(world: World, chunks: Int, entities: Int, regionBytes: Int) {
+        for (x in 0 until chunks) {
+            world.loadChunk(x, 100)
+        }
+        repeat(entities) {
+            world.spawnEntity(Location(world, it.toDouble(), 70.0, 0.0), EntityType.ZOMBIE)
+        }
+        File(world.worldFolder, "region").mkdirs()
+        File(world.worldFolder, "region/r.0.0.mca").writeBytes(ByteArray(regionBytes))
+    }
+
+    private fun worldOrder(command: String): List<String> {
+        assertTrue(Bukkit.dispatchCommand(console, command))
+        val output = mutableListOf<String>()
+        tickUntil {
+            generateSequence { console.nextMessage() }.mapTo(output) { ChatColor.stripColor(it)!! }
+            output.any { it.contains(" chunks, ") }
+        }
+        return output.filter { it.contains(" chunks, ") }.map { it.substringBefore(":").trim() }
+    }
+}
@@ -0,0 +1,114 @@
+package org.mvplugins.multiverse.core.destination
+
+import org.bukkit.Location
+import org.mvplugins.multiverse.core.TestWithMockBukkit
+import org.mvplugins.multiverse.core.config.CoreConfig
+import org.mvplugins.multiverse.core.world.LoadedMultiverseWorld
+import org.mvplugins.multiverse.core.world.WorldManager
+import org.mvplugins.multiverse.core.world.options.CreateWorldOptions
+import org.mvplugins.multiverse.core.world.options.UnloadWorldOptions
+import kotlin.test.*
+
+class CachedDestinationTest : TestWithMockBukkit() {
+
+    private lateinit var config: CoreConfig
+    private lateinit var worldManager: WorldManager
+    private lateinit var cachedDestination: CachedDestination
+    private lateinit var world: LoadedMultiverseWorld
+
+    @BeforeTest
+    fun setUp() {
+        config = serviceLocator.getActiveService(CoreConfig::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("CoreConfig is not available as a service") }
+        worldManager = serviceLocator.getActiveService(WorldManager::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("WorldManager is not available as a service") }
+
+        world = worldManager.createWorld(CreateWorldOptions.worldName("world")).get()
+        cachedDestination = config.cachedJoinDestination
+    }
+
+    @Test
+    fun `Destination is parsed once until the string changes`() {
+        assertTrue(config.setJoinDestination("w:world").isSuccess)
+        assertEquals("w:world", cachedDestination.destinationString)
+
+        val destination = cachedDestination.destination
+        assertTrue(destination.isSuccess)
+        assertSame(destination, cachedDestination.destination)
+
+        assertTrue(config.setJoinDestination("w:world").isSuccess)
+        assertSame(destination, cachedDestination.destination)
+
+        assertTrue(config.setJoinDestination("w:world:n").isSuccess)
+        assertNotSame(destination, cachedDestination.destination)
+    }
+
+    @Test
+    fun `World load invalidates the destination`() {
+        assertTrue(config.setJoinDestination("w:world2").isSuccess)
+        assertTrue(cachedDestination.destination.isFailure)
+
+        assertTrue(worldManager.createWorld(CreateWorldOptions.worldName("world2")).isSuccess)
+        assertTrue(cachedDestination.destination.isSuccess)
+    }
+
+    @Test
+    fun `World unload invalidates the destination`() {
+        val world2 = worldManager.createWorld(CreateWorldOptions.worldName("world2")).get()
+        assertTrue(config.setJoinDestination("w:world2").isSuccess)
+        val destination = cachedDestination.destination
+        assertTrue(destination.isSuccess)
+
+        assertTrue(worldManager.unloadWorld(UnloadWorldOptions.world(world2)).isSuccess)
+        assertNotSame(destination, cachedDestination.destination)
+        assertTrue(cachedDestination.getLocation(cachedDestination.destination.get(), server.addPlayer()).isEmpty)
+    }
+
+    @Test
+    fun `Spawn location change invalidates the resolved location`() {
+        assertTrue(config.setJoinDestination("w:world").isSuccess)
+        val player = server.addPlayer()
+        val destination = cachedDestination.destination.get()
+        assertLocationEquals(world.spawnLocation, cachedDestination.getLocation(destination, player).orNull)
+
+        val newSpawn = Location(world.bukkitWorld.orNull, 10.5, 70.0, -20.5)
+        assertTrue(world.setSpawnLocation(newSpawn).isSuccess)
+
+        assertLocationEquals(newSpawn, cachedDestination.getLocation(cachedDestination.destination.get(), player).orNull)
+    }
+
+    @Test
+    fun `Alias change invalidates the destination`() {
+        assertTrue(config.setJoinDestination("w:lobby").isSuccess)
+        assertTrue(cachedDestination.destination.isFailure)
+
+        assertTrue(world.setAlias("lobby").isSuccess)
+        assertTrue(cachedDestination.destination.isSuccess)
+    }
+
+    @Test
+    fun `Resolve alias name change invalidates the destination`() {
+        assertTrue(world.setAlias("lobby").isSuccess)
+        assertTrue(config.setJoinDestination("w:lobby").isSuccess)
+        assertTrue(cachedDestination.destination.isSuccess)
+
+        assertTrue(config.setResolveAliasName(false).isSuccess)
+        assertTrue(cachedDestination.destination.isFailure)
+
+        assertTrue(config.setResolveAliasName(true).isSuccess)
+        assertTrue(cachedDestination.destination.isSuccess)
+    }
+
+    @Test
+    fun `Each join gets its own copy of the cached location`() {
+        assertTrue(config.setJoinDestination("w:world").isSuccess)
+        val destination = cachedDestination.destination.get()
+
+        val firstLocation = cachedDestination.getLocation(destination, server.addPlayer()).get()
+        firstLocation.add(100.0, 0.0, 100.0)
+        val secondLocation = cachedDestination.getLocation(destination, server.addPlayer()).get()
+
+        assertNotSame(firstLocation, secondLocation)
+        assertLocationEquals(world.spawnLocation, secondLocation)
+    }
+}
@@ -12,6 +12,7 @@ import org.mvplugins.multiverse.core.teleportation.AsyncSafetyTeleporter
 import org.mvplugins.multiverse.core.teleportation.BlockSafety
 import org.mvplugins.multiverse.core.teleportation.LocationManipulation
 import org.mvplugins.multiverse.core.teleportation.TeleportQueue
+import org.mvplugins.multiverse.core.teleportation.TeleportRegistry
 import org.mvplugins.multiverse.core.world.WorldManager
 import kotlin.test.Test
 import kotlin.test.assertEquals
@@ -56,6 +57,11 @@ class InjectionTest : TestWithMockBukkit() {
         assertNotNull(serviceLocator.getActiveService(TeleportQueue::class.java))
     }
 
+    @Test
+    fun `TeleportRegistry is available as a service`() {
+        assertNotNull(serviceLocator.getActiveService(TeleportRegistry::class.java))
+    }
+
     @Test
     fun `MVWorldManager is available as a service`() {
         assertNotNull(serviceLocator.getActiveService(WorldManager::class.java))
@@ -65,7 +71,7 @@ class InjectionTest : TestWithMockBukkit() {
     @Test
     fun `CoreListener(s) is available as a service`() {
         val listeners = assertNotNull(serviceLocator.getAllServices(CoreListener::class.java))
-        assertEquals(6, listeners.size)
+        assertEquals(7, listeners.size)
     }
 
     @Test
@@ -77,7 +83,7 @@ class InjectionTest : TestWithMockBukkit() {
     @Test
     fun `Commands are available as services`() {
         val commands = serviceLocator.getAllActiveServices(CoreCommand::class.java)
-        assertEquals(56, commands.size)
+        assertEquals(59, commands.size)
     }
 
     @Test
@@ -0,0 +1,69 @@
+package org.mvplugins.multiverse.core.listeners
+
+import org.bukkit.WorldCreator
+import org.bukkit.event.world.SpawnChangeEvent
+import org.mvplugins.multiverse.core.TestWithMockBukkit
+import org.mvplugins.multiverse.core.world.LoadedMultiverseWorld
+import org.mvplugins.multiverse.core.world.WorldManager
+import org.mvplugins.multiverse.core.world.options.CreateWorldOptions
+import kotlin.test.*
+
+class RespawnTargetCacheTest : TestWithMockBukkit() {
+
+    private lateinit var respawnTargetCache: RespawnTargetCache
+    private lateinit var world: LoadedMultiverseWorld
+
+    @BeforeTest
+    fun setUp() {
+        respawnTargetCache = serviceLocator.getActiveService(RespawnTargetCache::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("RespawnTargetCache is not available as a service") }
+        val worldManager = serviceLocator.getActiveService(WorldManager::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("WorldManager is not available as a service") }
+
+        world = worldManager.createWorld(CreateWorldOptions.worldName("world")).get()
+    }
+
+    @Test
+    fun `Respawn target defaults to the death world`() {
+        val respawnTarget = respawnTargetCache.get(world).get()
+
+        assertEquals(world.bukkitWorld.get(), respawnTarget.world)
+        assertLocationEquals(world.spawnLocation, respawnTarget.spawnLocation)
+        assertNotSame(respawnTarget.spawnLocation, respawnTarget.copySpawnLocation())
+    }
+
+    @Test
+    fun `Respawn world loaded after the first death is used`() {
+        assertTrue(world.setRespawnWorld("lobby").isSuccess)
+        assertTrue(respawnTargetCache.get(world).isEmpty)
+
+        // Loaded by another plugin, so Multiverse does not invalidate the cache
+        val lobby = server.createWorld(WorldCreator("lobby"))!!
+
+        assertEquals(lobby, respawnTargetCache.get(world).get().world)
+    }
+
+    @Test
+    fun `Spawn change event invalidates the respawn target`() {
+        val lobby = server.createWorld(WorldCreator("lobby"))!!
+        assertTrue(world.setRespawnWorld("lobby").isSuccess)
+        val oldSpawn = lobby.spawnLocation
+        assertLocationEquals(oldSpawn, respawnTargetCache.get(world).get().spawnLocation)
+
+        lobby.setSpawnLocation(20, 70, -20)
+        server.pluginManager.callEvent(SpawnChangeEvent(lobby, oldSpawn))
+
+        assertLocationEquals(lobby.spawnLocation, respawnTargetCache.get(world).get().spawnLocation)
+        assertEquals(20, respawnTargetCache.get(world).get().spawnLocation.blockX)
+    }
+
+    @Test
+    fun `Respawn world property change invalidates the respawn target`() {
+        server.createWorld(WorldCreator("lobby"))
+        assertEquals(world.bukkitWorld.get(), respawnTargetCache.get(world).get().world)
+
+        assertTrue(world.setRespawnWorld("lobby").isSuccess)
+
+        assertEquals("lobby", respawnTargetCache.get(world).get().world.name)
+    }
+}
@@ -10,10 +10,13 @@ import org.mockbukkit.mockbukkit.world.WorldMock;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.Set;
 
 public class MVServerMock extends ServerMock {
 
     private final File worldContainer;
+    private final Set<String> failingWorldNames = new HashSet<>();
 
     public MVServerMock() throws IOException {
         super();
@@ -33,8 +36,20 @@ public class MVServerMock extends ServerMock {
         return this.worldContainer;
     }
 
+    /**
+     * Makes creating or loading the world with the given name fail from now on.
+     *
+     * @param worldName The name of the world
+     */
+    public void failWorldCreation(@NotNull String worldName) {
+        failingWorldNames.add(worldName);
+    }
+
     @Override
     public World createWorld(@NotNull WorldCreator creator) {
+        if (failingWorldNames.contains(creator.name())) {
+            return null;
+        }
         WorldMock world = new MVWorldMock(creator);
         world.getWorldFolder().mkdirs();
         createFile(new File(world.getWorldFolder(), "uid.dat"));
@@ -0,0 +1,72 @@
+package org.mvplugins.multiverse.core.teleportation
+
+import org.bukkit.Location
+import org.bukkit.Material
+import org.bukkit.World
+import org.mvplugins.multiverse.core.TestWithMockBukkit
+import org.mvplugins.multiverse.core.world.WorldManager
+import org.mvplugins.multiverse.core.world.options.CreateWorldOptions
+import kotlin.test.*
+
+class BlockSafetyTest : TestWithMockBukkit() {
+
+    private lateinit var blockSafety: BlockSafety
+    private lateinit var safeLocationCache: SafeLocationCache
+    private lateinit var world: World
+
+    @BeforeTest
+    fun setUp() {
+        blockSafety = serviceLocator.getActiveService(BlockSafety::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("BlockSafety is not available as a service") }
+        safeLocationCache = serviceLocator.getActiveService(SafeLocationCache::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("SafeLocationCache is not available as a service") }
+        val worldManager = serviceLocator.getActiveService(WorldManager::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("WorldManager is not available as a service") }
+
+        assertTrue(worldManager.createWorld(CreateWorldOptions.worldName("world")).isSuccess)
+        world = server.getWorld("world")!!
+    }
+
+    @Test
+    fun `Async safe location search finds the same block as the sync search`() {
+        // A stone platform with a single gap for the player's body, away from the origin and across a chunk border
+        for (x in -3..3) {
+            for (z in -3..3) {
+                world.getBlockAt(x, 63, z).type = Material.STONE
+                world.getBlockAt(x, 64, z).type = Material.STONE
+                world.getBlockAt(x, 65, z).type = Material.STONE
+                world.getBlockAt(x, 66, z).type = Material.AIR
+            }
+        }
+        world.getBlockAt(-2, 65, 1).type = Material.AIR
+        val origin = Location(world, 0.5, 65.0, 0.5)
+
+        val asyncResult = blockSafety.findSafeSpawnLocationAsync(origin, 3, 2)
+        tickUntil { asyncResult.isDone }
+        safeLocationCache.invalidateAll()
+        val syncResult = blockSafety.findSafeSpawnLocation(origin, 3, 2)
+
+        assertNotNull(syncResult)
+        assertLocationEquals(Location(world, -1.5, 65.0, 1.5), syncResult)
+        assertLocationEquals(syncResult, asyncResult.join())
+    }
+
+    @Test
+    fun `Async safe location search returns null like the sync search when nothing is safe`() {
+        for (x in -2..2) {
+            for (z in -2..2) {
+                for (y in 62..68) {
+                    world.getBlockAt(x, y, z).type = Material.STONE
+                }
+            }
+        }
+        val origin = Location(world, 0.5, 65.0, 0.5)
+
+        val asyncResult = blockSafety.findSafeSpawnLocationAsync(origin, 1, 1)
+        tickUntil { asyncResult.isDone }
+        safeLocationCache.invalidateAll()
+
+        assertNull(asyncResult.join())
+        assertNull(blockSafety.findSafeSpawnLocation(origin, 1, 1))
+    }
+}
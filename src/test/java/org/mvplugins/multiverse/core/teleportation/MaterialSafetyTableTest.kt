@@ -0,0 +1,41 @@
+package org.mvplugins.multiverse.core.teleportation
+
+import org.bukkit.Material
+import kotlin.test.Test
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+class MaterialSafetyTableTest {
+
+    @Test
+    fun `Solid materials are platform safe and non-solid materials are body safe`() {
+        val table = MaterialSafetyTable.compile(listOf())
+
+        assertTrue(table.isPlatformSafe(Material.STONE))
+        assertFalse(table.isBodySafe(Material.STONE))
+        assertTrue(table.isBodySafe(Material.AIR))
+        assertFalse(table.isPlatformSafe(Material.AIR))
+    }
+
+    @Test
+    fun `Hazards override solid and non-solid materials`() {
+        val table = MaterialSafetyTable.compile(listOf(Material.MAGMA_BLOCK, Material.FIRE))
+
+        assertTrue(Material.MAGMA_BLOCK.isSolid)
+        assertFalse(table.isPlatformSafe(Material.MAGMA_BLOCK))
+        assertFalse(table.isBodySafe(Material.MAGMA_BLOCK))
+
+        assertFalse(Material.FIRE.isSolid)
+        assertFalse(table.isBodySafe(Material.FIRE))
+        assertFalse(table.isPlatformSafe(Material.FIRE))
+    }
+
+    @Test
+    fun `Null hazard entries are skipped`() {
+        val table = MaterialSafetyTable.compile(listOf(null, Material.LAVA, null))
+
+        assertFalse(table.isBodySafe(Material.LAVA))
+        assertTrue(table.isPlatformSafe(Material.STONE))
+        assertTrue(table.isBodySafe(Material.AIR))
+    }
+}
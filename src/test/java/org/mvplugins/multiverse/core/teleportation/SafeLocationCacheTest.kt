@@ -0,0 +1,126 @@
+package org.mvplugins.multiverse.core.teleportation
+
+import org.bukkit.Material
+import org.bukkit.World
+import org.bukkit.event.block.BlockBurnEvent
+import org.bukkit.event.world.WorldUnloadEvent
+import org.bukkit.util.BlockVector
+import org.mvplugins.multiverse.core.TestWithMockBukkit
+import org.mvplugins.multiverse.core.world.WorldManager
+import org.mvplugins.multiverse.core.world.options.CreateWorldOptions
+import kotlin.test.*
+
+class SafeLocationCacheTest : TestWithMockBukkit() {
+
+    private lateinit var blockSafety: BlockSafety
+    private lateinit var safeLocationCache: SafeLocationCache
+    private lateinit var world: World
+    private val searchKey = SafeLocationCache.SearchKey(0, 65, 0, 2, 2)
+
+    @BeforeTest
+    fun setUp() {
+        blockSafety = serviceLocator.getActiveService(BlockSafety::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("BlockSafety is not available as a service") }
+        safeLocationCache = serviceLocator.getActiveService(SafeLocationCache::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("SafeLocationCache is not available as a service") }
+        val worldManager = serviceLocator.getActiveService(WorldManager::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("WorldManager is not available as a service") }
+
+        assertTrue(worldManager.createWorld(CreateWorldOptions.worldName("world")).isSuccess)
+        world = server.getWorld("world")!!
+        world.getBlockAt(0, 63, 0).type = Material.STONE
+        world.getBlockAt(0, 64, 0).type = Material.STONE
+        world.getBlockAt(0, 65, 0).type = Material.AIR
+        world.getBlockAt(0, 66, 0).type = Material.AIR
+        safeLocationCache.invalidateAll()
+    }
+
+    @Test
+    fun `Search result is cached`() {
+        val safeBlock = blockSafety.findSafeSpawnBlock(world.getBlockAt(0, 65, 0), 2, 2)
+        assertEquals(world.getBlockAt(0, 65, 0), safeBlock)
+        assertEquals(1, safeLocationCache.size(world))
+
+        // Changing the block without an event does not invalidate the entry, so the cached result is used
+        world.getBlockAt(0, 65, 0).type = Material.STONE
+        assertEquals(safeBlock, blockSafety.findSafeSpawnBlock(world.getBlockAt(0, 65, 0), 2, 2))
+    }
+
+    @Test
+    fun `Block change in the search volume invalidates the entry`() {
+        blockSafety.findSafeSpawnBlock(world.getBlockAt(0, 65, 0), 2, 2)
+        assertEquals(1, safeLocationCache.size(world))
+
+        server.pluginManager.callEvent(BlockBurnEvent(world.getBlockAt(1, 64, 1), null))
+        assertEquals(0, safeLocationCache.size(world))
+    }
+
+    @Test
+    fun `Block change in another chunk keeps the entry`() {
+        blockSafety.findSafeSpawnBlock(world.getBlockAt(0, 65, 0), 2, 2)
+        assertEquals(1, safeLocationCache.size(world))
+
+        server.pluginManager.callEvent(BlockBurnEvent(world.getBlockAt(40, 64, 0), null))
+        assertEquals(1, safeLocationCache.size(world))
+    }
+
+    @Test
+    fun `Block change in the same chunk but outside the search volume keeps the entry`() {
+        blockSafety.findSafeSpawnBlock(world.getBlockAt(0, 65, 0), 2, 2)
+
+        server.pluginManager.callEvent(BlockBurnEvent(world.getBlockAt(10, 64, 10), null))
+        assertEquals(1, safeLocationCache.size(world))
+    }
+
+    @Test
+    fun `Block change during a search drops its result`() {
+        val pending = safeLocationCache.reserve(world, searchKey)
+        assertNull(safeLocationCache.get(world, searchKey))
+
+        server.pluginManager.callEvent(BlockBurnEvent(world.getBlockAt(0, 64, 0), null))
+        safeLocationCache.complete(world, searchKey, pending, BlockVector(0, 65, 0))
+
+        assertNull(safeLocationCache.get(world, searchKey))
+        assertEquals(0, safeLocationCache.size(world))
+    }
+
+    @Test
+    fun `Completed search without block changes is cached`() {
+        val pending = safeLocationCache.reserve(world, searchKey)
+        safeLocationCache.complete(world, searchKey, pending, BlockVector(0, 65, 0))
+
+        val entry = safeLocationCache.get(world, searchKey)
+        assertNotNull(entry)
+        assertEquals(BlockVector(0, 65, 0), entry.safeBlock)
+    }
+
+    @Test
+    fun `Failed search releases its reservation`() {
+        val pending = safeLocationCache.reserve(world, searchKey)
+        assertEquals(1, safeLocationCache.size(world))
+
+        safeLocationCache.release(world, searchKey, pending)
+        assertEquals(0, safeLocationCache.size(world))
+    }
+
+    @Test
+    fun `Failed search does not release a newer reservation`() {
+        val oldPending = safeLocationCache.reserve(world, searchKey)
+        val newPending = safeLocationCache.reserve(world, searchKey)
+
+        safeLocationCache.release(world, searchKey, oldPending)
+        assertEquals(1, safeLocationCache.size(world))
+
+        safeLocationCache.complete(world, searchKey, newPending, BlockVector(0, 65, 0))
+        assertNotNull(safeLocationCache.get(world, searchKey))
+    }
+
+    @Test
+    fun `World unload clears its entries`() {
+        blockSafety.findSafeSpawnBlock(world.getBlockAt(0, 65, 0), 2, 2)
+        assertEquals(1, safeLocationCache.size(world))
+
+        server.pluginManager.callEvent(WorldUnloadEvent(world))
+        assertEquals(0, safeLocationCache.size(world))
+    }
+}
@@ -0,0 +1,68 @@
+package org.mvplugins.multiverse.core.teleportation
+
+import kotlin.test.Test
+import kotlin.test.assertEquals
+
+class TeleportHistogramTest {
+
+    @Test
+    fun `Empty histogram reports 0`() {
+        val histogram = TeleportHistogram()
+
+        assertEquals(0, histogram.count)
+        assertEquals(0.0, histogram.mean)
+        assertEquals(0, histogram.max)
+        assertEquals(0, histogram.getPercentile(50.0))
+    }
+
+    @Test
+    fun `Values are placed in power of two buckets`() {
+        val histogram = TeleportHistogram()
+        histogram.record(0)
+        histogram.record(1)
+        histogram.record(5)
+        histogram.record(100)
+
+        assertEquals(4, histogram.count)
+        assertEquals(26.5, histogram.mean)
+        assertEquals(100, histogram.max)
+        // Bucket 0 holds only 0
+        assertEquals(0, histogram.getPercentile(25.0))
+        // Bucket 1 holds [1, 2)
+        assertEquals(1, histogram.getPercentile(50.0))
+        // Bucket 3 holds [4, 8), so its upper bound is reported
+        assertEquals(7, histogram.getPercentile(75.0))
+        // Bucket 7 holds [64, 128), capped at the largest recorded value
+        assertEquals(100, histogram.getPercentile(100.0))
+    }
+
+    @Test
+    fun `Values on a bucket boundary start the next bucket`() {
+        val histogram = TeleportHistogram()
+        histogram.record(4)
+        histogram.record(7)
+        histogram.record(8)
+        histogram.record(1000)
+
+        assertEquals(7, histogram.getPercentile(50.0))
+        assertEquals(15, histogram.getPercentile(75.0))
+    }
+
+    @Test
+    fun `Negative values are recorded as 0`() {
+        val histogram = TeleportHistogram()
+        histogram.record(-5)
+
+        assertEquals(1, histogram.count)
+        assertEquals(0, histogram.max)
+        assertEquals(0, histogram.getPercentile(100.0))
+    }
+
+    @Test
+    fun `Largest values do not overflow`() {
+        val histogram = TeleportHistogram()
+        histogram.record(Long.MAX_VALUE)
+
+        assertEquals(Long.MAX_VALUE, histogram.getPercentile(99.0))
+    }
+}
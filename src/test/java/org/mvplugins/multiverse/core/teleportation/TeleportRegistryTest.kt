@@ -0,0 +1,160 @@
+package org.mvplugins.multiverse.core.teleportation
+
+import io.vavr.control.Either
+import org.bukkit.Location
+import org.bukkit.event.EventHandler
+import org.bukkit.event.EventPriority
+import org.bukkit.event.Listener
+import org.bukkit.event.player.PlayerTeleportEvent
+import org.mockbukkit.mockbukkit.entity.PlayerMock
+import org.mvplugins.multiverse.core.TestWithMockBukkit
+import org.mvplugins.multiverse.core.destination.DestinationsProvider
+import org.mvplugins.multiverse.core.event.MVTeleportDestinationEvent
+import org.mvplugins.multiverse.core.world.WorldManager
+import org.mvplugins.multiverse.core.world.options.CreateWorldOptions
+import java.time.Duration
+import kotlin.test.*
+
+class TeleportRegistryTest : TestWithMockBukkit() {
+
+    private lateinit var teleportRegistry: TeleportRegistry
+    private lateinit var safetyTeleporter: AsyncSafetyTeleporter
+    private lateinit var destinationsProvider: DestinationsProvider
+    private lateinit var player: PlayerMock
+
+    @BeforeTest
+    fun setUp() {
+        teleportRegistry = serviceLocator.getActiveService(TeleportRegistry::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("TeleportRegistry is not available as a service") }
+        safetyTeleporter = serviceLocator.getActiveService(AsyncSafetyTeleporter::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("AsyncSafetyTeleporter is not available as a service") }
+        destinationsProvider = serviceLocator.getActiveService(DestinationsProvider::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("DestinationsProvider is not available as a service") }
+        val worldManager = serviceLocator.getActiveService(WorldManager::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("WorldManager is not available as a service") }
+
+        player = server.addPlayer()
+        assertTrue(worldManager.createWorld(CreateWorldOptions.worldName("world2")).isSuccess)
+    }
+
+    @Test
+    fun `Consume only matches teleports that are moving the player`() {
+        val inFlightTeleport = teleportRegistry.register(server.consoleSender, player)
+        assertTrue(teleportRegistry.consume(player.uniqueId).isEmpty)
+        assertTrue(teleportRegistry.get(player.uniqueId).isDefined)
+
+        inFlightTeleport.markTeleporting()
+        assertEquals(inFlightTeleport, teleportRegistry.consume(player.uniqueId).orNull)
+        assertTrue(teleportRegistry.consume(player.uniqueId).isEmpty)
+        assertEquals(0, teleportRegistry.activeCount)
+    }
+
+    @Test
+    fun `Other teleports of the player are not matched to a Multiverse teleport that has not started moving`() {
+        teleportRegistry.register(server.consoleSender, player)
+
+        // Such as an ender pearl landing while the destination is still being looked up
+        player.teleport(Location(player.world, 5.0, 5.0, 5.0), PlayerTeleportEvent.TeleportCause.ENDER_PEARL)
+
+        assertTrue(teleportRegistry.get(player.uniqueId).isDefined)
+    }
+
+    @Test
+    fun `Cancel before the teleport starts fails with teleport cancelled`() {
+        server.pluginManager.registerEvents(object : Listener {
+            @EventHandler
+            fun onDestination(event: MVTeleportDestinationEvent) {
+                assertTrue(teleportRegistry.cancel(event.teleportee.uniqueId))
+            }
+        }, multiverseCore)
+
+        val result = teleport()
+
+        assertEquals(TeleportFailureReason.TELEPORT_CANCELLED, result.get())
+        assertEquals("world", player.world.name)
+        assertTrue(teleportRegistry.get(player.uniqueId).isEmpty)
+    }
+
+    @Test
+    fun `Cancel while the teleport is underway cancels its teleport event`() {
+        server.pluginManager.registerEvents(object : Listener {
+            @EventHandler(priority = EventPriority.LOWEST)
+            fun onTeleport(event: PlayerTeleportEvent) {
+                assertTrue(teleportRegistry.cancel(event.player.uniqueId))
+            }
+        }, multiverseCore)
+
+        val result = teleport()
+
+        assertEquals(TeleportFailureReason.TELEPORT_FAILED, result.get())
+        assertEquals("world", player.world.name)
+        assertTrue(teleportRegistry.get(player.uniqueId).isEmpty)
+    }
+
+    @Test
+    fun `Successful teleport is unregistered`() {
+        val result = teleport()
+
+        assertTrue(result.isLeft)
+        assertEquals("world2", player.world.name)
+        assertEquals(0, teleportRegistry.activeCount)
+    }
+
+    @Test
+    fun `Failed teleport is unregistered`() {
+        val result = safetyTeleporter.to(null as Location?).teleport(player).toAttempt()
+
+        assertEquals(TeleportFailureReason.NULL_LOCATION, result.failureReason)
+        assertEquals(0, teleportRegistry.activeCount)
+    }
+
+    @Test
+    fun `In-flight teleport expires after its time-to-live`() {
+        teleportRegistry.register(server.consoleSender, player, Duration.ofMillis(1)).markTeleporting()
+        Thread.sleep(5)
+
+        assertTrue(teleportRegistry.get(player.uniqueId).isEmpty)
+        assertTrue(teleportRegistry.consume(player.uniqueId).isEmpty)
+        assertEquals(0, teleportRegistry.activeCount)
+    }
+
+    @Test
+    fun `Registering again replaces the older in-flight teleport`() {
+        val older = teleportRegistry.register(server.consoleSender, player)
+        val newer = teleportRegistry.register(player, player)
+
+        teleportRegistry.unregister(older)
+        assertEquals(newer, teleportRegistry.get(player.uniqueId).orNull)
+    }
+
+    @Suppress("DEPRECATION")
+    @Test
+    fun `Teleport queue keeps its name based behaviour`() {
+        val teleportQueue = serviceLocator.getActiveService(TeleportQueue::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("TeleportQueue is not available as a service") }
+
+        teleportQueue.addToQueue("CONSOLE", player.name)
+        assertEquals(server.consoleSender.name, teleportQueue.popFromQueue(player.name).orNull)
+        assertTrue(teleportQueue.popFromQueue(player.name).isEmpty)
+
+        val teleporter = server.addPlayer()
+        teleportQueue.addToQueue(teleporter, player)
+        assertEquals(teleporter.name, teleportQueue.popFromQueue(player.name).orNull)
+
+        teleportQueue.addToQueue("CONSOLE", "ghost")
+        assertTrue(teleportQueue.popFromQueue("ghost").isEmpty)
+    }
+
+    private fun teleport(): Either<Void, TeleportFailureReason> {
+        val destination = destinationsProvider.parseDestination("w:world2").get()
+        var result: Either<Void, TeleportFailureReason>? = null
+        safetyTeleporter.to(destination)
+            .by(server.consoleSender)
+            .checkSafety(false)
+            .prefetchChunks(false)
+            .teleport(player)
+            .thenAccept { result = it }
+        tickUntil { result != null }
+        return result!!
+    }
+}
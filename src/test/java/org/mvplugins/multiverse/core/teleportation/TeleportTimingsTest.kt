@@ -0,0 +1,115 @@
+package org.mvplugins.multiverse.core.teleportation
+
+import io.vavr.control.Either
+import org.bukkit.Bukkit
+import org.bukkit.Location
+import org.bukkit.Material
+import org.bukkit.World
+import org.mockbukkit.mockbukkit.entity.PlayerMock
+import org.mvplugins.multiverse.core.TestWithMockBukkit
+import org.mvplugins.multiverse.core.destination.DestinationsProvider
+import org.mvplugins.multiverse.core.world.WorldManager
+import org.mvplugins.multiverse.core.world.options.CreateWorldOptions
+import kotlin.test.*
+
+class TeleportTimingsTest : TestWithMockBukkit() {
+
+    private lateinit var teleportTimings: TeleportTimings
+    private lateinit var safetyTeleporter: AsyncSafetyTeleporter
+    private lateinit var destinationsProvider: DestinationsProvider
+    private lateinit var world: World
+    private lateinit var player: PlayerMock
+
+    @BeforeTest
+    fun setUp() {
+        teleportTimings = serviceLocator.getActiveService(TeleportTimings::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("TeleportTimings is not available as a service") }
+        safetyTeleporter = serviceLocator.getActiveService(AsyncSafetyTeleporter::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("AsyncSafetyTeleporter is not available as a service") }
+        destinationsProvider = serviceLocator.getActiveService(DestinationsProvider::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("DestinationsProvider is not available as a service") }
+        val worldManager = serviceLocator.getActiveService(WorldManager::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("WorldManager is not available as a service") }
+
+        assertTrue(worldManager.createWorld(CreateWorldOptions.worldName("world")).isSuccess)
+        world = server.getWorld("world")!!
+        player = server.addPlayer()
+        teleportTimings.reset()
+    }
+
+    @Test
+    fun `Stage timings are recorded in microseconds per destination type`() {
+        teleportTimings.record("w", TeleportStage.TELEPORT, 5_000_000)
+        teleportTimings.recordBlocksProbed("w", 12)
+
+        assertEquals(setOf("w"), teleportTimings.destinationTypes)
+        val timings = teleportTimings.getTimings("w").get()
+        assertEquals(1, timings.getStage(TeleportStage.TELEPORT).count)
+        assertEquals(5_000, timings.getStage(TeleportStage.TELEPORT).max)
+        assertEquals(0, timings.getStage(TeleportStage.TOTAL).count)
+        assertEquals(12, timings.blocksProbed.max)
+        assertTrue(teleportTimings.getTimings(TeleportTimings.LOCATION_TYPE).isEmpty)
+    }
+
+    @Test
+    fun `Reset clears all timings`() {
+        teleportTimings.record("w", TeleportStage.TELEPORT, 1_000)
+        teleportTimings.record(TeleportTimings.LOCATION_TYPE, TeleportStage.TOTAL, 1_000)
+
+        teleportTimings.reset()
+
+        assertTrue(teleportTimings.destinationTypes.isEmpty())
+        assertTrue(teleportTimings.getTimings("w").isEmpty)
+    }
+
+    @Test
+    fun `Debug teleports reset command clears all timings`() {
+        teleportTimings.record("w", TeleportStage.TELEPORT, 1_000)
+
+        assertTrue(Bukkit.dispatchCommand(server.consoleSender, "mv debug teleports reset"))
+
+        assertTrue(teleportTimings.destinationTypes.isEmpty())
+    }
+
+    @Test
+    fun `Plain destination parse records nothing`() {
+        assertTrue(destinationsProvider.parseDestination("w:world").isSuccess)
+        assertTrue(teleportTimings.destinationTypes.isEmpty())
+
+        assertTrue(destinationsProvider.parseTeleportDestination("w:world").isSuccess)
+        assertEquals(1, teleportTimings.getTimings("w").get().getStage(TeleportStage.DESTINATION_PARSE).count)
+    }
+
+    @Test
+    fun `Safe location cache hit records no search`() {
+        world.getBlockAt(0, 63, 0).type = Material.STONE
+        world.getBlockAt(0, 64, 0).type = Material.STONE
+        world.getBlockAt(0, 65, 0).type = Material.AIR
+        world.getBlockAt(0, 66, 0).type = Material.AIR
+        val target = Location(world, 0.5, 65.0, 0.5)
+
+        assertTrue(teleport(target).isLeft)
+        val timings = teleportTimings.getTimings(TeleportTimings.LOCATION_TYPE).get()
+        assertEquals(1, timings.getStage(TeleportStage.SAFETY_SEARCH).count)
+        assertEquals(1, timings.getStage(TeleportStage.SAFETY_CHUNK_LOAD).count)
+        assertEquals(1, timings.blocksProbed.count)
+
+        // The second search around the same block is served from the safe location cache
+        assertTrue(teleport(target).isLeft)
+        assertEquals(2, timings.getStage(TeleportStage.TOTAL).count)
+        assertEquals(1, timings.getStage(TeleportStage.SAFETY_SEARCH).count)
+        assertEquals(1, timings.getStage(TeleportStage.SAFETY_CHUNK_LOAD).count)
+        assertEquals(1, timings.blocksProbed.count)
+    }
+
+    private fun teleport(location: Location): Either<Void, TeleportFailureReason> {
+        var result: Either<Void, TeleportFailureReason>? = null
+        safetyTeleporter.to(location)
+            .checkSafety(true)
+            .prefetchChunks(false)
+            .teleport(player)
+            .thenAccept { result = it }
+        tickUntil { result != null }
+        return result!!
+    }
+}
@@ -0,0 +1,98 @@
+package org.mvplugins.multiverse.core.utils
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.Paths
+import java.util.concurrent.CompletionException
+import kotlin.io.path.*
+import kotlin.random.Random
+import kotlin.test.*
+
+class ParallelFolderCopierTest {
+
+    private lateinit var folderCopier: ParallelFolderCopier
+    private lateinit var tempDir: Path
+    private lateinit var sourceDir: Path
+    private lateinit var targetDir: Path
+
+    @BeforeTest
+    fun setUp() {
+        folderCopier = ParallelFolderCopier()
+        tempDir = Files.createTempDirectory("folder-copier")
+        sourceDir = tempDir.resolve("source").createDirectories()
+        targetDir = tempDir.resolve("target").createDirectories()
+
+        sourceDir.resolve("level.dat").writeBytes(Random(1).nextBytes(1024))
+        sourceDir.resolve("uid.dat").writeBytes(Random(2).nextBytes(16))
+        sourceDir.resolve("session.lock").writeBytes(ByteArray(0))
+        sourceDir.resolve("region").createDirectories()
+        for (i in 0 until 8) {
+            sourceDir.resolve("region/r.$i.0.mca").writeBytes(Random(i).nextBytes(200 * 1024))
+        }
+        sourceDir.resolve("data/empty").createDirectories()
+        sourceDir.resolve("data/raids.dat").writeBytes(ByteArray(0))
+    }
+
+    @AfterTest
+    fun tearDown() {
+        folderCopier.shutdown()
+        tempDir.toFile().deleteRecursively()
+    }
+
+    @Test
+    fun `Copy produces an identical folder tree`() {
+        folderCopier.copyFolder(sourceDir, targetDir, listOf("uid.dat", "session.lock"), null).join()
+
+        val expectedPaths = relativePaths(sourceDir) - setOf(Paths.get("uid.dat"), Paths.get("session.lock"))
+        assertEquals(expectedPaths, relativePaths(targetDir))
+        for (path in expectedPaths) {
+            val source = sourceDir.resolve(path)
+            val target = targetDir.resolve(path)
+            if (source.isRegularFile()) {
+                assertContentEquals(source.readBytes(), target.readBytes(), "Content of $path differs")
+                assertEquals(source.getLastModifiedTime(), target.getLastModifiedTime())
+            }
+        }
+        assertTrue(targetDir.resolve("data/empty").isDirectory())
+    }
+
+    @Test
+    fun `Progress is reported when the copy is done`() {
+        val reports = mutableListOf<ParallelFolderCopier.CopyProgress>()
+
+        val progress = folderCopier.copyFolder(sourceDir, targetDir, listOf()) {
+            synchronized(reports) { reports.add(it) }
+        }.join()
+
+        assertEquals(12, progress.totalFiles())
+        assertEquals(progress.totalFiles(), progress.copiedFiles())
+        assertEquals(1024L + 16 + 8 * 200 * 1024, progress.totalBytes())
+        assertEquals(100, progress.percent)
+        assertEquals(progress, synchronized(reports) { reports.last() })
+    }
+
+    @Test
+    fun `Copy fails if a file cannot be copied`() {
+        Files.createSymbolicLink(sourceDir.resolve("region/r.9.0.mca"), tempDir.resolve("missing.mca"))
+
+        val exception = assertFailsWith<CompletionException> {
+            folderCopier.copyFolder(sourceDir, targetDir, listOf(), null).join()
+        }
+        assertIs<java.nio.file.NoSuchFileException>(exception.cause)
+    }
+
+    @Test
+    fun `Copy fails if the target already contains a file being copied`() {
+        targetDir.resolve("level.dat").writeBytes(ByteArray(0))
+
+        assertFailsWith<CompletionException> {
+            folderCopier.copyFolder(sourceDir, targetDir, listOf(), null).join()
+        }
+    }
+
+    private fun relativePaths(root: Path): Set<Path> {
+        return Files.walk(root).use { paths ->
+            paths.filter { it != root }.map { root.relativize(it) }.toList().toSet()
+        }
+    }
+}
@@ -43,4 +43,11 @@ class StringFormatterTest {
             StringFormatter.quoteMultiWordString("test")
         )
     }
+
+    @Test
+    fun `StringFormatter formatBytes`() {
+        assertEquals("512 B", StringFormatter.formatBytes(512))
+        assertEquals("1.5 KiB", StringFormatter.formatBytes(1536))
+        assertEquals("3.0 GiB", StringFormatter.formatBytes(3L * 1024 * 1024 * 1024))
+    }
 }
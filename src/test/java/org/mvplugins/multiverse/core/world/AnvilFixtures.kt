@@ -0,0 +1,172 @@
+package org.mvplugins.multiverse.core.world
+
+import java.io.ByteArrayOutputStream
+import java.io.DataOutputStream
+import java.nio.ByteBuffer
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.zip.DeflaterOutputStream
+import java.util.zip.GZIPOutputStream
+
+/**
+ * Builds small NBT and Anvil region files for tests.
+ */
+internal object AnvilFixtures {
+
+    private const val SECTOR_BYTES = 4096
+    private const val COMPRESSION_ZLIB = 2
+    private const val EXTERNAL_FLAG = 0x80
+
+    /**
+     * A chunk to write into a region file.
+     */
+    class Chunk(
+        val chunkX: Int,
+        val chunkZ: Int,
+        val nbt: ByteArray,
+        val timestamp: Int = 1000,
+        val external: Boolean = false,
+    )
+
+    class NbtWriter(private val out: DataOutputStream) {
+        fun byte(name: String, value: Int) = tag(1, name).also { out.writeByte(value) }
+        fun int(name: String, value: Int) = tag(3, name).also { out.writeInt(value) }
+        fun long(name: String, value: Long) = tag(4, name).also { out.writeLong(value) }
+        fun double(name: String, value: Double) = tag(6, name).also { out.writeDouble(value) }
+        fun string(name: String, value: String) = tag(8, name).also { out.writeUTF(value) }
+
+        fun byteArray(name: String, values: ByteArray) {
+            tag(7, name)
+            out.writeInt(values.size)
+            out.write(values)
+        }
+
+        fun intArray(name: String, values: IntArray) {
+            tag(11, name)
+            out.writeInt(values.size)
+            values.forEach { out.writeInt(it) }
+        }
+
+        fun longArray(name: String, values: LongArray) {
+            tag(12, name)
+            out.writeInt(values.size)
+            values.forEach { out.writeLong(it) }
+        }
+
+        fun compound(name: String, body: NbtWriter.() -> Unit) {
+            tag(10, name)
+            body()
+            out.writeByte(0)
+        }
+
+        fun compoundList(name: String, count: Int, body: NbtWriter.(Int) -> Unit) {
+            tag(9, name)
+            out.writeByte(10)
+            out.writeInt(count)
+            repeat(count) {
+                body(it)
+                out.writeByte(0)
+            }
+        }
+
+        private fun tag(type: Int, name: String) {
+            out.writeByte(type)
+            out.writeUTF(name)
+        }
+    }
+
+    fun nbt(body: NbtWriter.() -> Unit): ByteArray {
+        val bytes = ByteArrayOutputStream()
+        DataOutputStream(bytes).use { NbtWriter(it).compound("", body) }
+        return bytes.toByteArray()
+    }
+
+    /**
+     * Chunk NBT with some data around the inhabited time, either in the root compound like since 1.18, or in the
+     * `Level` compound like before.
+     */
+    fun chunkNbt(inhabitedTime: Long, legacy: Boolean = false): ByteArray = nbt {
+        int("DataVersion", if (legacy) 2586 else 2975)
+        val chunkData: NbtWriter.() -> Unit = {
+            string("Status", "full")
+            compoundList("sections", 2) { section ->
+                byte("Y", section)
+                longArray("BlockStates", LongArray(256) { it.toLong() })
+                byteArray("SkyLight", ByteArray(2048))
+            }
+            intArray("Biomes", IntArray(64))
+            long("InhabitedTime", inhabitedTime)
+            long("LastUpdate", 1234)
+        }
+        if (legacy) compound("Level", chunkData) else chunkData(this)
+    }
+
+    /**
+     * A gzipped level.dat with a world border.
+     */
+    fun writeLevelDat(file: Path, borderCenterX: Double, borderCenterZ: Double, borderSize: Double) {
+        val levelDat = nbt {
+            compound("Data") {
+                string("LevelName", "world")
+                double("BorderCenterX", borderCenterX)
+                double("BorderCenterZ", borderCenterZ)
+                double("BorderSize", borderSize)
+            }
+        }
+        GZIPOutputStream(Files.newOutputStream(file)).use { it.write(levelDat) }
+    }
+
+    fun chunkIndex(chunkX: Int, chunkZ: Int) = (chunkX and 31) + (chunkZ and 31) * 32
+
+    fun externalFile(regionFile: Path, chunkX: Int, chunkZ: Int): Path =
+        regionFile.resolveSibling("c.$chunkX.$chunkZ.mcc")
+
+    /**
+     * Writes a region file with the chunks zlib compressed, leaving the given number of unused sectors before each
+     * chunk. External chunks are written to their own `.mcc` file.
+     */
+    fun writeRegionFile(regionFile: Path, chunks: List<Chunk>, unusedSectorsBetween: Int = 0) {
+        Files.createDirectories(regionFile.parent)
+        val header = ByteBuffer.allocate(SECTOR_BYTES * 2)
+        val body = ByteArrayOutputStream()
+        var nextSector = 2
+        for (chunk in chunks) {
+            nextSector += unusedSectorsBetween
+            body.write(ByteArray(unusedSectorsBetween * SECTOR_BYTES))
+            val compressed = zlib(chunk.nbt)
+            val data = if (chunk.external) {
+                Files.write(externalFile(regionFile, chunk.chunkX, chunk.chunkZ), compressed)
+                ByteBuffer.allocate(5).putInt(1).put((COMPRESSION_ZLIB or EXTERNAL_FLAG).toByte()).array()
+            } else {
+                ByteBuffer.allocate(5 + compressed.size).putInt(1 + compressed.size).put(COMPRESSION_ZLIB.toByte())
+                    .put(compressed).array()
+            }
+            val sectors = (data.size + SECTOR_BYTES - 1) / SECTOR_BYTES
+            val index = chunkIndex(chunk.chunkX, chunk.chunkZ)
+            header.putInt(index * 4, nextSector shl 8 or sectors)
+            header.putInt(SECTOR_BYTES + index * 4, chunk.timestamp)
+            body.write(data)
+            body.write(ByteArray(sectors * SECTOR_BYTES - data.size))
+            nextSector += sectors
+        }
+        Files.newOutputStream(regionFile).use {
+            it.write(header.array())
+            it.write(body.toByteArray())
+        }
+    }
+
+    /**
+     * Overwrites the location of a chunk in the header of a region file.
+     */
+    fun setChunkLocation(regionFile: Path, index: Int, sectorOffset: Int, sectorCount: Int) {
+        val bytes = Files.readAllBytes(regionFile)
+        ByteBuffer.wrap(bytes).putInt(index * 4, sectorOffset shl 8 or sectorCount)
+        Files.write(regionFile, bytes)
+    }
+
+    private fun zlib(bytes: ByteArray): ByteArray {
+        val out = ByteArrayOutputStream()
+        DeflaterOutputStream(out).use { it.write(bytes) }
+        return out.toByteArray()
+    }
+}
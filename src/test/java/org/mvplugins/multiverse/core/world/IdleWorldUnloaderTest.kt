@@ -0,0 +1,108 @@
+package org.mvplugins.multiverse.core.world
+
+import org.mvplugins.multiverse.core.TestWithMockBukkit
+import org.mvplugins.multiverse.core.world.options.CreateWorldOptions
+import kotlin.test.*
+
+class IdleWorldUnloaderTest : TestWithMockBukkit() {
+
+    private lateinit var idleWorldUnloader: IdleWorldUnloader
+    private lateinit var worldManager: WorldManager
+    private lateinit var defaultWorld: LoadedMultiverseWorld
+    private lateinit var world2: LoadedMultiverseWorld
+
+    @BeforeTest
+    fun setUp() {
+        idleWorldUnloader = serviceLocator.getActiveService(IdleWorldUnloader::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("IdleWorldUnloader is not available as a service") }
+        worldManager = serviceLocator.getActiveService(WorldManager::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("WorldManager is not available as a service") }
+
+        defaultWorld = worldManager.createWorld(CreateWorldOptions.worldName("world")).get()
+        world2 = worldManager.createWorld(CreateWorldOptions.worldName("world2")).get()
+    }
+
+    @Test
+    fun `Idle world is unloaded after idle-unload-after expires`() {
+        assertTrue(world2.setIdleUnloadAfter(1).isSuccess)
+
+        runIdleCheck()
+        assertTrue(worldManager.isLoadedWorld("world2"))
+
+        Thread.sleep(1100)
+        runIdleCheck()
+        assertFalse(worldManager.isLoadedWorld("world2"))
+        assertTrue(worldManager.isWorld("world2"))
+    }
+
+    @Test
+    fun `Idle unloading is disabled with -1`() {
+        assertEquals(-1, world2.idleUnloadAfter)
+
+        runIdleCheck()
+        runIdleCheck()
+        assertTrue(worldManager.isLoadedWorld("world2"))
+    }
+
+    @Test
+    fun `Default world is never unloaded`() {
+        assertTrue(defaultWorld.setIdleUnloadAfter(0).isSuccess)
+
+        runIdleCheck()
+        runIdleCheck()
+        assertTrue(worldManager.isLoadedWorld("world"))
+    }
+
+    @Test
+    fun `World used as a respawn-world is never unloaded`() {
+        val world3 = worldManager.createWorld(CreateWorldOptions.worldName("world3")).get()
+        assertTrue(world3.setIdleUnloadAfter(0).isSuccess)
+        assertTrue(world2.setRespawnWorld("world3").isSuccess)
+
+        runIdleCheck()
+        runIdleCheck()
+        assertTrue(worldManager.isLoadedWorld("world3"))
+
+        assertTrue(world2.setRespawnWorld("").isSuccess)
+        runIdleCheck()
+        assertFalse(worldManager.isLoadedWorld("world3"))
+    }
+
+    @Test
+    fun `World with players is not idle`() {
+        assertTrue(defaultWorld.setIdleUnloadAfter(0).isSuccess)
+        assertTrue(world2.setIdleUnloadAfter(0).isSuccess)
+        val player = server.addPlayer()
+        player.teleport(world2.spawnLocation)
+
+        runIdleCheck()
+        assertTrue(worldManager.isLoadedWorld("world2"))
+    }
+
+    @Test
+    fun `Player entering the world resets the idle time`() {
+        assertTrue(world2.setIdleUnloadAfter(1).isSuccess)
+        val bukkitWorld = world2.bukkitWorld.get()
+
+        runIdleCheck()
+        Thread.sleep(700)
+        idleWorldUnloader.playerEnteredWorld(bukkitWorld)
+        idleWorldUnloader.playerLeftWorld(bukkitWorld, null)
+        Thread.sleep(500)
+
+        // Idle for over a second since the first check, but not since the player left
+        runIdleCheck()
+        assertTrue(worldManager.isLoadedWorld("world2"))
+
+        Thread.sleep(600)
+        runIdleCheck()
+        assertFalse(worldManager.isLoadedWorld("world2"))
+    }
+
+    /**
+     * Advances the scheduler past the next periodic idle check.
+     */
+    private fun runIdleCheck() {
+        server.scheduler.performTicks(200)
+    }
+}
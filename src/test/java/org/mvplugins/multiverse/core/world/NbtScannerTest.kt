@@ -0,0 +1,60 @@
+package org.mvplugins.multiverse.core.world
+
+import java.io.ByteArrayInputStream
+import java.io.DataInputStream
+import java.io.IOException
+import kotlin.test.*
+
+class NbtScannerTest {
+
+    @Test
+    fun `Find numbers in the root compound`() {
+        val found = NbtScanner.findNumbers(input(AnvilFixtures.chunkNbt(1234)), "Level",
+            setOf("InhabitedTime", "DataVersion"))
+
+        assertEquals(mapOf<String, Number>("InhabitedTime" to 1234L, "DataVersion" to 2975), found)
+    }
+
+    @Test
+    fun `Find numbers in the nested compound`() {
+        val found = NbtScanner.findNumbers(input(AnvilFixtures.chunkNbt(1234, legacy = true)), "Level",
+            setOf("InhabitedTime"))
+
+        assertEquals(mapOf<String, Number>("InhabitedTime" to 1234L), found)
+    }
+
+    @Test
+    fun `Missing and non-numeric tags are not found`() {
+        val found = NbtScanner.findNumbers(input(AnvilFixtures.chunkNbt(1234)), "Level",
+            setOf("Status", "Biomes", "BorderSize"))
+
+        assertTrue(found.isEmpty())
+    }
+
+    @Test
+    fun `Scanning stops once all numbers are found`() {
+        val nbt = AnvilFixtures.nbt {
+            double("BorderSize", 64.0)
+            byte("Broken", 0)
+        }
+        // Make the type of the last tag invalid, which would fail the scan if it was read. The tag is followed by its
+        // 2 byte name length, 6 byte name, 1 byte value and the end of the root compound.
+        nbt[nbt.size - 11] = 99
+
+        assertEquals(mapOf<String, Number>("BorderSize" to 64.0), NbtScanner.findNumbers(input(nbt), "Data",
+            setOf("BorderSize")))
+    }
+
+    @Test
+    fun `Invalid NBT fails`() {
+        assertFailsWith<IOException> {
+            NbtScanner.findNumbers(input(byteArrayOf(8, 0, 0)), "Level", setOf("InhabitedTime"))
+        }
+        val truncated = AnvilFixtures.chunkNbt(1234).copyOf(100)
+        assertFailsWith<IOException> {
+            NbtScanner.findNumbers(input(truncated), "Level", setOf("InhabitedTime"))
+        }
+    }
+
+    private fun input(bytes: ByteArray) = DataInputStream(ByteArrayInputStream(bytes))
+}
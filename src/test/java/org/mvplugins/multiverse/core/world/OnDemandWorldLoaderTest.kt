@@ -0,0 +1,152 @@
+package org.mvplugins.multiverse.core.world
+
+import io.vavr.control.Either
+import org.bukkit.Location
+import org.bukkit.event.EventHandler
+import org.bukkit.event.Listener
+import org.mockbukkit.mockbukkit.entity.PlayerMock
+import org.mvplugins.multiverse.core.TestWithMockBukkit
+import org.mvplugins.multiverse.core.anchor.AnchorManager
+import org.mvplugins.multiverse.core.destination.DestinationsProvider
+import org.mvplugins.multiverse.core.event.world.MVWorldLoadedEvent
+import org.mvplugins.multiverse.core.teleportation.AsyncSafetyTeleporter
+import org.mvplugins.multiverse.core.teleportation.AsyncSafetyTeleporterAction
+import org.mvplugins.multiverse.core.teleportation.TeleportFailureReason
+import org.mvplugins.multiverse.core.world.location.UnloadedWorldLocation
+import org.mvplugins.multiverse.core.world.options.CreateWorldOptions
+import org.mvplugins.multiverse.core.world.options.UnloadWorldOptions
+import org.mvplugins.multiverse.core.world.reasons.LoadFailureReason
+import kotlin.test.*
+
+class OnDemandWorldLoaderTest : TestWithMockBukkit() {
+
+    private lateinit var onDemandWorldLoader: OnDemandWorldLoader
+    private lateinit var worldManager: WorldManager
+    private lateinit var safetyTeleporter: AsyncSafetyTeleporter
+    private lateinit var destinationsProvider: DestinationsProvider
+    private lateinit var player: PlayerMock
+    private var worldLoads = 0
+
+    @BeforeTest
+    fun setUp() {
+        onDemandWorldLoader = serviceLocator.getActiveService(OnDemandWorldLoader::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("OnDemandWorldLoader is not available as a service") }
+        worldManager = serviceLocator.getActiveService(WorldManager::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("WorldManager is not available as a service") }
+        safetyTeleporter = serviceLocator.getActiveService(AsyncSafetyTeleporter::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("AsyncSafetyTeleporter is not available as a service") }
+        destinationsProvider = serviceLocator.getActiveService(DestinationsProvider::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("DestinationsProvider is not available as a service") }
+
+        assertTrue(worldManager.createWorld(CreateWorldOptions.worldName("world")).isSuccess)
+        val world2 = worldManager.createWorld(CreateWorldOptions.worldName("world2")).get()
+        val anchorManager = serviceLocator.getActiveService(AnchorManager::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("AnchorManager is not available as a service") }
+        assertTrue(anchorManager.setAnchor("arena", Location(world2.bukkitWorld.get(), 1.5, 70.0, 1.5)).isSuccess)
+        assertTrue(worldManager.unloadWorld(UnloadWorldOptions.world(world2)).isSuccess)
+        player = server.addPlayer()
+
+        server.pluginManager.registerEvents(object : Listener {
+            @EventHandler
+            fun onWorldLoaded(event: MVWorldLoadedEvent) {
+                worldLoads++
+            }
+        }, multiverseCore)
+    }
+
+    @Test
+    fun `Teleport into an unloaded world with load on demand loads the world`() {
+        setLoadOnDemand(true)
+
+        val result = teleport(destinationAction("w:world2"))
+
+        assertTrue(result.isLeft)
+        assertTrue(worldManager.isLoadedWorld("world2"))
+        assertEquals("world2", player.world.name)
+        assertEquals(1, worldLoads)
+    }
+
+    @Test
+    fun `Teleport into an unloaded world without load on demand fails`() {
+        setLoadOnDemand(false)
+
+        val result = teleport(destinationAction("w:world2"))
+
+        assertEquals(TeleportFailureReason.NULL_LOCATION, result.get())
+        assertFalse(worldManager.isLoadedWorld("world2"))
+        assertEquals("world", player.world.name)
+        assertEquals(0, worldLoads)
+    }
+
+    @Test
+    fun `Teleport to an anchor in an unloaded world loads the world`() {
+        setLoadOnDemand(true)
+
+        val result = teleport(destinationAction("a:arena"))
+
+        assertTrue(result.isLeft)
+        assertTrue(worldManager.isLoadedWorld("world2"))
+        assertLocationEquals(Location(server.getWorld("world2"), 1.5, 70.0, 1.5), player.location)
+    }
+
+    @Test
+    fun `Teleport to an unloaded world location loads the world`() {
+        setLoadOnDemand(true)
+
+        val result = teleport(safetyTeleporter.to(UnloadedWorldLocation("world2", 1.5, 70.0, 1.5)))
+
+        assertTrue(result.isLeft)
+        assertTrue(worldManager.isLoadedWorld("world2"))
+        assertEquals("world2", player.world.name)
+    }
+
+    @Test
+    fun `Teleport to an unloaded world location without load on demand fails`() {
+        setLoadOnDemand(false)
+
+        val result = teleport(safetyTeleporter.to(UnloadedWorldLocation("world2", 1.5, 70.0, 1.5)))
+
+        assertEquals(TeleportFailureReason.NULL_WORLD, result.get())
+        assertFalse(worldManager.isLoadedWorld("world2"))
+    }
+
+    @Test
+    fun `Concurrent loads of the same world share a single load`() {
+        setLoadOnDemand(true)
+        val world2 = onDemandWorldLoader.getLoadableWorld("world2").get()
+        val results = mutableListOf<Either<LoadedMultiverseWorld, LoadFailureReason>>()
+
+        // Off the main thread, so the load is only started on the next tick
+        val requests = Thread {
+            onDemandWorldLoader.loadWorld(world2).thenAccept { synchronized(results) { results.add(it) } }
+            onDemandWorldLoader.loadWorld(world2).thenAccept { synchronized(results) { results.add(it) } }
+        }
+        requests.start()
+        requests.join()
+        tickUntil { synchronized(results) { results.size == 2 } }
+
+        assertEquals(1, worldLoads)
+        assertTrue(results.all { it.isLeft })
+        assertSame(results[0].left, results[1].left)
+        assertTrue(onDemandWorldLoader.getLoadableWorld("world2").isEmpty)
+    }
+
+    private fun setLoadOnDemand(loadOnDemand: Boolean) {
+        assertTrue(worldManager.getUnloadedWorld("world2").get().setLoadOnDemand(loadOnDemand).isSuccess)
+    }
+
+    private fun destinationAction(destinationString: String): AsyncSafetyTeleporterAction {
+        return safetyTeleporter.to(destinationsProvider.parseDestination(destinationString).get())
+    }
+
+    private fun teleport(action: AsyncSafetyTeleporterAction): Either<Void, TeleportFailureReason> {
+        var result: Either<Void, TeleportFailureReason>? = null
+        action.by(server.consoleSender)
+            .checkSafety(false)
+            .prefetchChunks(false)
+            .teleport(player)
+            .thenAccept { result = it }
+        tickUntil { result != null }
+        return result!!
+    }
+}
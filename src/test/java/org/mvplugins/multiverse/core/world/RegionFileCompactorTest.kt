@@ -0,0 +1,161 @@
+package org.mvplugins.multiverse.core.world
+
+import org.mvplugins.multiverse.core.world.AnvilFixtures.Chunk
+import java.io.IOException
+import java.nio.file.Files
+import java.nio.file.Path
+import kotlin.test.*
+
+class RegionFileCompactorTest {
+
+    private lateinit var folder: Path
+    private lateinit var regionFile: Path
+
+    @BeforeTest
+    fun setUp() {
+        folder = Files.createTempDirectory("region-compactor")
+        regionFile = folder.resolve("r.0.0.mca")
+    }
+
+    @AfterTest
+    fun tearDown() {
+        folder.toFile().deleteRecursively()
+    }
+
+    @Test
+    fun `Compact removes unused sectors and keeps chunks as they were`() {
+        AnvilFixtures.writeRegionFile(regionFile, listOf(
+            Chunk(0, 0, AnvilFixtures.chunkNbt(100), timestamp = 11),
+            Chunk(3, 2, AnvilFixtures.chunkNbt(200), timestamp = 22),
+        ), unusedSectorsBetween = 2)
+        val chunksBefore = readChunkBytes(regionFile)
+
+        val result = RegionFileCompactor.compact(regionFile, 0, 0) { _, _, _ -> false }
+
+        assertTrue(result.removedChunks().isEmpty)
+        assertEquals(4L * 4096, result.bytesReclaimed())
+        assertEquals(Files.size(regionFile), result.bytesAfter())
+        assertEquals(chunksBefore, readChunkBytes(regionFile))
+        assertFalse(Files.exists(folder.resolve("r.0.0.mca.tmp")))
+    }
+
+    @Test
+    fun `Compact leaves a file without unused sectors untouched`() {
+        AnvilFixtures.writeRegionFile(regionFile, listOf(Chunk(0, 0, AnvilFixtures.chunkNbt(100))))
+        val bytesBefore = Files.readAllBytes(regionFile)
+
+        val result = RegionFileCompactor.compact(regionFile, 0, 0) { _, _, _ -> false }
+
+        assertEquals(0, result.bytesReclaimed())
+        assertContentEquals(bytesBefore, Files.readAllBytes(regionFile))
+    }
+
+    @Test
+    fun `Compact removes filtered chunks and their external chunk files`() {
+        AnvilFixtures.writeRegionFile(regionFile, listOf(
+            Chunk(-32, 0, AnvilFixtures.chunkNbt(100)),
+            Chunk(-31, 0, AnvilFixtures.chunkNbt(200), external = true),
+            Chunk(-30, 0, AnvilFixtures.chunkNbt(300), external = true),
+        ))
+        val removedExternalFile = AnvilFixtures.externalFile(regionFile, -31, 0)
+        val keptExternalFile = AnvilFixtures.externalFile(regionFile, -30, 0)
+        val sizeBefore = Files.size(regionFile) + Files.size(removedExternalFile)
+        val filteredChunks = mutableListOf<Pair<Int, Int>>()
+
+        val result = RegionFileCompactor.compact(regionFile, -1, 0) { chunkX, chunkZ, _ ->
+            filteredChunks.add(chunkX to chunkZ)
+            chunkX == -31
+        }
+
+        assertEquals(listOf(-32 to 0, -31 to 0, -30 to 0), filteredChunks)
+        assertEquals(listOf(1), result.removedChunks().stream().boxed().toList())
+        assertEquals(sizeBefore, result.bytesBefore())
+        assertFalse(Files.exists(removedExternalFile))
+        assertTrue(Files.exists(keptExternalFile))
+        assertEquals(listOf(0, 2), RegionFileCompactor.readChunks(regionFile).map { it.index() })
+    }
+
+    @Test
+    fun `Compact deletes a region file without remaining chunks`() {
+        AnvilFixtures.writeRegionFile(regionFile, listOf(Chunk(0, 0, AnvilFixtures.chunkNbt(100))))
+
+        val result = RegionFileCompactor.compact(regionFile, 0, 0) { _, _, _ -> true }
+
+        assertEquals(0, result.bytesAfter())
+        assertFalse(Files.exists(regionFile))
+    }
+
+    @Test
+    fun `Compact leaves a region file with a corrupt header untouched`() {
+        AnvilFixtures.writeRegionFile(regionFile, listOf(
+            Chunk(0, 0, AnvilFixtures.chunkNbt(100)),
+            Chunk(1, 0, AnvilFixtures.chunkNbt(200)),
+        ), unusedSectorsBetween = 1)
+        AnvilFixtures.setChunkLocation(regionFile, 1, 500, 1)
+        val bytesBefore = Files.readAllBytes(regionFile)
+
+        val result = RegionFileCompactor.compact(regionFile, 0, 0) { _, _, _ -> true }
+
+        assertTrue(result.removedChunks().isEmpty)
+        assertEquals(0, result.bytesReclaimed())
+        assertContentEquals(bytesBefore, Files.readAllBytes(regionFile))
+    }
+
+    @Test
+    fun `Compact keeps chunks with an invalid length`() {
+        AnvilFixtures.writeRegionFile(regionFile, listOf(
+            Chunk(0, 0, AnvilFixtures.chunkNbt(100)),
+            Chunk(1, 0, AnvilFixtures.chunkNbt(200)),
+        ))
+        val bytes = Files.readAllBytes(regionFile)
+        // Make the length of chunk 0, in the first sector after the header, run past its sectors
+        bytes[2 * 4096] = 0x7F
+        Files.write(regionFile, bytes)
+
+        val result = RegionFileCompactor.compact(regionFile, 0, 0) { _, _, _ -> true }
+
+        assertEquals(listOf(1), result.removedChunks().stream().boxed().toList())
+        assertEquals(listOf(0), RegionFileCompactor.readChunks(regionFile).map { it.index() })
+    }
+
+    @Test
+    fun `Failed compaction leaves the region file as it was`() {
+        AnvilFixtures.writeRegionFile(regionFile, listOf(
+            Chunk(0, 0, AnvilFixtures.chunkNbt(100)),
+            Chunk(1, 0, AnvilFixtures.chunkNbt(200)),
+        ))
+        val bytesBefore = Files.readAllBytes(regionFile)
+        // The temp file can't be written while a folder is in its place
+        Files.createDirectory(folder.resolve("r.0.0.mca.tmp"))
+
+        assertFailsWith<IOException> {
+            RegionFileCompactor.compact(regionFile, 0, 0) { chunkX, _, _ -> chunkX == 1 }
+        }
+        assertContentEquals(bytesBefore, Files.readAllBytes(regionFile))
+        assertFalse(Files.exists(folder.resolve("r.0.0.mca.tmp")))
+    }
+
+    @Test
+    fun `Read and write chunks`() {
+        AnvilFixtures.writeRegionFile(regionFile, listOf(
+            Chunk(5, 7, AnvilFixtures.chunkNbt(100), timestamp = 33),
+            Chunk(31, 31, AnvilFixtures.chunkNbt(200), timestamp = 44, external = true),
+        ), unusedSectorsBetween = 1)
+
+        val chunks = RegionFileCompactor.readChunks(regionFile)
+        assertTrue(chunks.none { it.data().isDirect })
+        assertEquals(listOf(33, 44), chunks.map { it.timestamp() })
+
+        val copy = folder.resolve("r.1.1.mca")
+        RegionFileCompactor.writeRegionFile(copy, chunks)
+        assertEquals(readChunkBytes(regionFile), readChunkBytes(copy))
+        assertEquals(Files.size(regionFile) - 2 * 4096, Files.size(copy))
+    }
+
+    private fun readChunkBytes(file: Path): List<Triple<Int, Int, List<Byte>>> {
+        return RegionFileCompactor.readChunks(file).map { chunk ->
+            val data = chunk.data().duplicate()
+            Triple(chunk.index(), chunk.timestamp(), ByteArray(data.remaining()).also { data.get(it) }.toList())
+        }
+    }
+}
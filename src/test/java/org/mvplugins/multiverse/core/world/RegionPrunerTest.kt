@@ -0,0 +1,98 @@
+package org.mvplugins.multiverse.core.world
+
+import org.bukkit.Bukkit
+import org.mvplugins.multiverse.core.TestWithMockBukkit
+import org.mvplugins.multiverse.core.world.AnvilFixtures.Chunk
+import org.mvplugins.multiverse.core.world.options.CreateWorldOptions
+import org.mvplugins.multiverse.core.world.options.PruneWorldOptions
+import org.mvplugins.multiverse.core.world.options.UnloadWorldOptions
+import org.mvplugins.multiverse.core.world.reasons.PruneFailureReason
+import java.nio.file.Files
+import java.nio.file.Path
+import kotlin.test.*
+
+class RegionPrunerTest : TestWithMockBukkit() {
+
+    private lateinit var regionPruner: RegionPruner
+    private lateinit var worldManager: WorldManager
+    private lateinit var world: LoadedMultiverseWorld
+    private lateinit var worldFolder: Path
+
+    @BeforeTest
+    fun setUp() {
+        regionPruner = serviceLocator.getActiveService(RegionPruner::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("RegionPruner is not available as a service") }
+        worldManager = serviceLocator.getActiveService(WorldManager::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("WorldManager is not available as a service") }
+
+        assertTrue(worldManager.createWorld(CreateWorldOptions.worldName("world")).isSuccess)
+        world = worldManager.getLoadedWorld("world").get()
+        worldFolder = Bukkit.getWorldContainer().toPath().resolve("world")
+        // The border covers chunks -2 to 1 on both axes
+        AnvilFixtures.writeLevelDat(worldFolder.resolve("level.dat"), 0.0, 0.0, 64.0)
+        AnvilFixtures.writeRegionFile(worldFolder.resolve("region/r.0.0.mca"), listOf(
+            Chunk(0, 0, AnvilFixtures.chunkNbt(1000)),
+            Chunk(1, 0, AnvilFixtures.chunkNbt(5)),
+            Chunk(1, 1, AnvilFixtures.chunkNbt(5, legacy = true)),
+            Chunk(0, 1, AnvilFixtures.chunkNbt(5), external = true),
+            Chunk(2, 0, AnvilFixtures.chunkNbt(1000)),
+        ))
+        AnvilFixtures.writeRegionFile(worldFolder.resolve("entities/r.0.0.mca"), listOf(
+            Chunk(0, 0, AnvilFixtures.nbt { int("DataVersion", 2975) }),
+            Chunk(1, 0, AnvilFixtures.nbt { int("DataVersion", 2975) }),
+            Chunk(2, 0, AnvilFixtures.nbt { int("DataVersion", 2975) }),
+        ))
+        assertTrue(worldManager.unloadWorld(UnloadWorldOptions.world(world)).isSuccess)
+    }
+
+    @Test
+    fun `Prune chunks outside the world border and barely inhabited chunks`() {
+        val result = regionPruner.pruneWorld(PruneWorldOptions.world(world).minInhabitedTicks(100)).toAttempt()
+
+        assertTrue(result.isSuccess)
+        assertEquals(1, result.get().regionFiles())
+        assertEquals(4, result.get().removedChunks())
+        assertEquals(0, result.get().failedRegionFiles())
+        assertTrue(result.get().bytesReclaimed() > 0)
+        assertEquals(listOf(0), chunkIndexes("region/r.0.0.mca"))
+        assertEquals(listOf(0), chunkIndexes("entities/r.0.0.mca"))
+        assertFalse(Files.exists(worldFolder.resolve("region/c.0.1.mca")))
+        assertFalse(regionPruner.isPruning("world"))
+    }
+
+    @Test
+    fun `Prune only chunks outside the world border when inhabited time is ignored`() {
+        val result = regionPruner.pruneWorld(PruneWorldOptions.world(world)
+            .minInhabitedTicks(0)
+            .pruneOutsideWorldBorder(true)).toAttempt()
+
+        assertEquals(1, result.get().removedChunks())
+        assertEquals(listOf(0, 1, 32, 33), chunkIndexes("region/r.0.0.mca"))
+        assertEquals(listOf(0, 1), chunkIndexes("entities/r.0.0.mca"))
+        assertTrue(Files.exists(worldFolder.resolve("region/c.0.1.mca")))
+    }
+
+    @Test
+    fun `Prune leaves region files with a corrupt header as they were`() {
+        val regionFile = worldFolder.resolve("region/r.0.0.mca")
+        AnvilFixtures.setChunkLocation(regionFile, AnvilFixtures.chunkIndex(5, 5), 900, 1)
+        val bytesBefore = Files.readAllBytes(regionFile)
+
+        val result = regionPruner.pruneWorld(PruneWorldOptions.world(world).minInhabitedTicks(100)).toAttempt()
+
+        assertEquals(RegionPruner.PruneResult(1, 0, 0, 0), result.get())
+        assertContentEquals(bytesBefore, Files.readAllBytes(regionFile))
+    }
+
+    @Test
+    fun `Prune world failed - world loaded`() {
+        assertTrue(worldManager.loadWorld("world").isSuccess)
+
+        assertEquals(PruneFailureReason.WORLD_LOADED,
+            regionPruner.pruneWorld(PruneWorldOptions.world(world)).toAttempt().failureReason)
+    }
+
+    private fun chunkIndexes(regionFile: String): List<Int> {
+        return RegionFileCompactor.readChunks(worldFolder.resolve(regionFile)).map { it.index() }
+    }
+}
@@ -0,0 +1,103 @@
+package org.mvplugins.multiverse.core.world
+
+import org.bukkit.event.EventHandler
+import org.bukkit.event.Listener
+import org.mvplugins.multiverse.core.TestWithMockBukkit
+import org.mvplugins.multiverse.core.config.CoreConfig
+import org.mvplugins.multiverse.core.event.world.MVWorldLoadedEvent
+import org.mvplugins.multiverse.core.world.options.CreateWorldOptions
+import org.mvplugins.multiverse.core.world.options.UnloadWorldOptions
+import java.io.File
+import kotlin.test.*
+
+class StartupWorldLoaderTest : TestWithMockBukkit() {
+
+    private lateinit var startupWorldLoader: StartupWorldLoader
+    private lateinit var worldManager: WorldManager
+    private lateinit var config: CoreConfig
+    private lateinit var worldsConfigFile: File
+    private val loadOrder = mutableListOf<String>()
+
+    @BeforeTest
+    fun setUp() {
+        startupWorldLoader = serviceLocator.getActiveService(StartupWorldLoader::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("StartupWorldLoader is not available as a service") }
+        worldManager = serviceLocator.getActiveService(WorldManager::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("WorldManager is not available as a service") }
+        config = serviceLocator.getActiveService(CoreConfig::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("CoreConfig is not available as a service") }
+        worldsConfigFile = File(multiverseCore.dataFolder, "worlds.yml")
+
+        createUnloadedWorld("low", 0)
+        createUnloadedWorld("high", 10)
+        createUnloadedWorld("middle", 5)
+
+        server.pluginManager.registerEvents(object : Listener {
+            @EventHandler
+            fun onWorldLoaded(event: MVWorldLoadedEvent) {
+                loadOrder.add(event.world.name)
+            }
+        }, multiverseCore)
+    }
+
+    @Test
+    fun `Worlds are loaded in order of load priority`() {
+        assertTrue(config.setStartupWorldsPerTick(0).isSuccess)
+
+        startupWorldLoader.loadWorlds(unloadedWorlds("low", "middle", "high"))
+
+        assertEquals(listOf("high", "middle", "low"), loadOrder)
+    }
+
+    @Test
+    fun `All worlds are loaded during enable when worlds per tick is 0`() {
+        assertTrue(config.setStartupWorldsPerTick(0).isSuccess)
+
+        val completion = startupWorldLoader.loadWorlds(unloadedWorlds("low", "middle", "high"))
+
+        assertTrue(worldManager.isLoadedWorld("low"))
+        assertTrue(worldManager.isLoadedWorld("middle"))
+        assertTrue(worldManager.isLoadedWorld("high"))
+        tickUntil { completion.isDone }
+    }
+
+    @Test
+    fun `Worlds per tick spreads world creation across ticks`() {
+        assertTrue(config.setStartupWorldsPerTick(2).isSuccess)
+
+        val completion = startupWorldLoader.loadWorlds(unloadedWorlds("low", "middle", "high"))
+        assertEquals(listOf("high", "middle"), loadOrder)
+        assertFalse(worldManager.isLoadedWorld("low"))
+
+        server.scheduler.performOneTick()
+        assertEquals(listOf("high", "middle", "low"), loadOrder)
+        tickUntil { completion.isDone }
+    }
+
+    @Test
+    fun `Worlds config is saved once after all worlds are loaded`() {
+        assertTrue(config.setStartupWorldsPerTick(1).isSuccess)
+
+        val completion = startupWorldLoader.loadWorlds(unloadedWorlds("low", "middle", "high"))
+        assertTrue(worldsConfigFile.delete())
+
+        server.scheduler.performOneTick()
+        assertEquals(listOf("high", "middle"), loadOrder)
+        assertFalse(worldsConfigFile.exists())
+
+        server.scheduler.performOneTick()
+        tickUntil { completion.isDone }
+        assertEquals(listOf("high", "middle", "low"), loadOrder)
+        assertTrue(worldsConfigFile.exists())
+    }
+
+    private fun createUnloadedWorld(name: String, loadPriority: Int) {
+        val world = worldManager.createWorld(CreateWorldOptions.worldName(name)).get()
+        assertTrue(world.setLoadPriority(loadPriority).isSuccess)
+        assertTrue(worldManager.unloadWorld(UnloadWorldOptions.world(world)).isSuccess)
+    }
+
+    private fun unloadedWorlds(vararg names: String): List<MultiverseWorld> {
+        return names.map { worldManager.getUnloadedWorld(it).get() }
+    }
+}
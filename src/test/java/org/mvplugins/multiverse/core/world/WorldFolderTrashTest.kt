@@ -0,0 +1,92 @@
+package org.mvplugins.multiverse.core.world
+
+import org.bukkit.Bukkit
+import org.mvplugins.multiverse.core.TestWithMockBukkit
+import org.mvplugins.multiverse.core.world.helpers.WorldFolderTrash
+import org.mvplugins.multiverse.core.world.options.CreateWorldOptions
+import java.io.File
+import kotlin.test.*
+
+class WorldFolderTrashTest : TestWithMockBukkit() {
+
+    private lateinit var worldFolderTrash: WorldFolderTrash
+    private lateinit var worldManager: WorldManager
+    private lateinit var trashFolder: File
+
+    @BeforeTest
+    fun setUp() {
+        worldFolderTrash = serviceLocator.getActiveService(WorldFolderTrash::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("WorldFolderTrash is not available as a service") }
+        worldManager = serviceLocator.getActiveService(WorldManager::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("WorldManager is not available as a service") }
+        trashFolder = File(Bukkit.getWorldContainer(), ".mv-trash")
+    }
+
+    @Test
+    fun `Delete moves the folder to the trash and reaps it in the background`() {
+        val folder = createFolder("oldworld", 10)
+
+        assertTrue(worldFolderTrash.deleteFolder(folder).isSuccess)
+
+        assertFalse(folder.exists())
+        tickUntil { trashFolder.list()?.isEmpty() == true }
+    }
+
+    @Test
+    fun `Folder name can be reused while the trash is still being reaped`() {
+        val folder = createFolder("oldworld", 2000)
+
+        assertTrue(worldFolderTrash.deleteFolder(folder).isSuccess)
+
+        assertFalse(folder.exists())
+        assertTrue(trashFolder.list()!!.isNotEmpty())
+        assertTrue(folder.mkdir())
+        assertTrue(File(folder, "level.dat").createNewFile())
+        tickUntil { trashFolder.list()?.isEmpty() == true }
+        assertTrue(File(folder, "level.dat").isFile)
+    }
+
+    @Test
+    fun `World name can be reused right after the world is deleted`() {
+        val world = worldManager.createWorld(CreateWorldOptions.worldName("world2")).get()
+        createFolder("world2/region", 2000)
+
+        assertTrue(worldManager.deleteWorld(world).isSuccess)
+        assertTrue(worldManager.createWorld(CreateWorldOptions.worldName("world2")).isSuccess)
+
+        tickUntil { trashFolder.list()?.isEmpty() == true }
+        assertTrue(File(Bukkit.getWorldContainer(), "world2/level.dat").isFile)
+    }
+
+    @Test
+    fun `Folder is deleted right away if it cannot be moved to the trash`() {
+        val folder = createFolder("oldworld", 10)
+        // A file in place of the trash folder makes the move fail
+        assertTrue(trashFolder.createNewFile())
+
+        assertTrue(worldFolderTrash.deleteFolder(folder).isSuccess)
+
+        assertFalse(folder.exists())
+        assertTrue(trashFolder.isFile)
+    }
+
+    @Test
+    fun `Leftover trash is reaped`() {
+        val leftover = createFolder(".mv-trash/oldworld-1234", 10)
+        createFolder(".mv-trash/otherworld-5678", 10)
+
+        worldFolderTrash.reapLeftovers()
+
+        tickUntil { trashFolder.list()?.isEmpty() == true }
+        assertFalse(leftover.exists())
+    }
+
+    private fun createFolder(path: String, fileCount: Int): File {
+        val folder = File(Bukkit.getWorldContainer(), path)
+        assertTrue(folder.mkdirs() || folder.isDirectory)
+        for (i in 0 until fileCount) {
+            File(folder, "file$i.dat").writeBytes(ByteArray(16))
+        }
+        return folder
+    }
+}
@@ -1,12 +1,15 @@
 package org.mvplugins.multiverse.core.world
 
+import io.vavr.control.Either
 import org.bukkit.Bukkit
 import org.bukkit.World
 import org.bukkit.WorldType
 import org.hamcrest.MatcherAssert.assertThat
 import org.mockbukkit.mockbukkit.matcher.plugin.PluginManagerFiredEventClassMatcher.hasFiredEventInstance
 import org.mvplugins.multiverse.core.TestWithMockBukkit
+import org.mvplugins.multiverse.core.config.CoreConfig
 import org.mvplugins.multiverse.core.event.world.*
+import org.mvplugins.multiverse.core.utils.ParallelFolderCopier
 import org.mvplugins.multiverse.core.world.options.CloneWorldOptions
 import org.mvplugins.multiverse.core.world.options.CreateWorldOptions
 import org.mvplugins.multiverse.core.world.options.RegenWorldOptions
@@ -14,7 +17,15 @@ import org.mvplugins.multiverse.core.world.options.UnloadWorldOptions
 import org.mvplugins.multiverse.core.world.reasons.CloneFailureReason
 import org.mvplugins.multiverse.core.world.reasons.CreateFailureReason
 import org.mvplugins.multiverse.core.world.reasons.LoadFailureReason
+import org.mvplugins.multiverse.core.world.reasons.RegenFailureReason
+import org.mvplugins.multiverse.core.world.reasons.SnapshotFailureReason
+import org.mvplugins.multiverse.core.world.reasons.UnloadFailureReason
 import java.io.File
+import java.nio.file.Files
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicReference
+import java.util.function.Consumer
 import kotlin.test.*
 
 class WorldManagerTest : TestWithMockBukkit() {
@@ -114,6 +125,7 @@ class WorldManagerTest : TestWithMockBukkit() {
     fun `Delete world`() {
         assertTrue(worldManager.deleteWorld(world).isSuccess)
         assertFalse(worldManager.getLoadedWorld("world").isDefined)
+        assertFalse(File(Bukkit.getWorldContainer(), "world").exists())
 
         assertThat(server.pluginManager, hasFiredEventInstance(MVWorldDeleteEvent::class.java))
         assertThat(server.pluginManager, hasFiredEventInstance(MVWorldUnloadedEvent::class.java))
@@ -136,6 +148,27 @@ class WorldManagerTest : TestWithMockBukkit() {
         assertFalse(worldManager.getUnloadedWorld("world2").isDefined)
     }
 
+    @Test
+    fun `Unload and load worlds in batch`() {
+        val config = serviceLocator.getActiveService(CoreConfig::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("CoreConfig is not available as a service") }
+        assertTrue(config.setBatchOperationTickBudget(0).isSuccess)
+
+        val unloadFailures = mutableMapOf<UnloadFailureReason, Long>()
+        val unloads = worldManager.unloadWorldsByName(listOf("world2", "ghost"))
+            .onFailureCount { unloadFailures.putAll(it) }
+        assertEquals(2, unloads.completedCount)
+        assertEquals(mapOf(UnloadFailureReason.WORLD_NON_EXISTENT to 1L), unloadFailures)
+        assertFalse(world2.isLoaded)
+
+        var loadedCount = 0
+        val loads = worldManager.loadWorlds(listOf(worldManager.getWorld("world2").get()))
+            .onSuccessCount { loadedCount = it }
+        assertEquals(1, loads.completedCount)
+        assertEquals(1, loadedCount)
+        assertTrue(worldManager.getLoadedWorld("world2").isDefined)
+    }
+
     @Test
     fun `Load world failed - non-existent world`() {
         assertEquals(
@@ -176,6 +209,51 @@ class WorldManagerTest : TestWithMockBukkit() {
         assertThat(server.pluginManager, hasFiredEventInstance(MVWorldRegeneratedEvent::class.java))
     }
 
+    @Test
+    fun `Regen world with regen template restores the template`() {
+        val worldFolder = File(Bukkit.getWorldContainer(), "world2")
+        File(worldFolder, "template.txt").writeText("template")
+        assertTrue(world2.setRegenTemplate(true).isSuccess)
+        val templateFolder = File(multiverseCore.dataFolder, "regen-templates/world2")
+        tickUntil { templateFolder.isDirectory }
+        File(worldFolder, "template.txt").writeText("changed")
+
+        var result: Either<LoadedMultiverseWorld, RegenFailureReason>? = null
+        worldManager.regenWorldAsync(RegenWorldOptions.world(world2)).thenAccept { result = it }
+        tickUntil { result != null }
+
+        assertTrue(result!!.isLeft)
+        assertEquals("template", File(worldFolder, "template.txt").readText())
+        assertTrue(worldManager.getLoadedWorld("world2").get().isRegenTemplate)
+        assertTrue(templateFolder.isDirectory)
+        assertThat(server.pluginManager, hasFiredEventInstance(MVWorldRegeneratedEvent::class.java))
+    }
+
+    @Test
+    fun `Regen world without keeping world config deletes its regen template`() {
+        assertTrue(world2.setRegenTemplate(true).isSuccess)
+        val templateFolder = File(multiverseCore.dataFolder, "regen-templates/world2")
+        tickUntil { templateFolder.isDirectory }
+
+        var result: Either<LoadedMultiverseWorld, RegenFailureReason>? = null
+        worldManager.regenWorldAsync(RegenWorldOptions.world(world2).keepWorldConfig(false)).thenAccept { result = it }
+        tickUntil { result != null }
+
+        assertTrue(result!!.isLeft)
+        assertFalse(worldManager.getLoadedWorld("world2").get().isRegenTemplate)
+        tickUntil { !templateFolder.exists() }
+    }
+
+    @Test
+    fun `Remove world deletes its regen template`() {
+        assertTrue(world2.setRegenTemplate(true).isSuccess)
+        val templateFolder = File(multiverseCore.dataFolder, "regen-templates/world2")
+        tickUntil { templateFolder.isDirectory }
+
+        assertTrue(worldManager.removeWorld(world2).isSuccess)
+        tickUntil { !templateFolder.exists() }
+    }
+
     @Test
     fun `Clone world`() {
         assertTrue(worldManager.cloneWorld(CloneWorldOptions.fromTo(world, "cloneworld")).isSuccess)
@@ -224,6 +302,98 @@ class WorldManagerTest : TestWithMockBukkit() {
         )
     }
 
+    @Test
+    fun `Clone world async copies the world folder`() {
+        val worldFolder = world.bukkitWorld.get().worldFolder
+        File(worldFolder, "region").mkdir()
+        File(worldFolder, "region/r.0.0.mca").writeBytes(ByteArray(64 * 1024) { it.toByte() })
+        File(worldFolder, "session.lock").createNewFile()
+        val reports = mutableListOf<ParallelFolderCopier.CopyProgress>()
+
+        val result = cloneWorldAsync("cloneworld") { synchronized(reports) { reports.add(it) } }
+
+        assertTrue(result.isLeft)
+        assertEquals("cloneworld", result.left.name)
+        val cloneFolder = File(Bukkit.getWorldContainer(), "cloneworld")
+        assertContentEquals(
+            File(worldFolder, "region/r.0.0.mca").readBytes(),
+            File(cloneFolder, "region/r.0.0.mca").readBytes())
+        assertTrue(File(cloneFolder, "level.dat").isFile)
+        assertFalse(File(cloneFolder, "session.lock").exists())
+        val lastReport = synchronized(reports) { reports.last() }
+        assertEquals(lastReport.totalBytes(), lastReport.copiedBytes())
+        assertEquals(100, lastReport.percent)
+    }
+
+    @Test
+    fun `Clone world async removes the partial copy when the copy fails`() {
+        val bukkitWorld = world.bukkitWorld.get()
+        bukkitWorld.isAutoSave = true
+        File(bukkitWorld.worldFolder, "region").mkdir()
+        File(bukkitWorld.worldFolder, "region/r.0.0.mca").writeBytes(ByteArray(1024))
+        Files.createSymbolicLink(File(bukkitWorld.worldFolder, "region/r.1.0.mca").toPath(),
+            File(bukkitWorld.worldFolder, "missing.mca").toPath())
+
+        val result = cloneWorldAsync("cloneworld")
+
+        assertEquals(CloneFailureReason.COPY_FAILED, result.get())
+        assertFalse(File(Bukkit.getWorldContainer(), "cloneworld").exists())
+        assertFalse(worldManager.isWorld("cloneworld"))
+        assertTrue(bukkitWorld.isAutoSave)
+    }
+
+    @Test
+    fun `Clone world async pauses auto-save of the source world during the copy`() {
+        val bukkitWorld = world.bukkitWorld.get()
+        bukkitWorld.isAutoSave = true
+        val autoSaveDuringCopy = AtomicReference<Boolean>()
+
+        val result = cloneWorldAsync("cloneworld") { autoSaveDuringCopy.set(bukkitWorld.isAutoSave) }
+
+        assertTrue(result.isLeft)
+        assertEquals(false, autoSaveDuringCopy.get())
+        assertTrue(bukkitWorld.isAutoSave)
+    }
+
+    @Test
+    fun `Overlapping clones restore auto-save after the last one is done`() {
+        val bukkitWorld = world.bukkitWorld.get()
+        bukkitWorld.isAutoSave = true
+        val firstCopied = CountDownLatch(1)
+        val releaseSecond = CountDownLatch(1)
+        var firstResult: Either<LoadedMultiverseWorld, CloneFailureReason>? = null
+        var secondResult: Either<LoadedMultiverseWorld, CloneFailureReason>? = null
+
+        worldManager.cloneWorldAsync(CloneWorldOptions.fromTo(world, "clone1")) {
+            if (it.copiedFiles() == it.totalFiles()) firstCopied.countDown()
+        }.thenAccept { firstResult = it }
+        assertTrue(firstCopied.await(10, TimeUnit.SECONDS))
+        // Let the first copy hand its completion to the scheduler before the second clone starts
+        Thread.sleep(100)
+
+        worldManager.cloneWorldAsync(CloneWorldOptions.fromTo(world, "clone2")) {
+            if (it.copiedFiles() == it.totalFiles()) releaseSecond.await(10, TimeUnit.SECONDS)
+        }.thenAccept { secondResult = it }
+
+        server.scheduler.performOneTick()
+        assertEquals(true, firstResult?.isLeft)
+        assertNull(secondResult)
+        assertFalse(bukkitWorld.isAutoSave)
+
+        releaseSecond.countDown()
+        tickUntil { secondResult != null }
+        assertEquals(true, secondResult?.isLeft)
+        assertTrue(bukkitWorld.isAutoSave)
+    }
+
+    @Test
+    fun `Restore snapshot failed - snapshot not found`() {
+        assertEquals(
+            SnapshotFailureReason.SNAPSHOT_NOT_FOUND,
+            worldManager.restoreSnapshot(world, "ghost").toAttempt().failureReason
+        )
+    }
+
     @Test
     fun `Get potential worlds`() {
         File(Bukkit.getWorldContainer(), "newworld1").mkdir()
@@ -240,4 +410,37 @@ class WorldManagerTest : TestWithMockBukkit() {
         assertEquals(world, worldManager.getWorldByNameOrAlias("testalias").orNull)
         assertNull(worldManager.getUnloadedWorldByNameOrAlias("testalias").orNull)
     }
+
+    @Test
+    fun `Get world with coloured alias ignoring case`() {
+        world.setAlias("&aTest Alias")
+        assertEquals(world, worldManager.getLoadedWorldByNameOrAlias("test alias").orNull)
+        assertEquals(world, worldManager.getLoadedWorldByNameOrAlias("TEST ALIAS").orNull)
+
+        world.setAlias("other")
+        assertNull(worldManager.getLoadedWorldByNameOrAlias("test alias").orNull)
+        assertEquals(world, worldManager.getLoadedWorldByNameOrAlias("other").orNull)
+    }
+
+    @Test
+    fun `Get world with alias shared by another world`() {
+        world.setAlias("shared")
+        world2.setAlias("Shared")
+        assertEquals(world, worldManager.getLoadedWorldByNameOrAlias("shared").orNull)
+
+        assertTrue(worldManager.unloadWorld(UnloadWorldOptions.world(world)).isSuccess)
+        assertEquals(world2, worldManager.getLoadedWorldByNameOrAlias("shared").orNull)
+        assertEquals("world", worldManager.getUnloadedWorldByNameOrAlias("shared").orNull?.name)
+    }
+
+    private fun cloneWorldAsync(
+        newWorldName: String,
+        progressListener: Consumer<ParallelFolderCopier.CopyProgress>? = null,
+    ): Either<LoadedMultiverseWorld, CloneFailureReason> {
+        var result: Either<LoadedMultiverseWorld, CloneFailureReason>? = null
+        worldManager.cloneWorldAsync(CloneWorldOptions.fromTo(world, newWorldName), progressListener)
+            .thenAccept { result = it }
+        tickUntil { result != null }
+        return result!!
+    }
 }
@@ -59,4 +59,11 @@ class WorldNameCheckerTest : TestWithMockBukkit() {
         File(Bukkit.getWorldContainer(), "test").mkdir()
         assertEquals(WorldNameChecker.FolderStatus.DOES_NOT_EXIST, worldNameChecker.checkFolder("test2"))
     }
+
+    @Test
+    fun `World folder created after lookup`() {
+        assertFalse(worldNameChecker.hasWorldFolder("test3"))
+        File(Bukkit.getWorldContainer(), "test3").mkdir()
+        assertTrue(worldNameChecker.hasWorldFolder("test3"))
+    }
 }
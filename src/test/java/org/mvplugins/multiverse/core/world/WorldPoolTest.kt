@@ -0,0 +1,81 @@
+package org.mvplugins.multiverse.core.world
+
+import org.mvplugins.multiverse.core.TestWithMockBukkit
+import org.mvplugins.multiverse.core.world.options.UnloadWorldOptions
+import org.mvplugins.multiverse.core.world.options.WorldPoolOptions
+import org.mvplugins.multiverse.core.world.reasons.WorldPoolFailureReason
+import kotlin.test.*
+
+class WorldPoolTest : TestWithMockBukkit() {
+
+    private lateinit var worldPool: WorldPool
+    private lateinit var worldManager: WorldManager
+
+    @BeforeTest
+    fun setUp() {
+        worldPool = serviceLocator.getActiveService(WorldPool::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("WorldPool is not available as a service") }
+        worldManager = serviceLocator.getActiveService(WorldManager::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("WorldManager is not available as a service") }
+    }
+
+    @Test
+    fun `Register pool fills it up with unloaded worlds`() {
+        assertTrue(worldPool.register(WorldPoolOptions.poolName("arena").size(2)).isSuccess)
+        tickUntil { worldPool.getReadyCount("arena").get() == 2 }
+
+        assertTrue(worldManager.isWorld("arena-1"))
+        assertTrue(worldManager.isWorld("arena-2"))
+        assertFalse(worldManager.isLoadedWorld("arena-1"))
+        assertTrue(worldManager.getWorld("arena-1").get().isRegenTemplate)
+        assertEquals(WorldPoolFailureReason.POOL_EXISTS,
+            worldPool.register(WorldPoolOptions.poolName("arena")).failureReason)
+    }
+
+    @Test
+    fun `Acquire and release a world`() {
+        assertTrue(worldPool.register(WorldPoolOptions.poolName("arena")).isSuccess)
+        tickUntil { worldPool.getReadyCount("arena").get() == 1 }
+
+        val world = worldPool.acquire("arena")
+        assertTrue(world.isSuccess)
+        assertTrue(world.get().isLoaded)
+        assertEquals(WorldPoolFailureReason.POOL_EMPTY, worldPool.acquire("arena").failureReason)
+        assertEquals(1, status("arena").inUseCount)
+
+        assertTrue(worldPool.release(world.get()).isSuccess)
+        assertEquals(WorldPoolFailureReason.NOT_POOLED, worldPool.release(world.get()).failureReason)
+        tickUntil { status("arena").let { it.readyCount == 1 && it.recycleCount == 0 && it.preparingCount == 0 } }
+        assertEquals(0, status("arena").inUseCount)
+        assertFalse(worldManager.isWorld("arena-2"))
+    }
+
+    @Test
+    fun `World that keeps failing to reset is left out of the pool until retried`() {
+        assertTrue(worldPool.register(WorldPoolOptions.poolName("arena")).isSuccess)
+        tickUntil { worldPool.getReadyCount("arena").get() == 1 }
+        val world = worldPool.acquire("arena").get()
+        assertTrue(worldManager.unloadWorld(UnloadWorldOptions.world(world)).isSuccess)
+        server.failWorldCreation(world.name)
+
+        assertTrue(worldPool.release(world).isSuccess)
+        tickUntil(maxTicks = 5000) { status("arena").failedWorlds == listOf(world.name) }
+        assertTrue(worldManager.isWorld(world.name))
+
+        assertEquals(1, worldPool.retryFailed("arena").get())
+        assertTrue(status("arena").failedWorlds.isEmpty())
+        assertEquals(1, status("arena").recycleCount)
+    }
+
+    @Test
+    fun `Unknown pool`() {
+        assertEquals(WorldPoolFailureReason.POOL_NOT_FOUND, worldPool.acquire("ghost").failureReason)
+        assertEquals(WorldPoolFailureReason.POOL_NOT_FOUND, worldPool.retryFailed("ghost").failureReason)
+        assertEquals(WorldPoolFailureReason.POOL_NOT_FOUND, worldPool.unregister("ghost").failureReason)
+        assertTrue(worldPool.getReadyCount("ghost").isEmpty)
+    }
+
+    private fun status(poolName: String): WorldPoolStatus {
+        return worldPool.statuses.first { it.poolName == poolName }
+    }
+}
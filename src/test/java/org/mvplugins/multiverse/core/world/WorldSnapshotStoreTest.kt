@@ -0,0 +1,129 @@
+package org.mvplugins.multiverse.core.world
+
+import org.bukkit.Bukkit
+import org.mvplugins.multiverse.core.TestWithMockBukkit
+import org.mvplugins.multiverse.core.world.AnvilFixtures.Chunk
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.attribute.FileTime
+import kotlin.random.Random
+import kotlin.test.*
+
+class WorldSnapshotStoreTest : TestWithMockBukkit() {
+
+    private lateinit var snapshotStore: WorldSnapshotStore
+    private lateinit var worldFolder: Path
+    private lateinit var worldName: String
+    private val lastModified = FileTime.fromMillis(System.currentTimeMillis() - 3_600_000)
+
+    @BeforeTest
+    fun setUp() {
+        snapshotStore = serviceLocator.getActiveService(WorldSnapshotStore::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("WorldSnapshotStore is not available as a service") }
+
+        worldName = "snapshot-world-" + System.nanoTime()
+        worldFolder = Bukkit.getWorldContainer().toPath().resolve(worldName)
+        Files.createDirectories(worldFolder.resolve("data"))
+        Files.write(worldFolder.resolve("level.dat"), Random(1).nextBytes(1000))
+        Files.write(worldFolder.resolve("data/raids.dat"), Random(2).nextBytes(300))
+        writeRegionFile(changedInhabitedTime = 300)
+        setLastModified(worldFolder)
+    }
+
+    @Test
+    fun `Snapshot after changing one chunk only stores that chunk`() {
+        val first = createSnapshot()
+        assertEquals(5, first.fileCount())
+        assertEquals(3, first.chunkCount())
+        assertEquals(totalSize(worldFolder), first.totalBytes())
+        assertTrue(first.storedBytes() > 0)
+
+        writeRegionFile(changedInhabitedTime = 301)
+        setLastModified(worldFolder)
+        // The region file likely keeps its size, so only its modification time tells that it changed
+        Files.setLastModifiedTime(regionFile(), FileTime.fromMillis(lastModified.toMillis() + 60_000))
+        val changedChunk = RegionFileCompactor.readChunks(regionFile()).first { it.index() == 1 }
+        val second = createSnapshot()
+
+        // The changed chunk and the new chunk index of the region file, with an index, timestamp and hash per chunk
+        assertEquals(changedChunk.data().remaining() + 3L * (4 + 4 + 32), second.storedBytes())
+        assertEquals(3, second.chunkCount())
+    }
+
+    @Test
+    fun `Snapshot does not read files with the same size and modification time again`() {
+        val first = createSnapshot()
+        Files.write(worldFolder.resolve("level.dat"), Random(3).nextBytes(1000))
+        setLastModified(worldFolder)
+
+        val second = createSnapshot()
+        assertEquals(0, second.storedBytes())
+
+        val target = Bukkit.getWorldContainer().toPath().resolve("$worldName-restored")
+        snapshotStore.restoreSnapshot(worldName, second.id(), target).join()
+        assertContentEquals(Random(1).nextBytes(1000), Files.readAllBytes(target.resolve("level.dat")))
+        assertNotEquals(first.id(), second.id())
+    }
+
+    @Test
+    fun `Restore snapshot rebuilds the world folder`() {
+        val snapshot = createSnapshot()
+        val target = Bukkit.getWorldContainer().toPath().resolve("$worldName-restored")
+        Files.createDirectories(target)
+        Files.writeString(target.resolve("leftover.txt"), "leftover")
+
+        snapshotStore.restoreSnapshot(worldName, snapshot.id(), target).join()
+
+        assertFalse(Files.exists(target.resolve("leftover.txt")))
+        for (file in listOf("level.dat", "data/raids.dat", "region/c.0.1.mcc", "entities/r.0.0.mca")) {
+            assertContentEquals(Files.readAllBytes(worldFolder.resolve(file)), Files.readAllBytes(target.resolve(file)))
+            assertEquals(lastModified, Files.getLastModifiedTime(target.resolve(file)))
+        }
+        assertEquals(readChunkBytes(regionFile()), readChunkBytes(target.resolve("region/r.0.0.mca")))
+        assertEquals(lastModified, Files.getLastModifiedTime(target.resolve("region/r.0.0.mca")))
+    }
+
+    @Test
+    fun `Snapshots are ordered by creation time`() {
+        val snapshots = List(3) { createSnapshot() }
+
+        assertEquals(snapshots, snapshotStore.getSnapshots(worldName).join())
+        snapshots.forEach { assertTrue(it.id().matches(Regex("\\d{8}-\\d{6}-\\d{2}")), it.id()) }
+        assertTrue(snapshotStore.hasSnapshot(worldName, snapshots.last().id()))
+        assertFalse(snapshotStore.hasSnapshot(worldName, "../ghost"))
+    }
+
+    private fun createSnapshot(): WorldSnapshot {
+        return snapshotStore.createSnapshot(worldName, worldFolder, listOf("session.lock")).join()
+    }
+
+    private fun regionFile(): Path = worldFolder.resolve("region/r.0.0.mca")
+
+    private fun writeRegionFile(changedInhabitedTime: Long) {
+        AnvilFixtures.writeRegionFile(regionFile(), listOf(
+            Chunk(0, 0, AnvilFixtures.chunkNbt(100), timestamp = 10),
+            Chunk(1, 0, AnvilFixtures.chunkNbt(changedInhabitedTime), timestamp = 20),
+            Chunk(0, 1, AnvilFixtures.chunkNbt(200), timestamp = 30, external = true),
+        ))
+        AnvilFixtures.writeRegionFile(worldFolder.resolve("entities/r.0.0.mca"), emptyList())
+    }
+
+    private fun setLastModified(folder: Path) {
+        Files.walk(folder).use { files ->
+            files.filter { Files.isRegularFile(it) }.forEach { Files.setLastModifiedTime(it, lastModified) }
+        }
+    }
+
+    private fun totalSize(folder: Path): Long {
+        return Files.walk(folder).use { files ->
+            files.filter { Files.isRegularFile(it) }.mapToLong { Files.size(it) }.sum()
+        }
+    }
+
+    private fun readChunkBytes(file: Path): List<Triple<Int, Int, List<Byte>>> {
+        return RegionFileCompactor.readChunks(file).map { chunk ->
+            val data = chunk.data().duplicate()
+            Triple(chunk.index(), chunk.timestamp(), ByteArray(data.remaining()).also { data.get(it) }.toList())
+        }
+    }
+}
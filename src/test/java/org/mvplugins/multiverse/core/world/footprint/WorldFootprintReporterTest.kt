@@ -0,0 +1,132 @@
+package org.mvplugins.multiverse.core.world.footprint
+
+import org.bukkit.Location
+import org.bukkit.Material
+import org.bukkit.World
+import org.bukkit.entity.EntityType
+import org.bukkit.entity.SpawnCategory
+import org.mvplugins.multiverse.core.TestWithMockBukkit
+import org.mvplugins.multiverse.core.world.LoadedMultiverseWorld
+import org.mvplugins.multiverse.core.world.WorldManager
+import org.mvplugins.multiverse.core.world.options.CreateWorldOptions
+import java.io.File
+import java.util.concurrent.TimeUnit
+import kotlin.test.*
+
+class WorldFootprintReporterTest : TestWithMockBukkit() {
+
+    private lateinit var footprintReporter: WorldFootprintReporter
+    private lateinit var worldManager: WorldManager
+    private lateinit var world: LoadedMultiverseWorld
+    private lateinit var bukkitWorld: World
+
+    @BeforeTest
+    fun setUp() {
+        footprintReporter = serviceLocator.getActiveService(WorldFootprintReporter::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("WorldFootprintReporter is not available as a service") }
+        worldManager = serviceLocator.getActiveService(WorldManager::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("WorldManager is not available as a service") }
+
+        assertTrue(worldManager.createWorld(CreateWorldOptions.worldName("world")).isSuccess)
+        world = worldManager.getLoadedWorld("world").get()
+        bukkitWorld = world.bukkitWorld.get()
+    }
+
+    @Test
+    fun `Footprint counts the resources of the world`() {
+        bukkitWorld.spawnEntity(Location(bukkitWorld, 0.0, 70.0, 0.0), EntityType.ZOMBIE)
+        bukkitWorld.spawnEntity(Location(bukkitWorld, 1.0, 70.0, 0.0), EntityType.ZOMBIE)
+        bukkitWorld.spawnEntity(Location(bukkitWorld, 2.0, 70.0, 0.0), EntityType.COW)
+        bukkitWorld.addPluginChunkTicket(5, 5, multiverseCore)
+        bukkitWorld.addPluginChunkTicket(6, 5, multiverseCore)
+        bukkitWorld.setChunkForceLoaded(7, 5, true)
+        server.addPlayer().teleport(bukkitWorld.spawnLocation)
+
+        val footprint = getFootprint()
+
+        assertEquals("world", footprint.worldName)
+        assertEquals(bukkitWorld.loadedChunks.size, footprint.loadedChunks)
+        assertEquals(2, footprint.entityCounts[SpawnCategory.MONSTER])
+        assertEquals(1, footprint.entityCounts[SpawnCategory.ANIMAL])
+        assertEquals(bukkitWorld.entities.size, footprint.entityCount)
+        assertEquals(mapOf(multiverseCore.name to 2), footprint.pluginChunkTickets)
+        assertEquals(1, footprint.forceLoadedChunks)
+        assertEquals(1, footprint.playerCount)
+        assertEquals(world.isKeepSpawnInMemory, footprint.keepSpawnInMemory)
+    }
+
+    @Test
+    fun `Region size sums up the region files of all dimensions`() {
+        writeFile("region/r.0.0.mca", 1024)
+        writeFile("entities/r.0.0.mca", 512)
+        writeFile("DIM-1/region/r.0.0.mca", 256)
+        writeFile("level.dat", 4096)
+
+        assertEquals(1024 + 512 + 256, getFootprint().regionDiskBytes)
+    }
+
+    @Test
+    fun `Tile entities are counted across ticks`() {
+        loadChunksWithChest(100)
+
+        val footprint = footprintReporter.getFootprint(world)
+        assertFalse(footprint.isDone)
+
+        tickUntil { footprint.isDone }
+        assertEquals(bukkitWorld.loadedChunks.size, footprint.join().tileEntityCount)
+    }
+
+    @Test
+    fun `Tile entities of chunks unloaded before they are counted are skipped`() {
+        loadChunksWithChest(100)
+
+        val footprint = footprintReporter.getFootprint(world)
+        bukkitWorld.loadedChunks.forEach { it.unload() }
+
+        tickUntil { footprint.isDone }
+        assertEquals(64, footprint.join().tileEntityCount)
+    }
+
+    @Test
+    fun `Region size is cached for five minutes`() {
+        writeFile("region/r.0.0.mca", 1024)
+        val now = System.currentTimeMillis()
+        assertEquals(1024, getFootprint(now).regionDiskBytes)
+
+        writeFile("region/r.1.0.mca", 1024)
+        assertEquals(1024, getFootprint(now).regionDiskBytes)
+        assertEquals(1024, getFootprint(now + TimeUnit.MINUTES.toMillis(5) - 1).regionDiskBytes)
+
+        assertEquals(2048, getFootprint(now + TimeUnit.MINUTES.toMillis(5)).regionDiskBytes)
+    }
+
+    @Test
+    fun `Footprints include every loaded world`() {
+        assertTrue(worldManager.createWorld(CreateWorldOptions.worldName("world2")).isSuccess)
+
+        val footprints = footprintReporter.footprints
+        tickUntil { footprints.isDone }
+
+        assertEquals(setOf("world", "world2"), footprints.join().map { it.worldName }.toSet())
+    }
+
+    private fun loadChunksWithChest(count: Int) {
+        for (x in 0 until count) {
+            bukkitWorld.loadChunk(x, 0)
+        }
+        bukkitWorld.loadedChunks.forEach { it.getBlock(0, 64, 0).type = Material.CHEST }
+        assertTrue(bukkitWorld.loadedChunks.size >= count)
+    }
+
+    private fun writeFile(path: String, size: Int) {
+        val file = File(bukkitWorld.worldFolder, path)
+        file.parentFile.mkdirs()
+        file.writeBytes(ByteArray(size))
+    }
+
+    private fun getFootprint(now: Long = System.currentTimeMillis()): WorldFootprint {
+        val footprint = footprintReporter.getFootprint(world, now)
+        tickUntil { footprint.isDone }
+        return footprint.join()
+    }
+}